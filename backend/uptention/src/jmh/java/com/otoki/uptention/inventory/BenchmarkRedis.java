@@ -0,0 +1,61 @@
+package com.otoki.uptention.inventory;
+
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import lombok.Getter;
+
+/**
+ * 벤치마크용 Redis 연결
+ * 애플리케이션(RedisConfig)과 같은 직렬화 설정으로 템플릿을 만든다.
+ * 대상은 BENCHMARK_REDIS_HOST / BENCHMARK_REDIS_PORT (기본 localhost:6379, docker-compose의 redis)
+ */
+@Getter
+public class BenchmarkRedis implements AutoCloseable {
+
+	private final LettuceConnectionFactory connectionFactory;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisTemplate<String, Integer> inventoryRedisTemplate;
+	private final RedissonClient redissonClient;
+
+	private BenchmarkRedis(String host, int port) {
+		connectionFactory = new LettuceConnectionFactory(host, port);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+		inventoryRedisTemplate = new RedisTemplate<>();
+		inventoryRedisTemplate.setConnectionFactory(connectionFactory);
+		inventoryRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		inventoryRedisTemplate.setValueSerializer(new GenericToStringSerializer<>(Integer.class));
+		inventoryRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		inventoryRedisTemplate.setHashValueSerializer(new GenericToStringSerializer<>(Integer.class));
+		inventoryRedisTemplate.afterPropertiesSet();
+
+		Config config = new Config();
+		config.useSingleServer()
+			.setAddress("redis://" + host + ":" + port)
+			.setConnectionPoolSize(64)
+			.setConnectionMinimumIdleSize(24);
+		redissonClient = Redisson.create(config);
+	}
+
+	public static BenchmarkRedis connect() {
+		String host = System.getenv().getOrDefault("BENCHMARK_REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_REDIS_PORT", "6379"));
+		return new BenchmarkRedis(host, port);
+	}
+
+	@Override
+	public void close() {
+		redissonClient.shutdown();
+		connectionFactory.destroy();
+	}
+}
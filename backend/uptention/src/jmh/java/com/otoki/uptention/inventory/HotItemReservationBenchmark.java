@@ -0,0 +1,101 @@
+package com.otoki.uptention.inventory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
+import com.otoki.uptention.domain.item.cache.InventoryNearCache;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.repository.HotInventoryRepository;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.repository.RedisHotInventoryRepository;
+import com.otoki.uptention.domain.item.repository.RedisInventoryRepository;
+import com.otoki.uptention.domain.item.service.HotItemInventoryServiceImpl;
+import com.otoki.uptention.global.config.InventoryProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 핫 아이템 버킷 수별 단일 상품 예약 처리량 (reservations/sec)
+ * 버킷 1개는 기존 단일 키와 같은 직렬화 구간을 가지므로 기준값이 된다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class HotItemReservationBenchmark {
+
+	private static final int ITEM_ID = 999_999;
+	private static final int STOCK = 1_000_000_000;
+	private static final Map<Integer, Integer> RESERVATION = Map.of(ITEM_ID, 1);
+
+	@Param({"1", "4", "16"})
+	private int buckets;
+
+	private BenchmarkRedis redis;
+	private HotInventoryRepository hotInventoryRepository;
+	private HotItemInventoryServiceImpl hotItemInventoryService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		redis = BenchmarkRedis.connect();
+
+		InventoryRepository inventoryRepository = new RedisInventoryRepository(redis.getInventoryRedisTemplate());
+		hotInventoryRepository = new RedisHotInventoryRepository(redis.getStringRedisTemplate());
+
+		cleanUp();
+		inventoryRepository.save(InventoryDto.builder()
+			.itemId(ITEM_ID)
+			.quantity(STOCK)
+			.reservedQuantity(0)
+			.availableQuantity(STOCK)
+			.build());
+		hotInventoryRepository.attach(ITEM_ID, buckets, 0);
+
+		// 등록/해제는 위에서 직접 수행하므로 락 관리자 없이 생성
+		InventoryProperties inventoryProperties = new InventoryProperties();
+		InventoryChangeNotifier inventoryChangeNotifier = new InventoryChangeNotifier(
+			new InventoryNearCache(inventoryProperties), redis.getStringRedisTemplate());
+		hotItemInventoryService = new HotItemInventoryServiceImpl(hotInventoryRepository, inventoryRepository,
+			inventoryProperties, null, inventoryChangeNotifier, new SimpleMeterRegistry());
+		hotItemInventoryService.refreshRegistry();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		cleanUp();
+		redis.close();
+	}
+
+	@Benchmark
+	public Map<Integer, Integer> reserve() {
+		return hotItemInventoryService.reserve(RESERVATION);
+	}
+
+	private void cleanUp() {
+		Integer registered = hotInventoryRepository.findAllBucketCounts().get(ITEM_ID);
+		if (registered != null) {
+			hotInventoryRepository.detach(ITEM_ID, registered);
+		}
+		redis.getStringRedisTemplate().delete(InventoryRepository.keyOf(ITEM_ID));
+		redis.getStringRedisTemplate().delete(InventoryRepository.CHANGED_ITEMS_KEY);
+	}
+}
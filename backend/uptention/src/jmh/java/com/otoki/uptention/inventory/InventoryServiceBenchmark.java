@@ -0,0 +1,157 @@
+package com.otoki.uptention.inventory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
+import com.otoki.uptention.domain.item.cache.InventoryNearCache;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.repository.RedisHotInventoryRepository;
+import com.otoki.uptention.domain.item.repository.RedisInventoryRepository;
+import com.otoki.uptention.domain.item.service.HotItemInventoryServiceImpl;
+import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.domain.item.service.InventoryServiceImpl;
+import com.otoki.uptention.domain.item.service.RedisScriptInventoryServiceImpl;
+import com.otoki.uptention.global.config.InventoryProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 재고 엔진 예약/확정/취소/조회 벤치마크
+ * engine 파라미터로 분산락 엔진(InventoryServiceImpl, lock)과 Lua 스크립트 엔진(RedisScriptInventoryServiceImpl, script)을
+ * 같은 조건에서 비교한다.
+ * 처리량(thrpt)과 지연 분포(sample, p0.99 포함)를 함께 측정하며, 할당률은 gc 프로파일러로 수집한다.
+ * 모든 스레드가 같은 상품 묶음을 다루므로 주문이 한 묶음에 몰리는 상황의 경합을 보여준다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class InventoryServiceBenchmark {
+
+	private static final int FIRST_ITEM_ID = 900_001;
+	private static final int STOCK = 1_000_000_000;
+
+	@Param({"lock", "script"})
+	private String engine;
+
+	@Param({"1", "5", "20"})
+	private int batchSize;
+
+	private BenchmarkRedis redis;
+	private InventoryRepository inventoryRepository;
+	private InventoryService inventoryService;
+	private List<Integer> itemIds;
+	private Map<Integer, Integer> itemQuantities;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		redis = BenchmarkRedis.connect();
+		inventoryRepository = new RedisInventoryRepository(redis.getInventoryRedisTemplate());
+		inventoryService = createInventoryService(redis, inventoryRepository);
+
+		itemIds = new ArrayList<>(batchSize);
+		itemQuantities = new LinkedHashMap<>();
+		for (int i = 0; i < batchSize; i++) {
+			itemIds.add(FIRST_ITEM_ID + i);
+			itemQuantities.put(FIRST_ITEM_ID + i, 1);
+		}
+	}
+
+	/**
+	 * 반복마다 재고를 채워 확정/취소할 예약 재고와 예약할 가용 재고를 충분히 확보
+	 */
+	@Setup(Level.Iteration)
+	public void resetInventories() {
+		for (Integer itemId : itemIds) {
+			inventoryRepository.save(InventoryDto.builder()
+				.itemId(itemId)
+				.quantity(STOCK)
+				.reservedQuantity(STOCK / 2)
+				.availableQuantity(STOCK / 2)
+				.build());
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		redis.getStringRedisTemplate().delete(itemIds.stream().map(InventoryRepository::keyOf).toList());
+		redis.getStringRedisTemplate().delete(InventoryRepository.CHANGED_ITEMS_KEY);
+		redis.close();
+	}
+
+	@Benchmark
+	public InventoryReservationResult reserve() {
+		return inventoryService.tryReserveInventories(itemQuantities);
+	}
+
+	@Benchmark
+	public boolean confirm() {
+		return inventoryService.confirmInventories(itemQuantities);
+	}
+
+	@Benchmark
+	public boolean cancel() {
+		return inventoryService.cancelReservations(itemQuantities);
+	}
+
+	@Benchmark
+	public Map<Integer, InventoryDto> getInventories() {
+		return inventoryService.getInventories(itemIds);
+	}
+
+	/**
+	 * 측정 대상 엔진 생성 (lock: 분산락 엔진, script: Lua 스크립트 엔진)
+	 */
+	private InventoryService createInventoryService(BenchmarkRedis redis, InventoryRepository inventoryRepository) {
+		InventoryProperties inventoryProperties = new InventoryProperties();
+		InventoryChangeNotifier inventoryChangeNotifier = new InventoryChangeNotifier(
+			new InventoryNearCache(inventoryProperties), redis.getStringRedisTemplate());
+		// 핫 아이템을 등록하지 않으므로 락 관리자 없이 생성
+		HotItemInventoryServiceImpl hotItemInventoryService = new HotItemInventoryServiceImpl(
+			new RedisHotInventoryRepository(redis.getStringRedisTemplate()), inventoryRepository,
+			inventoryProperties, null, inventoryChangeNotifier, new SimpleMeterRegistry());
+
+		// 상품 조회(ItemRepository)는 Redis에 재고가 없을 때만 사용하므로 전달하지 않음
+		if ("script".equals(engine)) {
+			return new RedisScriptInventoryServiceImpl(redis.getStringRedisTemplate(), inventoryRepository, null,
+				inventoryChangeNotifier, hotItemInventoryService);
+		}
+		return new InventoryServiceImpl(inventoryRepository, redis.getRedissonClient(), null,
+			inventoryChangeNotifier, hotItemInventoryService);
+	}
+
+	@Threads(1)
+	public static class SingleThread extends InventoryServiceBenchmark {
+	}
+
+	@Threads(8)
+	public static class EightThreads extends InventoryServiceBenchmark {
+	}
+
+	@Threads(32)
+	public static class ThirtyTwoThreads extends InventoryServiceBenchmark {
+	}
+}
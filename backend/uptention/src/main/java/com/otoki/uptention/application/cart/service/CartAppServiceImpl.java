@@ -15,7 +15,7 @@ import com.otoki.uptention.domain.cart.entity.Cart;
 import com.otoki.uptention.domain.cart.service.CartService;
 import com.otoki.uptention.domain.item.dto.InventoryDto;
 import com.otoki.uptention.domain.item.entity.Item;
-import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.domain.item.service.DisplayInventoryService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.global.exception.CustomException;
@@ -38,7 +38,7 @@ public class CartAppServiceImpl implements CartAppService {
 	private final ItemService itemService;
 	private final SecurityService securityService;
 	private final ImageUploadService imageUploadService;
-	private final InventoryService inventoryService;
+	private final DisplayInventoryService displayInventoryService;
 
 	/**
 	 * 장바구니에 상품 추가
@@ -64,10 +64,10 @@ public class CartAppServiceImpl implements CartAppService {
 
 	@Override
 	public List<CartItemDto> getUserCartItems() {
-		User user = securityService.getLoggedInUser();
+		Integer userId = securityService.getLoggedInUserId();
 
 		// 1. 장바구니 항목 조회 (MySQL에서 기존 데이터 조회)
-		List<CartItemDto> cartItems = cartService.getCartItemsByUserId(user.getId());
+		List<CartItemDto> cartItems = cartService.getCartItemsByUserId(userId);
 
 		// 2. 이미지 URL 변환 처리
 		cartItems.forEach(cartItem -> {
@@ -85,7 +85,7 @@ public class CartAppServiceImpl implements CartAppService {
 				.collect(Collectors.toList());
 
 			// Redis에서 한 번에 여러 상품의 재고 정보를 조회
-			Map<Integer, InventoryDto> inventoryMap = inventoryService.getInventories(itemIds);
+			Map<Integer, InventoryDto> inventoryMap = displayInventoryService.getInventories(itemIds);
 
 			// 각 CartItem에 대해 재고 정보 업데이트 (예: 실시간 가용 수량 반영)
 			cartItems.forEach(cartItem -> {
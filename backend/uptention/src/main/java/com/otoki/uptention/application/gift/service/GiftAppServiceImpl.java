@@ -9,11 +9,11 @@ import org.springframework.transaction.annotation.Transactional;
 import com.otoki.uptention.application.gift.dto.response.GiftHistoryCursorResponseDto;
 import com.otoki.uptention.application.gift.dto.response.GiftItemResponseDto;
 import com.otoki.uptention.auth.service.SecurityService;
+import com.otoki.uptention.domain.common.CursorCodec;
 import com.otoki.uptention.domain.common.CursorDto;
 import com.otoki.uptention.domain.order.dto.GiftItemDto;
 import com.otoki.uptention.domain.order.enums.GiftStatus;
 import com.otoki.uptention.domain.order.service.GiftService;
-import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.infra.image.service.ImageUploadService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,13 +26,14 @@ public class GiftAppServiceImpl implements GiftAppService {
 	private final GiftService giftService;
 	private final SecurityService securityService;
 	private final ImageUploadService imageUploadService;
+	private final CursorCodec cursorCodec;
 
 	@Override
 	public GiftHistoryCursorResponseDto getGiftHistory(String cursorStr, int size, GiftStatus type) {
-		User user = securityService.getLoggedInUser();
+		Integer userId = securityService.getLoggedInUserId();
 
 		// 선물 목록 조회
-		List<GiftItemDto> giftItems = fetchGiftsByStatus(user.getId(), cursorStr, size + 1, type);
+		List<GiftItemDto> giftItems = fetchGiftsByStatus(userId, cursorStr, size + 1, type);
 
 		// 페이지네이션 처리 및 응답 생성
 		return createGiftHistoryResponse(giftItems, size);
@@ -42,7 +43,7 @@ public class GiftAppServiceImpl implements GiftAppService {
 	 * 상태에 따른 선물 목록 조회
 	 */
 	private List<GiftItemDto> fetchGiftsByStatus(Integer userId, String cursorStr, int limit, GiftStatus status) {
-		CursorDto<Integer> cursor = CursorDto.decode(cursorStr, Integer.class);
+		CursorDto<Integer> cursor = cursorCodec.decode(cursorStr, Integer.class);
 
 		if (cursor == null) {
 			// 첫 페이지 조회
@@ -117,7 +118,7 @@ public class GiftAppServiceImpl implements GiftAppService {
 		if (hasNextPage && !resultItems.isEmpty()) {
 			GiftItemDto lastItem = resultItems.get(resultItems.size() - 1);
 			CursorDto<Integer> nextCursorDto = new CursorDto<>(0, lastItem.getGiftId());
-			return nextCursorDto.encode();
+			return cursorCodec.encode(nextCursorDto);
 		}
 		return null;
 	}
@@ -13,7 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Schema(description = "상품 상세 정보 응답")
@@ -49,13 +49,18 @@ public class ItemResponseDto {
 	private LocalDateTime createdAt;
 
 	public static ItemResponseDto from(Item item, List<String> imageUrls) {
+		return from(item, imageUrls, item.getQuantity());
+	}
+
+	// 재고 수량을 지정하여 변환 (실시간 가용 재고 반영용)
+	public static ItemResponseDto from(Item item, List<String> imageUrls, int quantity) {
 		return ItemResponseDto.builder()
 			.itemId(item.getId())
 			.name(item.getName())
 			.detail(item.getDetail())
 			.price(item.getPrice())
 			.brand(item.getBrand())
-			.quantity(item.getQuantity())
+			.quantity(quantity)
 			.categoryId(item.getCategory().getId())
 			.categoryName(item.getCategory().getName())
 			.images(imageUrls)
@@ -3,12 +3,14 @@ package com.otoki.uptention.application.item.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.otoki.uptention.application.item.dto.response.CategoryResponseDto;
 import com.otoki.uptention.domain.category.entity.Category;
 import com.otoki.uptention.domain.category.service.CategoryService;
+import com.otoki.uptention.global.config.CacheConfig;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,7 +21,9 @@ public class CategoryAppServiceImpl implements CategoryAppService {
 
 	private final CategoryService categoryService;
 
+	// 카테고리는 운영 중 거의 바뀌지 않으므로 캐시 (변경 시 캐시 키 버전 또는 TTL로 갱신)
 	@Override
+	@Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'all'")
 	public List<CategoryResponseDto> getAllCategories() {
 		List<Category> categories = categoryService.getAllCategories();
 		return categories.stream()
@@ -21,6 +21,8 @@ public interface ItemAppService {
 
 	ItemResponseDto getItemDetails(Integer itemId);
 
+	List<ItemResponseDto> getItemDetailsByIds(List<Integer> itemIds);
+
 	ItemCursorResponseDto getItems(Integer categoryId, String keyword, String cursorStr, SortType sortType, int size);
 
 }
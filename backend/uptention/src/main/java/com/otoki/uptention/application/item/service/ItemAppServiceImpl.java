@@ -2,6 +2,9 @@ package com.otoki.uptention.application.item.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -14,12 +17,16 @@ import com.otoki.uptention.application.item.dto.response.ItemCursorResponseDto;
 import com.otoki.uptention.application.item.dto.response.ItemResponseDto;
 import com.otoki.uptention.domain.category.entity.Category;
 import com.otoki.uptention.domain.category.service.CategoryService;
+import com.otoki.uptention.domain.common.CursorCodec;
 import com.otoki.uptention.domain.common.CursorDto;
 import com.otoki.uptention.domain.image.entity.Image;
+import com.otoki.uptention.domain.item.cache.ItemCatalog;
+import com.otoki.uptention.domain.item.cache.ItemCatalogChangeNotifier;
 import com.otoki.uptention.domain.item.dto.InventoryDto;
 import com.otoki.uptention.domain.item.dto.ItemDto;
 import com.otoki.uptention.domain.item.entity.Item;
 import com.otoki.uptention.domain.item.enums.SortType;
+import com.otoki.uptention.domain.item.service.DisplayInventoryService;
 import com.otoki.uptention.domain.item.service.InventoryService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.global.exception.CustomException;
@@ -35,10 +42,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ItemAppServiceImpl implements ItemAppService {
 
+	// 여러 상품 상세 조회 시 최대 상품 수
+	private static final int MAX_BATCH_SIZE = 50;
+
 	private final ItemService itemService;
 	private final CategoryService categoryService;
 	private final ImageUploadService imageUploadService;
 	private final InventoryService inventoryService;
+	private final DisplayInventoryService displayInventoryService;
+	private final CursorCodec cursorCodec;
+	private final ItemCatalog itemCatalog;
+	private final ItemCatalogChangeNotifier itemCatalogChangeNotifier;
+	private final ItemDetailReader itemDetailReader;
 
 	/**
 	 * 상품 등록
@@ -75,8 +90,8 @@ public class ItemAppServiceImpl implements ItemAppService {
 			})
 			.toList();
 
-		// 이미지 목록 설정
-		item.getImages().addAll(imageEntities);
+		// 이미지 목록 설정 (첫 이미지가 썸네일)
+		imageEntities.forEach(item::addImage);
 
 		// 아이템 저장
 		Item savedItem = itemService.saveItem(item);
@@ -84,6 +99,9 @@ public class ItemAppServiceImpl implements ItemAppService {
 		// Redis 재고 초기화
 		inventoryService.initializeInventory(savedItem.getId(), savedItem.getQuantity());
 
+		// 상품 목록 조회 모델에 반영
+		itemCatalogChangeNotifier.notifyChanged(savedItem.getId());
+
 		return savedItem;
 	}
 
@@ -103,6 +121,9 @@ public class ItemAppServiceImpl implements ItemAppService {
 			log.error("Failed to update Redis inventory for deleted item {}", itemId, e);
 			// 메인 기능(삭제)은 성공했으므로 Redis 실패는 로깅만 하고 넘어감
 		}
+
+		itemDetailReader.evict(itemId);
+		itemCatalogChangeNotifier.notifyChanged(itemId);
 	}
 
 	/**
@@ -154,6 +175,9 @@ public class ItemAppServiceImpl implements ItemAppService {
 				throw new CustomException(ErrorCode.INVENTORY_UPDATE_FAILED);
 			}
 		}
+
+		itemDetailReader.evict(itemId);
+		itemCatalogChangeNotifier.notifyChanged(itemId);
 	}
 
 	/**
@@ -161,40 +185,60 @@ public class ItemAppServiceImpl implements ItemAppService {
 	 */
 	@Override
 	public ItemResponseDto getItemDetails(Integer itemId) {
-		// 1. MySQL에서 상품 기본 정보 조회
-		Item item = itemService.getItemById(itemId);
-
-		// 이미지 URL 변환 처리
-		List<String> imageUrls = item.getImages().stream()
-			.map(image -> imageUploadService.getImageUrl(image.getUrl()))
-			.toList();
+		// 1. 상품 기본 정보 조회 (캐시 우선)
+		ItemResponseDto itemDetail = itemDetailReader.getItemDetail(itemId);
 
 		// 2. Redis에서 최신 재고 정보 조회 시도
 		try {
-			// Redis에서 재고 정보 가져오기
 			InventoryDto inventory = inventoryService.getInventory(itemId);
 
-			// 최신 재고 정보를 반영한 임시 Item 객체 생성
-			Item updatedItem = Item.builder()
-				.id(item.getId())
-				.name(item.getName())
-				.detail(item.getDetail())
-				.price(item.getPrice())
-				.brand(item.getBrand())
-				.status(item.getStatus())
-				.quantity(inventory.getAvailableQuantity()) // 실시간 가용 재고 정보 제공
-				.salesCount(item.getSalesCount())
-				.category(item.getCategory())
-				.images(item.getImages())
+			// 실시간 가용 재고 정보 제공
+			return itemDetail.toBuilder()
+				.quantity(inventory.getAvailableQuantity())
 				.build();
-
-			return ItemResponseDto.from(updatedItem, imageUrls);
 		} catch (Exception e) {
 			// Redis 조회 실패 시 MySQL 데이터만으로 응답
 			log.warn("Failed to get inventory from Redis for item {}, using database value: {}",
 				itemId, e.getMessage());
-			return ItemResponseDto.from(item, imageUrls);
+			return itemDetail;
+		}
+	}
+
+	/**
+	 * 여러 상품의 상세 정보를 한 번에 조회
+	 * 상품/이미지는 쿼리 한 번, 재고는 일괄 조회 한 번으로 가져오며 요청한 순서대로 반환한다.
+	 * 존재하지 않거나 삭제된 상품은 결과에서 제외한다.
+	 */
+	@Override
+	public List<ItemResponseDto> getItemDetailsByIds(List<Integer> itemIds) {
+		List<Integer> distinctItemIds = itemIds.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+
+		if (distinctItemIds.size() > MAX_BATCH_SIZE) {
+			throw new CustomException(ErrorCode.ITEM_BATCH_SIZE_EXCEEDED);
+		}
+		if (distinctItemIds.isEmpty()) {
+			return List.of();
 		}
+
+		Map<Integer, Item> items = itemService.getActiveItemsWithImagesByIds(distinctItemIds).stream()
+			.collect(Collectors.toMap(Item::getId, Function.identity()));
+		Map<Integer, InventoryDto> inventories = getRealTimeInventories(List.copyOf(items.keySet()));
+
+		return distinctItemIds.stream()
+			.map(items::get)
+			.filter(Objects::nonNull)
+			.map(item -> {
+				List<String> imageUrls = item.getImages().stream()
+					.map(image -> imageUploadService.getImageUrl(image.getUrl()))
+					.toList();
+				InventoryDto inventory = inventories.get(item.getId());
+				int quantity = inventory != null ? inventory.getAvailableQuantity() : item.getQuantity();
+				return ItemResponseDto.from(item, imageUrls, quantity);
+			})
+			.toList();
 	}
 
 	/**
@@ -210,10 +254,15 @@ public class ItemAppServiceImpl implements ItemAppService {
 		}
 
 		// 커서 디코딩
-		CursorDto<Integer> cursor = CursorDto.decode(cursorStr, Integer.class);
+		CursorDto<Integer> cursor = cursorCodec.decode(cursorStr, Integer.class);
 
 		// 아이템 조회 (size + 1개를 조회하여 다음 페이지 여부 확인)
-		List<ItemDto> items = itemService.getItemsByCursor(categoryId, keyword, cursor, sortType, size + 1);
+		// 키워드 검색이 아니면 메모리 조회 모델에서 조회하고, 적재 전이면 DB에서 조회
+		Optional<List<ItemDto>> cachedItems = keyword == null || keyword.isEmpty()
+			? itemCatalog.findPage(categoryId, cursor, sortType, size + 1)
+			: Optional.empty();
+		List<ItemDto> items = cachedItems.orElseGet(
+			() -> itemService.getItemsByCursor(categoryId, keyword, cursor, sortType, size + 1));
 
 		// 다음 페이지 여부 확인
 		boolean hasNextPage = items.size() > size;
@@ -257,7 +306,7 @@ public class ItemAppServiceImpl implements ItemAppService {
 			throw new CustomException(ErrorCode.ITEM_INVALID_SORT_TYPE);
 		}
 
-		return new CursorDto<>(value, lastItem.getItemId()).encode();
+		return cursorCodec.encode(new CursorDto<>(value, lastItem.getItemId()));
 	}
 
 	/**
@@ -273,21 +322,32 @@ public class ItemAppServiceImpl implements ItemAppService {
 			.map(ItemDto::getItemId)
 			.collect(Collectors.toList());
 
-		try {
-			// Redis에서 재고 정보 일괄 조회
-			Map<Integer, InventoryDto> inventories = inventoryService.getInventories(itemIds);
-
-			// 각 아이템에 실시간 재고 정보 반영
-			for (ItemDto item : items) {
-				InventoryDto inventory = inventories.get(item.getItemId());
-				if (inventory != null) {
-					// 가용 재고로 업데이트 (실제 구매 가능 수량)
-					item.setQuantity(inventory.getAvailableQuantity());
-				}
+		Map<Integer, InventoryDto> inventories = getRealTimeInventories(itemIds);
+
+		// 각 아이템에 실시간 재고 정보 반영
+		for (ItemDto item : items) {
+			InventoryDto inventory = inventories.get(item.getItemId());
+			if (inventory != null) {
+				// 가용 재고로 업데이트 (실제 구매 가능 수량)
+				item.setQuantity(inventory.getAvailableQuantity());
 			}
+		}
+	}
+
+	/**
+	 * 재고 정보 일괄 조회 (니어 캐시 우선)
+	 * Redis 조회에 실패하면 빈 맵을 반환하여 DB 재고 정보를 유지한다.
+	 */
+	private Map<Integer, InventoryDto> getRealTimeInventories(List<Integer> itemIds) {
+		if (itemIds.isEmpty()) {
+			return Map.of();
+		}
+
+		try {
+			return displayInventoryService.getInventories(itemIds);
 		} catch (Exception e) {
-			// Redis 조회 실패 시 DB 재고 정보 유지
 			log.warn("Failed to update items with real-time inventory: {}", e.getMessage());
+			return Map.of();
 		}
 	}
-}
\ No newline at end of file
+}
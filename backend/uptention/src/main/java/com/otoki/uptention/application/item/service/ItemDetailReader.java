@@ -0,0 +1,52 @@
+package com.otoki.uptention.application.item.service;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otoki.uptention.application.item.dto.response.ItemResponseDto;
+import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.service.ItemService;
+import com.otoki.uptention.global.config.CacheConfig;
+import com.otoki.uptention.infra.image.service.ImageUploadService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상세 정보 캐시
+ * 상품 정보와 이미지 URL은 수정/삭제 전까지 바뀌지 않으므로 캐시하고,
+ * 수시로 바뀌는 가용 재고는 호출자가 요청마다 덮어쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemDetailReader {
+
+	private final ItemService itemService;
+	private final ImageUploadService imageUploadService;
+
+	/**
+	 * 상품 상세 정보 조회 (재고는 DB 값)
+	 */
+	@Cacheable(cacheNames = CacheConfig.ITEM_DETAIL, key = "#itemId")
+	@Transactional(readOnly = true)
+	public ItemResponseDto getItemDetail(Integer itemId) {
+		Item item = itemService.getItemById(itemId);
+
+		// 이미지 URL 변환 처리
+		List<String> imageUrls = item.getImages().stream()
+			.map(image -> imageUploadService.getImageUrl(image.getUrl()))
+			.toList();
+
+		return ItemResponseDto.from(item, imageUrls);
+	}
+
+	/**
+	 * 상품 수정/삭제 시 캐시 삭제 (트랜잭션 안에서 호출되면 커밋 이후 삭제)
+	 */
+	@CacheEvict(cacheNames = CacheConfig.ITEM_DETAIL, key = "#itemId")
+	public void evict(Integer itemId) {
+	}
+}
@@ -0,0 +1,22 @@
+package com.otoki.uptention.application.mining.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "내 채굴 랭킹 조회 응답 DTO")
+public class MyMiningRankResponseDto {
+
+	@Schema(description = "유저 아이디", example = "1")
+	private Integer id;
+
+	@Schema(description = "순위 (동점자는 같은 순위, 기록이 없으면 null)", example = "3", nullable = true)
+	private Integer rank;
+
+	@Schema(description = "누적 포인트 값(분기준)", example = "103")
+	private Long totalMiningMinutes;
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import com.otoki.uptention.application.mining.dto.request.FocusModeOnRequestDto;
 import com.otoki.uptention.application.mining.dto.response.MiningTimeResponseDto;
+import com.otoki.uptention.application.mining.dto.response.MyMiningRankResponseDto;
 import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
 
 public interface MiningTimeAppService {
@@ -16,9 +17,13 @@ public interface MiningTimeAppService {
 
 	void executeDailyMiningProcesses();
 
+	void executeTokenPayouts();
+
 	void executeWeeklyNftProcesses();
 
 	List<MiningTimeResponseDto> findAllMiningTimes(Integer userId, ZonedDateTime startTime, ZonedDateTime endTime);
 
 	Map<String, List<MiningTimeRankResponseDto>> findMiningRank(Integer top, ZonedDateTime zoneTime);
+
+	MyMiningRankResponseDto findMyMiningRank(ZonedDateTime zoneTime);
 }
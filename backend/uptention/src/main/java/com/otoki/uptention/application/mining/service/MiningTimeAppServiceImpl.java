@@ -1,6 +1,5 @@
 package com.otoki.uptention.application.mining.service;
 
-import java.text.DecimalFormat;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
@@ -15,31 +14,31 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.otoki.uptention.application.mining.dto.request.FocusModeOnRequestDto;
-import com.otoki.uptention.application.mining.dto.response.CreateNftApiResponse;
 import com.otoki.uptention.application.mining.dto.response.MiningTimeResponseDto;
-import com.otoki.uptention.application.mining.dto.response.MintAddressResponse;
+import com.otoki.uptention.application.mining.dto.response.MyMiningRankResponseDto;
+import com.otoki.uptention.application.payout.service.TokenPayoutEngine;
 import com.otoki.uptention.auth.service.SecurityService;
 import com.otoki.uptention.domain.company.entity.Company;
 import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.mining.entity.MiningHourly;
 import com.otoki.uptention.domain.mining.entity.MiningTime;
+import com.otoki.uptention.domain.mining.leaderboard.MiningLeaderboard;
+import com.otoki.uptention.domain.mining.leaderboard.MiningRankEntry;
 import com.otoki.uptention.domain.mining.service.MiningTimeService;
-import com.otoki.uptention.domain.notification.entity.Notification;
-import com.otoki.uptention.domain.notification.service.NotificationService;
+import com.otoki.uptention.domain.payout.service.TokenPayoutService;
 import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.domain.user.service.UserService;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
 import com.otoki.uptention.global.util.DateTimeUtils;
-import com.otoki.uptention.infra.fcm.service.FcmSendService;
-import com.otoki.uptention.infra.solana.dto.Attribute;
-import com.otoki.uptention.infra.solana.service.SolanaExpressApiServiceImpl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,13 +49,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 
-	private final UserService userService;
 	private final MiningTimeService miningTimeService;
 	private final SecurityService securityService;
-	private final SolanaExpressApiServiceImpl solanaExpressApiServiceImpl;
-	private final ObjectMapper objectMapper;
-	private final NotificationService notificationService;
-	private final FcmSendService fcmSendService;
+	private final MiningLeaderboard miningLeaderboard;
+	private final TokenPayoutService tokenPayoutService;
+	private final TokenPayoutEngine tokenPayoutEngine;
+	private final NftRewardPipeline nftRewardPipeline;
+	private final UserService userService;
 
 	@Transactional
 	@Override
@@ -80,10 +79,10 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 		}
 
 		MiningTime ongoing = miningTimeService.findMiningTime(loggedInUser);
-		if (ongoing != null && ongoing.getEndTime() == null) {
-			ongoing.updateEndTime(now);
+		if (ongoing != null && ongoing.getEndTime() == null && miningTimeService.finishMiningTime(ongoing, now)) {
 			long minutes = Duration.between(ongoing.getStartTime(), now).toMinutes();
-			loggedInUser.setPoint(loggedInUser.getPoint() + (int)minutes);
+			userService.addPoint(loggedInUser.getId(), (int)minutes);
+			miningLeaderboard.recordSession(loggedInUser, ongoing.getStartTime(), now);
 		}
 
 		MiningTime newSession = MiningTime.builder()
@@ -110,10 +109,15 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 			throw new CustomException(ErrorCode.FOCUS_MODE_INSPECTION);
 		}
 
-		session.updateEndTime(now);
+		// 마감 처리가 먼저 종료한 세션이면 포인트와 집계가 이미 반영됨
+		if (!miningTimeService.finishMiningTime(session, now)) {
+			throw new CustomException(ErrorCode.FOCUS_MODE_OFF_FAILED);
+		}
 		long minutes = Duration.between(session.getStartTime(), now).toMinutes();
-		loggedInUser.setPoint(loggedInUser.getPoint() + (int)minutes);
+		// 같은 시각에 지급 실패 환불이 반영될 수 있으므로 엔티티 값이 아닌 UPDATE로 적립
+		userService.addPoint(loggedInUser.getId(), (int)minutes);
 		miningTimeService.saveMiningTime(session);
+		miningLeaderboard.recordSession(loggedInUser, session.getStartTime(), now);
 	}
 
 	@Transactional
@@ -121,17 +125,28 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 	public void executeDailyMiningProcesses() {
 		log.info("Executing daily mining processes");
 		bulkUpdateMiningTime();
+		// 마감 처리로 종료된 세션까지 반영되도록 이번 주 랭킹을 다시 적재
+		miningLeaderboard.rebuild(MiningLeaderboard.weekOf(LocalDateTime.now()));
 		bulkUpdateUserPoints();
-		bulkSendToken();
+		preparePayouts();
 		log.info("Completed daily mining processes");
 	}
 
-	@Transactional
+	// 전송 묶음마다 결과를 커밋해야 하므로 트랜잭션 없이 실행
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Override
+	public void executeTokenPayouts() {
+		log.info("Executing token payouts");
+		tokenPayoutEngine.payPending();
+		log.info("Completed token payouts");
+	}
+
+	// 발행/전송 요청이 오래 걸리므로 트랜잭션 없이 단계별로 처리
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@Override
 	public void executeWeeklyNftProcesses() {
 		log.info("Executing weekly NFT processes");
-		List<MintAddressResponse> mints = bulkCreateNFT();
-		bulkSendNFT(mints);
+		nftRewardPipeline.run(this::findWeeklyNftWinners);
 		log.info("Completed weekly NFT processes");
 	}
 
@@ -141,13 +156,16 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 		ZonedDateTime startZoned,    // 클라이언트 로컬 타임존 정보 포함
 		ZonedDateTime endZoned       // 클라이언트 로컬 타임존 정보 포함
 	) {
-		User user = securityService.getLoggedInUser();
-		if (!user.getId().equals(userId)) {
+		if (!securityService.getLoggedInUserId().equals(userId)) {
 			throw new CustomException(ErrorCode.FORBIDDEN_USER);
 		}
 		if (endZoned.isBefore(startZoned)) {
 			throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
 		}
+		// 집계 구간(15분)에 맞지 않는 오프셋은 일자 경계가 구간 중간에 걸려 정확히 나눌 수 없음
+		if (!isBucketAligned(startZoned) || !isBucketAligned(endZoned)) {
+			throw new CustomException(ErrorCode.INVALID_PARAMETER);
+		}
 
 		// ——— 1) 클라이언트 로컬 → UTC LocalDateTime
 		LocalDateTime startUtc = startZoned
@@ -157,22 +175,19 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 			.withZoneSameInstant(ZoneOffset.UTC)
 			.toLocalDateTime();
 
-		// DB 조회 (UTC 기준으로 저장·조회 중이라면)
-		List<MiningTime> sessions = miningTimeService
-			.findMiningTimesByUserIdAndTimeRange(userId, startUtc, endUtc);
+		// 구간 집계 조회 (UTC 15분 구간, 정시가 아닌 오프셋의 자정도 구간 경계와 일치)
+		List<MiningHourly> buckets = miningTimeService
+			.findHourlyMiningTimes(userId, startUtc, endUtc);
 
-		// ——— 2) 그룹핑 시, UTC 저장값 → 클라이언트 로컬 날짜로 변환
+		// ——— 2) 그룹핑 시, UTC 구간 시작 시각 → 클라이언트 로컬 날짜로 변환
 		ZoneId clientZone = startZoned.getZone();
-		return sessions.stream()
+		return buckets.stream()
 			.collect(Collectors.groupingBy(
-				mt -> ZonedDateTime
-					.of(mt.getStartTime(), ZoneOffset.UTC)      // UTC → Zoned
+				bucket -> ZonedDateTime
+					.of(bucket.getBucketStart(), ZoneOffset.UTC)   // UTC → Zoned
 					.withZoneSameInstant(clientZone)           // → 클라이언트 로컬
 					.toLocalDate(),                            // → LocalDate
-				Collectors.summingLong(mt ->
-					Duration.between(mt.getStartTime(), mt.getEndTime())
-						.toMinutes()
-				)
+				Collectors.summingLong(MiningHourly::getMinutes)
 			))
 			.entrySet().stream()
 			.map(e -> MiningTimeResponseDto.builder()
@@ -192,17 +207,63 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 		}
 
 		// 1. 지난주 월요일 00:00 (clientZone 기준)
-		ZonedDateTime startOfLastWeek = referenceZoned
+		ZonedDateTime startOfLastWeek = startOfPreviousWeek(referenceZoned);
+
+		// 2. 주간 랭킹에서 상위 top개 순위 조회 (사용할 수 없으면 DB에서 UTC 범위로 집계)
+		List<MiningTimeRankResponseDto> ranks = (isLeaderboardZone(startOfLastWeek)
+			? miningLeaderboard.findTop(startOfLastWeek.toLocalDate(), top)
+			: Optional.<List<MiningTimeRankResponseDto>>empty())
+			.orElseGet(() -> findMiningRankFromDb(startOfLastWeek));
+
+		// 3. 등수 계산
+		Map<Integer, List<MiningTimeRankResponseDto>> rankMap =
+			calculationRank(ranks, top);
+
+		// 4. JSON 형태로 변환하여 반환
+		return convertJson(rankMap);
+	}
+
+	@Override
+	public MyMiningRankResponseDto findMyMiningRank(ZonedDateTime referenceZoned) {
+		Integer userId = securityService.getLoggedInUserId();
+		ZonedDateTime startOfLastWeek = startOfPreviousWeek(referenceZoned);
+
+		MiningRankEntry entry = (isLeaderboardZone(startOfLastWeek)
+			? miningLeaderboard.findRank(startOfLastWeek.toLocalDate(), userId)
+			: Optional.<MiningRankEntry>empty())
+			.orElseGet(() -> findRankFromDb(findMiningRankFromDb(startOfLastWeek), userId));
+
+		return MyMiningRankResponseDto.builder()
+			.id(userId)
+			.rank(entry.getRank())
+			.totalMiningMinutes(entry.getTotalMiningMinutes() == null ? 0L : entry.getTotalMiningMinutes())
+			.build();
+	}
+
+	private boolean isBucketAligned(ZonedDateTime zoned) {
+		return zoned.getOffset().getTotalSeconds() % (MiningHourly.BUCKET_MINUTES * 60) == 0;
+	}
+
+	// 기준 시각의 지난주 월요일 00:00 (clientZone 기준)
+	private ZonedDateTime startOfPreviousWeek(ZonedDateTime referenceZoned) {
+		return referenceZoned
 			.minusWeeks(1)
 			.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
 			.truncatedTo(ChronoUnit.DAYS);
+	}
 
-		// 2. 지난주 일요일 23:59:59.999 (clientZone 기준)
+	// 주간 랭킹은 한국 시간 기준 주로 적재되므로 같은 오프셋의 주만 조회
+	private boolean isLeaderboardZone(ZonedDateTime startOfWeek) {
+		return startOfWeek.getOffset().equals(MiningLeaderboard.ZONE.getRules().getOffset(startOfWeek.toInstant()));
+	}
+
+	private List<MiningTimeRankResponseDto> findMiningRankFromDb(ZonedDateTime startOfLastWeek) {
+		// 지난주 일요일 23:59:59.999 (clientZone 기준)
 		ZonedDateTime endOfLastWeek = startOfLastWeek
 			.plusDays(6)
 			.with(LocalTime.MAX);
 
-		// 3. UTC로 변환해 DB 조회용 LocalDateTime 생성
+		// UTC로 변환해 DB 조회용 LocalDateTime 생성
 		LocalDateTime startUtc = startOfLastWeek
 			.withZoneSameInstant(ZoneOffset.UTC)
 			.toLocalDateTime();
@@ -210,16 +271,23 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 			.withZoneSameInstant(ZoneOffset.UTC)
 			.toLocalDateTime();
 
-		// 4. DB에서 UTC 범위로 랭킹 조회
-		List<MiningTimeRankResponseDto> ranks =
-			miningTimeService.findMiningRank(startUtc, endUtc);
-
-		// 5. 등수 계산
-		Map<Integer, List<MiningTimeRankResponseDto>> rankMap =
-			calculationRank(ranks, top);
+		return miningTimeService.findMiningRank(startUtc, endUtc);
+	}
 
-		// 6. JSON 형태로 변환하여 반환
-		return convertJson(rankMap);
+	// 누적 시간 내림차순 목록에서 조밀 순위 계산
+	private MiningRankEntry findRankFromDb(List<MiningTimeRankResponseDto> ranks, Integer userId) {
+		int currentRank = 0;
+		Long prevTotal = null;
+		for (MiningTimeRankResponseDto dto : ranks) {
+			if (prevTotal == null || !dto.getTotalMiningMinutes().equals(prevTotal)) {
+				currentRank++;
+				prevTotal = dto.getTotalMiningMinutes();
+			}
+			if (dto.getId().equals(userId)) {
+				return new MiningRankEntry(currentRank, userId, dto.getUsername(), dto.getTotalMiningMinutes());
+			}
+		}
+		return MiningRankEntry.unranked(userId);
 	}
 
 	private int bulkUpdateMiningTime() {
@@ -232,110 +300,23 @@ public class MiningTimeAppServiceImpl implements MiningTimeAppService {
 		return miningTimeService.calculatePoint(cutoff);
 	}
 
-	private void bulkSendToken() {
-		log.info("Token send scheduler start");
-		List<User> users;
-		try {
-			users = userService.getUsersByRole();
-		} catch (Exception e) {
-			log.error("Error fetching users", e);
-			return;
-		}
-		if (users.isEmpty()) {
-			log.info("No users to send tokens");
-			return;
-		}
-		users.forEach(u -> {
-			if (u.getWallet() == null || u.getPoint() == null || u.getPoint() <= 0) {
-				return;
-			}
-
-			double toSend = u.getPoint() / 10.0;
-			String amt = new DecimalFormat("0.0").format(toSend);
-			try {
-				String resp = solanaExpressApiServiceImpl.transferToken(u.getWallet(), amt);
-				log.info("Token sent: {}", resp);
-				u.setPoint(0);
-			} catch (Exception ex) {
-				log.error("Token send failed for {}: {}", u.getId(), ex.getMessage());
-			}
-		});
-		log.info("Token send scheduler end");
+	// 포인트를 지급 원장으로 옮겨 두고, 실제 전송은 트랜잭션 밖에서 TokenPayoutEngine이 처리
+	private int preparePayouts() {
+		int prepared = tokenPayoutService.preparePayouts(LocalDate.now());
+		log.info("Prepared {} token payouts", prepared);
+		return prepared;
 	}
 
-	private List<MintAddressResponse> bulkCreateNFT() {
-		List<MintAddressResponse> result = new ArrayList<>();
-		log.info("NFT creation scheduler start");
+	// 지난주(한국 시간 기준) 3위까지의 수상자
+	private Map<String, List<MiningTimeRankResponseDto>> findWeeklyNftWinners() {
 		ZoneId kst = ZoneId.of("Asia/Seoul");
 		List<LocalDateTime> bounds = calculatePreviousWeekUtcBounds(LocalDateTime.now().plusDays(1), kst);
 		if (bounds.size() != 2) {
 			log.error("Date bounds error");
-			return result;
+			return Map.of();
 		}
 		List<MiningTimeRankResponseDto> ranks = miningTimeService.findMiningRank(bounds.get(0), bounds.get(1));
-		if (ranks.isEmpty()) {
-			log.info("No rank data for NFT");
-			return result;
-		}
-		Map<Integer, List<MiningTimeRankResponseDto>> rankMap = calculationRank(ranks, 3);
-		Map<String, List<MiningTimeRankResponseDto>> jsonMap = convertJson(rankMap);
-		jsonMap.forEach((rank, list) -> list.forEach(dto -> {
-			User user = userService.getUserById(dto.getId());
-
-			if (user == null || user.getWallet() == null) {
-				return;
-			}
-
-			LocalDate date = LocalDate.now();
-			String weekName = String.format("%d년 %d월 %d주차", date.getYear(), date.getMonthValue(),
-				(date.getDayOfMonth() - 1) / 7 + 1);
-			List<Attribute> attrs = new ArrayList<>();
-
-			attrs.add(new Attribute("range",
-				String.format("%d-%d-%d-%d", date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
-					(date.getDayOfMonth() - 1) / 7 + 1)));
-			attrs.add(new Attribute("rank", rank));
-			attrs.add(new Attribute("name", user.getName()));
-
-			try {
-				String resp = solanaExpressApiServiceImpl.createNft(rank, weekName, rank + "위에게 수여되는 NFT", attrs,
-					"SSAFY");
-				CreateNftApiResponse apiResp = objectMapper.readValue(resp, CreateNftApiResponse.class);
-				result.add(new MintAddressResponse(user.getId(), apiResp.getMintAddress(), user.getWallet()));
-			} catch (Exception ex) {
-				log.error("NFT creation failed for {}: {}", dto.getId(), ex.getMessage());
-			}
-		}));
-
-		log.info("NFT creation scheduler end");
-		return result;
-	}
-
-	private void bulkSendNFT(List<MintAddressResponse> mintAddresses) {
-		log.info("NFT send start");
-		if (mintAddresses.isEmpty()) {
-			log.info("No NFTs to send");
-			return;
-		}
-		mintAddresses.forEach(target -> {
-			if (target.getWallet() == null || target.getAddress() == null)
-				return;
-			try {
-				String resp = solanaExpressApiServiceImpl.transferNft(target.getWallet(), target.getAddress());
-				log.info("NFT sent: {}", resp);
-				Notification notification = Notification.builder()
-					.title("🎉우수 사원 NFT 도착!🎉")
-					.message(target.getId() + "님 축하드립니다!")
-					.user(userService.getUserById(target.getId()))
-					.build();
-				notificationService.saveNotification(notification);
-				fcmSendService.sendNotificationToUser(notification.getUser(), notification.getTitle(),
-					notification.getMessage());
-			} catch (Exception ex) {
-				log.error("NFT send failed for {}: {}", target.getId(), ex.getMessage());
-			}
-		});
-		log.info("NFT send end");
+		return convertJson(calculationRank(ranks, 3));
 	}
 
 	private static final double EARTH_RADIUS = 6371000;
@@ -0,0 +1,307 @@
+package com.otoki.uptention.application.mining.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otoki.uptention.application.mining.dto.response.CreateNftApiResponse;
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
+import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.reward.entity.NftReward;
+import com.otoki.uptention.domain.reward.service.NftRewardService;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.domain.user.service.UserService;
+import com.otoki.uptention.global.config.NftRewardProperties;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+import com.otoki.uptention.infra.solana.dto.Attribute;
+import com.otoki.uptention.infra.solana.service.SolanaExpressApiService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주간 우수 사원 NFT 지급 파이프라인
+ * - 순위 계산 -> 수상자 일괄 조회 -> 발행 -> 전송 단계로 나누고, 발행/전송은 단계별 스레드 수만큼만 동시에 요청한다.
+ * - 수상자마다 발행이 끝나는 즉시 전송 단계로 넘어가므로 다른 수상자의 발행을 기다리지 않는다.
+ * - 발행 결과(민트 주소)는 전송 전에 기록하므로, 전송 실패나 제한 시간 초과로 중단된 건은 다음 실행 시작 시 전송만 다시 한다.
+ *   다시 보내는 전송도 같은 전송 스레드와 제한 시간 안에서 처리하며, maxTransferAttempts번 실패한 건은 전송 실패로 남긴다.
+ * - 단계별 소요 시간과 성공/실패 건수를 nft.reward.stage 타이머(stage, result 태그)로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NftRewardPipeline {
+
+	private static final String STAGE_METRIC = "nft.reward.stage";
+	private static final String STAGE_RANKING = "ranking";
+	private static final String STAGE_RESOLVE = "resolve";
+	private static final String STAGE_MINT = "mint";
+	private static final String STAGE_TRANSFER = "transfer";
+
+	private static final String NFT_SYMBOL = "SSAFY";
+
+	private final UserService userService;
+	private final SolanaExpressApiService solanaExpressApiService;
+	private final NotificationDispatcher notificationDispatcher;
+	private final NftRewardService nftRewardService;
+	private final ObjectMapper objectMapper;
+	private final NftRewardProperties nftRewardProperties;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 이전 실행에서 전송하지 못한 NFT를 먼저 전송한 뒤, 순위별 수상자에게 NFT를 발행하여 전송
+	 * @param ranking 순위(문자열) -> 수상자 목록을 계산하는 단계
+	 * @return 이번 수상자의 전송 완료 건수
+	 */
+	public int run(Supplier<Map<String, List<MiningTimeRankResponseDto>>> ranking) {
+		ExecutorService mintExecutor = Executors.newFixedThreadPool(nftRewardProperties.getMintConcurrency(),
+			threadFactory("nft-mint-"));
+		ExecutorService transferExecutor = Executors.newFixedThreadPool(
+			nftRewardProperties.getTransferConcurrency(), threadFactory("nft-transfer-"));
+		try {
+			List<CompletableFuture<Boolean>> retries = retryUntransferred(transferExecutor);
+			List<Winner> winners;
+			try {
+				winners = findWinners(ranking);
+			} catch (RuntimeException e) {
+				// 진행 중인 재전송은 마치고 종료
+				awaitAll(retries);
+				throw e;
+			}
+			List<CompletableFuture<Boolean>> futures = mintAndTransfer(winners, mintExecutor, transferExecutor);
+
+			List<CompletableFuture<Boolean>> all = new ArrayList<>(retries);
+			all.addAll(futures);
+			awaitAll(all);
+
+			if (!retries.isEmpty()) {
+				log.info("Retried untransferred NFT rewards: retried={}, sent={}", retries.size(), countSent(retries));
+			}
+			if (winners.isEmpty()) {
+				return 0;
+			}
+			int sent = countSent(futures);
+			log.info("NFT rewards finished: winners={}, sent={}, failed={}", winners.size(), sent,
+				winners.size() - sent);
+			return sent;
+		} finally {
+			mintExecutor.shutdownNow();
+			transferExecutor.shutdownNow();
+		}
+	}
+
+	private List<Winner> findWinners(Supplier<Map<String, List<MiningTimeRankResponseDto>>> ranking) {
+		Map<String, List<MiningTimeRankResponseDto>> ranks = stage(STAGE_RANKING, ranking);
+		if (ranks.isEmpty()) {
+			log.info("No rank data for NFT");
+			return List.of();
+		}
+
+		List<Winner> winners = stage(STAGE_RESOLVE, () -> resolveWinners(ranks));
+		if (winners.isEmpty()) {
+			log.info("No NFT winners with a wallet");
+		}
+		return winners;
+	}
+
+	// 수상자마다 발행이 끝나는 즉시 전송 (결과: 전송 완료 여부)
+	private List<CompletableFuture<Boolean>> mintAndTransfer(List<Winner> winners, ExecutorService mintExecutor,
+		ExecutorService transferExecutor) {
+		LocalDate date = LocalDate.now();
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>(winners.size());
+		for (Winner winner : winners) {
+			futures.add(CompletableFuture
+				.supplyAsync(() -> stage(STAGE_MINT, () -> mint(winner, date)), mintExecutor)
+				.thenApplyAsync(reward -> stage(STAGE_TRANSFER, () -> transfer(reward)), transferExecutor)
+				.handle((transferred, ex) -> {
+					if (ex != null) {
+						log.error("NFT reward failed for {}: {}", winner.user.getId(), ex.getMessage());
+						return false;
+					}
+					return true;
+				}));
+		}
+		return futures;
+	}
+
+	// 재전송과 이번 지급을 합쳐 timeout까지 기다림
+	private void awaitAll(List<CompletableFuture<Boolean>> futures) {
+		if (futures.isEmpty()) {
+			return;
+		}
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+				.get(nftRewardProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 발행 전인 수상자는 이번 주 지급에서 빠지고, 발행된 NFT는 다음 실행에서 전송한다.
+			log.error("NFT reward pipeline timed out; minted NFTs are transferred on the next run");
+			logUntransferred();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// 건별 실패는 handle에서 처리되므로 발생하지 않음
+			log.error("NFT reward pipeline failed: {}", e.getMessage());
+		}
+	}
+
+	private int countSent(List<CompletableFuture<Boolean>> futures) {
+		return (int)futures.stream()
+			.filter(future -> future.isDone() && Boolean.TRUE.equals(future.getNow(false)))
+			.count();
+	}
+
+	// 수상자를 한 번에 조회하고 지갑이 없는 사용자는 제외
+	private List<Winner> resolveWinners(Map<String, List<MiningTimeRankResponseDto>> ranks) {
+		List<Integer> userIds = ranks.values().stream()
+			.flatMap(List::stream)
+			.map(MiningTimeRankResponseDto::getId)
+			.toList();
+		Map<Integer, User> users = userService.getUsersByIds(userIds).stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
+
+		List<Winner> winners = new ArrayList<>();
+		ranks.forEach((rank, list) -> list.forEach(dto -> {
+			User user = users.get(dto.getId());
+			if (user == null || user.getWallet() == null) {
+				return;
+			}
+			winners.add(new Winner(rank, user));
+		}));
+		return winners;
+	}
+
+	/**
+	 * 이전 실행에서 발행 후 전송되지 않은 NFT를 전송 스레드에서 다시 전송 (발행은 다시 하지 않음)
+	 */
+	private List<CompletableFuture<Boolean>> retryUntransferred(ExecutorService transferExecutor) {
+		return nftRewardService.getUntransferredRewards().stream()
+			.map(reward -> CompletableFuture
+				.supplyAsync(() -> stage(STAGE_TRANSFER, () -> transfer(reward)), transferExecutor)
+				// 실패는 transfer에서 민트 주소와 함께 기록
+				.handle((transferred, ex) -> ex == null))
+			.toList();
+	}
+
+	private void logUntransferred() {
+		try {
+			nftRewardService.getUntransferredRewards().forEach(reward ->
+				log.error("NFT {} minted for user {} is waiting for transfer", reward.getMintAddress(),
+					reward.getUser().getId()));
+		} catch (RuntimeException e) {
+			log.error("Failed to list untransferred NFT rewards: {}", e.getMessage());
+		}
+	}
+
+	private NftReward mint(Winner winner, LocalDate date) {
+		int weekOfMonth = (date.getDayOfMonth() - 1) / 7 + 1;
+		String weekName = String.format("%d년 %d월 %d주차", date.getYear(), date.getMonthValue(), weekOfMonth);
+		List<Attribute> attrs = new ArrayList<>();
+		attrs.add(new Attribute("range",
+			String.format("%d-%d-%d-%d", date.getYear(), date.getMonthValue(), date.getDayOfMonth(), weekOfMonth)));
+		attrs.add(new Attribute("rank", winner.rank));
+		attrs.add(new Attribute("name", winner.user.getName()));
+
+		String resp = solanaExpressApiService.createNft(winner.rank, weekName, winner.rank + "위에게 수여되는 NFT",
+			attrs, NFT_SYMBOL);
+		String mintAddress;
+		try {
+			CreateNftApiResponse apiResp = objectMapper.readValue(resp, CreateNftApiResponse.class);
+			if (apiResp.getMintAddress() == null) {
+				throw new CustomException(ErrorCode.NFT_MINT_FAILED);
+			}
+			mintAddress = apiResp.getMintAddress();
+		} catch (JsonProcessingException e) {
+			throw new CustomException(ErrorCode.NFT_MINT_FAILED);
+		}
+
+		try {
+			return nftRewardService.recordMint(winner.user, winner.rank, date, mintAddress);
+		} catch (RuntimeException e) {
+			// 기록되지 않은 NFT는 다시 전송할 수 없으므로 민트 주소를 남김
+			log.error("NFT {} minted for user {} could not be recorded; transfer it manually", mintAddress,
+				winner.user.getId(), e);
+			throw e;
+		}
+	}
+
+	private String transfer(NftReward reward) {
+		Integer userId = reward.getUser().getId();
+		String resp;
+		try {
+			resp = solanaExpressApiService.transferNft(reward.getWallet(), reward.getMintAddress());
+		} catch (RuntimeException e) {
+			recordTransferFailure(reward, e);
+			throw e;
+		}
+		log.info("NFT sent: {}", resp);
+		nftRewardService.markTransferred(reward.getId());
+		notificationDispatcher.dispatch(userId, "🎉우수 사원 NFT 도착!🎉", userId + "님 축하드립니다!");
+		return resp;
+	}
+
+	private void recordTransferFailure(NftReward reward, RuntimeException cause) {
+		Integer userId = reward.getUser().getId();
+		int maxAttempts = nftRewardProperties.getMaxTransferAttempts();
+		try {
+			nftRewardService.recordTransferFailure(reward.getId(), maxAttempts);
+		} catch (RuntimeException e) {
+			log.error("Failed to record NFT {} transfer failure: {}", reward.getMintAddress(), e.getMessage());
+		}
+
+		if (reward.getTransferAttempts() + 1 >= maxAttempts) {
+			// 전송되었지만 결과를 기록하지 못한 경우도 있으므로 지갑의 보유 여부를 확인해야 함
+			log.error("NFT {} minted for user {} failed to transfer {} times; check the wallet and transfer it "
+				+ "manually: {}", reward.getMintAddress(), userId, maxAttempts, cause.getMessage());
+		} else {
+			log.error("NFT {} minted for user {} was not transferred; retrying on the next run: {}",
+				reward.getMintAddress(), userId, cause.getMessage());
+		}
+	}
+
+	// 단계 실행 시간을 결과(success/failure)별로 기록
+	private <T> T stage(String stage, Supplier<T> task) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			T result = task.get();
+			sample.stop(meterRegistry.timer(STAGE_METRIC, "stage", stage, "result", "success"));
+			return result;
+		} catch (RuntimeException e) {
+			sample.stop(meterRegistry.timer(STAGE_METRIC, "stage", stage, "result", "failure"));
+			throw e;
+		}
+	}
+
+	private ThreadFactory threadFactory(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@RequiredArgsConstructor
+	private static class Winner {
+		private final String rank;
+		private final User user;
+	}
+}
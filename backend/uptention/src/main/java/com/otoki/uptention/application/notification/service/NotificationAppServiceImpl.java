@@ -10,6 +10,7 @@ import com.otoki.uptention.application.notification.dto.response.NotificationCou
 import com.otoki.uptention.application.notification.dto.response.NotificationCursorResponseDto;
 import com.otoki.uptention.application.notification.dto.response.NotificationResponseDto;
 import com.otoki.uptention.auth.service.SecurityService;
+import com.otoki.uptention.domain.common.CursorCodec;
 import com.otoki.uptention.domain.common.CursorDto;
 import com.otoki.uptention.domain.notification.entity.Notification;
 import com.otoki.uptention.domain.notification.service.NotificationService;
@@ -23,14 +24,15 @@ import lombok.RequiredArgsConstructor;
 public class NotificationAppServiceImpl implements NotificationAppService {
 	private final NotificationService notificationService;
 	private final SecurityService securityService;
+	private final CursorCodec cursorCodec;
 
 	// 알림 커서 조회
 	@Override
 	public NotificationCursorResponseDto getNotifications(Boolean read, String keyword, String cursorStr, int size) {
-		User loggedInUser = securityService.getLoggedInUser();
+		User loggedInUser = securityService.getLoggedInUserReference();
 
 		// 커서 디코딩
-		CursorDto<String> cursor = CursorDto.decode(cursorStr, String.class);
+		CursorDto<String> cursor = cursorCodec.decode(cursorStr, String.class);
 
 		// size + 1개 조회하여 다음 페이지 존재 여부 확인
 		List<Notification> notifications = notificationService.getNotificationsByCursor(
@@ -60,13 +62,13 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 	@Override
 	@Transactional
 	public void markAllAsRead() {
-		User loggedInUser = securityService.getLoggedInUser();
+		User loggedInUser = securityService.getLoggedInUserReference();
 		notificationService.markAllAsRead(loggedInUser);
 	}
 
 	@Override
 	public NotificationCountResponseDto getNotificationCount(Boolean read) {
-		User loggedInUser = securityService.getLoggedInUser();
+		User loggedInUser = securityService.getLoggedInUserReference();
 		int count = notificationService.countByUserAndRead(loggedInUser, read);
 
 		return NotificationCountResponseDto.builder()
@@ -87,6 +89,6 @@ public class NotificationAppServiceImpl implements NotificationAppService {
 	// 다음 커서 생성
 	private String createNextCursor(Notification lastNotification) {
 		String value = lastNotification.getCreatedAt().toString();
-		return new CursorDto<>(value, lastNotification.getId()).encode();
+		return cursorCodec.encode(new CursorDto<>(value, lastNotification.getId()));
 	}
 }
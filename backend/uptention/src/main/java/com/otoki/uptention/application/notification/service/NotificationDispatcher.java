@@ -0,0 +1,205 @@
+package com.otoki.uptention.application.notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.otoki.uptention.domain.notification.dto.PendingNotification;
+import com.otoki.uptention.domain.notification.repository.NotificationJdbcRepository;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.config.NotificationProperties;
+import com.otoki.uptention.infra.fcm.service.FcmSendService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 저장/푸시 전송 파이프라인
+ * 호출자는 큐에 넣기만 하고(트랜잭션 안이면 커밋 이후), 전용 스레드가 큐에 쌓인 알림을 묶어서
+ * JDBC 배치로 저장한 뒤 FCM sendEach로 일괄 전송한다.
+ * 큐가 가득 차면 호출 스레드가 직접 처리하여 생산 속도를 처리 속도에 맞춘다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher implements SmartLifecycle {
+
+	private final NotificationJdbcRepository notificationJdbcRepository;
+	private final FcmSendService fcmSendService;
+	private final TransactionTemplate transactionTemplate;
+	private final NotificationProperties properties;
+	private final BlockingQueue<PendingNotification> queue;
+
+	private final Counter dispatchedCounter;
+	private final Counter callerRunsCounter;
+	private final Counter failedCounter;
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public NotificationDispatcher(NotificationJdbcRepository notificationJdbcRepository,
+		FcmSendService fcmSendService, PlatformTransactionManager transactionManager,
+		NotificationProperties properties, MeterRegistry meterRegistry) {
+		this.notificationJdbcRepository = notificationJdbcRepository;
+		this.fcmSendService = fcmSendService;
+		this.properties = properties;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+		// 호출자의 트랜잭션(커밋 이후 콜백 포함)과 분리하여 저장
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		this.dispatchedCounter = Counter.builder("notification.dispatched")
+			.description("Notifications persisted and pushed")
+			.register(meterRegistry);
+		this.callerRunsCounter = Counter.builder("notification.caller_runs")
+			.description("Notifications processed on the caller thread because the queue was full")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("notification.failed")
+			.description("Notifications that could not be persisted")
+			.register(meterRegistry);
+		Gauge.builder("notification.queue.size", queue, BlockingQueue::size)
+			.description("Notifications waiting to be persisted and pushed")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 알림 저장 및 푸시 요청
+	 * 트랜잭션 안에서 호출되면 커밋된 경우에만 처리한다.
+	 */
+	public void dispatch(User user, String title, String message) {
+		dispatch(user.getId(), title, message);
+	}
+
+	public void dispatch(Integer userId, String title, String message) {
+		PendingNotification notification = new PendingNotification(userId, title, message);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(notification);
+				}
+			});
+			return;
+		}
+
+		enqueue(notification);
+	}
+
+	/**
+	 * 큐에 남은 알림을 모두 처리 (처리한 알림 수 반환)
+	 */
+	public int flush() {
+		int processed = 0;
+		List<PendingNotification> batch = new ArrayList<>(properties.getBatchSize());
+		while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+			process(batch);
+			processed += batch.size();
+			batch.clear();
+		}
+		return processed;
+	}
+
+	private void enqueue(PendingNotification notification) {
+		try {
+			if (running && queue.offer(notification, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// 큐가 가득 찼거나 파이프라인이 동작하지 않으면 호출 스레드에서 처리
+		callerRunsCounter.increment();
+		process(List.of(notification));
+	}
+
+	private void runWorker() {
+		List<PendingNotification> batch = new ArrayList<>(properties.getBatchSize());
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingNotification first = queue.poll(200, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, properties.getBatchSize() - 1);
+				process(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 알림 묶음 저장 후 푸시 전송 (저장에 실패하면 전송하지 않음)
+	 */
+	private void process(List<PendingNotification> batch) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> notificationJdbcRepository.saveAll(batch));
+		} catch (Exception e) {
+			failedCounter.increment(batch.size());
+			log.error("Failed to persist {} notifications: {}", batch.size(), e.getMessage(), e);
+			return;
+		}
+
+		try {
+			fcmSendService.sendNotifications(batch);
+		} catch (Exception e) {
+			// 알림 내역은 저장되었으므로 푸시 실패는 로깅만 함
+			log.error("Failed to push {} notifications: {}", batch.size(), e.getMessage(), e);
+		}
+		dispatchedCounter.increment(batch.size());
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		worker = new Thread(this::runWorker, "notification-dispatcher");
+		worker.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (worker == null) {
+			return;
+		}
+
+		try {
+			// 남은 알림을 처리할 때까지 대기
+			worker.join(properties.getShutdownTimeout().toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!queue.isEmpty()) {
+			log.warn("Notification dispatcher stopped with {} notifications pending", queue.size());
+		}
+	}
+
+	// 웹 서버가 요청 처리를 마친 뒤에 멈추도록 웹 서버보다 늦게 종료
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
@@ -0,0 +1,21 @@
+package com.otoki.uptention.application.order.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Schema(description = "재고 부족 상품 응답 DTO")
+public class StockShortfallResponseDto {
+	@Schema(description = "상품 ID", example = "1")
+	private Integer itemId;
+
+	@Schema(description = "부족 수량", example = "2")
+	private Integer shortfall;
+}
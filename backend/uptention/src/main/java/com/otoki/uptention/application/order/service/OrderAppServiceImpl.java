@@ -17,9 +17,13 @@ import com.otoki.uptention.application.order.dto.response.InitiateOrderResponseD
 import com.otoki.uptention.application.order.dto.response.OrderDetailResponseDto;
 import com.otoki.uptention.application.order.dto.response.OrderHistoryCursorResponseDto;
 import com.otoki.uptention.application.order.dto.response.OrderItemResponseDto;
+import com.otoki.uptention.application.order.dto.response.StockShortfallResponseDto;
 import com.otoki.uptention.auth.service.SecurityService;
+import com.otoki.uptention.domain.common.CursorCodec;
 import com.otoki.uptention.domain.common.CursorDto;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
 import com.otoki.uptention.domain.item.service.InventoryService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.domain.order.entity.Gift;
@@ -51,6 +55,8 @@ public class OrderAppServiceImpl implements OrderAppService {
 	private final GiftService giftService;
 	private final SecurityService securityService;
 	private final InventoryService inventoryService;
+	private final InventoryLeaseService inventoryLeaseService;
+	private final CursorCodec cursorCodec;
 
 	/**
 	 * 일반 주문 생성
@@ -66,11 +72,8 @@ public class OrderAppServiceImpl implements OrderAppService {
 			itemQuantities.put(itemRequest.getItemId(), itemRequest.getQuantity());
 		}
 
-		// 2. 한 번에 모든 상품의 재고 예약 (MultiLock 사용)
-		boolean reserved = inventoryService.reserveInventories(itemQuantities);
-		if (!reserved) {
-			throw new CustomException(ErrorCode.ITEM_INSUFFICIENT_STOCK);
-		}
+		// 2. 한 번에 모든 상품의 재고 예약 (부족하면 상품별 부족 수량과 함께 실패)
+		reserveOrThrow(itemQuantities);
 
 		try {
 			// 3. Order 생성
@@ -87,6 +90,9 @@ public class OrderAppServiceImpl implements OrderAppService {
 				totalPaymentAmount += orderItem.getTotalPrice();
 			}
 
+			// 5. 결제 타임아웃 시 자동 해제되도록 예약 임대 등록
+			inventoryLeaseService.grant(savedOrder.getId(), itemQuantities);
+
 			return InitiateOrderResponseDto.builder()
 				.orderId(savedOrder.getId())
 				.paymentAmount(totalPaymentAmount)
@@ -112,10 +118,7 @@ public class OrderAppServiceImpl implements OrderAppService {
 		itemQuantity.put(giftRequestDto.getItemId(), 1);
 
 		// 재고 예약 시도
-		boolean reserved = inventoryService.reserveInventories(itemQuantity);
-		if (!reserved) {
-			throw new CustomException(ErrorCode.ITEM_INSUFFICIENT_STOCK);
-		}
+		reserveOrThrow(itemQuantity);
 
 		try {
 			// 1. Order 생성 - 선물의 경우 주소 X
@@ -136,6 +139,9 @@ public class OrderAppServiceImpl implements OrderAppService {
 
 			giftService.saveGift(gift);
 
+			// 4. 결제 타임아웃 시 자동 해제되도록 예약 임대 등록
+			inventoryLeaseService.grant(savedOrder.getId(), itemQuantity);
+
 			return InitiateOrderResponseDto.builder()
 				.orderId(savedOrder.getId())
 				.paymentAmount(totalPaymentAmount)
@@ -167,13 +173,31 @@ public class OrderAppServiceImpl implements OrderAppService {
 
 	@Override
 	public DeliveryAddressResponseDto getLatestDeliveryAddress() {
-		Integer userId = securityService.getLoggedInUser().getId();
+		Integer userId = securityService.getLoggedInUserId();
 		String latestAddress = orderService.getLatestDeliveryAddress(userId);
 		return DeliveryAddressResponseDto.builder()
 			.address(latestAddress != null ? latestAddress : "")
 			.build();
 	}
 
+	/**
+	 * 재고 예약 (실패 시 재고가 부족한 상품과 부족 수량을 응답에 포함)
+	 */
+	private void reserveOrThrow(Map<Integer, Integer> itemQuantities) {
+		InventoryReservationResult result = inventoryService.tryReserveInventories(itemQuantities);
+		if (result.isReserved()) {
+			return;
+		}
+
+		List<StockShortfallResponseDto> shortfalls = result.getShortfalls().entrySet().stream()
+			.map(entry -> StockShortfallResponseDto.builder()
+				.itemId(entry.getKey())
+				.shortfall(entry.getValue())
+				.build())
+			.collect(Collectors.toList());
+		throw new CustomException(ErrorCode.ITEM_INSUFFICIENT_STOCK, shortfalls);
+	}
+
 	/**
 	 * OrderItem을 생성하고 저장하는 공통 로직 + 재고 감소
 	 * 참고: Redis 재고 예약은 이미 이루어진 상태
@@ -199,10 +223,10 @@ public class OrderAppServiceImpl implements OrderAppService {
 	@Override
 	public OrderHistoryCursorResponseDto getOrderHistory(String cursorStr, int size, OrderHistoryType type) {
 
-		User user = securityService.getLoggedInUser();
+		Integer userId = securityService.getLoggedInUserId();
 
 		// 커서 처리 및 주문 목록 조회
-		List<Order> orders = fetchOrdersByType(user.getId(), cursorStr, size + 1, type);
+		List<Order> orders = fetchOrdersByType(userId, cursorStr, size + 1, type);
 
 		// 페이지네이션 처리 및 응답 생성
 		return createOrderHistoryResponse(orders, size);
@@ -254,7 +278,7 @@ public class OrderAppServiceImpl implements OrderAppService {
 	 * 유형에 따른 주문 목록 조회
 	 */
 	private List<Order> fetchOrdersByType(Integer userId, String cursorStr, int limit, OrderHistoryType type) {
-		CursorDto<Integer> cursor = CursorDto.decode(cursorStr, Integer.class);
+		CursorDto<Integer> cursor = cursorCodec.decode(cursorStr, Integer.class);
 		boolean isPurchase = OrderHistoryType.PURCHASE.equals(type);
 
 		if (cursor == null) {
@@ -338,7 +362,7 @@ public class OrderAppServiceImpl implements OrderAppService {
 		if (hasNextPage && !resultOrders.isEmpty()) {
 			Order lastOrder = resultOrders.get(resultOrders.size() - 1);
 			CursorDto<Integer> nextCursorDto = new CursorDto<>(0, lastOrder.getId());
-			return nextCursorDto.encode();
+			return cursorCodec.encode(nextCursorDto);
 		}
 		return null;
 	}
@@ -11,7 +11,7 @@ import com.otoki.uptention.application.order.dto.request.ItemVerificationDto;
 import com.otoki.uptention.application.order.dto.response.ItemVerificationResponseDto;
 import com.otoki.uptention.domain.item.dto.InventoryDto;
 import com.otoki.uptention.domain.item.dto.ItemDto;
-import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.domain.item.service.DisplayInventoryService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
@@ -27,7 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderVerifyAppServiceImpl implements OrderVerifyAppService {
 
 	private final ItemService itemService;
-	private final InventoryService inventoryService;
+	private final DisplayInventoryService displayInventoryService;
 	private final ImageUploadService imageUploadService;
 
 	/**
@@ -57,7 +57,7 @@ public class OrderVerifyAppServiceImpl implements OrderVerifyAppService {
 		// 2. Redis에서 실시간 재고 정보 조회
 		Map<Integer, InventoryDto> inventoryMap;
 		try {
-			inventoryMap = inventoryService.getInventories(itemIds);
+			inventoryMap = displayInventoryService.getInventories(itemIds);
 			log.debug("Retrieved {} inventory records from Redis", inventoryMap.size());
 		} catch (Exception e) {
 			log.warn("Failed to retrieve inventory data from Redis, falling back to database inventory: {}",
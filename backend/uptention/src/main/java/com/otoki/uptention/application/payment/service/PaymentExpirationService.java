@@ -0,0 +1,16 @@
+package com.otoki.uptention.application.payment.service;
+
+import java.util.List;
+
+/**
+ * 결제 시간 초과 주문 일괄 처리 서비스
+ * 재고 해제가 끝난 주문들의 상태를 UPDATE 한 번으로 변경하고, 알림은 커밋 이후 비동기로 전송한다.
+ */
+public interface PaymentExpirationService {
+
+	// 결제 대기 주문을 결제 실패로 일괄 변경 (재고는 호출자가 해제), 변경된 주문 수 반환
+	int expireOrders(List<Integer> orderIds, String reason);
+
+	// 결제 실패 처리된 주문들의 알림 전송 및 저장
+	void sendExpirationNotifications(List<Integer> orderIds, String reason);
+}
@@ -0,0 +1,78 @@
+package com.otoki.uptention.application.payment.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
+import com.otoki.uptention.domain.order.enums.OrderStatus;
+import com.otoki.uptention.domain.order.service.OrderService;
+import com.otoki.uptention.domain.orderitem.entity.OrderItem;
+import com.otoki.uptention.domain.orderitem.service.OrderItemService;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.event.PaymentExpiredEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentExpirationServiceImpl implements PaymentExpirationService {
+
+	private final OrderService orderService;
+	private final OrderItemService orderItemService;
+	private final NotificationDispatcher notificationDispatcher;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 결제 대기 주문을 결제 실패로 일괄 변경
+	 * 결제 대기 주문을 행 잠금과 함께 조회하므로 조회 이후 결제 완료 처리된 주문이 섞이지 않고,
+	 * 잠근 주문만 변경하여 실제로 변경된 주문만 알림 대상으로 이벤트를 발행한다.
+	 */
+	@Override
+	@Transactional
+	public int expireOrders(List<Integer> orderIds, String reason) {
+		List<Integer> pendingOrderIds = orderService.lockOrderIdsByStatus(orderIds, OrderStatus.PAYMENT_PENDING);
+		if (pendingOrderIds.isEmpty()) {
+			return 0;
+		}
+
+		int updated = orderService.updateOrderStatuses(pendingOrderIds,
+			OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_FAILED);
+
+		eventPublisher.publishEvent(new PaymentExpiredEvent(pendingOrderIds, reason));
+
+		log.info("결제 시간 초과 주문 {}건을 결제 실패 처리했습니다.", updated);
+		return updated;
+	}
+
+	/**
+	 * 주문 항목을 한 번에 조회한 뒤 주문별로 알림 전송
+	 */
+	@Override
+	public void sendExpirationNotifications(List<Integer> orderIds, String reason) {
+		Map<Integer, List<OrderItem>> orderItemsByOrder = orderItemService.findOrderItemsWithUserByOrderIds(orderIds)
+			.stream()
+			.collect(Collectors.groupingBy(orderItem -> orderItem.getOrder().getId(),
+				LinkedHashMap::new, Collectors.toList()));
+
+		String title = PaymentNotificationMessages.title(false);
+		orderItemsByOrder.forEach((orderId, orderItems) -> {
+			try {
+				User user = orderItems.get(0).getOrder().getUser();
+				String body = PaymentNotificationMessages.body(orderItems, false, reason);
+
+				notificationDispatcher.dispatch(user, title, body);
+			} catch (Exception e) {
+				// 한 주문의 알림 실패가 나머지 주문 알림에 영향을 주지 않도록 예외 처리
+				log.error("결제 실패 알림 처리 중 오류 발생: 주문 ID: {}, 오류: {}", orderId, e.getMessage(), e);
+			}
+		});
+	}
+}
@@ -0,0 +1,49 @@
+package com.otoki.uptention.application.payment.service;
+
+import java.util.List;
+
+import com.otoki.uptention.domain.orderitem.entity.OrderItem;
+
+/**
+ * 결제 완료/실패 알림 메시지 구성
+ */
+public class PaymentNotificationMessages {
+
+	public static final String PAYMENT_SUCCESS_TITLE = "💳 결제 완료 ✨";
+	public static final String PAYMENT_FAILURE_TITLE = "⚠️ 결제 실패 ⚠️";
+	private static final String PAYMENT_SUCCESS_STATUS = "결제가 완료되었습니다.";
+	private static final String PAYMENT_FAILURE_STATUS = "결제가 실패하였습니다.";
+	private static final String PAYMENT_REASON_PREFIX = " 사유: ";
+
+	private PaymentNotificationMessages() {
+	}
+
+	public static String title(boolean isSuccess) {
+		return isSuccess ? PAYMENT_SUCCESS_TITLE : PAYMENT_FAILURE_TITLE;
+	}
+
+	/**
+	 * 알림 본문 구성 (첫 번째 상품명 외 N건 + 상태, 실패 시 사유 추가)
+	 *
+	 * @param orderItems 주문 항목 (비어 있지 않아야 함)
+	 */
+	public static String body(List<OrderItem> orderItems, boolean isSuccess, String reason) {
+		// 첫 번째 상품 이름 가져오기
+		String firstItemName = orderItems.get(0).getItem().getName();
+		String status = isSuccess ? PAYMENT_SUCCESS_STATUS : PAYMENT_FAILURE_STATUS;
+		String body;
+
+		if (orderItems.size() > 1) {
+			body = firstItemName + " 외 " + (orderItems.size() - 1) + "건 " + status;
+		} else {
+			body = firstItemName + " " + status;
+		}
+
+		// 실패 이유가 있는 경우 추가
+		if (!isSuccess && reason != null && !reason.trim().isEmpty()) {
+			body += PAYMENT_REASON_PREFIX + reason;
+		}
+
+		return body;
+	}
+}
@@ -7,10 +7,11 @@ import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
+import com.otoki.uptention.domain.item.cache.ItemCatalogChangeNotifier;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
 import com.otoki.uptention.domain.item.service.InventoryService;
-import com.otoki.uptention.domain.notification.entity.Notification;
-import com.otoki.uptention.domain.notification.service.NotificationService;
 import com.otoki.uptention.domain.order.entity.Gift;
 import com.otoki.uptention.domain.order.entity.Order;
 import com.otoki.uptention.domain.order.enums.OrderStatus;
@@ -20,7 +21,6 @@ import com.otoki.uptention.domain.orderitem.entity.OrderItem;
 import com.otoki.uptention.domain.orderitem.service.OrderItemService;
 import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.global.exception.CustomException;
-import com.otoki.uptention.infra.fcm.service.FcmSendService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,13 +33,6 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PaymentProcessServiceImpl implements PaymentProcessService {
 
-	// 알림 메시지 관련 상수
-	private static final String PAYMENT_SUCCESS_TITLE = "💳 결제 완료 ✨";
-	private static final String PAYMENT_FAILURE_TITLE = "⚠️ 결제 실패 ⚠️";
-	private static final String PAYMENT_SUCCESS_STATUS = "결제가 완료되었습니다.";
-	private static final String PAYMENT_FAILURE_STATUS = "결제가 실패하였습니다.";
-	private static final String PAYMENT_REASON_PREFIX = " 사유: ";
-
 	// 선물 알림 관련 상수
 	private static final String GIFT_NOTIFICATION_TITLE = "🎁선물이 도착했어요!🎁";
 	private static final String GIFT_NOTIFICATION_SUFFIX = "님이 %s을(를) 선물로 보냈어요!";
@@ -47,9 +40,10 @@ public class PaymentProcessServiceImpl implements PaymentProcessService {
 	private final OrderService orderService;
 	private final OrderItemService orderItemService;
 	private final InventoryService inventoryService;
+	private final InventoryLeaseService inventoryLeaseService;
 	private final GiftService giftService;
-	private final FcmSendService fcmSendService;
-	private final NotificationService notificationService;
+	private final NotificationDispatcher notificationDispatcher;
+	private final ItemCatalogChangeNotifier itemCatalogChangeNotifier;
 
 	/**
 	 * 결제 완료 처리
@@ -83,9 +77,17 @@ public class PaymentProcessServiceImpl implements PaymentProcessService {
 			Map<Item, Integer> itemMap = new HashMap<>();
 			collectOrderItems(order.getId(), itemQuantities, itemMap);
 
+			// 예약 임대 회수 (이미 만료 처리되어 예약이 해제된 경우 확정 불가)
+			if (!inventoryLeaseService.claim(order.getId())) {
+				log.warn("주문 ID({})의 재고 예약이 만료되어 결제를 완료할 수 없습니다.", orderId);
+				return false;
+			}
+
 			// 재고 처리
 			if (!inventoryService.confirmInventories(itemQuantities)) {
 				log.error("주문 ID({})의 일괄 재고 확정에 실패했습니다.", orderId);
+				// 만료 처리 대상에 다시 포함되도록 임대 복구
+				inventoryLeaseService.grant(order.getId(), itemQuantities);
 				return false;
 			}
 
@@ -136,10 +138,12 @@ public class PaymentProcessServiceImpl implements PaymentProcessService {
 			// 주문 항목 조회 및 재고 예약 취소
 			Map<Integer, Integer> itemQuantities = collectOrderItemsForCancel(order.getId());
 
-			// 재고 예약 취소
-			if (!inventoryService.cancelReservations(itemQuantities)) {
+			// 재고 예약 취소 (임대가 없으면 만료 처리에서 이미 해제됨)
+			if (inventoryLeaseService.claim(order.getId())
+				&& !inventoryService.cancelReservations(itemQuantities)) {
 				log.warn("주문 ID({})의 일부 상품 재고 예약 취소에 실패했습니다.", orderId);
-				// 주문 취소 처리는 계속 진행
+				// 만료 처리에서 다시 해제하도록 임대 복구 후 주문 취소 처리는 계속 진행
+				inventoryLeaseService.restore(Map.of(order.getId(), itemQuantities));
 			}
 
 			// 결제 실패 알림 처리
@@ -201,6 +205,9 @@ public class PaymentProcessServiceImpl implements PaymentProcessService {
 			Integer quantity = entry.getValue();
 			item.increaseSalesCount(quantity);
 		}
+
+		// 판매량순 목록에 반영 (커밋 이후 발행)
+		itemCatalogChangeNotifier.notifyChanged(itemMap.keySet().stream().map(Item::getId).toList());
 	}
 
 	/**
@@ -261,24 +268,9 @@ public class PaymentProcessServiceImpl implements PaymentProcessService {
 				return;
 			}
 
-			// 첫 번째 상품 이름 가져오기
-			String firstItemName = orderItems.get(0).getItem().getName();
-
 			// 알림 메시지 구성
-			String title = isSuccess ? PAYMENT_SUCCESS_TITLE : PAYMENT_FAILURE_TITLE;
-			String status = isSuccess ? PAYMENT_SUCCESS_STATUS : PAYMENT_FAILURE_STATUS;
-			String body;
-
-			if (orderItems.size() > 1) {
-				body = firstItemName + " 외 " + (orderItems.size() - 1) + "건 " + status;
-			} else {
-				body = firstItemName + " " + status;
-			}
-
-			// 실패 이유가 있는 경우 추가
-			if (!isSuccess && reason != null && !reason.trim().isEmpty()) {
-				body += PAYMENT_REASON_PREFIX + reason;
-			}
+			String title = PaymentNotificationMessages.title(isSuccess);
+			String body = PaymentNotificationMessages.body(orderItems, isSuccess, reason);
 
 			// 알림 전송
 			sendNotificationToUser(user, title, body);
@@ -292,20 +284,9 @@ public class PaymentProcessServiceImpl implements PaymentProcessService {
 	}
 
 	/**
-	 * 사용자에게 알림 전송 및 저장
+	 * 사용자에게 알림 전송 및 저장 (결제 트랜잭션 커밋 이후 비동기 처리)
 	 */
 	private void sendNotificationToUser(User user, String title, String body) {
-		// FCM 알림 전송
-		fcmSendService.sendNotificationToUser(user, title, body);
-
-		// 알림 내역 저장
-		Notification notification = Notification.builder()
-			.user(user)
-			.title(title)
-			.message(body)
-			.read(false)
-			.build();
-
-		notificationService.saveNotification(notification);
+		notificationDispatcher.dispatch(user, title, body);
 	}
 }
@@ -0,0 +1,237 @@
+package com.otoki.uptention.application.payout.service;
+
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.payout.entity.TokenPayout;
+import com.otoki.uptention.domain.payout.service.TokenPayoutService;
+import com.otoki.uptention.global.config.PayoutProperties;
+import com.otoki.uptention.global.util.RateLimiter;
+import com.otoki.uptention.infra.solana.dto.TokenTransfer;
+import com.otoki.uptention.infra.solana.dto.TokenTransferResult;
+import com.otoki.uptention.infra.solana.service.SolanaExpressApiService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지급 원장(token_payout)의 대기 건을 Express API 일괄 전송으로 동시에 전송
+ * - 원장을 batchSize 단위로 실행별 토큰과 함께 전송 중으로 전환(커밋)한 뒤 전송하고, 묶음의 결과를 한 트랜잭션으로
+ *   기록한다. 결과는 같은 토큰으로 전환한 원장에만 기록되므로 실행이 겹쳐도 다른 실행의 원장을 가져가지 않는다.
+ * - 수신자 recipientsPerRequest명을 요청 하나로 묶고, 요청은 concurrency개의 스레드에서 초당 rateLimitPerSecond건 이하로 보낸다.
+ * - 수신자별 결과에 따라 전송되지 않은 건은 포인트를 되돌리고, 응답을 받지 못한 건과 중단으로 결과가 기록되지 않은 건은
+ *   확인 필요로 남긴다.
+ * - 확인 필요 건은 다음 실행에서 멱등 키로 전송 여부를 확인하여, 전송되었으면 완료로 기록하고 전송되지 않았으면
+ *   지급 대기로 되돌려 같은 키로 다시 보낸다. (Express API가 키당 한 번만 전송)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenPayoutEngine {
+
+	private static final String THREAD_NAME_PREFIX = "token-payout-";
+	// 전송 여부 확인 범위의 여유 (원장 생성 시각과 블록 시각의 차이)
+	private static final long TRANSFER_LOOKUP_MARGIN_MINUTES = 10;
+	// 전송 중 원장을 중단된 것으로 판단하기까지 묶음 제한 시간에 더하는 여유 (결과 기록 지연)
+	private static final long IN_FLIGHT_STALE_MARGIN_MINUTES = 5;
+
+	private final TokenPayoutService tokenPayoutService;
+	private final SolanaExpressApiService solanaExpressApiService;
+	private final PayoutProperties payoutProperties;
+
+	/**
+	 * 대기 중인 지급 원장을 모두 전송
+	 * @return 지급 완료 건수
+	 */
+	public int payPending() {
+		// 묶음 제한 시간이 지나도록 결과가 기록되지 않은 원장만 중단된 것으로 판단 (진행 중인 실행의 원장 제외)
+		LocalDateTime claimedBefore = LocalDateTime.now().minus(payoutProperties.getBatchTimeout())
+			.minusMinutes(IN_FLIGHT_STALE_MARGIN_MINUTES);
+		int interrupted = tokenPayoutService.markInFlightAsUnknown(claimedBefore);
+		if (interrupted > 0) {
+			log.warn("{} token payouts were interrupted before their result was recorded; they will be reconciled "
+				+ "after {}", interrupted, payoutProperties.getUnknownRetryDelay());
+		}
+
+		RateLimiter rateLimiter = new RateLimiter(payoutProperties.getRateLimitPerSecond());
+		reconcileUnknown(rateLimiter);
+
+		ExecutorService executor = Executors.newFixedThreadPool(payoutProperties.getConcurrency(), threadFactory());
+		String claimToken = UUID.randomUUID().toString();
+		int sent = 0;
+		int failed = 0;
+		int unknown = 0;
+
+		try {
+			List<TokenPayout> payouts;
+			while (!Thread.currentThread().isInterrupted()
+				&& !(payouts = tokenPayoutService.claimPendingPayouts(payoutProperties.getBatchSize(), claimToken)).isEmpty()) {
+				BatchResult result = sendBatch(payouts, executor, rateLimiter);
+				tokenPayoutService.completePayouts(claimToken, result.sentIds, result.failedIds, result.unknownIds);
+
+				sent += result.sentIds.size();
+				failed += result.failedIds.size();
+				unknown += result.unknownIds.size();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		log.info("Token payouts finished: sent={}, failed={}, unknown={}", sent, failed, unknown);
+		return sent;
+	}
+
+	/**
+	 * 결과를 알 수 없는 원장의 전송 여부를 멱등 키로 확인하여 기록
+	 * 마지막 상태 변경 후 unknownRetryDelay가 지난 건만 확인하여 아직 처리 중일 수 있는 전송과 겹치지 않게 한다.
+	 * 확인하지 못한 건은 확인 필요로 남겨 다음 실행에서 다시 확인한다.
+	 */
+	private void reconcileUnknown(RateLimiter rateLimiter) {
+		LocalDateTime updatedBefore = LocalDateTime.now().minus(payoutProperties.getUnknownRetryDelay());
+		Integer afterId = 0;
+		int sent = 0;
+		int retried = 0;
+		int unresolved = 0;
+
+		List<TokenPayout> payouts;
+		while (!Thread.currentThread().isInterrupted()
+			&& !(payouts = tokenPayoutService.getUnknownPayouts(updatedBefore, afterId,
+			payoutProperties.getBatchSize())).isEmpty()) {
+			List<Integer> sentIds = new ArrayList<>();
+			List<Integer> notSentIds = new ArrayList<>();
+			for (TokenPayout payout : payouts) {
+				try {
+					rateLimiter.acquire();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+
+				TokenTransferResult result = solanaExpressApiService.findTransfer(payout.getIdempotencyKey(),
+					payout.getCreatedAt().minusMinutes(TRANSFER_LOOKUP_MARGIN_MINUTES));
+				if (result.getStatus() == TokenTransferResult.Status.SENT) {
+					sentIds.add(payout.getId());
+				} else if (result.getStatus() == TokenTransferResult.Status.REJECTED) {
+					notSentIds.add(payout.getId());
+				} else {
+					unresolved++;
+				}
+			}
+			tokenPayoutService.resolveUnknownPayouts(sentIds, notSentIds);
+
+			sent += sentIds.size();
+			retried += notSentIds.size();
+			afterId = payouts.get(payouts.size() - 1).getId();
+		}
+
+		if (sent + retried + unresolved > 0) {
+			log.info("Unknown token payouts reconciled: sent={}, retry={}, unresolved={}", sent, retried, unresolved);
+		}
+	}
+
+	private BatchResult sendBatch(List<TokenPayout> payouts, ExecutorService executor, RateLimiter rateLimiter) {
+		// 수신자 recipientsPerRequest명씩 일괄 전송 요청 하나로 묶음
+		List<List<TokenPayout>> chunks = new ArrayList<>();
+		for (int from = 0; from < payouts.size(); from += payoutProperties.getRecipientsPerRequest()) {
+			chunks.add(payouts.subList(from, Math.min(from + payoutProperties.getRecipientsPerRequest(),
+				payouts.size())));
+		}
+
+		List<Callable<List<TokenTransferResult>>> tasks = new ArrayList<>(chunks.size());
+		for (List<TokenPayout> chunk : chunks) {
+			List<TokenTransfer> transfers = chunk.stream()
+				.map(payout -> new TokenTransfer(payout.getWallet(), toAmount(payout.getPoints()),
+					payout.getIdempotencyKey()))
+				.toList();
+			// 원장이 생성되기 전에는 같은 키로 전송했을 수 없으므로 이전 전송 여부는 가장 이른 생성 시각까지만 확인
+			LocalDateTime since = chunk.stream()
+				.map(TokenPayout::getCreatedAt)
+				.min(Comparator.naturalOrder())
+				.orElseThrow()
+				.minusMinutes(TRANSFER_LOOKUP_MARGIN_MINUTES);
+			tasks.add(() -> {
+				rateLimiter.acquire();
+				return solanaExpressApiService.transferTokens(transfers, since);
+			});
+		}
+
+		BatchResult result = new BatchResult();
+		List<Future<List<TokenTransferResult>>> futures;
+		try {
+			futures = executor.invokeAll(tasks, payoutProperties.getBatchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// 어느 건이 전송되었는지 알 수 없으므로 묶음 전체를 확인 필요로 기록
+			payouts.forEach(payout -> result.unknownIds.add(payout.getId()));
+			return result;
+		}
+
+		for (int i = 0; i < chunks.size(); i++) {
+			List<TokenPayout> chunk = chunks.get(i);
+			try {
+				Map<String, TokenTransferResult> transferResults = futures.get(i).get().stream()
+					.collect(Collectors.toMap(TokenTransferResult::getIdempotencyKey, Function.identity(),
+						(first, second) -> first));
+				chunk.forEach(payout -> result.add(payout, transferResults.get(payout.getIdempotencyKey())));
+			} catch (ExecutionException e) {
+				log.warn("Token payout request for {} recipients failed: {}", chunk.size(), e.getCause().getMessage());
+				chunk.forEach(payout -> result.unknownIds.add(payout.getId()));
+			} catch (CancellationException | InterruptedException e) {
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				// 제한 시간 안에 끝나지 않은 요청
+				chunk.forEach(payout -> result.unknownIds.add(payout.getId()));
+			}
+		}
+		return result;
+	}
+
+	private String toAmount(int points) {
+		return new DecimalFormat("0.0").format(points / 10.0);
+	}
+
+	private ThreadFactory threadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static class BatchResult {
+		private final List<Integer> sentIds = new ArrayList<>();
+		private final List<Integer> failedIds = new ArrayList<>();
+		private final List<Integer> unknownIds = new ArrayList<>();
+
+		// 수신자별 결과 반영 (응답에 없는 수신자는 전송 여부를 알 수 없음)
+		private void add(TokenPayout payout, TokenTransferResult transferResult) {
+			if (transferResult == null || transferResult.getStatus() == TokenTransferResult.Status.UNCONFIRMED) {
+				unknownIds.add(payout.getId());
+			} else if (transferResult.getStatus() == TokenTransferResult.Status.SENT) {
+				sentIds.add(payout.getId());
+			} else {
+				failedIds.add(payout.getId());
+			}
+		}
+	}
+}
@@ -14,8 +14,10 @@ import com.otoki.uptention.application.user.dto.response.PointResponseDto;
 import com.otoki.uptention.application.user.dto.response.ProfileImageResponseDto;
 import com.otoki.uptention.application.user.dto.response.UserCursorResponseDto;
 import com.otoki.uptention.application.user.dto.response.UserResponseDto;
+import com.otoki.uptention.auth.dto.UserContext;
 import com.otoki.uptention.auth.service.AccessTokenService;
 import com.otoki.uptention.auth.service.SecurityService;
+import com.otoki.uptention.domain.common.CursorCodec;
 import com.otoki.uptention.domain.common.CursorDto;
 import com.otoki.uptention.domain.company.entity.Company;
 import com.otoki.uptention.domain.user.entity.User;
@@ -39,6 +41,7 @@ public class UserAppServiceImpl implements UserAppService {
 	private final ImageUploadService imageUploadService;
 	private final PasswordEncoder passwordEncoder;
 	private final AccessTokenService accessTokenService;
+	private final CursorCodec cursorCodec;
 
 	// 일반 멤버 회원가입
 	@Override
@@ -117,9 +120,7 @@ public class UserAppServiceImpl implements UserAppService {
 	@Override
 	public PointResponseDto getUserPoints(Integer userId) {
 
-		User loggedInUser = securityService.getLoggedInUser();
-
-		if (!loggedInUser.getId().equals(userId)) {
+		if (!securityService.getLoggedInUserId().equals(userId)) {
 			throw new CustomException(ErrorCode.FORBIDDEN_USER);
 		}
 
@@ -130,8 +131,8 @@ public class UserAppServiceImpl implements UserAppService {
 
 	@Override
 	public UserResponseDto getUser(Integer userId) {
-		User user = userService.getUserByIdAndCompany(userId,
-			securityService.getLoggedInUser().getCompany()); // 로그인 한 유저와 같은 회사의 회원만 조회 가능함.
+		User user = userService.getUserByIdAndCompanyId(userId,
+			securityService.getLoggedInUserContext().getCompanyId()); // 로그인 한 유저와 같은 회사의 회원만 조회 가능함.
 
 		return mapToDto(user);
 	}
@@ -144,7 +145,7 @@ public class UserAppServiceImpl implements UserAppService {
 		Company company = loggedInUser.getCompany();
 
 		// 커서 디코딩
-		CursorDto<String> cursor = CursorDto.decode(cursorStr, String.class);
+		CursorDto<String> cursor = cursorCodec.decode(cursorStr, String.class);
 
 		// size + 1개 조회하여 다음 페이지 존재 여부 확인
 		List<User> users = userService.getUsersByCursor(company, userRole, keyword, cursor, sortType, size + 1);
@@ -172,15 +173,16 @@ public class UserAppServiceImpl implements UserAppService {
 	@Override
 	@Transactional
 	public void removeUser(Integer userId) {
-		User loggedInUser = securityService.getLoggedInUser();
+		UserContext loggedInUser = securityService.getLoggedInUserContext();
 
 		// 요청한 자신도 아니고, 관리자도 아니라면 예외 발생
-		if (!loggedInUser.getId().equals(userId) && !loggedInUser.getRole().equals(UserRole.ROLE_ADMIN)) {
+		if (!loggedInUser.getUserId().equals(userId) && !loggedInUser.getRole().equals(UserRole.ROLE_ADMIN)) {
 			throw new CustomException(ErrorCode.FORBIDDEN_USER);
 		}
 
 		User user = userService.getUserById(userId);
 		user.setStatus(false);
+		securityService.evictUserContext(userId);
 	}
 
 	// 비밀번호 변경 메서드
@@ -213,6 +215,7 @@ public class UserAppServiceImpl implements UserAppService {
 
 		// 지갑 연동
 		loggedInUser.setWallet(wallet);
+		securityService.evictUserContext(userId);
 
 		// accessToken 재발급
 		accessTokenService.issueToken(response, userId, loggedInUser.getRole().name());
@@ -241,7 +244,7 @@ public class UserAppServiceImpl implements UserAppService {
 		} else {
 			throw new CustomException(ErrorCode.USER_INVALID_SORT_TYPE);
 		}
-		return new CursorDto<>(value, lastUser.getId()).encode();
+		return cursorCodec.encode(new CursorDto<>(value, lastUser.getId()));
 	}
 
 }
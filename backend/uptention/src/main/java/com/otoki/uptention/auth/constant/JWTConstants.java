@@ -4,4 +4,5 @@ public class JWTConstants {
 	public static final String ACCESS_TOKEN = "Authorization";
 	public static final String PREFIX_JWT = "Bearer ";
 	public static final long ACCESS_TOKEN_EXPIRATION_TIME_MS = 30 * 24 * 60 * 60 * 1000L; // 30 days
+	public static final long VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE = 10_000L; // 검증된 토큰 캐시 최대 항목 수
 }
@@ -0,0 +1,21 @@
+package com.otoki.uptention.auth.dto;
+
+import java.time.Instant;
+
+import com.otoki.uptention.domain.user.enums.UserRole;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 인증 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccessTokenClaims {
+	private final Integer userId;
+	private final UserRole role;
+	private final Instant expiresAt;
+}
@@ -0,0 +1,30 @@
+package com.otoki.uptention.auth.dto;
+
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.domain.user.enums.UserRole;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로그인 사용자 스냅샷 (읽기 전용)
+ * 요청 간 캐시되므로 포인트 등 자주 바뀌는 값은 담지 않는다. 변경이 필요하면 엔티티를 조회한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserContext {
+	private final Integer userId;
+	private final UserRole role;
+	private final Integer companyId;
+
+	public static UserContext from(User user) {
+		return UserContext.builder()
+			.userId(user.getId())
+			.role(user.getRole())
+			// 지연 로딩 프록시의 ID 조회는 회사 엔티티를 초기화하지 않음
+			.companyId(user.getCompany() != null ? user.getCompany().getId() : null)
+			.build();
+	}
+}
@@ -6,7 +6,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.GenericFilterBean;
 
 import com.otoki.uptention.auth.constant.JWTConstants;
-import com.otoki.uptention.auth.util.JWTUtil;
+import com.otoki.uptention.auth.util.AccessTokenVerifier;
 import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.domain.user.service.FcmTokenService;
 import com.otoki.uptention.domain.user.service.UserService;
@@ -25,7 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CustomLogoutFilter extends GenericFilterBean {
 	private final UserService userService;
-	private final JWTUtil jwtUtil;
+	private final AccessTokenVerifier accessTokenVerifier;
 	private final FcmTokenService fcmTokenService;
 
 	@Override
@@ -56,8 +56,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
 			}
 			if (hasValidAccessToken) {
 				String accessToken = authorization.substring("Bearer ".length());
-				jwtUtil.validateAccessToken(accessToken);
-				Integer userId = jwtUtil.getUserId(accessToken);
+				Integer userId = accessTokenVerifier.verify(accessToken).getUserId();
 				User user = userService.getUserById(userId);
 
 				// FCM-Token 추출 및 삭제 (없어도 무시)
@@ -9,10 +9,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.otoki.uptention.auth.constant.JWTConstants;
+import com.otoki.uptention.auth.dto.AccessTokenClaims;
 import com.otoki.uptention.auth.dto.CustomUserDetails;
 import com.otoki.uptention.auth.dto.UserDetailsDto;
-import com.otoki.uptention.auth.util.JWTUtil;
-import com.otoki.uptention.domain.user.enums.UserRole;
+import com.otoki.uptention.auth.util.AccessTokenVerifier;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
 
@@ -26,7 +26,7 @@ import lombok.RequiredArgsConstructor;
 @Component
 public class JWTFilter extends OncePerRequestFilter {
 
-	private final JWTUtil jwtUtil;
+	private final AccessTokenVerifier accessTokenVerifier;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -47,13 +47,12 @@ public class JWTFilter extends OncePerRequestFilter {
 
 		String accessToken = parts[1];
 
-		jwtUtil.validateAccessToken(accessToken);
+		// 토큰 검증과 클레임 추출을 한 번에 처리 (검증된 토큰은 만료 전까지 캐시)
+		AccessTokenClaims claims = accessTokenVerifier.verify(accessToken);
 
-		Integer userId = jwtUtil.getUserId(accessToken);
-		String role = jwtUtil.getRole(accessToken);
 		UserDetailsDto userDetailsDTO = UserDetailsDto.builder()
-			.userId(userId)
-			.role(UserRole.valueOf(role))
+			.userId(claims.getUserId())
+			.role(claims.getRole())
 			.build();
 
 		CustomUserDetails customUserDetails = new CustomUserDetails(userDetailsDTO);
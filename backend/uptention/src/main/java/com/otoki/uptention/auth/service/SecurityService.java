@@ -1,9 +1,23 @@
 package com.otoki.uptention.auth.service;
 
+import com.otoki.uptention.auth.dto.UserContext;
 import com.otoki.uptention.domain.user.entity.User;
 
 public interface SecurityService {
 	boolean isLoggedIn();
 
+	// 현재 로그인한 사용자 엔티티 (변경이 필요한 경우 사용)
 	User getLoggedInUser();
+
+	// 현재 로그인한 사용자 ID (DB 조회 없음)
+	Integer getLoggedInUserId();
+
+	// 현재 로그인한 사용자 스냅샷 (요청 내 재사용, 요청 간 짧은 TTL 캐시)
+	UserContext getLoggedInUserContext();
+
+	// 현재 로그인한 사용자 참조 (조회 조건/연관관계 설정용, SELECT 없음)
+	User getLoggedInUserReference();
+
+	// 사용자 정보 변경 시 스냅샷 캐시 제거 (트랜잭션 중이면 커밋 후에도 한 번 더 제거)
+	void evictUserContext(Integer userId);
 }
@@ -1,23 +1,44 @@
 package com.otoki.uptention.auth.service;
 
+import java.time.Duration;
+
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.otoki.uptention.auth.dto.CustomUserDetails;
+import com.otoki.uptention.auth.dto.UserContext;
 import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.domain.user.repository.UserRepository;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 @Service
 public class SecurityServiceImpl implements SecurityService {
+	private static final String USER_CONTEXT_ATTRIBUTE = SecurityServiceImpl.class.getName() + ".USER_CONTEXT";
+	private static final Duration USER_CONTEXT_TTL = Duration.ofSeconds(30);
+	private static final long USER_CONTEXT_MAXIMUM_SIZE = 10_000L;
+
 	private final UserRepository userRepository;
 
+	// 요청 간 공유하는 사용자 스냅샷 (노드 로컬, 변경 시 evictUserContext로 제거)
+	private final Cache<Integer, UserContext> userContexts;
+
+	public SecurityServiceImpl(UserRepository userRepository) {
+		this.userRepository = userRepository;
+		this.userContexts = Caffeine.newBuilder()
+			.maximumSize(USER_CONTEXT_MAXIMUM_SIZE)
+			.expireAfterWrite(USER_CONTEXT_TTL)
+			.build();
+	}
+
 	// 현재 사용자가 로그인되어 있는지 확인
 	@Override
 	public boolean isLoggedIn() {
@@ -29,6 +50,19 @@ public class SecurityServiceImpl implements SecurityService {
 	// 현재 로그인한 사용자 반환
 	@Override
 	public User getLoggedInUser() {
+		Integer userId = getLoggedInUserId();
+
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.NOT_AUTHENTICATED_USER));
+
+		// 엔티티를 읽은 김에 스냅샷도 갱신
+		cacheUserContext(UserContext.from(user));
+		return user;
+	}
+
+	// 현재 로그인한 사용자 ID 반환 (토큰에서 추출한 인증 정보 사용)
+	@Override
+	public Integer getLoggedInUserId() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication == null || !authentication.isAuthenticated()
@@ -37,9 +71,73 @@ public class SecurityServiceImpl implements SecurityService {
 		}
 
 		CustomUserDetails userDetails = (CustomUserDetails)authentication.getPrincipal();
-		Integer userId = userDetails.getUserId();
+		return userDetails.getUserId();
+	}
 
-		return userRepository.findById(userId)
-			.orElseThrow(() -> new CustomException(ErrorCode.NOT_AUTHENTICATED_USER));
+	/**
+	 * 현재 로그인한 사용자 스냅샷 반환
+	 * 요청 속성 -> 로컬 캐시 -> DB 순으로 조회하며, 존재하지 않는 사용자는 NOT_AUTHENTICATED_USER 예외
+	 */
+	@Override
+	public UserContext getLoggedInUserContext() {
+		Integer userId = getLoggedInUserId();
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null
+			&& requestAttributes.getAttribute(USER_CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+			instanceof UserContext memoized && memoized.getUserId().equals(userId)) {
+			return memoized;
+		}
+
+		UserContext userContext = userContexts.get(userId, id -> userRepository.findById(id)
+			.map(UserContext::from)
+			.orElse(null));
+		if (userContext == null) {
+			throw new CustomException(ErrorCode.NOT_AUTHENTICATED_USER);
+		}
+
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(USER_CONTEXT_ATTRIBUTE, userContext, RequestAttributes.SCOPE_REQUEST);
+		}
+		return userContext;
+	}
+
+	@Override
+	public User getLoggedInUserReference() {
+		// 스냅샷 조회로 사용자 존재 여부를 확인한 뒤 프록시만 반환
+		return userRepository.getReferenceById(getLoggedInUserContext().getUserId());
+	}
+
+	@Override
+	public void evictUserContext(Integer userId) {
+		evictNow(userId);
+
+		// 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(userId);
+				}
+			});
+		}
+	}
+
+	private void evictNow(Integer userId) {
+		userContexts.invalidate(userId);
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			requestAttributes.removeAttribute(USER_CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	private void cacheUserContext(UserContext userContext) {
+		userContexts.put(userContext.getUserId(), userContext);
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(USER_CONTEXT_ATTRIBUTE, userContext, RequestAttributes.SCOPE_REQUEST);
+		}
 	}
 }
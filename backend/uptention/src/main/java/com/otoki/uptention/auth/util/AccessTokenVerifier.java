@@ -0,0 +1,87 @@
+package com.otoki.uptention.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.otoki.uptention.auth.constant.JWTConstants;
+import com.otoki.uptention.auth.dto.AccessTokenClaims;
+
+/**
+ * 액세스 토큰 검증 캐시
+ * 한 번 검증한 토큰은 해시(SHA-256)를 키로 만료 시각까지 인증 정보를 보관하여
+ * 같은 토큰의 반복 요청마다 서명 검증과 클레임 파싱을 다시 하지 않는다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class AccessTokenVerifier {
+
+	private final JWTUtil jwtUtil;
+	private final Cache<String, AccessTokenClaims> verifiedTokens;
+
+	public AccessTokenVerifier(JWTUtil jwtUtil) {
+		this.jwtUtil = jwtUtil;
+		this.verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(JWTConstants.VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE)
+			.expireAfter(new UntilTokenExpiry())
+			.build();
+	}
+
+	/**
+	 * 액세스 토큰 검증 후 인증 정보 반환
+	 * 만료되었거나 액세스 토큰이 아니면 EXPIRED_ACCESS_TOKEN 예외
+	 */
+	public AccessTokenClaims verify(String accessToken) {
+		String tokenHash = hash(accessToken);
+
+		AccessTokenClaims cached = verifiedTokens.getIfPresent(tokenHash);
+		if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+			return cached;
+		}
+
+		AccessTokenClaims claims = jwtUtil.parseAccessToken(accessToken);
+		verifiedTokens.put(tokenHash, claims);
+		return claims;
+	}
+
+	private String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JVM에서 SHA-256 지원이 보장됨
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 항목별 만료: 토큰의 exp 시각까지만 보관
+	 */
+	private static class UntilTokenExpiry implements Expiry<String, AccessTokenClaims> {
+
+		@Override
+		public long expireAfterCreate(String key, AccessTokenClaims value, long currentTime) {
+			return Math.max(0L, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, AccessTokenClaims value, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, AccessTokenClaims value, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
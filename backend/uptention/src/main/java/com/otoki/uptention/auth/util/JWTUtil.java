@@ -10,10 +10,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.otoki.uptention.auth.constant.JWTConstants;
+import com.otoki.uptention.auth.dto.AccessTokenClaims;
+import com.otoki.uptention.domain.user.enums.UserRole;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 @Component
@@ -22,51 +26,60 @@ public class JWTUtil {
 	public static final String ROLE_CLAIM = "role";
 	public static final String CATEGORY_CLAIM = "category";
 	private final SecretKey secretKey;
+	// 파서는 불변이며 스레드 안전하므로 한 번만 생성해 재사용
+	private final JwtParser jwtParser;
 
 	public JWTUtil(@Value("${spring.jwt.secret}") String secretKey) {
 		byte[] secretBytes = HexFormat.of().parseHex(secretKey);
 		this.secretKey = new SecretKeySpec(secretBytes, "HmacSHA256");
+		this.jwtParser = Jwts.parser()
+			.verifyWith(this.secretKey)
+			.build();
+	}
+
+	// 서명 검증 후 클레임 반환 (만료 시 ExpiredJwtException)
+	public Claims parseClaims(String token) {
+		return jwtParser.parseSignedClaims(token).getPayload();
 	}
 
 	public Integer getUserId(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload()
-			.get(USER_ID_CLAIM, Integer.class);
+		return parseClaims(token).get(USER_ID_CLAIM, Integer.class);
 	}
 
 	public String getRole(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload()
-			.get(ROLE_CLAIM, String.class);
+		return parseClaims(token).get(ROLE_CLAIM, String.class);
 	}
 
 	public String getCategory(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload()
-			.get(CATEGORY_CLAIM, String.class);
+		return parseClaims(token).get(CATEGORY_CLAIM, String.class);
 	}
 
-	public void validateAccessToken(String accessToken) {
-		String category;
+	/**
+	 * 액세스 토큰을 한 번만 파싱하여 검증하고 인증 정보를 반환
+	 * 만료되었거나 액세스 토큰이 아니면 EXPIRED_ACCESS_TOKEN 예외
+	 */
+	public AccessTokenClaims parseAccessToken(String accessToken) {
+		Claims claims;
 
 		try {
-			category = getCategory(accessToken);
+			claims = parseClaims(accessToken);
 		} catch (ExpiredJwtException e) {
 			throw new CustomException(ErrorCode.EXPIRED_ACCESS_TOKEN);
 		}
 
-		if (!category.equals(JWTConstants.ACCESS_TOKEN)) {
+		if (!JWTConstants.ACCESS_TOKEN.equals(claims.get(CATEGORY_CLAIM, String.class))) {
 			throw new CustomException(ErrorCode.EXPIRED_ACCESS_TOKEN);
 		}
+
+		return AccessTokenClaims.builder()
+			.userId(claims.get(USER_ID_CLAIM, Integer.class))
+			.role(UserRole.valueOf(claims.get(ROLE_CLAIM, String.class)))
+			.expiresAt(claims.getExpiration().toInstant())
+			.build();
+	}
+
+	public void validateAccessToken(String accessToken) {
+		parseAccessToken(accessToken);
 	}
 
 	public String createJwt(String category, Integer userId, String role, Long expiredMs) {
@@ -26,8 +26,7 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
 		+ "c.quantity, "
 		+ "i.price * c.quantity, "
 		+ "i.quantity, "
-		+ "(SELECT img.url FROM Image img WHERE img.item = i AND img.id = "
-		+ "(SELECT MIN(subImg.id) FROM Image subImg WHERE subImg.item = i))) "
+		+ "i.thumbnail) "
 		+ "FROM Cart c JOIN c.item i "
 		+ "WHERE c.user.id = :userId AND i.status = true "
 		+ "ORDER BY c.createdAt DESC")
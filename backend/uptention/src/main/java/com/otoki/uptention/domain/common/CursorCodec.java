@@ -0,0 +1,158 @@
+package com.otoki.uptention.domain.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+
+/**
+ * 페이지 커서 인코더/디코더
+ * 정렬 기준값과 ID를 고정 레이아웃의 바이너리로 묶어 URL-safe Base64(패딩 없음)로 변환한다.
+ *
+ * <pre>
+ * [헤더 1B: 버전(상위 4비트) | 값 타입(하위 4비트)] [ID 4B]
+ * [값: 정수 4B | 문자열 길이 2B + UTF-8] [HMAC-SHA256 앞 8B (비밀 키가 설정된 경우)]
+ * </pre>
+ */
+@Component
+public class CursorCodec {
+	private static final int VERSION = 1;
+	private static final int TYPE_NULL = 0;
+	private static final int TYPE_INTEGER = 1;
+	private static final int TYPE_STRING = 2;
+
+	private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+	private static final int TAG_LENGTH = 8;
+	private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	// Mac은 스레드 안전하지 않으므로 스레드별로 한 번만 생성해 재사용
+	private final ThreadLocal<Mac> macs;
+
+	public CursorCodec(@Value("${cursor.secret:}") String secret) {
+		if (secret == null || secret.isBlank()) {
+			this.macs = null;
+			return;
+		}
+
+		SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+		this.macs = ThreadLocal.withInitial(() -> {
+			try {
+				Mac mac = Mac.getInstance("HmacSHA256");
+				mac.init(key);
+				return mac;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	// 커서 문자열로 변환
+	public String encode(CursorDto<?> cursor) {
+		Object value = cursor.getValue();
+		byte[] stringValue = value instanceof String string ? string.getBytes(StandardCharsets.UTF_8) : null;
+
+		int type;
+		int valueLength;
+		if (value == null) {
+			type = TYPE_NULL;
+			valueLength = 0;
+		} else if (value instanceof Integer) {
+			type = TYPE_INTEGER;
+			valueLength = Integer.BYTES;
+		} else if (stringValue != null && stringValue.length <= MAX_STRING_LENGTH) {
+			type = TYPE_STRING;
+			valueLength = Short.BYTES + stringValue.length;
+		} else {
+			throw new CustomException(ErrorCode.CURSOR_ENCODING_FAILED);
+		}
+
+		// 서명까지 포함한 정확한 크기로 한 번만 할당
+		int bodyLength = HEADER_LENGTH + valueLength;
+		ByteBuffer buffer = ByteBuffer.allocate(bodyLength + (macs != null ? TAG_LENGTH : 0));
+		buffer.put((byte)(VERSION << 4 | type));
+		buffer.putInt(cursor.getId() != null ? cursor.getId() : 0);
+		if (type == TYPE_INTEGER) {
+			buffer.putInt((Integer)value);
+		} else if (type == TYPE_STRING) {
+			buffer.putShort((short)stringValue.length);
+			buffer.put(stringValue);
+		}
+
+		byte[] bytes = buffer.array();
+		if (macs != null) {
+			System.arraycopy(sign(bytes, bodyLength), 0, bytes, bodyLength, TAG_LENGTH);
+		}
+		return ENCODER.encodeToString(bytes);
+	}
+
+	// 커서 문자열 파싱 (값 타입이 다르거나 서명이 맞지 않으면 CURSOR_DECODING_FAILED)
+	public <T> CursorDto<T> decode(String cursorStr, Class<T> valueType) {
+		if (cursorStr == null || cursorStr.isEmpty()) {
+			return null;
+		}
+
+		try {
+			byte[] bytes = DECODER.decode(cursorStr);
+			int bodyLength = bytes.length - (macs != null ? TAG_LENGTH : 0);
+			if (bodyLength < HEADER_LENGTH) {
+				throw new CustomException(ErrorCode.CURSOR_DECODING_FAILED);
+			}
+			if (macs != null && !MessageDigest.isEqual(sign(bytes, bodyLength),
+				Arrays.copyOfRange(bytes, bodyLength, bytes.length))) {
+				throw new CustomException(ErrorCode.CURSOR_DECODING_FAILED);
+			}
+
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bodyLength);
+			int header = buffer.get() & 0xFF;
+			int type = header & 0x0F;
+			if (header >>> 4 != VERSION) {
+				throw new CustomException(ErrorCode.CURSOR_DECODING_FAILED);
+			}
+			int id = buffer.getInt();
+
+			Object value;
+			if (type == TYPE_NULL) {
+				value = null;
+			} else if (type == TYPE_INTEGER && valueType == Integer.class) {
+				value = buffer.getInt();
+			} else if (type == TYPE_STRING && valueType == String.class) {
+				int length = buffer.getShort() & 0xFFFF;
+				value = new String(bytes, buffer.position(), length, StandardCharsets.UTF_8);
+				buffer.position(buffer.position() + length);
+			} else {
+				throw new CustomException(ErrorCode.CURSOR_DECODING_FAILED);
+			}
+
+			if (buffer.hasRemaining()) {
+				throw new CustomException(ErrorCode.CURSOR_DECODING_FAILED);
+			}
+			return new CursorDto<>(valueType.cast(value), id);
+		} catch (CustomException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			// 잘못된 Base64, 길이 부족(BufferUnderflow), 범위 초과 등
+			throw new CustomException(ErrorCode.CURSOR_DECODING_FAILED);
+		}
+	}
+
+	// 본문에 대한 HMAC 앞부분
+	private byte[] sign(byte[] bytes, int length) {
+		Mac mac = macs.get();
+		mac.update(bytes, 0, length);
+		return Arrays.copyOf(mac.doFinal(), TAG_LENGTH);
+	}
+}
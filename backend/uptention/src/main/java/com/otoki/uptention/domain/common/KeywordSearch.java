@@ -0,0 +1,74 @@
+package com.otoki.uptention.domain.common;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.otoki.uptention.global.config.SearchFunctionContributor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+
+/**
+ * 키워드 포함 검색 조건 생성
+ * FULLTEXT ngram 인덱스(토큰 길이 2)를 사용하며, 인덱스로 찾을 수 없는 한 글자 키워드는 LIKE로 검색한다.
+ * 인덱스가 없는 테이블에 MATCH를 실행하면 오류(1191)가 나므로, 인덱스 존재가 확인되기 전까지는 LIKE로 검색한다.
+ * 인덱스 존재 여부는 SearchIndexInitializer가 확인하여 등록한다.
+ */
+public final class KeywordSearch {
+	public static final String ITEM_NAME_INDEX = "ft_item_name";
+	public static final String NOTIFICATION_INDEX = "ft_notification_title_message";
+
+	// MySQL ngram_token_size 기본값
+	private static final int NGRAM_TOKEN_SIZE = 2;
+
+	// 존재가 확인된 FULLTEXT 인덱스 이름
+	private static volatile Set<String> availableIndexes = Set.of();
+
+	private KeywordSearch() {
+	}
+
+	// 존재가 확인된 인덱스 목록 갱신
+	public static void setAvailableIndexes(Collection<String> indexNames) {
+		availableIndexes = Set.copyOf(indexNames);
+	}
+
+	public static boolean isAvailable(String indexName) {
+		return availableIndexes.contains(indexName);
+	}
+
+	// 한 컬럼에 키워드가 포함된 행
+	public static BooleanExpression contains(String indexName, StringPath column, String keyword) {
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty()) {
+			// 큰따옴표나 공백만 있는 키워드는 그대로 포함 검색 (빈 문자열 LIKE는 모든 행과 일치)
+			return column.contains(keyword);
+		}
+		if (normalized.length() < NGRAM_TOKEN_SIZE || !isAvailable(indexName)) {
+			return column.contains(normalized);
+		}
+
+		return Expressions.numberTemplate(Double.class,
+			"function('" + SearchFunctionContributor.MATCH_AGAINST + "', {0}, {1})", column, normalized).gt(0.0);
+	}
+
+	// 두 컬럼 중 하나에 키워드가 포함된 행 (두 컬럼을 묶은 인덱스 하나 사용)
+	public static BooleanExpression containsAny(String indexName, StringPath first, StringPath second,
+		String keyword) {
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty()) {
+			return first.contains(keyword).or(second.contains(keyword));
+		}
+		if (normalized.length() < NGRAM_TOKEN_SIZE || !isAvailable(indexName)) {
+			return first.contains(normalized).or(second.contains(normalized));
+		}
+
+		return Expressions.numberTemplate(Double.class,
+			"function('" + SearchFunctionContributor.MATCH_AGAINST_2 + "', {0}, {1}, {2})",
+			first, second, normalized).gt(0.0);
+	}
+
+	// 구문 검색을 깨뜨리는 큰따옴표 제거
+	private static String normalize(String keyword) {
+		return keyword.replace("\"", "").trim();
+	}
+}
@@ -0,0 +1,53 @@
+package com.otoki.uptention.domain.item.cache;
+
+import com.otoki.uptention.domain.item.dto.ItemDto;
+
+import lombok.Getter;
+
+/**
+ * 상품 목록 조회 모델의 불변 항목
+ * 응답 생성 시 재고/썸네일 URL을 덮어쓰므로 호출자에게는 항상 새 ItemDto를 만들어 전달한다.
+ */
+@Getter
+public class CatalogItem {
+	private final Integer itemId;
+	private final String name;
+	private final Integer price;
+	private final String brand;
+	private final int quantity;
+	private final Integer categoryId;
+	private final String categoryName;
+	private final String thumbnail;
+	private final int salesCount;
+
+	private CatalogItem(ItemDto item) {
+		this.itemId = item.getItemId();
+		this.name = item.getName();
+		this.price = item.getPrice();
+		this.brand = item.getBrand();
+		this.quantity = item.getQuantity();
+		this.categoryId = item.getCategoryId();
+		this.categoryName = item.getCategoryName();
+		this.thumbnail = item.getThumbnail();
+		this.salesCount = item.getSalesCount();
+	}
+
+	public static CatalogItem from(ItemDto item) {
+		return new CatalogItem(item);
+	}
+
+	public ItemDto toItemDto() {
+		return ItemDto.builder()
+			.itemId(itemId)
+			.name(name)
+			.price(price)
+			.brand(brand)
+			.quantity(quantity)
+			.categoryId(categoryId)
+			.categoryName(categoryName)
+			.thumbnail(thumbnail)
+			.salesCount(salesCount)
+			.status(true)
+			.build();
+	}
+}
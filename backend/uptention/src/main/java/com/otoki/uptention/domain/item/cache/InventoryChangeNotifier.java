@@ -0,0 +1,97 @@
+package com.otoki.uptention.domain.item.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 변경 알림
+ * 재고 엔진이 Redis 재고를 변경한 직후 호출한다.
+ * 로컬 니어 캐시를 비우고, DB 반영 대상 목록에 상품을 기록하고, 다른 노드에 무효화 메시지를 발행한다.
+ * Redis 명령은 파이프라인 한 번으로 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryChangeNotifier {
+
+	private static final byte[] CHANGED_ITEMS_KEY = InventoryRepository.CHANGED_ITEMS_KEY.getBytes(StandardCharsets.UTF_8);
+	private static final byte[] INVALIDATION_CHANNEL =
+		InventoryNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+	private final InventoryNearCache inventoryNearCache;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void notifyChanged(Integer itemId) {
+		notifyChanged(List.of(itemId));
+	}
+
+	/**
+	 * 재고 변경 알림 (DB 반영 대상으로 기록)
+	 */
+	public void notifyChanged(Collection<Integer> itemIds) {
+		publish(itemIds, true);
+	}
+
+	public void notifyReloaded(Integer itemId) {
+		notifyReloaded(List.of(itemId));
+	}
+
+	/**
+	 * DB 값으로 재고를 다시 적재한 경우의 알림 (DB 반영 불필요)
+	 */
+	public void notifyReloaded(Collection<Integer> itemIds) {
+		publish(itemIds, false);
+	}
+
+	private void publish(Collection<Integer> itemIds, boolean markChanged) {
+		if (itemIds == null || itemIds.isEmpty()) {
+			return;
+		}
+
+		inventoryNearCache.invalidate(itemIds);
+
+		boolean broadcast = inventoryNearCache.isEnabled();
+		if (!markChanged && !broadcast) {
+			return;
+		}
+
+		double changedAt = System.currentTimeMillis();
+		byte[] message = itemIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(InventoryNearCache.ITEM_ID_DELIMITER))
+			.getBytes(StandardCharsets.UTF_8);
+
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				if (markChanged) {
+					// 최초 변경 시각을 유지해야 반영 지연 시간을 측정할 수 있으므로 NX
+					for (Integer itemId : itemIds) {
+						connection.zSetCommands().zAdd(CHANGED_ITEMS_KEY, changedAt,
+							String.valueOf(itemId).getBytes(StandardCharsets.UTF_8),
+							RedisZSetCommands.ZAddArgs.ifNotExists());
+					}
+				}
+				if (broadcast) {
+					connection.publish(INVALIDATION_CHANNEL, message);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			// 재고 변경은 이미 반영되었으므로 실패해도 예외를 전파하지 않음
+			// (다른 노드는 TTL 이후 갱신, DB는 주기적 전체 동기화에서 반영)
+			log.warn("Failed to record inventory change for items {}: {}", itemIds, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.otoki.uptention.domain.item.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.global.config.InventoryProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 화면 표시용 재고 니어 캐시 (애플리케이션 메모리)
+ * 목록/장바구니/주문 검증 화면에서만 사용하며, 예약/확정 등 재고 변경은 항상 Redis를 직접 사용한다.
+ * 재고가 변경되면 Redis pub/sub 채널로 무효화 메시지를 받아 모든 노드에서 해당 상품을 제거한다.
+ */
+@Slf4j
+@Component
+public class InventoryNearCache implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "inventory:invalidate";
+	public static final String ITEM_ID_DELIMITER = ",";
+
+	private final boolean enabled;
+	private final Cache<Integer, InventoryDto> cache;
+
+	public InventoryNearCache(InventoryProperties inventoryProperties) {
+		InventoryProperties.NearCache nearCache = inventoryProperties.getNearCache();
+		this.enabled = nearCache.isEnabled();
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(nearCache.getMaximumSize())
+			.expireAfterWrite(nearCache.getTtl())
+			.build();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 캐시에 없는 상품만 loader로 한 번에 조회하여 채운다.
+	 * 비활성화 상태에서는 항상 loader 결과를 그대로 반환한다.
+	 */
+	public Map<Integer, InventoryDto> getAll(List<Integer> itemIds,
+		Function<List<Integer>, Map<Integer, InventoryDto>> loader) {
+		if (!enabled || itemIds == null || itemIds.isEmpty()) {
+			return loader.apply(itemIds);
+		}
+
+		return cache.getAll(itemIds, missingIds -> loader.apply(new ArrayList<>(missingIds)));
+	}
+
+	// 로컬 캐시에서 상품 제거
+	public void invalidate(Collection<Integer> itemIds) {
+		cache.invalidateAll(itemIds);
+	}
+
+	/**
+	 * 무효화 메시지 수신 (본문: 쉼표로 구분된 상품 ID)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+		try {
+			List<Integer> itemIds = new ArrayList<>();
+			for (String itemId : body.split(ITEM_ID_DELIMITER)) {
+				itemIds.add(Integer.valueOf(itemId.trim()));
+			}
+			invalidate(itemIds);
+		} catch (NumberFormatException e) {
+			// 알 수 없는 메시지는 전체 무효화로 안전하게 처리
+			log.warn("Invalid inventory invalidation message '{}', clearing near cache", body);
+			cache.invalidateAll();
+		}
+	}
+}
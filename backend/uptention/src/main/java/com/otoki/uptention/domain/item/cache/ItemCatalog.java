@@ -0,0 +1,269 @@
+package com.otoki.uptention.domain.item.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.common.CursorDto;
+import com.otoki.uptention.domain.item.dto.ItemDto;
+import com.otoki.uptention.domain.item.enums.SortType;
+import com.otoki.uptention.domain.item.repository.ItemRepository;
+import com.otoki.uptention.global.config.CatalogProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록 메모리 조회 모델 (노드별)
+ * 활성 상품을 정렬 기준(SortType)과 카테고리별로 미리 정렬해 두고, 커서 위치는 이진 탐색으로 찾는다.
+ * 상품이 변경되면 Redis pub/sub으로 변경된 상품 ID를 받아 모아 두었다가 주기적으로 해당 상품만 다시 읽어 반영한다.
+ * 키워드 검색과 적재 전 요청은 DB에서 조회한다(Optional.empty 반환).
+ */
+@Slf4j
+@Component
+public class ItemCatalog implements MessageListener {
+
+	public static final String CHANGE_CHANNEL = "catalog:item:changed";
+	public static final String ITEM_ID_DELIMITER = ",";
+
+	private static final int LOAD_PAGE_SIZE = 1000;
+	private static final int ALL_CATEGORIES = 0;
+	private static final CatalogItem[] EMPTY = new CatalogItem[0];
+
+	private final ItemRepository itemRepository;
+	private final boolean enabled;
+
+	private final Set<Integer> pendingItemIds = ConcurrentHashMap.newKeySet();
+	private volatile boolean reloadRequested;
+	private volatile Snapshot snapshot;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public ItemCatalog(ItemRepository itemRepository, CatalogProperties catalogProperties,
+		MeterRegistry meterRegistry) {
+		this.itemRepository = itemRepository;
+		this.enabled = catalogProperties.isEnabled();
+		this.hitCounter = Counter.builder("catalog.page")
+			.description("Item list pages answered by the in-memory catalog")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("catalog.page")
+			.description("Item list pages answered by the in-memory catalog")
+			.tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 커서 다음 위치부터 size개 조회 (DB 쿼리와 같은 정렬/커서 조건)
+	 * 적재 전이거나 비활성화 상태면 empty를 반환하므로 호출자가 DB에서 조회한다.
+	 */
+	public Optional<List<ItemDto>> findPage(Integer categoryId, CursorDto<Integer> cursor, SortType sortType,
+		int size) {
+		Snapshot current = snapshot;
+		SortType sort = sortType != null ? sortType : SortType.SALES;
+		if (!enabled || current == null || (cursor != null && cursor.getValue() == null && sort != SortType.ID_ASC)) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+
+		CatalogItem[] sorted = current.indexes.get(sort)
+			.getOrDefault(categoryId != null ? categoryId : ALL_CATEGORIES, EMPTY);
+		int from = cursor == null ? 0 : firstAfter(sorted, cursor, sort);
+		int to = Math.min(sorted.length, from + size);
+
+		List<ItemDto> page = new ArrayList<>(Math.max(0, to - from));
+		for (int i = from; i < to; i++) {
+			page.add(sorted[i].toItemDto());
+		}
+
+		hitCounter.increment();
+		return Optional.of(page);
+	}
+
+	/**
+	 * 활성 상품 전체를 ID 순 페이지 단위로 다시 적재
+	 */
+	public synchronized void reloadAll() {
+		if (!enabled) {
+			return;
+		}
+
+		reloadRequested = false;
+		Map<Integer, CatalogItem> items = new HashMap<>();
+		CursorDto<Integer> cursor = null;
+		while (true) {
+			List<ItemDto> page = itemRepository.findItemsByCursor(null, null, cursor, SortType.ID_ASC,
+				LOAD_PAGE_SIZE);
+			page.forEach(item -> items.put(item.getItemId(), CatalogItem.from(item)));
+			if (page.size() < LOAD_PAGE_SIZE) {
+				break;
+			}
+			Integer lastItemId = page.get(page.size() - 1).getItemId();
+			cursor = new CursorDto<>(lastItemId, lastItemId);
+		}
+
+		snapshot = Snapshot.build(items);
+		log.info("Item catalog loaded with {} active items", items.size());
+	}
+
+	/**
+	 * 변경 알림을 받은 상품만 다시 읽어 반영 (비활성/삭제된 상품은 제거)
+	 */
+	public synchronized void applyPendingChanges() {
+		if (!enabled) {
+			return;
+		}
+		if (snapshot == null || reloadRequested) {
+			pendingItemIds.clear();
+			reloadAll();
+			return;
+		}
+		if (pendingItemIds.isEmpty()) {
+			return;
+		}
+
+		List<Integer> itemIds = new ArrayList<>(pendingItemIds);
+		pendingItemIds.removeAll(itemIds);
+
+		try {
+			Map<Integer, ItemDto> loaded = itemRepository.findItemsWithThumbnailByIds(itemIds).stream()
+				.collect(Collectors.toMap(ItemDto::getItemId, item -> item));
+
+			Map<Integer, CatalogItem> items = new HashMap<>(snapshot.items);
+			for (Integer itemId : itemIds) {
+				ItemDto item = loaded.get(itemId);
+				if (item == null || !Boolean.TRUE.equals(item.getStatus())) {
+					items.remove(itemId);
+				} else {
+					items.put(itemId, CatalogItem.from(item));
+				}
+			}
+
+			snapshot = Snapshot.build(items);
+		} catch (Exception e) {
+			// 다음 주기에 다시 시도
+			pendingItemIds.addAll(itemIds);
+			log.warn("Failed to apply catalog changes for items {}: {}", itemIds, e.getMessage());
+		}
+	}
+
+	// 변경된 상품을 다음 반영 대상에 추가
+	public void markChanged(Collection<Integer> itemIds) {
+		pendingItemIds.addAll(itemIds);
+	}
+
+	/**
+	 * 변경 메시지 수신 (본문: 쉼표로 구분된 상품 ID)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+		try {
+			List<Integer> itemIds = new ArrayList<>();
+			for (String itemId : body.split(ITEM_ID_DELIMITER)) {
+				itemIds.add(Integer.valueOf(itemId.trim()));
+			}
+			markChanged(itemIds);
+		} catch (NumberFormatException e) {
+			// 알 수 없는 메시지는 전체 재적재로 안전하게 처리
+			log.warn("Invalid catalog change message '{}', reloading catalog", body);
+			reloadRequested = true;
+		}
+	}
+
+	/**
+	 * 커서보다 뒤에 오는 첫 항목의 위치
+	 */
+	private int firstAfter(CatalogItem[] sorted, CursorDto<Integer> cursor, SortType sortType) {
+		Comparator<CatalogItem> comparator = comparatorOf(sortType);
+		CatalogItem probe = CatalogItem.from(ItemDto.builder()
+			.itemId(cursor.getId())
+			.price(cursor.getValue())
+			.salesCount(cursor.getValue() != null ? cursor.getValue() : 0)
+			.build());
+
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (comparator.compare(sorted[mid], probe) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * ItemRepositoryCustomImpl의 정렬 조건과 같은 순서
+	 */
+	private static Comparator<CatalogItem> comparatorOf(SortType sortType) {
+		Comparator<CatalogItem> idDesc = Comparator.comparing(CatalogItem::getItemId, Comparator.reverseOrder());
+		return switch (sortType) {
+			case SALES -> Comparator.comparingInt(CatalogItem::getSalesCount).reversed().thenComparing(idDesc);
+			case HIGH_PRICE -> Comparator.comparing(CatalogItem::getPrice, Comparator.reverseOrder())
+				.thenComparing(idDesc);
+			case LOW_PRICE -> Comparator.comparing(CatalogItem::getPrice).thenComparing(idDesc);
+			case ID_ASC -> Comparator.comparing(CatalogItem::getItemId);
+		};
+	}
+
+	/**
+	 * 불변 스냅샷 (변경 시 통째로 교체하므로 조회는 잠금 없이 수행)
+	 */
+	private static class Snapshot {
+		private final Map<Integer, CatalogItem> items;
+		private final Map<SortType, Map<Integer, CatalogItem[]>> indexes;
+
+		private Snapshot(Map<Integer, CatalogItem> items, Map<SortType, Map<Integer, CatalogItem[]>> indexes) {
+			this.items = items;
+			this.indexes = indexes;
+		}
+
+		private static Snapshot build(Map<Integer, CatalogItem> items) {
+			Map<Integer, List<CatalogItem>> byCategory = new HashMap<>();
+			byCategory.put(ALL_CATEGORIES, new ArrayList<>(items.values()));
+			for (CatalogItem item : items.values()) {
+				if (item.getCategoryId() != null) {
+					byCategory.computeIfAbsent(item.getCategoryId(), id -> new ArrayList<>()).add(item);
+				}
+			}
+
+			Map<SortType, Map<Integer, CatalogItem[]>> indexes = new EnumMap<>(SortType.class);
+			for (SortType sortType : SortType.values()) {
+				Comparator<CatalogItem> comparator = comparatorOf(sortType);
+				Map<Integer, CatalogItem[]> sortedByCategory = new HashMap<>();
+				byCategory.forEach((categoryId, categoryItems) -> {
+					CatalogItem[] sorted = categoryItems.toArray(EMPTY);
+					Arrays.sort(sorted, comparator);
+					sortedByCategory.put(categoryId, sorted);
+				});
+				indexes.put(sortType, sortedByCategory);
+			}
+
+			return new Snapshot(items, indexes);
+		}
+	}
+}
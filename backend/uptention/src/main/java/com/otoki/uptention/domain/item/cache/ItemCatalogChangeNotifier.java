@@ -0,0 +1,64 @@
+package com.otoki.uptention.domain.item.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록 조회 모델 변경 알림
+ * 상품 정보(가격, 판매량, 상태 등)를 변경한 뒤 호출한다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여 다른 노드가 커밋 전 값을 다시 읽지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemCatalogChangeNotifier {
+
+	private final ItemCatalog itemCatalog;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void notifyChanged(Integer itemId) {
+		notifyChanged(List.of(itemId));
+	}
+
+	public void notifyChanged(Collection<Integer> itemIds) {
+		if (!itemCatalog.isEnabled() || itemIds == null || itemIds.isEmpty()) {
+			return;
+		}
+
+		List<Integer> changedItemIds = List.copyOf(itemIds);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					publish(changedItemIds);
+				}
+			});
+			return;
+		}
+
+		publish(changedItemIds);
+	}
+
+	private void publish(List<Integer> itemIds) {
+		String message = itemIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(ItemCatalog.ITEM_ID_DELIMITER));
+
+		try {
+			stringRedisTemplate.convertAndSend(ItemCatalog.CHANGE_CHANNEL, message);
+		} catch (Exception e) {
+			// 발행에 실패하면 자기 노드만 반영하고, 다른 노드는 주기적 전체 재적재에서 반영
+			itemCatalog.markChanged(itemIds);
+			log.warn("Failed to publish catalog change for items {}: {}", itemIds, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.otoki.uptention.domain.item.dto;
+
+import java.util.Collections;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 상품 재고 예약 결과
+ * 실패한 경우 재고가 부족했던 상품별 부족 수량(상품 ID -> 부족 수량)을 함께 담는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InventoryReservationResult {
+	private final boolean reserved;
+	private final Map<Integer, Integer> shortfalls;
+
+	public static InventoryReservationResult success() {
+		return new InventoryReservationResult(true, Collections.emptyMap());
+	}
+
+	public static InventoryReservationResult failure(Map<Integer, Integer> shortfalls) {
+		return new InventoryReservationResult(false, Collections.unmodifiableMap(shortfalls));
+	}
+}
@@ -0,0 +1,16 @@
+package com.otoki.uptention.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 ID와 재고 수량만 담은 조회 전용 DTO (재고 초기 적재용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemQuantityDto {
+	private Integer itemId;
+	private Integer quantity;
+}
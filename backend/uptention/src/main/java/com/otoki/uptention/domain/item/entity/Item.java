@@ -60,6 +60,10 @@ public class Item extends TimeStampEntity {
 	@Column(name = "sales_count")
 	private Integer salesCount = 0;
 
+	// 첫 번째 이미지(ID가 가장 작은 이미지)의 키, 목록 조회에서 이미지 서브쿼리 없이 사용
+	@Column(name = "thumbnail", length = 255)
+	private String thumbnail;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "category_id")
 	private Category category;
@@ -68,6 +72,14 @@ public class Item extends TimeStampEntity {
 	@Builder.Default
 	private List<Image> images = new ArrayList<>();
 
+	// 이미지 추가 메서드 (첫 이미지를 썸네일로 지정)
+	public void addImage(Image image) {
+		this.images.add(image);
+		if (this.thumbnail == null) {
+			this.thumbnail = image.getUrl();
+		}
+	}
+
 	// 판매량 증가 메서드
 	public void increaseSalesCount(int quantity) {
 		this.salesCount += quantity;
@@ -0,0 +1,42 @@
+package com.otoki.uptention.domain.item.repository;
+
+import java.util.Map;
+
+/**
+ * 핫 아이템 버킷 재고 레포지토리
+ * 주문이 몰리는 상품의 가용 재고를 여러 버킷 키(inventory:hot:{itemId}:{bucket})에 나누어 저장하여
+ * 예약이 하나의 키에 몰리지 않게 한다. 버킷에 옮겨진 재고는 재고 해시에서 예약 재고로 잡혀 있다.
+ */
+public interface HotInventoryRepository {
+
+	String HOT_KEY_PREFIX = "inventory:hot:";
+
+	// 핫 아이템 목록 (hash, field: 상품 ID, value: 버킷 수)
+	String HOT_ITEMS_KEY = HOT_KEY_PREFIX + "items";
+
+	static String bucketKeyOf(Integer itemId, int bucket) {
+		return HOT_KEY_PREFIX + itemId + ":" + bucket;
+	}
+
+	// 등록된 핫 아이템 전체 조회 (상품 ID별 버킷 수)
+	Map<Integer, Integer> findAllBucketCounts();
+
+	// 버킷 하나에서 예약 (부족하면 변경 없이 false)
+	boolean take(Integer itemId, int bucket, int quantity);
+
+	// 여러 버킷에서 나누어 예약 (전부 성공 또는 전부 실패), 부족 수량 반환 (성공 시 0)
+	int takeAcross(Integer itemId, int bucketCount, int firstBucket, int quantity);
+
+	// 예약 취소 수량을 버킷에 반환 - 핫 아이템이 아니면 false (변경 없음)
+	boolean release(Integer itemId, int bucket, int quantity);
+
+	// 상품별 버킷 재고 합계 조회 (파이프라인 한 번)
+	Map<Integer, Integer> sumBuckets(Map<Integer, Integer> itemBucketCounts);
+
+	// 핫 아이템 등록 및 버킷 재분배 (재고 해시의 가용 재고 흡수), 버킷 전체 재고 반환 (재고 정보가 없으면 -1)
+	// 이미 등록된 상품은 흡수할 재고가 있거나 버킷 간 차이가 rebalanceThreshold를 넘을 때만 재분배
+	int attach(Integer itemId, int bucketCount, int rebalanceThreshold);
+
+	// 핫 아이템 해제 - 버킷 재고를 재고 해시의 가용 재고로 되돌림, 되돌린 수량 반환
+	int detach(Integer itemId, int bucketCount);
+}
@@ -1,13 +1,41 @@
 package com.otoki.uptention.domain.item.repository;
 
-import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
 
 /**
  * 재고 관련 레포지토리
- * 필요한 경우 Redis 외에 다른 저장소도 활용할 수 있도록 인터페이스로 정의
+ * 상품별 재고를 Redis 해시(quantity, reserved, available 정수 필드)로 저장한다.
  */
-@Repository
 public interface InventoryRepository {
-	// 현재는 Redis를 직접 사용하므로 비어있음
-	// 추후 확장 가능성을 위해 인터페이스 정의
+
+	String INVENTORY_KEY_PREFIX = "inventory:stock:";
+
+	// DB에 아직 반영되지 않은 상품 ID (sorted set, score: 최초 변경 시각 epoch millis)
+	String CHANGED_ITEMS_KEY = "inventory:changed";
+
+	static String keyOf(Integer itemId) {
+		return INVENTORY_KEY_PREFIX + itemId;
+	}
+
+	// 단일 상품 재고 조회 (없으면 empty)
+	Optional<InventoryDto> findById(Integer itemId);
+
+	// 여러 상품 재고 조회 (파이프라인 한 번, 없는 상품은 결과에서 제외)
+	Map<Integer, InventoryDto> findAllByIds(List<Integer> itemIds);
+
+	// 재고 저장 (덮어쓰기)
+	void save(InventoryDto inventory);
+
+	// 재고가 없을 때만 저장
+	boolean saveIfAbsent(InventoryDto inventory);
+
+	// 재고가 없는 상품만 일괄 저장 (스크립트 한 번), 저장된 상품 수 반환
+	int saveAllIfAbsent(List<InventoryDto> inventories);
+
+	// 전체/예약 재고를 증감 (스크립트 한 번으로 HINCRBY), 가용 재고는 두 값의 차이만큼 함께 변경
+	void adjust(Integer itemId, int quantityDelta, int reservedDelta);
 }
@@ -0,0 +1,44 @@
+package com.otoki.uptention.domain.item.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 대량 갱신용 JDBC 레포지토리
+ * 엔티티를 조회하지 않고 한 번의 배치로 여러 행을 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemJdbcRepository {
+
+	private static final String UPDATE_QUANTITY_SQL = "UPDATE item SET quantity = ?, updated_at = ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 상품별 재고 수량 일괄 갱신
+	 *
+	 * @param quantities 상품 ID별 재고 수량
+	 */
+	public void updateQuantities(Map<Integer, Integer> quantities) {
+		if (quantities.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+		for (Map.Entry<Integer, Integer> entry : quantities.entrySet()) {
+			batchArgs.add(new Object[] {entry.getValue(), now, entry.getKey()});
+		}
+
+		jdbcTemplate.batchUpdate(UPDATE_QUANTITY_SQL, batchArgs);
+	}
+}
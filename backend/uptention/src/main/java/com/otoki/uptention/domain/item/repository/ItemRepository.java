@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,24 @@ public interface ItemRepository extends JpaRepository<Item, Integer>, ItemReposi
 	@Query("SELECT i FROM Item i LEFT JOIN FETCH i.images WHERE i.id = :itemId AND i.status = true")
 	Optional<Item> findActiveByIdWithImages(@Param("itemId") Integer itemId);
 
-	// 활성 상태인 모든 상품 조회
-	List<Item> findByStatusTrue();
+	// 여러 상품 상세 조회용 - 카테고리와 이미지를 한 번의 쿼리로 가져오기
+	@Query("SELECT DISTINCT i FROM Item i JOIN FETCH i.category LEFT JOIN FETCH i.images "
+		+ "WHERE i.id IN :itemIds AND i.status = true")
+	List<Item> findActiveByIdsWithImages(@Param("itemIds") List<Integer> itemIds);
+
+	// 활성 상태인 모든 상품 ID (엔티티를 적재하지 않음)
+	@Query("SELECT i.id FROM Item i WHERE i.status = true")
+	List<Integer> findActiveIds();
+
+	// 가장 큰 상품 ID (상품이 없으면 0)
+	@Query("SELECT COALESCE(MAX(i.id), 0) FROM Item i")
+	Integer findMaxId();
+
+	// ID 범위 (fromId, toId] 에서 썸네일이 비어 있는 상품에 첫 번째 이미지 지정
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Item i SET i.thumbnail = "
+		+ "(SELECT img.url FROM Image img WHERE img.id = "
+		+ "(SELECT MIN(subImg.id) FROM Image subImg WHERE subImg.item = i)) "
+		+ "WHERE i.thumbnail IS NULL AND i.id > :fromId AND i.id <= :toId")
+	int backfillThumbnails(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
 }
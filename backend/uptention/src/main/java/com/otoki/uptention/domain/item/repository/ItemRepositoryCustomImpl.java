@@ -3,14 +3,13 @@ package com.otoki.uptention.domain.item.repository;
 import java.util.List;
 
 import com.otoki.uptention.domain.common.CursorDto;
-import com.otoki.uptention.domain.image.entity.QImage;
+import com.otoki.uptention.domain.common.KeywordSearch;
 import com.otoki.uptention.domain.item.dto.ItemDto;
+import com.otoki.uptention.domain.item.dto.ItemQuantityDto;
 import com.otoki.uptention.domain.item.entity.QItem;
 import com.otoki.uptention.domain.item.enums.SortType;
-import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -27,20 +26,6 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 		}
 
 		QItem item = QItem.item;
-		QImage image = QImage.image;
-		QImage subImage = new QImage("subImage");
-
-		// 첫 번째 이미지 URL을 가져오는 서브쿼리
-		var thumbnailSubquery = JPAExpressions
-			.select(image.url)
-			.from(image)
-			.where(image.item.eq(item)
-				.and(image.id.eq(
-					JPAExpressions
-						.select(subImage.id.min())
-						.from(subImage)
-						.where(subImage.item.eq(item))
-				)));
 
 		// 빌더 패턴을 사용하는 ItemDto 생성
 		return queryFactory
@@ -54,7 +39,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 					item.status,
 					item.category.id.as("categoryId"),
 					item.category.name.as("categoryName"),
-					ExpressionUtils.as(thumbnailSubquery, "thumbnail")
+					item.thumbnail
 				)
 			)
 			.from(item)
@@ -62,12 +47,30 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 			.fetch();
 	}
 
+	/**
+	 * 활성 상품의 (ID, 재고)를 ID 순으로 조회합니다.
+	 * 마지막으로 읽은 ID 이후부터 PK 범위 조회하므로 페이지가 뒤로 가도 비용이 일정합니다.
+	 */
+	@Override
+	public List<ItemQuantityDto> findActiveItemQuantitiesAfter(Integer lastItemId, int size) {
+		QItem item = QItem.item;
+
+		return queryFactory
+			.select(Projections.constructor(ItemQuantityDto.class,
+				item.id,
+				item.quantity
+			))
+			.from(item)
+			.where(item.id.gt(lastItemId), item.status.isTrue())
+			.orderBy(item.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
 	@Override
 	public List<ItemDto> findItemsByCursor(Integer categoryId, String keyword, CursorDto<Integer> cursor, SortType sortType,
 		int size) {
 		QItem item = QItem.item;
-		QImage image = QImage.image;
-		QImage subImage = new QImage("subImage");
 
 		// 기본 조건과 커서 조건 결합
 		BooleanExpression conditions = getBaseConditions(item, categoryId, keyword);
@@ -75,18 +78,6 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 			conditions = conditions.and(getCursorCondition(item, cursor, sortType));
 		}
 
-		// ID 순서대로 첫 이미지 가져오기 (최적화된 서브쿼리)
-		var thumbnailSubquery = JPAExpressions
-			.select(image.url)
-			.from(image)
-			.where(image.item.eq(item)
-				.and(image.id.eq(
-					JPAExpressions
-						.select(subImage.id.min())
-						.from(subImage)
-						.where(subImage.item.eq(item))
-				)));
-
 		return queryFactory
 			.select(Projections.fields(ItemDto.class,
 				item.id.as("itemId"),
@@ -98,7 +89,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 				item.status,
 				item.category.id.as("categoryId"),
 				item.category.name.as("categoryName"),
-				ExpressionUtils.as(thumbnailSubquery, "thumbnail")
+				item.thumbnail
 			))
 			.from(item)
 			.where(conditions)
@@ -118,7 +109,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 		}
 
 		if (keyword != null && !keyword.isEmpty()) {
-			conditions = conditions.and(item.name.contains(keyword));
+			conditions = conditions.and(KeywordSearch.contains(KeywordSearch.ITEM_NAME_INDEX, item.name, keyword));
 		}
 
 		return conditions;
@@ -0,0 +1,131 @@
+package com.otoki.uptention.domain.item.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 기반 핫 아이템 버킷 재고 레포지토리
+ * 버킷은 정수 문자열 키, 등록/해제/재분배는 재고 해시와 함께 스크립트로 원자적으로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisHotInventoryRepository implements HotInventoryRepository {
+
+	private static final RedisScript<Long> TAKE_SCRIPT = loadScript("hot_take");
+	private static final RedisScript<Long> STEAL_SCRIPT = loadScript("hot_steal");
+	private static final RedisScript<Long> RELEASE_SCRIPT = loadScript("hot_release");
+	private static final RedisScript<Long> ATTACH_SCRIPT = loadScript("hot_attach");
+	private static final RedisScript<Long> DETACH_SCRIPT = loadScript("hot_detach");
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Override
+	public Map<Integer, Integer> findAllBucketCounts() {
+		Map<Integer, Integer> result = new HashMap<>();
+		stringRedisTemplate.<String, String>opsForHash().entries(HOT_ITEMS_KEY)
+			.forEach((itemId, bucketCount) -> result.put(Integer.valueOf(itemId), Integer.valueOf(bucketCount)));
+		return result;
+	}
+
+	@Override
+	public boolean take(Integer itemId, int bucket, int quantity) {
+		Long result = stringRedisTemplate.execute(TAKE_SCRIPT,
+			List.of(HotInventoryRepository.bucketKeyOf(itemId, bucket)), String.valueOf(quantity));
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public int takeAcross(Integer itemId, int bucketCount, int firstBucket, int quantity) {
+		// firstBucket부터 순서대로 차감하여 노드마다 같은 버킷만 비우지 않도록 함
+		List<String> keys = new ArrayList<>(bucketCount);
+		for (int i = 0; i < bucketCount; i++) {
+			keys.add(HotInventoryRepository.bucketKeyOf(itemId, (firstBucket + i) % bucketCount));
+		}
+
+		Long shortfall = stringRedisTemplate.execute(STEAL_SCRIPT, keys, String.valueOf(quantity));
+		return shortfall == null ? quantity : shortfall.intValue();
+	}
+
+	@Override
+	public boolean release(Integer itemId, int bucket, int quantity) {
+		Long result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+			List.of(HOT_ITEMS_KEY, HotInventoryRepository.bucketKeyOf(itemId, bucket)),
+			String.valueOf(itemId), String.valueOf(quantity));
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public Map<Integer, Integer> sumBuckets(Map<Integer, Integer> itemBucketCounts) {
+		Map<Integer, Integer> result = new HashMap<>();
+		if (itemBucketCounts.isEmpty()) {
+			return result;
+		}
+
+		List<Integer> itemIds = new ArrayList<>(itemBucketCounts.keySet());
+		List<Object> pipelined = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (Integer itemId : itemIds) {
+				connection.stringCommands().mGet(rawBucketKeys(itemId, itemBucketCounts.get(itemId)));
+			}
+			return null;
+		});
+
+		for (int i = 0; i < itemIds.size(); i++) {
+			int sum = 0;
+			for (Object value : (List<?>)pipelined.get(i)) {
+				if (value != null) {
+					sum += Integer.parseInt(value.toString());
+				}
+			}
+			result.put(itemIds.get(i), sum);
+		}
+
+		return result;
+	}
+
+	@Override
+	public int attach(Integer itemId, int bucketCount, int rebalanceThreshold) {
+		Long total = stringRedisTemplate.execute(ATTACH_SCRIPT, hashAndBucketKeys(itemId, bucketCount),
+			String.valueOf(itemId), String.valueOf(rebalanceThreshold));
+		return total == null ? -1 : total.intValue();
+	}
+
+	@Override
+	public int detach(Integer itemId, int bucketCount) {
+		Long total = stringRedisTemplate.execute(DETACH_SCRIPT, hashAndBucketKeys(itemId, bucketCount),
+			String.valueOf(itemId));
+		return total == null ? 0 : total.intValue();
+	}
+
+	private List<String> hashAndBucketKeys(Integer itemId, int bucketCount) {
+		List<String> keys = new ArrayList<>(bucketCount + 2);
+		keys.add(InventoryRepository.keyOf(itemId));
+		keys.add(HOT_ITEMS_KEY);
+		for (int i = 0; i < bucketCount; i++) {
+			keys.add(HotInventoryRepository.bucketKeyOf(itemId, i));
+		}
+		return keys;
+	}
+
+	private byte[][] rawBucketKeys(Integer itemId, int bucketCount) {
+		byte[][] keys = new byte[bucketCount][];
+		for (int i = 0; i < bucketCount; i++) {
+			keys[i] = HotInventoryRepository.bucketKeyOf(itemId, i).getBytes(StandardCharsets.UTF_8);
+		}
+		return keys;
+	}
+
+	private static RedisScript<Long> loadScript(String name) {
+		return RedisScript.of(new ClassPathResource("redis/inventory/" + name + ".lua"), Long.class);
+	}
+}
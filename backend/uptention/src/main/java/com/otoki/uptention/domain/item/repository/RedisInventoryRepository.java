@@ -0,0 +1,153 @@
+package com.otoki.uptention.domain.item.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 해시 기반 재고 레포지토리
+ * JSON 직렬화 없이 정수 필드 세 개만 저장하므로 조회 시 파싱/리플렉션 비용이 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisInventoryRepository implements InventoryRepository {
+
+	private static final String FIELD_QUANTITY = "quantity";
+	private static final String FIELD_RESERVED = "reserved";
+	private static final String FIELD_AVAILABLE = "available";
+	private static final List<String> INVENTORY_FIELDS = List.of(FIELD_QUANTITY, FIELD_RESERVED, FIELD_AVAILABLE);
+
+	private static final byte[][] RAW_INVENTORY_FIELDS = INVENTORY_FIELDS.stream()
+		.map(field -> field.getBytes(StandardCharsets.UTF_8))
+		.toArray(byte[][]::new);
+
+	private static final RedisScript<Long> SAVE_IF_ABSENT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/save_if_absent.lua"), Long.class);
+	private static final RedisScript<Long> SAVE_ALL_IF_ABSENT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/save_all_if_absent.lua"), Long.class);
+	private static final RedisScript<Long> ADJUST_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/adjust.lua"), Long.class);
+
+	private final RedisTemplate<String, Integer> inventoryRedisTemplate;
+
+	@Override
+	public Optional<InventoryDto> findById(Integer itemId) {
+		List<Integer> values = hashOperations().multiGet(InventoryRepository.keyOf(itemId), INVENTORY_FIELDS);
+		return Optional.ofNullable(toInventoryDto(itemId, values));
+	}
+
+	@Override
+	public Map<Integer, InventoryDto> findAllByIds(List<Integer> itemIds) {
+		Map<Integer, InventoryDto> result = new HashMap<>();
+		if (itemIds == null || itemIds.isEmpty()) {
+			return result;
+		}
+
+		List<Object> pipelined = inventoryRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (Integer itemId : itemIds) {
+				connection.hashCommands().hMGet(rawKey(itemId), RAW_INVENTORY_FIELDS);
+			}
+			return null;
+		});
+
+		for (int i = 0; i < itemIds.size(); i++) {
+			Integer itemId = itemIds.get(i);
+			InventoryDto inventory = toInventoryDto(itemId, (List<?>)pipelined.get(i));
+			if (inventory != null) {
+				result.put(itemId, inventory);
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public void save(InventoryDto inventory) {
+		Map<String, Integer> fields = new LinkedHashMap<>();
+		fields.put(FIELD_QUANTITY, inventory.getQuantity());
+		fields.put(FIELD_RESERVED, inventory.getReservedQuantity());
+		fields.put(FIELD_AVAILABLE, inventory.getAvailableQuantity());
+
+		hashOperations().putAll(InventoryRepository.keyOf(inventory.getItemId()), fields);
+	}
+
+	@Override
+	public boolean saveIfAbsent(InventoryDto inventory) {
+		Long result = inventoryRedisTemplate.execute(SAVE_IF_ABSENT_SCRIPT,
+			List.of(InventoryRepository.keyOf(inventory.getItemId())),
+			inventory.getQuantity(), inventory.getReservedQuantity(), inventory.getAvailableQuantity());
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public int saveAllIfAbsent(List<InventoryDto> inventories) {
+		if (inventories == null || inventories.isEmpty()) {
+			return 0;
+		}
+
+		List<String> keys = new ArrayList<>(inventories.size());
+		Object[] args = new Object[inventories.size() * INVENTORY_FIELDS.size()];
+		int i = 0;
+		for (InventoryDto inventory : inventories) {
+			keys.add(InventoryRepository.keyOf(inventory.getItemId()));
+			args[i++] = inventory.getQuantity();
+			args[i++] = inventory.getReservedQuantity();
+			args[i++] = inventory.getAvailableQuantity();
+		}
+
+		Long saved = inventoryRedisTemplate.execute(SAVE_ALL_IF_ABSENT_SCRIPT, keys, args);
+		return saved == null ? 0 : saved.intValue();
+	}
+
+	@Override
+	public void adjust(Integer itemId, int quantityDelta, int reservedDelta) {
+		if (quantityDelta == 0 && reservedDelta == 0) {
+			return;
+		}
+		inventoryRedisTemplate.execute(ADJUST_SCRIPT, List.of(InventoryRepository.keyOf(itemId)),
+			quantityDelta, reservedDelta);
+	}
+
+	/**
+	 * HMGET 결과를 InventoryDto로 변환 (키가 없으면 null)
+	 */
+	private InventoryDto toInventoryDto(Integer itemId, List<?> values) {
+		if (values == null || values.size() < INVENTORY_FIELDS.size() || values.contains(null)) {
+			return null;
+		}
+
+		return InventoryDto.builder()
+			.itemId(itemId)
+			.quantity(toInt(values.get(0)))
+			.reservedQuantity(toInt(values.get(1)))
+			.availableQuantity(toInt(values.get(2)))
+			.build();
+	}
+
+	private Integer toInt(Object value) {
+		return value instanceof Number number ? number.intValue() : Integer.valueOf(value.toString());
+	}
+
+	private byte[] rawKey(Integer itemId) {
+		return InventoryRepository.keyOf(itemId).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private HashOperations<String, String, Integer> hashOperations() {
+		return inventoryRedisTemplate.opsForHash();
+	}
+}
@@ -0,0 +1,16 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+
+/**
+ * 화면 표시용 재고 조회 서비스
+ * 니어 캐시를 거치므로 짧은 TTL 동안 이전 값이 반환될 수 있다. 예약/확정 판단에는 InventoryService를 사용한다.
+ */
+public interface DisplayInventoryService {
+
+	// 여러 상품 재고 조회 (없는 상품은 결과에서 제외)
+	Map<Integer, InventoryDto> getInventories(List<Integer> itemIds);
+}
@@ -0,0 +1,24 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.otoki.uptention.domain.item.cache.InventoryNearCache;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DisplayInventoryServiceImpl implements DisplayInventoryService {
+
+	private final InventoryService inventoryService;
+	private final InventoryNearCache inventoryNearCache;
+
+	@Override
+	public Map<Integer, InventoryDto> getInventories(List<Integer> itemIds) {
+		return inventoryNearCache.getAll(itemIds, inventoryService::getInventories);
+	}
+}
@@ -0,0 +1,40 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.Map;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+
+/**
+ * 핫 아이템 재고 서비스
+ * 주문이 몰리는 상품의 가용 재고를 K개 버킷으로 나누어, 예약은 임의의 버킷 하나에서 처리하고
+ * 부족하면 다른 버킷에서 가져온다. 버킷 간 편차는 주기적인 재분배로 줄인다.
+ * 재고 엔진은 핫 아이템의 예약/취소를 이 서비스로 넘기고 나머지 상품만 기존 방식으로 처리한다.
+ */
+public interface HotItemInventoryService {
+
+	// 핫 아이템 여부 (노드별 등록 정보 기준)
+	boolean isHot(Integer itemId);
+
+	// 등록된 핫 아이템이 하나라도 있는지 여부
+	boolean hasHotItems();
+
+	// 주문 상품 중 핫 아이템만 추출
+	Map<Integer, Integer> filterHotItems(Map<Integer, Integer> itemQuantities);
+
+	// 핫 아이템 예약 (전부 성공 또는 전부 실패), 상품별 부족 수량 반환 (성공 시 빈 Map)
+	Map<Integer, Integer> reserve(Map<Integer, Integer> hotQuantities);
+
+	// 핫 아이템 예약 취소 수량을 버킷으로 반환, 반환된 상품만 돌려줌 (나머지는 호출자가 일반 재고로 취소)
+	Map<Integer, Integer> releaseHotItems(Map<Integer, Integer> itemQuantities);
+
+	// 조회한 재고에 버킷 재고를 반영 (버킷 재고는 재고 해시에서 예약 재고로 잡혀 있음)
+	void applyBuckets(InventoryDto inventory);
+
+	void applyBuckets(Map<Integer, InventoryDto> inventories);
+
+	// Redis의 핫 아이템 목록을 다시 읽어 노드별 등록 정보 갱신
+	void refreshRegistry();
+
+	// 설정된 핫 아이템 목록에 맞춰 등록/해제하고 버킷 재고 재분배
+	void reconcile();
+}
@@ -0,0 +1,233 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.repository.HotInventoryRepository;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.global.config.InventoryProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 버킷 기반 핫 아이템 재고
+ * 예약의 빠른 경로는 버킷 키 하나만 변경하므로 분산락 없이 버킷 수만큼 동시에 처리된다.
+ * 등록 정보는 노드마다 메모리에 두고 재분배 주기마다 갱신하며, 취소는 Redis 등록 정보를 다시 확인하므로
+ * 노드 간 등록 정보가 잠시 어긋나도 재고가 사라지지 않는다.
+ * 버킷 예약/취소도 재고 변경이므로 재고 엔진과 같이 InventoryChangeNotifier로 니어 캐시 무효화와 DB 반영 대상 기록을 한다.
+ */
+@Slf4j
+@Service
+public class HotItemInventoryServiceImpl implements HotItemInventoryService {
+
+	// 재고 엔진(InventoryServiceImpl)과 같은 상품 락을 사용하여 등록/해제 중 재고 해시 덮어쓰기 방지
+	private static final String INVENTORY_LOCK_PREFIX = "inventory:lock:";
+	private static final int LOCK_WAIT_TIME = 3; // 초
+	private static final int LOCK_LEASE_TIME = 5; // 초
+
+	private final HotInventoryRepository hotInventoryRepository;
+	private final InventoryRepository inventoryRepository;
+	private final InventoryProperties inventoryProperties;
+	private final DistributedLockManager lockManager;
+	private final InventoryChangeNotifier inventoryChangeNotifier;
+
+	private final Counter fastReserveCounter;
+	private final Counter stealReserveCounter;
+	private final Counter shortfallCounter;
+
+	// 상품 ID별 버킷 수
+	private volatile Map<Integer, Integer> hotItemBuckets = Map.of();
+
+	public HotItemInventoryServiceImpl(HotInventoryRepository hotInventoryRepository,
+		InventoryRepository inventoryRepository, InventoryProperties inventoryProperties,
+		DistributedLockManager lockManager, InventoryChangeNotifier inventoryChangeNotifier,
+		MeterRegistry meterRegistry) {
+		this.hotInventoryRepository = hotInventoryRepository;
+		this.inventoryRepository = inventoryRepository;
+		this.inventoryProperties = inventoryProperties;
+		this.lockManager = lockManager;
+		this.inventoryChangeNotifier = inventoryChangeNotifier;
+
+		this.fastReserveCounter = reserveCounter(meterRegistry, "fast");
+		this.stealReserveCounter = reserveCounter(meterRegistry, "steal");
+		this.shortfallCounter = reserveCounter(meterRegistry, "shortfall");
+	}
+
+	@Override
+	public boolean isHot(Integer itemId) {
+		return hotItemBuckets.containsKey(itemId);
+	}
+
+	@Override
+	public boolean hasHotItems() {
+		return !hotItemBuckets.isEmpty();
+	}
+
+	@Override
+	public Map<Integer, Integer> filterHotItems(Map<Integer, Integer> itemQuantities) {
+		Map<Integer, Integer> hotQuantities = new LinkedHashMap<>();
+		if (hotItemBuckets.isEmpty() || itemQuantities == null) {
+			return hotQuantities;
+		}
+
+		itemQuantities.forEach((itemId, quantity) -> {
+			if (isHot(itemId)) {
+				hotQuantities.put(itemId, quantity);
+			}
+		});
+		return hotQuantities;
+	}
+
+	@Override
+	public Map<Integer, Integer> reserve(Map<Integer, Integer> hotQuantities) {
+		Map<Integer, Integer> reserved = new LinkedHashMap<>();
+
+		for (Map.Entry<Integer, Integer> entry : hotQuantities.entrySet()) {
+			Integer itemId = entry.getKey();
+			int shortfall = reserveItem(itemId, entry.getValue());
+
+			if (shortfall > 0) {
+				log.warn("Insufficient hot item stock for item {}: required={}, shortfall={}",
+					itemId, entry.getValue(), shortfall);
+				// 먼저 예약한 핫 아이템은 되돌림
+				reserved.forEach(this::releaseItem);
+				return Map.of(itemId, shortfall);
+			}
+
+			reserved.put(itemId, entry.getValue());
+		}
+
+		inventoryChangeNotifier.notifyChanged(reserved.keySet());
+		return Map.of();
+	}
+
+	@Override
+	public Map<Integer, Integer> releaseHotItems(Map<Integer, Integer> itemQuantities) {
+		Map<Integer, Integer> released = new LinkedHashMap<>();
+
+		filterHotItems(itemQuantities).forEach((itemId, quantity) -> {
+			int bucket = ThreadLocalRandom.current().nextInt(hotItemBuckets.getOrDefault(itemId, 1));
+			if (hotInventoryRepository.release(itemId, bucket, quantity)) {
+				released.put(itemId, quantity);
+			}
+		});
+
+		inventoryChangeNotifier.notifyChanged(released.keySet());
+		return released;
+	}
+
+	@Override
+	public void applyBuckets(InventoryDto inventory) {
+		if (inventory != null && isHot(inventory.getItemId())) {
+			applyBuckets(Map.of(inventory.getItemId(), inventory));
+		}
+	}
+
+	@Override
+	public void applyBuckets(Map<Integer, InventoryDto> inventories) {
+		Map<Integer, Integer> hotBucketCounts = new LinkedHashMap<>();
+		inventories.keySet().forEach(itemId -> {
+			Integer bucketCount = hotItemBuckets.get(itemId);
+			if (bucketCount != null) {
+				hotBucketCounts.put(itemId, bucketCount);
+			}
+		});
+
+		if (hotBucketCounts.isEmpty()) {
+			return;
+		}
+
+		hotInventoryRepository.sumBuckets(hotBucketCounts).forEach((itemId, bucketTotal) -> {
+			InventoryDto inventory = inventories.get(itemId);
+			inventory.setAvailableQuantity(inventory.getAvailableQuantity() + bucketTotal);
+			inventory.setReservedQuantity(Math.max(0, inventory.getReservedQuantity() - bucketTotal));
+		});
+	}
+
+	@Override
+	public void refreshRegistry() {
+		try {
+			hotItemBuckets = Map.copyOf(hotInventoryRepository.findAllBucketCounts());
+		} catch (Exception e) {
+			log.warn("Failed to refresh hot item registry, keeping previous one: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void reconcile() {
+		InventoryProperties.HotItems config = inventoryProperties.getHotItems();
+		Set<Integer> configured = new HashSet<>(config.getItemIds());
+		int bucketCount = Math.max(1, config.getBuckets());
+
+		// 목록에서 빠졌거나 버킷 수가 바뀐 상품은 버킷 재고를 재고 해시로 되돌림
+		hotInventoryRepository.findAllBucketCounts().forEach((itemId, registeredBuckets) -> {
+			if (!configured.contains(itemId) || registeredBuckets != bucketCount) {
+				Integer restored = withItemLock(itemId, () -> hotInventoryRepository.detach(itemId, registeredBuckets));
+				log.info("Detached hot item {}: restored={}", itemId, restored);
+			}
+		});
+
+		// 등록 및 재분배 (그 사이 재고 해시로 들어온 가용 재고도 버킷으로 흡수, 버킷 간 차이가 작으면 유지)
+		int rebalanceThreshold = config.getRebalanceThreshold();
+		for (Integer itemId : configured) {
+			Integer total = withItemLock(itemId,
+				() -> hotInventoryRepository.attach(itemId, bucketCount, rebalanceThreshold));
+			if (total != null && total < 0) {
+				log.warn("Inventory not found in Redis for hot item {}, skipping", itemId);
+			}
+		}
+
+		refreshRegistry();
+	}
+
+	/**
+	 * 임의의 버킷에서 예약하고, 부족하면 다음 버킷부터 나누어 가져옴
+	 *
+	 * @return 부족 수량 (성공 시 0)
+	 */
+	private int reserveItem(Integer itemId, int quantity) {
+		int bucketCount = hotItemBuckets.getOrDefault(itemId, 1);
+		int bucket = ThreadLocalRandom.current().nextInt(bucketCount);
+
+		if (hotInventoryRepository.take(itemId, bucket, quantity)) {
+			fastReserveCounter.increment();
+			return 0;
+		}
+
+		int shortfall = hotInventoryRepository.takeAcross(itemId, bucketCount, (bucket + 1) % bucketCount, quantity);
+		(shortfall == 0 ? stealReserveCounter : shortfallCounter).increment();
+		return shortfall;
+	}
+
+	/**
+	 * 예약한 수량을 버킷으로 되돌림 (그 사이 핫 아이템에서 해제되었으면 재고 해시의 예약을 취소)
+	 */
+	private void releaseItem(Integer itemId, int quantity) {
+		int bucket = ThreadLocalRandom.current().nextInt(hotItemBuckets.getOrDefault(itemId, 1));
+		if (!hotInventoryRepository.release(itemId, bucket, quantity)) {
+			inventoryRepository.adjust(itemId, 0, -quantity);
+		}
+	}
+
+	private <T> T withItemLock(Integer itemId, Supplier<T> supplier) {
+		return lockManager.executeWithLock(INVENTORY_LOCK_PREFIX + itemId, LOCK_WAIT_TIME, LOCK_LEASE_TIME, supplier);
+	}
+
+	private static Counter reserveCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("inventory.hot.reserve")
+			.description("핫 아이템 예약 처리 결과 (fast: 버킷 하나, steal: 여러 버킷, shortfall: 재고 부족)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
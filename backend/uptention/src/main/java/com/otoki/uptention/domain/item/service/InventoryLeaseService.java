@@ -0,0 +1,30 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문별 재고 예약 임대 서비스
+ * 예약된 재고를 주문 단위로 만료 시각과 함께 기록하여, 결제되지 않은 주문의 재고를 만료 즉시 일괄 해제할 수 있게 한다.
+ * 임대를 회수(claim)한 쪽만 예약을 확정하거나 취소하므로 만료 처리와 결제 처리가 같은 예약을 두 번 해제하지 않는다.
+ */
+public interface InventoryLeaseService {
+
+	// 주문의 재고 예약 임대 등록 (설정된 TTL 이후 만료)
+	void grant(Integer orderId, Map<Integer, Integer> itemQuantities);
+
+	// 임대가 없는 주문에만 지정한 만료 시각으로 임대 등록 - 등록했으면 true
+	boolean grantIfAbsent(Integer orderId, Map<Integer, Integer> itemQuantities, long expiresAt);
+
+	// 임대 회수 - 임대가 있었으면 true (호출자가 예약을 확정하거나 취소해야 함)
+	boolean claim(Integer orderId);
+
+	// 여러 주문의 임대를 한 번에 회수 - 임대가 있던 주문만 상품 수량과 함께 반환
+	Map<Integer, Map<Integer, Integer>> claimAll(List<Integer> orderIds);
+
+	// 만료된 임대를 최대 limit개 꺼냄 (주문 ID별 상품 수량)
+	Map<Integer, Map<Integer, Integer>> popExpired(int limit);
+
+	// 해제에 실패한 임대를 즉시 만료 상태로 되돌림 (다음 주기에 다시 처리)
+	void restore(Map<Integer, Map<Integer, Integer>> leases);
+}
@@ -0,0 +1,125 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.otoki.uptention.global.config.InventoryProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 재고 예약 임대
+ * 만료 시각은 sorted set(score: epoch millis), 상품 목록은 해시("상품ID:수량,...")에 주문 ID로 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryLeaseServiceImpl implements InventoryLeaseService {
+
+	private static final String LEASE_EXPIRY_KEY = "inventory:lease:expiry";
+	private static final String LEASE_ITEMS_KEY = "inventory:lease:items";
+	private static final List<String> LEASE_KEYS = List.of(LEASE_EXPIRY_KEY, LEASE_ITEMS_KEY);
+
+	private static final String ITEM_DELIMITER = ",";
+	private static final String QUANTITY_DELIMITER = ":";
+
+	private static final RedisScript<Long> GRANT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/grant_lease.lua"), Long.class);
+	private static final RedisScript<Long> GRANT_IF_ABSENT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/grant_lease_if_absent.lua"), Long.class);
+	private static final RedisScript<Long> CLAIM_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/claim_lease.lua"), Long.class);
+	private static final RedisScript<List> CLAIM_ALL_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/claim_leases.lua"), List.class);
+	private static final RedisScript<List> POP_EXPIRED_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/inventory/pop_expired_leases.lua"), List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final InventoryProperties inventoryProperties;
+
+	@Override
+	public void grant(Integer orderId, Map<Integer, Integer> itemQuantities) {
+		long expiresAt = System.currentTimeMillis() + inventoryProperties.getReservationLeaseTtl().toMillis();
+		save(orderId, itemQuantities, expiresAt);
+	}
+
+	@Override
+	public boolean grantIfAbsent(Integer orderId, Map<Integer, Integer> itemQuantities, long expiresAt) {
+		Long result = stringRedisTemplate.execute(GRANT_IF_ABSENT_SCRIPT, LEASE_KEYS,
+			String.valueOf(orderId), String.valueOf(expiresAt), encodeItems(itemQuantities));
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public boolean claim(Integer orderId) {
+		Long result = stringRedisTemplate.execute(CLAIM_SCRIPT, LEASE_KEYS, String.valueOf(orderId));
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public Map<Integer, Map<Integer, Integer>> claimAll(List<Integer> orderIds) {
+		if (orderIds.isEmpty()) {
+			return new LinkedHashMap<>();
+		}
+
+		Object[] args = orderIds.stream().map(String::valueOf).toArray();
+		return decodeLeases(stringRedisTemplate.execute(CLAIM_ALL_SCRIPT, LEASE_KEYS, args));
+	}
+
+	@Override
+	public Map<Integer, Map<Integer, Integer>> popExpired(int limit) {
+		return decodeLeases(stringRedisTemplate.execute(POP_EXPIRED_SCRIPT, LEASE_KEYS,
+			String.valueOf(System.currentTimeMillis()), String.valueOf(limit)));
+	}
+
+	@Override
+	public void restore(Map<Integer, Map<Integer, Integer>> leases) {
+		long now = System.currentTimeMillis();
+		leases.forEach((orderId, itemQuantities) -> save(orderId, itemQuantities, now));
+	}
+
+	private void save(Integer orderId, Map<Integer, Integer> itemQuantities, long expiresAt) {
+		stringRedisTemplate.execute(GRANT_SCRIPT, LEASE_KEYS,
+			String.valueOf(orderId), String.valueOf(expiresAt), encodeItems(itemQuantities));
+	}
+
+	/**
+	 * 스크립트 결과({주문ID, 상품 목록, ...})를 주문 ID별 상품 수량으로 변환
+	 */
+	private Map<Integer, Map<Integer, Integer>> decodeLeases(List<?> result) {
+		Map<Integer, Map<Integer, Integer>> leases = new LinkedHashMap<>();
+		if (result == null) {
+			return leases;
+		}
+
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			Integer orderId = Integer.valueOf(result.get(i).toString());
+			leases.put(orderId, decodeItems(result.get(i + 1).toString()));
+		}
+
+		return leases;
+	}
+
+	private String encodeItems(Map<Integer, Integer> itemQuantities) {
+		return itemQuantities.entrySet().stream()
+			.map(entry -> entry.getKey() + QUANTITY_DELIMITER + entry.getValue())
+			.collect(Collectors.joining(ITEM_DELIMITER));
+	}
+
+	private Map<Integer, Integer> decodeItems(String encoded) {
+		Map<Integer, Integer> itemQuantities = new LinkedHashMap<>();
+		for (String item : encoded.split(ITEM_DELIMITER)) {
+			String[] parts = item.split(QUANTITY_DELIMITER);
+			itemQuantities.put(Integer.valueOf(parts[0]), Integer.valueOf(parts[1]));
+		}
+		return itemQuantities;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
 
 /**
  * 재고 관리 서비스 인터페이스
@@ -16,6 +17,9 @@ public interface InventoryService {
 	// 여러 상품 ID와 수량을 받아서 초기화하는 메서드
 	void initializeInventories(Map<Integer, Integer> itemQuantities);
 
+	// Redis에 재고가 없는 상품만 초기화 (기존 예약 유지), 초기화된 상품 수 반환
+	int initializeMissingInventories(Map<Integer, Integer> itemQuantities);
+
 	// 단일 상품 재고 조회
 	InventoryDto getInventory(Integer itemId);
 
@@ -47,5 +51,8 @@ public interface InventoryService {
 
 	boolean reserveInventories(Map<Integer, Integer> itemQuantities);
 
+	// 전체 예약 (전부 성공 또는 전부 실패) - 실패 시 상품별 부족 수량 반환
+	InventoryReservationResult tryReserveInventories(Map<Integer, Integer> itemQuantities);
+
 	boolean cancelReservations(Map<Integer, Integer> itemQuantities);
 }
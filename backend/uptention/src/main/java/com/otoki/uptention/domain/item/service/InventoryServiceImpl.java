@@ -2,19 +2,25 @@ package com.otoki.uptention.domain.item.service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.redisson.RedissonMultiLock;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
 import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
 import com.otoki.uptention.domain.item.repository.ItemRepository;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
@@ -22,25 +28,30 @@ import com.otoki.uptention.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 분산락 기반 재고 관리 서비스 (기본 엔진)
+ * inventory.engine=lock 이거나 설정이 없을 때 활성화된다.
+ */
 @Service
+@ConditionalOnProperty(prefix = "inventory", name = "engine", havingValue = "lock", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class InventoryServiceImpl implements InventoryService {
 
-	private static final String INVENTORY_KEY_PREFIX = "inventory:";
 	private static final String INVENTORY_LOCK_PREFIX = "inventory:lock:";
 	private static final long LOCK_WAIT_TIME = 3; // 초
 	private static final long LOCK_LEASE_TIME = 5; // 초
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final InventoryRepository inventoryRepository;
 	private final RedissonClient redissonClient;
 	private final ItemRepository itemRepository;
+	private final InventoryChangeNotifier inventoryChangeNotifier;
+	private final HotItemInventoryService hotItemInventoryService;
 
 	@Override
 	public void initializeInventory(Integer itemId, Integer quantity) {
 		log.info("Initializing inventory for item {} with quantity {}", itemId, quantity);
 
-		String key = INVENTORY_KEY_PREFIX + itemId;
 		InventoryDto inventoryDto = InventoryDto.builder()
 			.itemId(itemId)
 			.quantity(quantity)
@@ -48,7 +59,8 @@ public class InventoryServiceImpl implements InventoryService {
 			.availableQuantity(quantity)
 			.build();
 
-		redisTemplate.opsForValue().set(key, inventoryDto);
+		inventoryRepository.save(inventoryDto);
+		inventoryChangeNotifier.notifyReloaded(itemId);
 	}
 
 	@Override
@@ -56,16 +68,42 @@ public class InventoryServiceImpl implements InventoryService {
 		log.info("Initializing inventories for {} items", itemQuantities.size());
 
 		for (Map.Entry<Integer, Integer> entry : itemQuantities.entrySet()) {
-			initializeInventory(entry.getKey(), entry.getValue());
+			inventoryRepository.save(InventoryDto.builder()
+				.itemId(entry.getKey())
+				.quantity(entry.getValue())
+				.reservedQuantity(0)
+				.availableQuantity(entry.getValue())
+				.build());
 		}
+
+		// DB 값으로 적재했으므로 DB 반영 대상에서는 제외, 무효화 메시지는 한 번만 발행
+		inventoryChangeNotifier.notifyReloaded(itemQuantities.keySet());
+	}
+
+	@Override
+	public int initializeMissingInventories(Map<Integer, Integer> itemQuantities) {
+		if (itemQuantities == null || itemQuantities.isEmpty()) {
+			return 0;
+		}
+
+		List<InventoryDto> inventories = itemQuantities.entrySet().stream()
+			.map(entry -> InventoryDto.builder()
+				.itemId(entry.getKey())
+				.quantity(entry.getValue())
+				.reservedQuantity(0)
+				.availableQuantity(entry.getValue())
+				.build())
+			.collect(Collectors.toList());
+
+		// 새로 적재된 상품은 캐시된 적이 없으므로 무효화하지 않음
+		return inventoryRepository.saveAllIfAbsent(inventories);
 	}
 
 	@Override
 	public InventoryDto getInventory(Integer itemId) {
-		String key = INVENTORY_KEY_PREFIX + itemId;
-		Object result = redisTemplate.opsForValue().get(key);
+		Optional<InventoryDto> result = inventoryRepository.findById(itemId);
 
-		if (result == null) {
+		if (result.isEmpty()) {
 			log.warn("Inventory not found in Redis for item {}, attempting to initialize from database", itemId);
 			try {
 				// 대신 아이템 서비스를 통해 DB에서 정보를 가져와 초기화 시도
@@ -73,9 +111,9 @@ public class InventoryServiceImpl implements InventoryService {
 				initializeInventory(itemId, item.getQuantity());
 
 				// 다시 조회
-				result = redisTemplate.opsForValue().get(key);
+				result = inventoryRepository.findById(itemId);
 
-				if (result == null) {
+				if (result.isEmpty()) {
 					log.error("Failed to initialize and retrieve inventory for item {}", itemId);
 					throw new CustomException(ErrorCode.INVENTORY_SYNC_FAILED);
 				}
@@ -92,7 +130,9 @@ public class InventoryServiceImpl implements InventoryService {
 			}
 		}
 
-		return (InventoryDto)result;
+		InventoryDto inventory = result.get();
+		hotItemInventoryService.applyBuckets(inventory);
+		return inventory;
 	}
 
 	@Override
@@ -102,30 +142,25 @@ public class InventoryServiceImpl implements InventoryService {
 		}
 
 		Map<Integer, InventoryDto> result = new HashMap<>();
-		List<String> redisKeys = itemIds.stream()
-			.map(id -> INVENTORY_KEY_PREFIX + id)
-			.toList();
 
 		try {
-			// 한 번의 Redis 호출로 모든 아이템 조회 시도
-			List<Object> multiGetResults = redisTemplate.opsForValue().multiGet(redisKeys);
-
-			if (multiGetResults != null) {
-				for (int i = 0; i < itemIds.size(); i++) {
-					Integer itemId = itemIds.get(i);
-					Object value = multiGetResults.get(i);
-
-					if (value != null) {
-						result.put(itemId, (InventoryDto)value);
-					} else {
-						// Redis에 없는 아이템은 개별적으로 초기화 시도
-						try {
-							InventoryDto inventory = getInventory(itemId);
-							result.put(itemId, inventory);
-						} catch (Exception e) {
-							log.error("Failed to initialize inventory for item {}: {}", itemId, e.getMessage());
-							// 이 아이템은 결과에서 제외됨 (null이 아닌 아이템만 포함)
-						}
+			// 한 번의 파이프라인으로 모든 아이템 조회 시도
+			Map<Integer, InventoryDto> found = inventoryRepository.findAllByIds(itemIds);
+			hotItemInventoryService.applyBuckets(found);
+
+			for (Integer itemId : itemIds) {
+				InventoryDto value = found.get(itemId);
+
+				if (value != null) {
+					result.put(itemId, value);
+				} else {
+					// Redis에 없는 아이템은 개별적으로 초기화 시도
+					try {
+						InventoryDto inventory = getInventory(itemId);
+						result.put(itemId, inventory);
+					} catch (Exception e) {
+						log.error("Failed to initialize inventory for item {}: {}", itemId, e.getMessage());
+						// 이 아이템은 결과에서 제외됨 (null이 아닌 아이템만 포함)
 					}
 				}
 			}
@@ -156,6 +191,10 @@ public class InventoryServiceImpl implements InventoryService {
 
 	@Override
 	public boolean reserveInventory(Integer itemId, Integer quantity) {
+		if (hotItemInventoryService.isHot(itemId)) {
+			return hotItemInventoryService.reserve(Map.of(itemId, quantity)).isEmpty();
+		}
+
 		String lockKey = INVENTORY_LOCK_PREFIX + itemId;
 		RLock lock = redissonClient.getLock(lockKey);
 
@@ -181,8 +220,8 @@ public class InventoryServiceImpl implements InventoryService {
 			inventory.setReservedQuantity(inventory.getReservedQuantity() + quantity);
 			inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-			String key = INVENTORY_KEY_PREFIX + itemId;
-			redisTemplate.opsForValue().set(key, inventory);
+			inventoryRepository.adjust(itemId, 0, quantity);
+			inventoryChangeNotifier.notifyChanged(itemId);
 
 			log.info("Reserved inventory for item {}: quantity={}, available={}, reserved={}",
 				itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
@@ -227,8 +266,8 @@ public class InventoryServiceImpl implements InventoryService {
 			inventory.setReservedQuantity(inventory.getReservedQuantity() - quantity);
 			inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-			String key = INVENTORY_KEY_PREFIX + itemId;
-			redisTemplate.opsForValue().set(key, inventory);
+			inventoryRepository.adjust(itemId, -quantity, -quantity);
+			inventoryChangeNotifier.notifyChanged(itemId);
 
 			log.info("Confirmed inventory for item {}: quantity={}, available={}, reserved={}",
 				itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
@@ -248,6 +287,10 @@ public class InventoryServiceImpl implements InventoryService {
 	// 개별 예약 취소 - 개별 락
 	@Override
 	public boolean cancelReservation(Integer itemId, Integer quantity) {
+		if (!hotItemInventoryService.releaseHotItems(Map.of(itemId, quantity)).isEmpty()) {
+			return true;
+		}
+
 		String lockKey = INVENTORY_LOCK_PREFIX + itemId;
 		RLock lock = redissonClient.getLock(lockKey);
 
@@ -261,12 +304,13 @@ public class InventoryServiceImpl implements InventoryService {
 
 			InventoryDto inventory = getInventory(itemId);
 
-			// 예약된 재고 취소
-			inventory.setReservedQuantity(Math.max(0, inventory.getReservedQuantity() - quantity));
+			// 예약된 재고 취소 (예약 수량 이상은 되돌리지 않음)
+			int released = Math.min(quantity, inventory.getReservedQuantity());
+			inventory.setReservedQuantity(inventory.getReservedQuantity() - released);
 			inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-			String key = INVENTORY_KEY_PREFIX + itemId;
-			redisTemplate.opsForValue().set(key, inventory);
+			inventoryRepository.adjust(itemId, 0, -released);
+			inventoryChangeNotifier.notifyChanged(itemId);
 
 			log.info("Canceled reservation for item {}: quantity={}, available={}, reserved={}",
 				itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
@@ -285,6 +329,8 @@ public class InventoryServiceImpl implements InventoryService {
 
 	@Override
 	public void updateInventory(Integer itemId, Integer newQuantity) {
+		validateNotHotItem(itemId);
+
 		String lockKey = INVENTORY_LOCK_PREFIX + itemId;
 		RLock lock = redissonClient.getLock(lockKey);
 
@@ -306,6 +352,7 @@ public class InventoryServiceImpl implements InventoryService {
 			// 기존 예약 수량 유지하고 전체 수량 재계산
 			Integer reservedQuantity = inventory.getReservedQuantity();
 			Integer newTotalQuantity = newQuantity + reservedQuantity;
+			int quantityDelta = newTotalQuantity - inventory.getQuantity();
 
 			// 재고 업데이트
 			inventory.setQuantity(newTotalQuantity);
@@ -317,8 +364,8 @@ public class InventoryServiceImpl implements InventoryService {
 					inventory.getAvailableQuantity(), newQuantity);
 			}
 
-			String key = INVENTORY_KEY_PREFIX + itemId;
-			redisTemplate.opsForValue().set(key, inventory);
+			inventoryRepository.adjust(itemId, quantityDelta, 0);
+			inventoryChangeNotifier.notifyChanged(itemId);
 
 			log.info("Updated inventory for item {}: quantity={}, available={}, reserved={}",
 				itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
@@ -335,6 +382,8 @@ public class InventoryServiceImpl implements InventoryService {
 
 	@Override
 	public void increaseInventory(Integer itemId, Integer quantity) {
+		validateNotHotItem(itemId);
+
 		String lockKey = INVENTORY_LOCK_PREFIX + itemId;
 		RLock lock = redissonClient.getLock(lockKey);
 
@@ -350,8 +399,8 @@ public class InventoryServiceImpl implements InventoryService {
 			inventory.setQuantity(inventory.getQuantity() + quantity);
 			inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-			String key = INVENTORY_KEY_PREFIX + itemId;
-			redisTemplate.opsForValue().set(key, inventory);
+			inventoryRepository.adjust(itemId, quantity, 0);
+			inventoryChangeNotifier.notifyChanged(itemId);
 
 			log.info("Increased inventory for item {}: quantity={}, available={}, reserved={}",
 				itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
@@ -368,6 +417,8 @@ public class InventoryServiceImpl implements InventoryService {
 
 	@Override
 	public void decreaseInventory(Integer itemId, Integer quantity) {
+		validateNotHotItem(itemId);
+
 		String lockKey = INVENTORY_LOCK_PREFIX + itemId;
 		RLock lock = redissonClient.getLock(lockKey);
 
@@ -388,8 +439,8 @@ public class InventoryServiceImpl implements InventoryService {
 			inventory.setQuantity(inventory.getQuantity() - quantity);
 			inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-			String key = INVENTORY_KEY_PREFIX + itemId;
-			redisTemplate.opsForValue().set(key, inventory);
+			inventoryRepository.adjust(itemId, -quantity, 0);
+			inventoryChangeNotifier.notifyChanged(itemId);
 
 			log.info("Decreased inventory for item {}: quantity={}, available={}, reserved={}",
 				itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
@@ -467,13 +518,14 @@ public class InventoryServiceImpl implements InventoryService {
 				inventory.setReservedQuantity(inventory.getReservedQuantity() - quantity);
 				inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-				String key = INVENTORY_KEY_PREFIX + itemId;
-				redisTemplate.opsForValue().set(key, inventory);
+				inventoryRepository.adjust(itemId, -quantity, -quantity);
 
 				log.info("Confirmed inventory for item {}: quantity={}, available={}, reserved={}",
 					itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
 			}
 
+			inventoryChangeNotifier.notifyChanged(itemQuantities.keySet());
+
 			return true;
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
@@ -493,8 +545,19 @@ public class InventoryServiceImpl implements InventoryService {
 	// 전체 예약 - Multi Lock
 	@Override
 	public boolean reserveInventories(Map<Integer, Integer> itemQuantities) {
+		return tryReserveInventories(itemQuantities).isReserved();
+	}
+
+	// 전체 예약 - Multi Lock, 실패 시 상품별 부족 수량 반환
+	@Override
+	public InventoryReservationResult tryReserveInventories(Map<Integer, Integer> itemQuantities) {
 		if (itemQuantities == null || itemQuantities.isEmpty()) {
-			return true;
+			return InventoryReservationResult.success();
+		}
+
+		Map<Integer, Integer> hotQuantities = hotItemInventoryService.filterHotItems(itemQuantities);
+		if (!hotQuantities.isEmpty()) {
+			return reserveWithHotItems(itemQuantities, hotQuantities);
 		}
 
 		log.info("Starting batch reservation with MultiLock for {} items", itemQuantities.size());
@@ -518,13 +581,14 @@ public class InventoryServiceImpl implements InventoryService {
 
 			if (!isLocked) {
 				log.error("Failed to acquire MultiLock for items: {}", itemQuantities.keySet());
-				return false;
+				return InventoryReservationResult.failure(Map.of());
 			}
 
 			// 모든 아이템 재고 조회
 			Map<Integer, InventoryDto> inventories = getInventories(new ArrayList<>(itemQuantities.keySet()));
 
-			// 재고 가능 여부 사전 검증
+			// 재고 가능 여부 사전 검증 (부족한 상품은 모두 수집)
+			Map<Integer, Integer> shortfalls = new HashMap<>();
 			for (Map.Entry<Integer, Integer> entry : itemQuantities.entrySet()) {
 				Integer itemId = entry.getKey();
 				Integer quantity = entry.getValue();
@@ -532,16 +596,21 @@ public class InventoryServiceImpl implements InventoryService {
 
 				if (inventory == null) {
 					log.error("Inventory not found for item {}", itemId);
-					return false;
+					shortfalls.put(itemId, quantity);
+					continue;
 				}
 
 				if (inventory.getAvailableQuantity() < quantity) {
 					log.error("Insufficient stock for item {}: required={}, available={}",
 						itemId, quantity, inventory.getAvailableQuantity());
-					return false;
+					shortfalls.put(itemId, quantity - inventory.getAvailableQuantity());
 				}
 			}
 
+			if (!shortfalls.isEmpty()) {
+				return InventoryReservationResult.failure(shortfalls);
+			}
+
 			// 모든 상품 재고 예약 처리
 			for (Map.Entry<Integer, Integer> entry : itemQuantities.entrySet()) {
 				Integer itemId = entry.getKey();
@@ -552,21 +621,22 @@ public class InventoryServiceImpl implements InventoryService {
 				inventory.setReservedQuantity(inventory.getReservedQuantity() + quantity);
 				inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-				String key = INVENTORY_KEY_PREFIX + itemId;
-				redisTemplate.opsForValue().set(key, inventory);
+				inventoryRepository.adjust(itemId, 0, quantity);
 
 				log.info("Reserved inventory for item {}: quantity={}, available={}, reserved={}",
 					itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
 			}
 
-			return true;
+			inventoryChangeNotifier.notifyChanged(itemQuantities.keySet());
+
+			return InventoryReservationResult.success();
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 			log.error("MultiLock acquisition interrupted", e);
-			return false;
+			return InventoryReservationResult.failure(Map.of());
 		} catch (Exception e) {
 			log.error("Error during batch reservation with MultiLock", e);
-			return false;
+			return InventoryReservationResult.failure(Map.of());
 		} finally {
 			// 락 해제 (획득한 경우에만)
 			if (isLocked) {
@@ -582,6 +652,12 @@ public class InventoryServiceImpl implements InventoryService {
 			return true;
 		}
 
+		// 핫 아이템은 버킷으로 반환하고 나머지 상품만 기존 방식으로 취소
+		Map<Integer, Integer> released = hotItemInventoryService.releaseHotItems(itemQuantities);
+		if (!released.isEmpty()) {
+			return cancelReservations(excluding(itemQuantities, released.keySet()));
+		}
+
 		log.info("Starting batch reservation cancellation with MultiLock for {} items", itemQuantities.size());
 
 		// MultiLock 생성
@@ -620,17 +696,19 @@ public class InventoryServiceImpl implements InventoryService {
 					continue; // 취소는 최대한 진행
 				}
 
-				// 예약된 재고 취소
-				inventory.setReservedQuantity(Math.max(0, inventory.getReservedQuantity() - quantity));
+				// 예약된 재고 취소 (예약 수량 이상은 되돌리지 않음)
+				int released = Math.min(quantity, inventory.getReservedQuantity());
+				inventory.setReservedQuantity(inventory.getReservedQuantity() - released);
 				inventory.setAvailableQuantity(inventory.getQuantity() - inventory.getReservedQuantity());
 
-				String key = INVENTORY_KEY_PREFIX + itemId;
-				redisTemplate.opsForValue().set(key, inventory);
+				inventoryRepository.adjust(itemId, 0, -released);
 
 				log.info("Canceled reservation for item {}: quantity={}, available={}, reserved={}",
 					itemId, inventory.getQuantity(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
 			}
 
+			inventoryChangeNotifier.notifyChanged(itemQuantities.keySet());
+
 			return true;
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
@@ -658,6 +736,37 @@ public class InventoryServiceImpl implements InventoryService {
 		}
 	}
 
+	/**
+	 * 핫 아이템은 버킷에서 먼저 예약하고 나머지 상품만 기존 방식으로 예약
+	 * 나머지 상품 예약에 실패하면 핫 아이템 예약을 되돌린다.
+	 */
+	private InventoryReservationResult reserveWithHotItems(Map<Integer, Integer> itemQuantities,
+		Map<Integer, Integer> hotQuantities) {
+		Map<Integer, Integer> hotShortfalls = hotItemInventoryService.reserve(hotQuantities);
+		if (!hotShortfalls.isEmpty()) {
+			return InventoryReservationResult.failure(hotShortfalls);
+		}
+
+		InventoryReservationResult result = tryReserveInventories(excluding(itemQuantities, hotQuantities.keySet()));
+		if (!result.isReserved()) {
+			cancelReservations(hotQuantities);
+		}
+		return result;
+	}
+
+	private Map<Integer, Integer> excluding(Map<Integer, Integer> itemQuantities, Set<Integer> itemIds) {
+		Map<Integer, Integer> remaining = new LinkedHashMap<>(itemQuantities);
+		remaining.keySet().removeAll(itemIds);
+		return remaining;
+	}
+
+	// 핫 아이템은 버킷으로 예약하므로 재고 해시를 직접 변경하면 버킷 재고와 어긋남
+	private void validateNotHotItem(Integer itemId) {
+		if (hotItemInventoryService.isHot(itemId)) {
+			throw new CustomException(ErrorCode.INVENTORY_HOT_ITEM_UPDATE_NOT_ALLOWED);
+		}
+	}
+
 	private Item getItemById(Integer id) {
 		// 먼저 ID만으로 조회 (status 상관없이)
 		Item item = itemRepository.findById(id)
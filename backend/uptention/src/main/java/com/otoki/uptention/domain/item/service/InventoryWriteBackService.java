@@ -0,0 +1,16 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.Collection;
+
+/**
+ * Redis 재고를 DB에 반영하는 서비스
+ * 재고가 변경된 상품만 모아 일괄 반영하므로 비용이 전체 상품 수가 아닌 변경된 상품 수에 비례한다.
+ */
+public interface InventoryWriteBackService {
+
+	// 변경된 상품의 재고를 DB에 반영하고 반영한 상품 수를 반환
+	int flushChangedInventories();
+
+	// 상품을 DB 반영 대상으로 기록 (이미 기록된 상품은 최초 변경 시각 유지)
+	void markChanged(Collection<Integer> itemIds);
+}
@@ -0,0 +1,152 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.repository.ItemJdbcRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경 목록(sorted set) 기반 재고 DB 반영
+ * ZPOPMIN으로 가장 오래된 변경부터 꺼낸 뒤 Redis 값을 조회하므로, 꺼낸 이후의 변경은 다시 목록에 기록되어 다음 반영 때 처리된다.
+ * DB 반영에 실패하면 꺼낸 상품을 최초 변경 시각 그대로 목록에 되돌린다.
+ */
+@Slf4j
+@Service
+public class InventoryWriteBackServiceImpl implements InventoryWriteBackService {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final InventoryRepository inventoryRepository;
+	private final ItemJdbcRepository itemJdbcRepository;
+
+	private final Timer flushTimer;
+	private final Counter flushedItemCounter;
+	private final AtomicLong pendingItems = new AtomicLong();
+	private final AtomicLong lagMillis = new AtomicLong();
+
+	public InventoryWriteBackServiceImpl(StringRedisTemplate stringRedisTemplate,
+		InventoryRepository inventoryRepository, ItemJdbcRepository itemJdbcRepository, MeterRegistry meterRegistry) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.inventoryRepository = inventoryRepository;
+		this.itemJdbcRepository = itemJdbcRepository;
+
+		this.flushTimer = Timer.builder("inventory.writeback.flush")
+			.description("변경된 재고를 DB에 반영하는 데 걸린 시간")
+			.register(meterRegistry);
+		this.flushedItemCounter = Counter.builder("inventory.writeback.items")
+			.description("DB에 반영된 상품 수")
+			.register(meterRegistry);
+		Gauge.builder("inventory.writeback.pending", pendingItems, AtomicLong::get)
+			.description("DB 반영을 기다리는 상품 수")
+			.register(meterRegistry);
+		Gauge.builder("inventory.writeback.lag", lagMillis, value -> value.get() / 1000.0)
+			.description("반영 직전 가장 오래된 미반영 변경의 경과 시간")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public int flushChangedInventories() {
+		lagMillis.set(measureLag());
+
+		Timer.Sample sample = Timer.start();
+		int flushed = drainChangedItems();
+		sample.stop(flushTimer);
+
+		Long remaining = zSetOperations().zCard(InventoryRepository.CHANGED_ITEMS_KEY);
+		pendingItems.set(remaining == null ? 0 : remaining);
+		flushedItemCounter.increment(flushed);
+
+		return flushed;
+	}
+
+	@Override
+	public void markChanged(Collection<Integer> itemIds) {
+		if (itemIds == null || itemIds.isEmpty()) {
+			return;
+		}
+
+		double changedAt = System.currentTimeMillis();
+		for (int from = 0; from < itemIds.size(); from += BATCH_SIZE) {
+			Set<TypedTuple<String>> tuples = itemIds.stream()
+				.skip(from)
+				.limit(BATCH_SIZE)
+				.map(itemId -> (TypedTuple<String>)new DefaultTypedTuple<>(String.valueOf(itemId), changedAt))
+				.collect(Collectors.toSet());
+			zSetOperations().addIfAbsent(InventoryRepository.CHANGED_ITEMS_KEY, tuples);
+		}
+	}
+
+	/**
+	 * 변경 목록이 빌 때까지 BATCH_SIZE 단위로 꺼내 DB에 반영
+	 */
+	private int drainChangedItems() {
+		int flushed = 0;
+
+		while (true) {
+			Set<TypedTuple<String>> popped = zSetOperations().popMin(InventoryRepository.CHANGED_ITEMS_KEY, BATCH_SIZE);
+			if (popped == null || popped.isEmpty()) {
+				break;
+			}
+
+			List<Integer> itemIds = popped.stream()
+				.map(tuple -> Integer.valueOf(tuple.getValue()))
+				.collect(Collectors.toList());
+
+			try {
+				Map<Integer, InventoryDto> inventories = inventoryRepository.findAllByIds(itemIds);
+
+				Map<Integer, Integer> quantities = new HashMap<>();
+				inventories.forEach((itemId, inventory) -> quantities.put(itemId, inventory.getQuantity()));
+
+				itemJdbcRepository.updateQuantities(quantities);
+				flushed += quantities.size();
+			} catch (Exception e) {
+				log.error("Failed to write back inventories for items {}, restoring to change set", itemIds, e);
+				zSetOperations().add(InventoryRepository.CHANGED_ITEMS_KEY, popped);
+				break;
+			}
+
+			if (popped.size() < BATCH_SIZE) {
+				break;
+			}
+		}
+
+		return flushed;
+	}
+
+	// 가장 오래된 미반영 변경의 경과 시간 (없으면 0)
+	private long measureLag() {
+		Set<TypedTuple<String>> oldest = zSetOperations().rangeWithScores(InventoryRepository.CHANGED_ITEMS_KEY, 0, 0);
+		if (oldest == null || oldest.isEmpty()) {
+			return 0;
+		}
+
+		Double changedAt = oldest.iterator().next().getScore();
+		return changedAt == null ? 0 : Math.max(0, System.currentTimeMillis() - changedAt.longValue());
+	}
+
+	private ZSetOperations<String, String> zSetOperations() {
+		return stringRedisTemplate.opsForZSet();
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.otoki.uptention.domain.common.CursorDto;
 import com.otoki.uptention.domain.item.dto.ItemDto;
+import com.otoki.uptention.domain.item.dto.ItemQuantityDto;
 import com.otoki.uptention.domain.item.entity.Item;
 import com.otoki.uptention.domain.item.enums.SortType;
 
@@ -17,5 +18,15 @@ public interface ItemService {
 
 	List<ItemDto> getItemsByIds(List<Integer> itemIds);
 
-	List<Item> getAllItems();
+	// 활성 상품만 이미지와 함께 조회 (없거나 비활성화된 상품은 제외)
+	List<Item> getActiveItemsWithImagesByIds(List<Integer> itemIds);
+
+	List<Integer> getActiveItemIds();
+
+	List<ItemQuantityDto> getActiveItemQuantitiesAfter(Integer lastItemId, int size);
+
+	Integer getMaxItemId();
+
+	// ID 범위 (fromId, toId] 의 비어 있는 썸네일 채우기, 갱신된 상품 수 반환
+	int backfillThumbnails(Integer fromId, Integer toId);
 }
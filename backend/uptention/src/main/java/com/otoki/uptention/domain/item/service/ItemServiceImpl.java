@@ -4,9 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.otoki.uptention.domain.common.CursorDto;
 import com.otoki.uptention.domain.item.dto.ItemDto;
+import com.otoki.uptention.domain.item.dto.ItemQuantityDto;
 import com.otoki.uptention.domain.item.entity.Item;
 import com.otoki.uptention.domain.item.enums.SortType;
 import com.otoki.uptention.domain.item.repository.ItemRepository;
@@ -46,6 +48,18 @@ public class ItemServiceImpl implements ItemService {
 		return itemRepository.findItemsByCursor(categoryId, keyword, cursor, sortType, size);
 	}
 
+	/**
+	 * 여러 상품 ID로 활성 상품과 이미지 조회
+	 */
+	@Override
+	public List<Item> getActiveItemsWithImagesByIds(List<Integer> itemIds) {
+		if (itemIds == null || itemIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return itemRepository.findActiveByIdsWithImages(itemIds);
+	}
+
 	/**
 	 * 여러 상품 ID로 상품 목록 조회
 	 */
@@ -64,7 +78,23 @@ public class ItemServiceImpl implements ItemService {
 	 * 활성 상태(status=true)인 상품만 조회
 	 */
 	@Override
-	public List<Item> getAllItems() {
-		return itemRepository.findByStatusTrue();
+	public List<Integer> getActiveItemIds() {
+		return itemRepository.findActiveIds();
+	}
+
+	@Override
+	public List<ItemQuantityDto> getActiveItemQuantitiesAfter(Integer lastItemId, int size) {
+		return itemRepository.findActiveItemQuantitiesAfter(lastItemId, size);
+	}
+
+	@Override
+	public Integer getMaxItemId() {
+		return itemRepository.findMaxId();
+	}
+
+	@Override
+	@Transactional
+	public int backfillThumbnails(Integer fromId, Integer toId) {
+		return itemRepository.backfillThumbnails(fromId, toId);
 	}
 }
@@ -0,0 +1,506 @@
+package com.otoki.uptention.domain.item.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
+import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.repository.ItemRepository;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lua 스크립트 기반 재고 관리 서비스
+ * InventoryRepository의 상품별 Redis 해시(quantity, reserved, available)를 서버 측 스크립트로 원자적으로 변경하므로
+ * 분산락 없이 한 번의 왕복으로 예약/확정/취소를 처리한다.
+ * 여러 상품(장바구니) 예약/확정/취소도 다중 키 스크립트 한 번으로 전부 성공 또는 전부 실패 처리한다.
+ * inventory.engine=script 설정 시 활성화된다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "inventory", name = "engine", havingValue = "script")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisScriptInventoryServiceImpl implements InventoryService {
+
+	// 스크립트 반환값
+	private static final long RESULT_SUCCESS = 1L;
+	private static final long RESULT_SHORTFALL = 0L;
+	private static final long RESULT_NOT_FOUND = -1L;
+
+	private static final RedisScript<Long> RESERVE_SCRIPT = loadScript("reserve");
+	private static final RedisScript<Long> CONFIRM_SCRIPT = loadScript("confirm");
+	private static final RedisScript<Long> CANCEL_SCRIPT = loadScript("cancel");
+	private static final RedisScript<Long> UPDATE_SCRIPT = loadScript("update");
+	private static final RedisScript<Long> INCREASE_SCRIPT = loadScript("increase");
+	private static final RedisScript<Long> DECREASE_SCRIPT = loadScript("decrease");
+
+	// 다중 상품 스크립트 (KEYS[i]와 ARGV[i]가 한 쌍)
+	private static final RedisScript<List> RESERVE_ALL_SCRIPT = loadMultiScript("reserve_all");
+	private static final RedisScript<List> CONFIRM_ALL_SCRIPT = loadMultiScript("confirm_all");
+	private static final RedisScript<List> CANCEL_ALL_SCRIPT = loadMultiScript("cancel_all");
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final InventoryRepository inventoryRepository;
+	private final ItemRepository itemRepository;
+	private final InventoryChangeNotifier inventoryChangeNotifier;
+	private final HotItemInventoryService hotItemInventoryService;
+
+	@Override
+	public void initializeInventory(Integer itemId, Integer quantity) {
+		log.info("Initializing inventory for item {} with quantity {}", itemId, quantity);
+
+		inventoryRepository.save(InventoryDto.builder()
+			.itemId(itemId)
+			.quantity(quantity)
+			.reservedQuantity(0)
+			.availableQuantity(quantity)
+			.build());
+		inventoryChangeNotifier.notifyReloaded(itemId);
+	}
+
+	@Override
+	public void initializeInventories(Map<Integer, Integer> itemQuantities) {
+		log.info("Initializing inventories for {} items", itemQuantities.size());
+
+		for (Map.Entry<Integer, Integer> entry : itemQuantities.entrySet()) {
+			inventoryRepository.save(InventoryDto.builder()
+				.itemId(entry.getKey())
+				.quantity(entry.getValue())
+				.reservedQuantity(0)
+				.availableQuantity(entry.getValue())
+				.build());
+		}
+
+		// DB 값으로 적재했으므로 DB 반영 대상에서는 제외, 무효화 메시지는 한 번만 발행
+		inventoryChangeNotifier.notifyReloaded(itemQuantities.keySet());
+	}
+
+	@Override
+	public int initializeMissingInventories(Map<Integer, Integer> itemQuantities) {
+		if (itemQuantities == null || itemQuantities.isEmpty()) {
+			return 0;
+		}
+
+		List<InventoryDto> inventories = itemQuantities.entrySet().stream()
+			.map(entry -> InventoryDto.builder()
+				.itemId(entry.getKey())
+				.quantity(entry.getValue())
+				.reservedQuantity(0)
+				.availableQuantity(entry.getValue())
+				.build())
+			.collect(Collectors.toList());
+
+		// 새로 적재된 상품은 캐시된 적이 없으므로 무효화하지 않음
+		return inventoryRepository.saveAllIfAbsent(inventories);
+	}
+
+	@Override
+	public InventoryDto getInventory(Integer itemId) {
+		InventoryDto inventory = inventoryRepository.findById(itemId)
+			.orElseGet(() -> {
+				log.warn("Inventory not found in Redis for item {}, attempting to initialize from database", itemId);
+				loadFromDatabase(itemId);
+
+				return inventoryRepository.findById(itemId)
+					.orElseThrow(() -> {
+						log.error("Failed to initialize and retrieve inventory for item {}", itemId);
+						return new CustomException(ErrorCode.INVENTORY_SYNC_FAILED);
+					});
+			});
+
+		hotItemInventoryService.applyBuckets(inventory);
+		return inventory;
+	}
+
+	@Override
+	public Map<Integer, InventoryDto> getInventories(List<Integer> itemIds) {
+		if (itemIds == null || itemIds.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		Map<Integer, InventoryDto> result = new HashMap<>();
+
+		try {
+			// 파이프라인으로 모든 아이템의 해시를 한 번에 조회
+			Map<Integer, InventoryDto> found = inventoryRepository.findAllByIds(itemIds);
+			hotItemInventoryService.applyBuckets(found);
+
+			for (Integer itemId : itemIds) {
+				InventoryDto inventory = found.get(itemId);
+
+				if (inventory != null) {
+					result.put(itemId, inventory);
+					continue;
+				}
+
+				// Redis에 없는 아이템은 개별적으로 초기화 시도
+				try {
+					result.put(itemId, getInventory(itemId));
+				} catch (Exception e) {
+					log.error("Failed to initialize inventory for item {}: {}", itemId, e.getMessage());
+				}
+			}
+		} catch (Exception e) {
+			log.error("Error performing pipelined inventory lookup on Redis: {}", e.getMessage());
+			// 파이프라인 조회 실패 시 개별 조회로 폴백
+			for (Integer itemId : itemIds) {
+				try {
+					result.put(itemId, getInventory(itemId));
+				} catch (Exception ex) {
+					log.error("Error getting inventory for item {}", itemId, ex);
+				}
+			}
+		}
+
+		if (result.size() < itemIds.size()) {
+			List<Integer> missingItems = itemIds.stream()
+				.filter(id -> !result.containsKey(id))
+				.collect(Collectors.toList());
+			log.warn("Could not retrieve inventory for {} items: {}", missingItems.size(), missingItems);
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean reserveInventory(Integer itemId, Integer quantity) {
+		if (hotItemInventoryService.isHot(itemId)) {
+			return hotItemInventoryService.reserve(Map.of(itemId, quantity)).isEmpty();
+		}
+
+		long result = executeOnItem(RESERVE_SCRIPT, itemId, quantity);
+
+		if (result != RESULT_SUCCESS) {
+			log.warn("Insufficient stock for item {}: required={}", itemId, quantity);
+			return false;
+		}
+
+		inventoryChangeNotifier.notifyChanged(itemId);
+		log.info("Reserved inventory for item {}: reserved={}", itemId, quantity);
+		return true;
+	}
+
+	@Override
+	public boolean confirmInventory(Integer itemId, Integer quantity) {
+		long result = executeOnItem(CONFIRM_SCRIPT, itemId, quantity);
+
+		if (result != RESULT_SUCCESS) {
+			log.warn("Reserved quantity is less than requested: item={}, requested={}", itemId, quantity);
+			return false;
+		}
+
+		inventoryChangeNotifier.notifyChanged(itemId);
+		log.info("Confirmed inventory for item {}: confirmed={}", itemId, quantity);
+		return true;
+	}
+
+	@Override
+	public boolean cancelReservation(Integer itemId, Integer quantity) {
+		if (!hotItemInventoryService.releaseHotItems(Map.of(itemId, quantity)).isEmpty()) {
+			return true;
+		}
+
+		long result = executeOnItem(CANCEL_SCRIPT, itemId, quantity);
+
+		if (result != RESULT_SUCCESS) {
+			log.warn("Inventory not found for item {} during cancellation", itemId);
+			return false;
+		}
+
+		inventoryChangeNotifier.notifyChanged(itemId);
+		log.info("Canceled reservation for item {}: canceled={}", itemId, quantity);
+		return true;
+	}
+
+	@Override
+	public void updateInventory(Integer itemId, Integer newQuantity) {
+		validateNotHotItem(itemId);
+
+		if (newQuantity < 0) {
+			throw new CustomException(ErrorCode.INVENTORY_INVALID_QUANTITY);
+		}
+
+		if (executeOnItem(UPDATE_SCRIPT, itemId, newQuantity) != RESULT_SUCCESS) {
+			throw new CustomException(ErrorCode.INVENTORY_UPDATE_FAILED);
+		}
+
+		inventoryChangeNotifier.notifyChanged(itemId);
+		log.info("Updated inventory for item {}: available={}", itemId, newQuantity);
+	}
+
+	@Override
+	public void increaseInventory(Integer itemId, Integer quantity) {
+		validateNotHotItem(itemId);
+
+		if (executeOnItem(INCREASE_SCRIPT, itemId, quantity) != RESULT_SUCCESS) {
+			throw new CustomException(ErrorCode.INVENTORY_UPDATE_FAILED);
+		}
+
+		inventoryChangeNotifier.notifyChanged(itemId);
+		log.info("Increased inventory for item {}: increased={}", itemId, quantity);
+	}
+
+	@Override
+	public void decreaseInventory(Integer itemId, Integer quantity) {
+		validateNotHotItem(itemId);
+
+		if (executeOnItem(DECREASE_SCRIPT, itemId, quantity) != RESULT_SUCCESS) {
+			throw new CustomException(ErrorCode.ITEM_INSUFFICIENT_STOCK);
+		}
+
+		inventoryChangeNotifier.notifyChanged(itemId);
+		log.info("Decreased inventory for item {}: decreased={}", itemId, quantity);
+	}
+
+	@Override
+	public boolean hasStock(Integer itemId, Integer quantity) {
+		try {
+			InventoryDto inventory = getInventory(itemId);
+			return inventory.getAvailableQuantity() >= quantity;
+		} catch (Exception e) {
+			log.error("Error checking stock for item {}", itemId, e);
+			return false;
+		}
+	}
+
+	// 전체 예약 확정 - 다중 키 스크립트 한 번으로 처리 (전부 성공 또는 전부 실패)
+	@Override
+	public boolean confirmInventories(Map<Integer, Integer> itemQuantities) {
+		if (itemQuantities == null || itemQuantities.isEmpty()) {
+			return true;
+		}
+
+		log.info("Starting atomic batch confirmation for {} items", itemQuantities.size());
+
+		try {
+			Map<Integer, Integer> shortfalls = executeOnItems(CONFIRM_ALL_SCRIPT, itemQuantities);
+
+			if (!shortfalls.isEmpty()) {
+				log.error("Reserved quantity is less than requested for items: {}", shortfalls);
+				return false;
+			}
+
+			inventoryChangeNotifier.notifyChanged(itemQuantities.keySet());
+			log.info("Confirmed inventories for items: {}", itemQuantities);
+			return true;
+		} catch (Exception e) {
+			log.error("Error during atomic batch confirmation", e);
+			return false;
+		}
+	}
+
+	// 전체 예약 - 다중 키 스크립트 한 번으로 처리
+	@Override
+	public boolean reserveInventories(Map<Integer, Integer> itemQuantities) {
+		return tryReserveInventories(itemQuantities).isReserved();
+	}
+
+	// 전체 예약 - 다중 키 스크립트 한 번으로 처리, 실패 시 상품별 부족 수량 반환
+	@Override
+	public InventoryReservationResult tryReserveInventories(Map<Integer, Integer> itemQuantities) {
+		if (itemQuantities == null || itemQuantities.isEmpty()) {
+			return InventoryReservationResult.success();
+		}
+
+		Map<Integer, Integer> hotQuantities = hotItemInventoryService.filterHotItems(itemQuantities);
+		if (!hotQuantities.isEmpty()) {
+			return reserveWithHotItems(itemQuantities, hotQuantities);
+		}
+
+		log.info("Starting atomic batch reservation for {} items", itemQuantities.size());
+
+		try {
+			Map<Integer, Integer> shortfalls = executeOnItems(RESERVE_ALL_SCRIPT, itemQuantities);
+
+			if (!shortfalls.isEmpty()) {
+				log.warn("Insufficient stock for items (itemId=shortfall): {}", shortfalls);
+				return InventoryReservationResult.failure(shortfalls);
+			}
+
+			inventoryChangeNotifier.notifyChanged(itemQuantities.keySet());
+			log.info("Reserved inventories for items: {}", itemQuantities);
+			return InventoryReservationResult.success();
+		} catch (Exception e) {
+			log.error("Error during atomic batch reservation", e);
+			return InventoryReservationResult.failure(Map.of());
+		}
+	}
+
+	// 전체 예약 취소 - 다중 키 스크립트 한 번으로 처리 (재고 정보가 없는 상품은 건너뜀)
+	@Override
+	public boolean cancelReservations(Map<Integer, Integer> itemQuantities) {
+		if (itemQuantities == null || itemQuantities.isEmpty()) {
+			return true;
+		}
+
+		// 핫 아이템은 버킷으로 반환하고 나머지 상품만 기존 방식으로 취소
+		Map<Integer, Integer> released = hotItemInventoryService.releaseHotItems(itemQuantities);
+		if (!released.isEmpty()) {
+			return cancelReservations(excluding(itemQuantities, released.keySet()));
+		}
+
+		log.info("Starting atomic batch reservation cancellation for {} items", itemQuantities.size());
+
+		try {
+			executeOnItems(CANCEL_ALL_SCRIPT, itemQuantities);
+			inventoryChangeNotifier.notifyChanged(itemQuantities.keySet());
+			log.info("Canceled reservations for items: {}", itemQuantities);
+			return true;
+		} catch (Exception e) {
+			log.error("Error during atomic batch cancellation", e);
+			return false;
+		}
+	}
+
+	/**
+	 * 핫 아이템은 버킷에서 먼저 예약하고 나머지 상품만 기존 방식으로 예약
+	 * 나머지 상품 예약에 실패하면 핫 아이템 예약을 되돌린다.
+	 */
+	private InventoryReservationResult reserveWithHotItems(Map<Integer, Integer> itemQuantities,
+		Map<Integer, Integer> hotQuantities) {
+		Map<Integer, Integer> hotShortfalls = hotItemInventoryService.reserve(hotQuantities);
+		if (!hotShortfalls.isEmpty()) {
+			return InventoryReservationResult.failure(hotShortfalls);
+		}
+
+		InventoryReservationResult result = tryReserveInventories(excluding(itemQuantities, hotQuantities.keySet()));
+		if (!result.isReserved()) {
+			cancelReservations(hotQuantities);
+		}
+		return result;
+	}
+
+	private Map<Integer, Integer> excluding(Map<Integer, Integer> itemQuantities, Set<Integer> itemIds) {
+		Map<Integer, Integer> remaining = new LinkedHashMap<>(itemQuantities);
+		remaining.keySet().removeAll(itemIds);
+		return remaining;
+	}
+
+	// 핫 아이템은 버킷으로 예약하므로 재고 해시를 직접 변경하면 버킷 재고와 어긋남
+	private void validateNotHotItem(Integer itemId) {
+		if (hotItemInventoryService.isHot(itemId)) {
+			throw new CustomException(ErrorCode.INVENTORY_HOT_ITEM_UPDATE_NOT_ALLOWED);
+		}
+	}
+
+	/**
+	 * 다중 상품 스크립트 실행
+	 * 재고 정보가 없는 상품이 있으면 DB에서 초기화한 뒤 한 번 더 실행한다.
+	 *
+	 * @return 상품 ID별 부족 수량 (모두 성공하면 빈 Map)
+	 */
+	private Map<Integer, Integer> executeOnItems(RedisScript<List> script, Map<Integer, Integer> itemQuantities) {
+		List<Integer> itemIds = new ArrayList<>(itemQuantities.keySet());
+		List<String> keys = itemIds.stream()
+			.map(InventoryRepository::keyOf)
+			.toList();
+		Object[] args = itemIds.stream()
+			.map(id -> String.valueOf(itemQuantities.get(id)))
+			.toArray();
+
+		List<?> result = stringRedisTemplate.execute(script, keys, args);
+
+		if (statusOf(result) == RESULT_NOT_FOUND) {
+			for (int i = 1; i < result.size(); i++) {
+				Integer itemId = itemIds.get(((Number)result.get(i)).intValue() - 1);
+				log.warn("Inventory not found in Redis for item {}, attempting to initialize from database", itemId);
+				loadFromDatabase(itemId);
+			}
+			result = stringRedisTemplate.execute(script, keys, args);
+		}
+
+		long status = statusOf(result);
+		if (status == RESULT_NOT_FOUND) {
+			log.error("Failed to initialize and retrieve inventories for items {}", itemIds);
+			throw new CustomException(ErrorCode.INVENTORY_SYNC_FAILED);
+		}
+
+		Map<Integer, Integer> shortfalls = new LinkedHashMap<>();
+		if (status == RESULT_SHORTFALL) {
+			for (int i = 1; i + 1 < result.size(); i += 2) {
+				Integer itemId = itemIds.get(((Number)result.get(i)).intValue() - 1);
+				shortfalls.put(itemId, ((Number)result.get(i + 1)).intValue());
+			}
+		}
+
+		return shortfalls;
+	}
+
+	private long statusOf(List<?> result) {
+		if (result == null || result.isEmpty()) {
+			throw new CustomException(ErrorCode.INVENTORY_SYNC_FAILED);
+		}
+		return ((Number)result.get(0)).longValue();
+	}
+
+	/**
+	 * 단일 상품 스크립트 실행
+	 * 재고 정보가 없으면 DB에서 초기화한 뒤 한 번 더 실행한다.
+	 */
+	private long executeOnItem(RedisScript<Long> script, Integer itemId, Integer quantity) {
+		List<String> keys = List.of(InventoryRepository.keyOf(itemId));
+		Long result = stringRedisTemplate.execute(script, keys, String.valueOf(quantity));
+
+		if (result != null && result == RESULT_NOT_FOUND) {
+			log.warn("Inventory not found in Redis for item {}, attempting to initialize from database", itemId);
+			loadFromDatabase(itemId);
+			result = stringRedisTemplate.execute(script, keys, String.valueOf(quantity));
+		}
+
+		if (result == null || result == RESULT_NOT_FOUND) {
+			log.error("Failed to initialize and retrieve inventory for item {}", itemId);
+			throw new CustomException(ErrorCode.INVENTORY_SYNC_FAILED);
+		}
+
+		return result;
+	}
+
+	/**
+	 * DB 재고로 Redis 해시 초기화 (이미 존재하면 유지)
+	 */
+	private void loadFromDatabase(Integer itemId) {
+		Item item = getItemById(itemId);
+		inventoryRepository.saveIfAbsent(InventoryDto.builder()
+			.itemId(itemId)
+			.quantity(item.getQuantity())
+			.reservedQuantity(0)
+			.availableQuantity(item.getQuantity())
+			.build());
+	}
+
+	private Item getItemById(Integer id) {
+		Item item = itemRepository.findById(id)
+			.orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
+
+		if (!item.getStatus()) {
+			throw new CustomException(ErrorCode.ITEM_UNAVAILABLE);
+		}
+
+		return item;
+	}
+
+	private static RedisScript<Long> loadScript(String name) {
+		return RedisScript.of(new ClassPathResource("redis/inventory/" + name + ".lua"), Long.class);
+	}
+
+	private static RedisScript<List> loadMultiScript(String name) {
+		return RedisScript.of(new ClassPathResource("redis/inventory/" + name + ".lua"), List.class);
+	}
+}
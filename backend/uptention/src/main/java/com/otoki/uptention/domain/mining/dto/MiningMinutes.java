@@ -0,0 +1,20 @@
+package com.otoki.uptention.domain.mining.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시간 단위 집계에 더할 채굴 시간 (사용자, UTC 정시 구간, 분)
+ */
+@Getter
+@AllArgsConstructor
+public class MiningMinutes {
+
+	private Integer userId;
+
+	private LocalDateTime bucketStart;
+
+	private long minutes;
+}
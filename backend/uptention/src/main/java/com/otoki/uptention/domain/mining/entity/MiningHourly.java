@@ -0,0 +1,57 @@
+package com.otoki.uptention.domain.mining.entity;
+
+import java.time.LocalDateTime;
+
+import com.otoki.uptention.domain.user.entity.User;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 시간 구간 채굴 시간 집계
+ * 종료된 세션의 시간(분)을 세션 시작 시각이 속한 UTC 15분 구간에 누적한다.
+ * 15분 단위로 나누어 두므로 정시가 아닌 오프셋(+05:30, +05:45 등)을 포함한 클라이언트 타임존 기준 일자로 다시 묶어도 정확하다.
+ * (15분 구간 도입 이전의 집계는 정시 구간에 누적되어 있으며, 정시 오프셋 타임존에서는 그대로 정확하다.)
+ */
+@Entity
+@Table(name = "mining_hourly", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_mining_hourly_user_bucket", columnNames = {"user_id", "bucket_start"})
+}, indexes = {
+	// 기간별 랭킹/포인트 집계용 (bucket_start BETWEEN ? AND ?)
+	@Index(name = "idx_mining_hourly_bucket_start", columnList = "bucket_start")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Builder
+public class MiningHourly {
+
+	// 집계 구간 길이 (분)
+	public static final int BUCKET_MINUTES = 15;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	// 구간 시작 시각 (UTC, BUCKET_MINUTES 단위)
+	private LocalDateTime bucketStart;
+
+	private Integer minutes;
+}
@@ -39,8 +39,13 @@ public class MiningTime extends TimeStampEntity {
 
 	private LocalDateTime endTime;
 
-	public void updateEndTime(LocalDateTime endTime) {
+	// 시간 단위 집계(mining_hourly)에 반영 여부 (집계 도입 이전 세션은 null)
+	private Boolean rolledUp;
+
+	// 세션 종료 (종료와 함께 시간 단위 집계에 반영됨)
+	public void finish(LocalDateTime endTime) {
 		this.endTime = endTime;
+		this.rolledUp = true;
 	}
 
 }
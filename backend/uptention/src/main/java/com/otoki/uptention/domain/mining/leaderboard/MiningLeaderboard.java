@@ -0,0 +1,283 @@
+package com.otoki.uptention.domain.mining.leaderboard;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.mining.service.MiningTimeService;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.config.LeaderboardProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 정렬 집합 기반 주간 채굴 랭킹
+ * 주(한국 시간 월요일 시작)마다 사용자별 누적 시간 집합과 서로 다른 누적 시간 집합을 함께 유지하여
+ * 상위 N개 순위와 내 순위(조밀 순위)를 세션 테이블 집계 없이 O(log n)으로 조회한다.
+ *
+ * - 채굴 세션이 종료되면 커밋 이후 종료된 시간만큼 증가시킨다.
+ * - 아직 적재되지 않은 주는 최초 조회 시 DB 집계로 적재하고, 매일 마감 처리 이후 그 주를 다시 적재하여 어긋난 값을 바로잡는다.
+ * - Redis 장애 시 빈 값을 반환하므로 호출하는 쪽에서 DB 집계로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MiningLeaderboard {
+
+	public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private static final String KEY_PREFIX = "leaderboard:mining:{";
+	private static final String REBUILD_LOCK_PREFIX = "leaderboard:mining:rebuild:";
+	private static final int REBUILD_LOCK_WAIT_SECONDS = 3;
+	private static final int REBUILD_LOCK_LEASE_SECONDS = 30;
+	private static final long NOT_LOADED = -1L;
+
+	private static final RedisScript<Long> INCREMENT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/leaderboard/increment.lua"), Long.class);
+	private static final RedisScript<Long> REBUILD_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/leaderboard/rebuild.lua"), Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> TOP_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/leaderboard/top.lua"), List.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> RANK_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/leaderboard/rank.lua"), List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MiningTimeService miningTimeService;
+	private final DistributedLockManager lockManager;
+	private final LeaderboardProperties leaderboardProperties;
+
+	/**
+	 * UTC 시각이 속한 주의 시작일 (한국 시간 월요일)
+	 */
+	public static LocalDate weekOf(LocalDateTime utcTime) {
+		return utcTime.atOffset(ZoneOffset.UTC)
+			.atZoneSameInstant(ZONE)
+			.toLocalDate()
+			.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+	}
+
+	/**
+	 * 주어진 주의 랭킹을 이 컴포넌트로 조회할 수 있는지 여부
+	 * 보관 기간이 지난 주나 아직 시작하지 않은 주는 DB 집계로 조회한다.
+	 */
+	public boolean supports(LocalDate weekStart) {
+		if (!leaderboardProperties.isEnabled()) {
+			return false;
+		}
+		LocalDate currentWeek = weekOf(LocalDateTime.now());
+		return !weekStart.isAfter(currentWeek)
+			&& !weekStart.isBefore(currentWeek.minusWeeks(leaderboardProperties.getRetentionWeeks()));
+	}
+
+	/**
+	 * 종료된 채굴 세션을 주간 랭킹에 반영 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+	 * 기존 집계와 동일하게 시작과 종료가 같은 주에 속한 세션만 반영한다.
+	 */
+	public void recordSession(User user, LocalDateTime startTime, LocalDateTime endTime) {
+		if (!leaderboardProperties.isEnabled() || startTime == null || endTime == null) {
+			return;
+		}
+
+		long minutes = Duration.between(startTime, endTime).toMinutes();
+		LocalDate weekStart = weekOf(startTime);
+		if (minutes <= 0 || !weekStart.equals(weekOf(endTime))) {
+			return;
+		}
+
+		Integer userId = user.getId();
+		String username = user.getName() == null ? "" : user.getName();
+		afterCommit(() -> increment(weekStart, userId, username, minutes));
+	}
+
+	/**
+	 * 주어진 주의 랭킹을 DB 집계로 다시 적재 (트랜잭션 안에서 호출되면 커밋 이후 적재)
+	 */
+	public void rebuild(LocalDate weekStart) {
+		if (!leaderboardProperties.isEnabled()) {
+			return;
+		}
+		afterCommit(() -> {
+			try {
+				load(weekStart);
+			} catch (Exception e) {
+				log.warn("Failed to rebuild mining leaderboard for week {}: {}", weekStart, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * 상위 top개 순위(동점자 포함)에 해당하는 사용자를 누적 시간 내림차순으로 조회
+	 * Redis를 사용할 수 없으면 빈 값을 반환한다.
+	 */
+	@SuppressWarnings("unchecked")
+	public Optional<List<MiningTimeRankResponseDto>> findTop(LocalDate weekStart, int top) {
+		if (!supports(weekStart)) {
+			return Optional.empty();
+		}
+
+		try {
+			List<Object> result = executeLoaded(weekStart, TOP_SCRIPT, String.valueOf(top));
+			if (result == null) {
+				return Optional.empty();
+			}
+
+			List<MiningTimeRankResponseDto> ranks = new ArrayList<>(result.size() / 3);
+			for (int i = 0; i + 2 < result.size(); i += 3) {
+				ranks.add(new MiningTimeRankResponseDto(
+					Integer.valueOf(result.get(i).toString()),
+					result.get(i + 2).toString(),
+					toMinutes(result.get(i + 1))));
+			}
+			return Optional.of(ranks);
+		} catch (Exception e) {
+			log.warn("Failed to read mining leaderboard for week {}: {}", weekStart, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 사용자의 주간 순위 조회 (1위부터 시작하는 조밀 순위)
+	 * Redis를 사용할 수 없으면 빈 값을 반환한다.
+	 */
+	@SuppressWarnings("unchecked")
+	public Optional<MiningRankEntry> findRank(LocalDate weekStart, Integer userId) {
+		if (!supports(weekStart)) {
+			return Optional.empty();
+		}
+
+		try {
+			List<Object> result = executeLoaded(weekStart, RANK_SCRIPT, String.valueOf(userId));
+			if (result == null) {
+				return Optional.empty();
+			}
+			if (result.isEmpty()) {
+				return Optional.of(MiningRankEntry.unranked(userId));
+			}
+
+			int rank = Integer.parseInt(result.get(0).toString()) + 1;
+			return Optional.of(new MiningRankEntry(rank, userId, result.get(2).toString(),
+				toMinutes(result.get(1))));
+		} catch (Exception e) {
+			log.warn("Failed to read mining rank of user {} for week {}: {}", userId, weekStart, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 조회 스크립트를 실행하고, 적재되지 않은 주라면 DB 집계로 적재한 뒤 한 번 더 실행
+	 * 적재하지 못하면 null을 반환한다.
+	 */
+	@SuppressWarnings("rawtypes")
+	private List executeLoaded(LocalDate weekStart, RedisScript<List> script, String arg) {
+		List result = stringRedisTemplate.execute(script, keysOf(weekStart), arg);
+		if (!isNotLoaded(result)) {
+			return result;
+		}
+
+		Boolean loaded = lockManager.executeWithLock(REBUILD_LOCK_PREFIX + weekStart,
+			REBUILD_LOCK_WAIT_SECONDS, REBUILD_LOCK_LEASE_SECONDS, () -> {
+				// 락을 기다리는 동안 다른 노드가 적재했을 수 있음
+				if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(readyKey(weekStart)))) {
+					load(weekStart);
+				}
+				return Boolean.TRUE;
+			});
+		if (!Boolean.TRUE.equals(loaded)) {
+			return null;
+		}
+
+		result = stringRedisTemplate.execute(script, keysOf(weekStart), arg);
+		return isNotLoaded(result) ? null : result;
+	}
+
+	private void increment(LocalDate weekStart, Integer userId, String username, long minutes) {
+		try {
+			stringRedisTemplate.execute(INCREMENT_SCRIPT, keysOf(weekStart),
+				String.valueOf(userId), String.valueOf(minutes), username, String.valueOf(ttlSeconds(weekStart)));
+		} catch (Exception e) {
+			// 반영하지 못한 시간은 매일 마감 처리의 재적재에서 바로잡힘
+			log.warn("Failed to record mining session of user {} for week {}: {}", userId, weekStart,
+				e.getMessage());
+		}
+	}
+
+	private void load(LocalDate weekStart) {
+		ZonedDateTime start = weekStart.atStartOfDay(ZONE);
+		ZonedDateTime end = start.plusDays(6).with(LocalTime.MAX);
+		List<MiningTimeRankResponseDto> ranks = miningTimeService.findMiningRank(
+			start.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime(),
+			end.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+
+		List<String> args = new ArrayList<>(ranks.size() * 3 + 1);
+		args.add(String.valueOf(ttlSeconds(weekStart)));
+		for (MiningTimeRankResponseDto rank : ranks) {
+			args.add(String.valueOf(rank.getId()));
+			args.add(String.valueOf(rank.getTotalMiningMinutes()));
+			args.add(rank.getUsername() == null ? "" : rank.getUsername());
+		}
+
+		Long loaded = stringRedisTemplate.execute(REBUILD_SCRIPT, keysOf(weekStart), args.toArray());
+		log.info("Loaded mining leaderboard for week {}: {} users", weekStart, loaded);
+	}
+
+	/**
+	 * 주가 끝나고 보관 기간이 지나면 만료되도록 남은 시간 계산
+	 */
+	private long ttlSeconds(LocalDate weekStart) {
+		ZonedDateTime expireAt = weekStart.plusWeeks(1L + leaderboardProperties.getRetentionWeeks()).atStartOfDay(ZONE);
+		return Math.max(Duration.between(ZonedDateTime.now(ZONE), expireAt).getSeconds(), 60L);
+	}
+
+	private boolean isNotLoaded(List<?> result) {
+		return result == null
+			|| (result.size() == 1 && result.get(0) instanceof Number number && number.longValue() == NOT_LOADED);
+	}
+
+	private Long toMinutes(Object score) {
+		return (long)Double.parseDouble(score.toString());
+	}
+
+	private void afterCommit(Runnable task) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+			return;
+		}
+		task.run();
+	}
+
+	// 같은 주의 키는 해시 태그({주 시작일})를 공유하여 클러스터에서도 한 슬롯에 위치
+	private static List<String> keysOf(LocalDate weekStart) {
+		String prefix = KEY_PREFIX + weekStart + "}:";
+		return List.of(prefix + "scores", prefix + "levels", prefix + "counts", prefix + "names", prefix + "ready");
+	}
+
+	private static String readyKey(LocalDate weekStart) {
+		return keysOf(weekStart).get(4);
+	}
+}
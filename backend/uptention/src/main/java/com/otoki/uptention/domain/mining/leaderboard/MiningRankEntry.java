@@ -0,0 +1,25 @@
+package com.otoki.uptention.domain.mining.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주간 채굴 랭킹에서 한 사용자의 순위
+ * 해당 주에 기록이 없으면 rank, totalMiningMinutes가 null이다.
+ */
+@Getter
+@AllArgsConstructor
+public class MiningRankEntry {
+
+	private Integer rank;
+
+	private Integer userId;
+
+	private String username;
+
+	private Long totalMiningMinutes;
+
+	public static MiningRankEntry unranked(Integer userId) {
+		return new MiningRankEntry(null, userId, null, null);
+	}
+}
@@ -0,0 +1,44 @@
+package com.otoki.uptention.domain.mining.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.otoki.uptention.domain.mining.dto.MiningMinutes;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시간 단위 채굴 집계 누적용 JDBC 레포지토리
+ * (사용자, 구간) 유니크 키로 INSERT 또는 누적하므로 동시에 종료된 세션도 한 행에 안전하게 더해진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MiningHourlyJdbcRepository {
+
+	private static final String UPSERT_SQL =
+		"INSERT INTO mining_hourly (user_id, bucket_start, minutes) VALUES (?, ?, ?) "
+			+ "ON DUPLICATE KEY UPDATE minutes = minutes + VALUES(minutes)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 구간별 채굴 시간 일괄 누적 (교착 상태 방지를 위해 (사용자, 구간) 순으로 정렬해 전달)
+	 */
+	public void addAll(List<MiningMinutes> minutes) {
+		if (minutes.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> batchArgs = new ArrayList<>(minutes.size());
+		for (MiningMinutes delta : minutes) {
+			batchArgs.add(new Object[] {delta.getUserId(), Timestamp.valueOf(delta.getBucketStart()),
+				delta.getMinutes()});
+		}
+
+		jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+	}
+}
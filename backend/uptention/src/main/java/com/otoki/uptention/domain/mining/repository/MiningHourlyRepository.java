@@ -0,0 +1,69 @@
+package com.otoki.uptention.domain.mining.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.mining.entity.MiningHourly;
+
+@Repository
+public interface MiningHourlyRepository extends JpaRepository<MiningHourly, Integer> {
+
+	@Query("SELECT h FROM MiningHourly h WHERE h.user.id = :userId "
+		+ "AND h.bucketStart >= :startTime AND h.bucketStart <= :endTime ORDER BY h.bucketStart")
+	List<MiningHourly> findAllByUserIdAndBucketRange(
+		@Param("userId") Integer userId,
+		@Param("startTime") LocalDateTime startTime,
+		@Param("endTime") LocalDateTime endTime
+	);
+
+	@Query(value = "SELECT u.id, u.name, "
+		+ "       CAST(SUM(h.minutes) AS SIGNED) AS totalMinutes "
+		+ "FROM mining_hourly h "
+		+ "JOIN user u ON h.user_id = u.id "
+		+ "WHERE h.bucket_start >= :startTime "
+		+ "  AND h.bucket_start <= :endTime "
+		+ "GROUP BY u.id "
+		+ "ORDER BY totalMinutes DESC", nativeQuery = true)
+	List<MiningTimeRankResponseDto> findMiningTimeRanking(
+		@Param("startTime") LocalDateTime startTime,
+		@Param("endTime") LocalDateTime endTime
+	);
+
+	// 점검 시각 기준 지난 하루 동안 시작한 세션의 시간을 포인트로 적립 (하루 최대 480)
+	// 14:30~15:00에는 집중 모드를 시작할 수 없으므로 구간 시작 시각으로 비교해도 세션 시작 시각 기준과 같다.
+	@Modifying(clearAutomatically = true)
+	@Query(value = "UPDATE `user` u "
+		+ "JOIN ( "
+		+ "    SELECT user_id, SUM(minutes) AS additional_points "
+		+ "    FROM mining_hourly "
+		+ "    WHERE bucket_start > DATE_SUB(:inspectionTime, INTERVAL 1 DAY) "
+		+ "    GROUP BY user_id "
+		+ ") m ON u.id = m.user_id "
+		+ "SET u.point = u.point + LEAST(m.additional_points, 480)", nativeQuery = true)
+	int updateUserPoints(@Param("inspectionTime") LocalDateTime specifiedTime);
+
+	// ID 범위 (fromId, toId] 에서 아직 집계되지 않은 종료 세션을 시간 단위 집계에 누적
+	@Modifying
+	@Query(value = "INSERT INTO mining_hourly (user_id, bucket_start, minutes) "
+		+ "SELECT t.user_id, t.bucket_start, t.total_minutes FROM ( "
+		+ "    SELECT m.user_id, "
+		+ "           DATE_ADD(DATE(m.start_time), "
+		+ "                    INTERVAL HOUR(m.start_time) * 60 + FLOOR(MINUTE(m.start_time) / 15) * 15 MINUTE) "
+		+ "               AS bucket_start, "
+		+ "           SUM(TIMESTAMPDIFF(MINUTE, m.start_time, m.end_time)) AS total_minutes "
+		+ "    FROM mining_time m "
+		+ "    WHERE m.end_time IS NOT NULL "
+		+ "      AND (m.rolled_up IS NULL OR m.rolled_up = FALSE) "
+		+ "      AND m.id > :fromId AND m.id <= :toId "
+		+ "    GROUP BY m.user_id, bucket_start "
+		+ ") t "
+		+ "ON DUPLICATE KEY UPDATE minutes = mining_hourly.minutes + t.total_minutes", nativeQuery = true)
+	int backfill(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+}
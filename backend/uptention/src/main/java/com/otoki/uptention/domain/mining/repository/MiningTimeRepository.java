@@ -4,51 +4,45 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
 import com.otoki.uptention.domain.mining.entity.MiningTime;
 import com.otoki.uptention.domain.user.entity.User;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface MiningTimeRepository extends JpaRepository<MiningTime, Integer> {
 	MiningTime findTopByUserOrderByStartTimeDesc(User user);
 
+	// 종료되지 않은 세션을 행 잠금과 함께 조회 (마감 처리 중 사용자가 세션을 종료하지 못하도록 함)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM MiningTime m WHERE m.endTime IS NULL")
+	List<MiningTime> findAllUnfinishedForUpdate();
+
+	// 아직 종료되지 않은 세션만 종료 (이미 종료된 세션이면 0)
+	@Modifying
+	@Query("UPDATE MiningTime m SET m.endTime = :endTime, m.rolledUp = true "
+		+ "WHERE m.id = :id AND m.endTime IS NULL")
+	int finishById(@Param("id") Integer id, @Param("endTime") LocalDateTime endTime);
+
 	@Modifying(clearAutomatically = true)
-	@Query("UPDATE MiningTime m SET m.endTime = :endTime WHERE m.endTime IS NULL")
-	int updateEndTimeForUnfinishedMining(@Param("endTime") LocalDateTime endTime);
+	@Query("UPDATE MiningTime m SET m.endTime = :endTime, m.rolledUp = true "
+		+ "WHERE m.id IN :ids AND m.endTime IS NULL")
+	int finishAllByIds(@Param("ids") List<Integer> ids, @Param("endTime") LocalDateTime endTime);
+
+	// 가장 큰 세션 ID (세션이 없으면 0)
+	@Query("SELECT COALESCE(MAX(m.id), 0) FROM MiningTime m")
+	Integer findMaxId();
 
+	// ID 범위 (fromId, toId] 에서 아직 집계되지 않은 종료 세션을 집계 완료로 표시
 	@Modifying(clearAutomatically = true)
-	@Query(value = "UPDATE `user` u "
-		+ "JOIN ( "
-		+ "    SELECT user_id, ROUND(SUM(TIMESTAMPDIFF(MINUTE, start_time, end_time))) AS additional_points "
-		+ "    FROM mining_time "
-		+ "    WHERE start_time > DATE_SUB(:inspectionTime, INTERVAL 1 DAY) "
-		+ "    GROUP BY user_id "
-		+ ") m ON u.id = m.user_id "
-		+ "SET u.point = u.point + LEAST(m.additional_points, 480)", nativeQuery = true)
-	int updateUserPoints(@Param("inspectionTime") LocalDateTime specifiedTime);
-
-	@Query("SELECT m FROM MiningTime m WHERE m.user.id = :userId AND m.startTime >= :startTime AND m.endTime <= :endTime")
-	List<MiningTime> findMiningTimesByUserIdAndTimeRange(
-		@Param("userId") Integer userId,
-		@Param("startTime") LocalDateTime startTime,
-		@Param("endTime") LocalDateTime endTime
-	);
-
-	@Query(value = "SELECT u.id, u.name, "
-		+ "       CAST(SUM(TIMESTAMPDIFF(MINUTE, m.start_time, m.end_time)) AS SIGNED) AS totalMinutes "
-		+ "FROM mining_time m "
-		+ "JOIN user u ON m.user_id = u.id "
-		+ "WHERE m.start_time >= :startTime "
-		+ "  AND m.end_time <= :endTime "
-		+ "GROUP BY u.id "
-		+ "ORDER BY totalMinutes DESC", nativeQuery = true)
-	List<MiningTimeRankResponseDto> findMiningTimeRanking(
-		@Param("startTime") LocalDateTime startTime,
-		@Param("endTime") LocalDateTime endTime
-	);
-}
\ No newline at end of file
+	@Query("UPDATE MiningTime m SET m.rolledUp = true "
+		+ "WHERE m.endTime IS NOT NULL AND (m.rolledUp IS NULL OR m.rolledUp = false) "
+		+ "AND m.id > :fromId AND m.id <= :toId")
+	int markRolledUp(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+}
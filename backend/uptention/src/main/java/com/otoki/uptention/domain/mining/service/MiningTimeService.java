@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.mining.entity.MiningHourly;
 import com.otoki.uptention.domain.mining.entity.MiningTime;
 import com.otoki.uptention.domain.user.entity.User;
 
@@ -13,12 +14,18 @@ public interface MiningTimeService {
 
 	MiningTime findMiningTime(User user);
 
+	// 세션 종료 및 집계 반영 - 이미 종료된 세션이면 false (집계하지 않음)
+	boolean finishMiningTime(MiningTime miningTime, LocalDateTime endTime);
+
 	int updateEndTimeForUnfinishedMining(LocalDateTime endTime);
 
 	int calculatePoint(LocalDateTime inspectionTime);
 
-	List<MiningTime> findMiningTimesByUserIdAndTimeRange(Integer userId, LocalDateTime startTime,
-		LocalDateTime endTime);
+	List<MiningHourly> findHourlyMiningTimes(Integer userId, LocalDateTime startTime, LocalDateTime endTime);
 
 	List<MiningTimeRankResponseDto> findMiningRank(LocalDateTime startTime, LocalDateTime endTime);
+
+	Integer getMaxMiningTimeId();
+
+	int backfillHourlyMiningTimes(Integer fromId, Integer toId);
 }
@@ -1,16 +1,24 @@
 package com.otoki.uptention.domain.mining.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.otoki.uptention.domain.mining.dto.MiningMinutes;
 import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.mining.entity.MiningHourly;
 import com.otoki.uptention.domain.mining.entity.MiningTime;
+import com.otoki.uptention.domain.mining.repository.MiningHourlyJdbcRepository;
+import com.otoki.uptention.domain.mining.repository.MiningHourlyRepository;
 import com.otoki.uptention.domain.mining.repository.MiningTimeRepository;
 import com.otoki.uptention.domain.user.entity.User;
-import com.otoki.uptention.global.exception.CustomException;
-import com.otoki.uptention.global.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 public class MiningTimeServiceImpl implements MiningTimeService {
 
 	private final MiningTimeRepository miningTimeRepository;
+	private final MiningHourlyRepository miningHourlyRepository;
+	private final MiningHourlyJdbcRepository miningHourlyJdbcRepository;
 
 	@Override
 	public void saveMiningTime(MiningTime miningTime) {
@@ -31,25 +41,88 @@ public class MiningTimeServiceImpl implements MiningTimeService {
 		return miningTimeRepository.findTopByUserOrderByStartTimeDesc(user);
 	}
 
+	@Override
+	public boolean finishMiningTime(MiningTime miningTime, LocalDateTime endTime) {
+		// 세션 종료와 시간 단위 집계 누적은 호출하는 쪽의 트랜잭션에서 함께 커밋
+		// 조건부 UPDATE로 종료하므로 마감 처리가 먼저 종료한 세션은 다시 집계하지 않는다.
+		if (miningTimeRepository.finishById(miningTime.getId(), endTime) == 0) {
+			return false;
+		}
+
+		miningTime.finish(endTime);
+		rollUp(List.of(miningTime), endTime);
+		return true;
+	}
+
 	@Override
 	public int updateEndTimeForUnfinishedMining(LocalDateTime endTime) {
-		return miningTimeRepository.updateEndTimeForUnfinishedMining(endTime);
+		// 조회한 세션을 커밋까지 잠가 두므로, 그 사이 사용자가 종료를 요청해도 finishById가 대기 후 0건이 되어 중복 집계되지 않음
+		List<MiningTime> unfinished = miningTimeRepository.findAllUnfinishedForUpdate();
+		if (unfinished.isEmpty()) {
+			return 0;
+		}
+
+		rollUp(unfinished, endTime);
+		List<Integer> ids = unfinished.stream()
+			.map(MiningTime::getId)
+			.toList();
+		return miningTimeRepository.finishAllByIds(ids, endTime);
 	}
 
 	@Override
 	public int calculatePoint(LocalDateTime inspectionTime) {
-		return miningTimeRepository.updateUserPoints(inspectionTime);
+		return miningHourlyRepository.updateUserPoints(inspectionTime);
 	}
 
 	@Override
-	public List<MiningTime> findMiningTimesByUserIdAndTimeRange(Integer userId, LocalDateTime startTime,
+	public List<MiningHourly> findHourlyMiningTimes(Integer userId, LocalDateTime startTime,
 		LocalDateTime endTime) {
-		return miningTimeRepository.findMiningTimesByUserIdAndTimeRange(userId, startTime, endTime);
+		return miningHourlyRepository.findAllByUserIdAndBucketRange(userId, toBucket(startTime), endTime);
 	}
 
 	@Override
 	public List<MiningTimeRankResponseDto> findMiningRank(LocalDateTime startTime,
 		LocalDateTime endTime) {
-		return miningTimeRepository.findMiningTimeRanking(startTime, endTime);
+		return miningHourlyRepository.findMiningTimeRanking(startTime, endTime);
+	}
+
+	@Override
+	public Integer getMaxMiningTimeId() {
+		return miningTimeRepository.findMaxId();
+	}
+
+	@Override
+	@Transactional
+	public int backfillHourlyMiningTimes(Integer fromId, Integer toId) {
+		miningHourlyRepository.backfill(fromId, toId);
+		return miningTimeRepository.markRolledUp(fromId, toId);
+	}
+
+	/**
+	 * 종료 시각까지의 세션 시간을 세션 시작 시각의 15분 구간에 누적
+	 * 기존 집계(TIMESTAMPDIFF)와 같이 세션마다 분 단위로 내림한 값을 더한다.
+	 */
+	private void rollUp(List<MiningTime> sessions, LocalDateTime endTime) {
+		// (사용자, 구간) 순으로 정렬하여 동시에 누적하는 트랜잭션 사이의 교착 상태 방지
+		Map<Integer, Map<LocalDateTime, Long>> merged = new TreeMap<>();
+		for (MiningTime session : sessions) {
+			long minutes = Duration.between(session.getStartTime(), endTime).toMinutes();
+			if (minutes <= 0) {
+				continue;
+			}
+			merged.computeIfAbsent(session.getUser().getId(), userId -> new TreeMap<>())
+				.merge(toBucket(session.getStartTime()), minutes, Long::sum);
+		}
+
+		List<MiningMinutes> deltas = new ArrayList<>();
+		merged.forEach((userId, buckets) -> buckets.forEach((bucketStart, minutes) ->
+			deltas.add(new MiningMinutes(userId, bucketStart, minutes))));
+		miningHourlyJdbcRepository.addAll(deltas);
+	}
+
+	// UTC 15분 구간 시작 시각 (정시가 아닌 타임존(+05:30, +05:45 등)의 자정도 구간 경계에 맞음)
+	private LocalDateTime toBucket(LocalDateTime time) {
+		return time.truncatedTo(ChronoUnit.HOURS)
+			.plusMinutes(time.getMinute() / MiningHourly.BUCKET_MINUTES * MiningHourly.BUCKET_MINUTES);
 	}
 }
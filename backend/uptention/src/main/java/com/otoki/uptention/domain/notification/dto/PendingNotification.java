@@ -0,0 +1,16 @@
+package com.otoki.uptention.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장/전송 대기 중인 알림
+ * 엔티티 대신 사용자 ID만 보관하여 트랜잭션이 끝난 뒤 다른 스레드에서 처리할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingNotification {
+	private Integer userId;
+	private String title;
+	private String message;
+}
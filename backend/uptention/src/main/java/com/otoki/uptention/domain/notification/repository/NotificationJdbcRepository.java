@@ -0,0 +1,46 @@
+package com.otoki.uptention.domain.notification.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.otoki.uptention.domain.notification.dto.PendingNotification;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 대량 저장용 JDBC 레포지토리
+ * IDENTITY 전략 엔티티는 JPA로 배치 INSERT가 되지 않으므로 JDBC 배치로 한 번에 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO `notification` (title, message, `read`, user_id, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 알림 일괄 저장 (읽지 않음 상태)
+	 */
+	public void saveAll(List<PendingNotification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> batchArgs = new ArrayList<>(notifications.size());
+		for (PendingNotification notification : notifications) {
+			batchArgs.add(new Object[] {notification.getTitle(), notification.getMessage(), false,
+				notification.getUserId(), now, now});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+	}
+}
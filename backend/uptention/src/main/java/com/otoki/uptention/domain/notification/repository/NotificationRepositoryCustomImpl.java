@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.otoki.uptention.domain.common.CursorDto;
+import com.otoki.uptention.domain.common.KeywordSearch;
 import com.otoki.uptention.domain.notification.entity.Notification;
 import com.otoki.uptention.domain.notification.entity.QNotification;
 import com.otoki.uptention.domain.user.entity.User;
@@ -36,9 +37,8 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
 		// 키워드 조건 (제목이나 메시지에 키워드 포함)
 		if (keyword != null && !keyword.isEmpty()) {
 			conditions = conditions.and(
-				notification.title.contains(keyword)
-					.or(notification.message.contains(keyword))
-			);
+				KeywordSearch.containsAny(KeywordSearch.NOTIFICATION_INDEX, notification.title, notification.message,
+					keyword));
 		}
 
 		// 커서 조건 (커서가 존재하면)
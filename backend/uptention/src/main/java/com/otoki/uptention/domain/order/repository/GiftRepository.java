@@ -26,8 +26,7 @@ public interface GiftRepository extends JpaRepository<Gift, Integer> {
 		+ "oi.item.brand, "
 		+ "g.status, "
 		+ "g.createdAt, "
-		+ "(SELECT img.url FROM Image img WHERE img.item = oi.item AND img.id = "
-		+ "(SELECT MIN(subImg.id) FROM Image subImg WHERE subImg.item = oi.item)), "
+		+ "oi.item.thumbnail, "
 		+ "o.user.id, "
 		+ "o.user.name, "
 		+ "o.address) "
@@ -53,8 +52,7 @@ public interface GiftRepository extends JpaRepository<Gift, Integer> {
 		+ "oi.item.brand, "
 		+ "g.status, "
 		+ "g.createdAt, "
-		+ "(SELECT img.url FROM Image img WHERE img.item = oi.item AND img.id = "
-		+ "(SELECT MIN(subImg.id) FROM Image subImg WHERE subImg.item = oi.item)), "
+		+ "oi.item.thumbnail, "
 		+ "o.user.id, "
 		+ "o.user.name, "
 		+ "o.address) "
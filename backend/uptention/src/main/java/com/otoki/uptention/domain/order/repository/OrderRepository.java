@@ -1,8 +1,10 @@
 package com.otoki.uptention.domain.order.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,6 +19,44 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
 	// 특정 사용자의 특정 상태 주문 목록 조회
 	List<Order> findByUserIdAndStatus(Integer userId, OrderStatus status);
 
+	// 기준 시각 이전에 생성된 특정 상태의 주문 ID 조회 (status, created_at 인덱스 사용)
+	@Query("SELECT o.id FROM Order o "
+		+ "WHERE o.status = :status "
+		+ "AND o.createdAt < :createdBefore "
+		+ "ORDER BY o.createdAt ASC "
+		+ "LIMIT :limit")
+	List<Integer> findIdsByStatusAndCreatedAtBefore(
+		@Param("status") OrderStatus status,
+		@Param("createdBefore") LocalDateTime createdBefore,
+		@Param("limit") int limit);
+
+	// 특정 상태의 주문을 ID 순으로 조회 (ID 커서 기반)
+	@Query("SELECT o FROM Order o "
+		+ "WHERE o.status = :status "
+		+ "AND o.id > :afterId "
+		+ "ORDER BY o.id ASC "
+		+ "LIMIT :limit")
+	List<Order> findByStatusAndIdAfter(
+		@Param("status") OrderStatus status,
+		@Param("afterId") Integer afterId,
+		@Param("limit") int limit);
+
+	// 주문 ID 중 특정 상태인 주문 ID만 행 잠금과 함께 조회 (트랜잭션 종료까지 다른 상태 변경을 막음)
+	@Query(value = "SELECT o.id FROM orders o WHERE o.id IN (:orderIds) AND o.status = :status FOR UPDATE",
+		nativeQuery = true)
+	List<Integer> findIdsByIdInAndStatusForUpdate(
+		@Param("orderIds") List<Integer> orderIds,
+		@Param("status") String status);
+
+	// 주문 상태 일괄 변경 (현재 상태가 from인 주문만 변경)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Order o SET o.status = :to, o.updatedAt = CURRENT_TIMESTAMP "
+		+ "WHERE o.id IN :orderIds AND o.status = :from")
+	int updateStatusByIdIn(
+		@Param("orderIds") List<Integer> orderIds,
+		@Param("from") OrderStatus from,
+		@Param("to") OrderStatus to);
+
 	@Query("SELECT o.address FROM Order o "
 		+ "LEFT JOIN Gift g ON o.id = g.order.id "
 		+ "WHERE o.user.id = :userId "
@@ -1,5 +1,6 @@
 package com.otoki.uptention.domain.order.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.otoki.uptention.domain.order.entity.Order;
@@ -12,6 +13,14 @@ public interface OrderService {
 
 	List<Order> getOrdersByStatus(OrderStatus status);
 
+	List<Integer> getOrderIdsByStatusCreatedBefore(OrderStatus status, LocalDateTime createdBefore, int limit);
+
+	List<Order> getOrdersByStatusAfterId(OrderStatus status, Integer afterId, int limit);
+
+	List<Integer> lockOrderIdsByStatus(List<Integer> orderIds, OrderStatus status);
+
+	int updateOrderStatuses(List<Integer> orderIds, OrderStatus from, OrderStatus to);
+
 	String getLatestDeliveryAddress(Integer userId);
 
 	List<Order> findPurchaseOrdersByUserIdWithLimit(Integer userId, int limit);
@@ -1,5 +1,6 @@
 package com.otoki.uptention.domain.order.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -34,6 +35,36 @@ public class OrderServiceImpl implements OrderService {
 		return orderRepository.findByStatus(OrderStatus.PAYMENT_PENDING);
 	}
 
+	// 기준 시각 이전에 생성된 특정 상태의 주문 ID를 오래된 순으로 최대 limit개 조회
+	@Override
+	public List<Integer> getOrderIdsByStatusCreatedBefore(OrderStatus status, LocalDateTime createdBefore, int limit) {
+		return orderRepository.findIdsByStatusAndCreatedAtBefore(status, createdBefore, limit);
+	}
+
+	// 특정 상태의 주문을 afterId 다음부터 ID 순으로 최대 limit개 조회
+	@Override
+	public List<Order> getOrdersByStatusAfterId(OrderStatus status, Integer afterId, int limit) {
+		return orderRepository.findByStatusAndIdAfter(status, afterId, limit);
+	}
+
+	// 주문 ID 중 특정 상태인 주문 ID만 잠금과 함께 조회 (호출자의 트랜잭션 안에서 사용)
+	@Override
+	public List<Integer> lockOrderIdsByStatus(List<Integer> orderIds, OrderStatus status) {
+		if (orderIds.isEmpty()) {
+			return List.of();
+		}
+		return orderRepository.findIdsByIdInAndStatusForUpdate(orderIds, status.name());
+	}
+
+	// 현재 상태가 from인 주문만 to로 일괄 변경 (UPDATE 한 번), 변경된 주문 수 반환
+	@Override
+	public int updateOrderStatuses(List<Integer> orderIds, OrderStatus from, OrderStatus to) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		return orderRepository.updateStatusByIdIn(orderIds, from, to);
+	}
+
 	@Override
 	public String getLatestDeliveryAddress(Integer userId) {
 		return orderRepository.findLatestDeliveryAddressByUserId(userId);
@@ -24,5 +24,14 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
 		+ "ORDER BY oi.order.createdAt DESC, oi.order.id DESC")
 	List<OrderItem> findAllByOrderIdInWithItemJoin(@Param("orderIds") List<Integer> orderIds);
 
+	// 알림 전송용 - 상품과 주문자까지 함께 조회
+	@Query("SELECT oi FROM OrderItem oi "
+		+ "JOIN FETCH oi.item "
+		+ "JOIN FETCH oi.order o "
+		+ "JOIN FETCH o.user "
+		+ "WHERE o.id IN :orderIds "
+		+ "ORDER BY o.id ASC, oi.id ASC")
+	List<OrderItem> findAllByOrderIdInWithItemAndUserJoin(@Param("orderIds") List<Integer> orderIds);
+
 	List<OrderItem> findByOrderId(Integer orderId);
 }
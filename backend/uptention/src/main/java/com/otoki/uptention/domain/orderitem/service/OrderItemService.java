@@ -14,5 +14,7 @@ public interface OrderItemService {
 
 	List<OrderItem> findOrderItemsByOrderIds(List<Integer> orderIds);
 
+	List<OrderItem> findOrderItemsWithUserByOrderIds(List<Integer> orderIds);
+
 	OrderItem findByIdAndOrderId(Integer orderItemId, Integer orderId);
 }
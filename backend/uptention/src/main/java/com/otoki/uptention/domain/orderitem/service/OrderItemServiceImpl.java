@@ -40,6 +40,11 @@ public class OrderItemServiceImpl implements OrderItemService {
 		return orderItemRepository.findAllByOrderIdInWithItemJoin(orderIds);
 	}
 
+	@Override
+	public List<OrderItem> findOrderItemsWithUserByOrderIds(List<Integer> orderIds) {
+		return orderItemRepository.findAllByOrderIdInWithItemAndUserJoin(orderIds);
+	}
+
 	@Override
 	public OrderItem findByIdAndOrderId(Integer orderItemId, Integer orderId) {
 		return orderItemRepository.findByIdAndOrderId(orderItemId, orderId)
@@ -0,0 +1,80 @@
+package com.otoki.uptention.domain.payout.entity;
+
+import java.time.LocalDate;
+
+import com.otoki.uptention.domain.payout.enums.TokenPayoutStatus;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.entity.TimeStampEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채굴 포인트 토큰 지급 원장
+ * 사용자별 하루 한 건만 생성되며, 생성 시 지급할 포인트를 사용자에게서 차감해 보관한다.
+ * 지급에 실패하면 보관한 포인트를 되돌리고, 전송 도중 중단되어 결과를 알 수 없는 건은 멱등 키로 전송 여부를 확인한 뒤
+ * 완료로 기록하거나 같은 키로 다시 보낸다.
+ */
+@Entity
+@Table(name = "token_payout", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_token_payout_user_date", columnNames = {"user_id", "payout_date"})
+}, indexes = {
+	// 상태별 지급 대상 조회용 (status = ? ORDER BY id)
+	@Index(name = "idx_token_payout_status", columnList = "status, id")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Builder
+public class TokenPayout extends TimeStampEntity {
+
+	private static final String IDEMPOTENCY_KEY_PREFIX = "mining-payout:";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(nullable = false)
+	private LocalDate payoutDate;
+
+	// 지급 대상 포인트 (토큰 수량 = 포인트 / 10)
+	@Column(nullable = false)
+	private Integer points;
+
+	// 원장 생성 시점의 지갑 주소
+	@Column(nullable = false)
+	private String wallet;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private TokenPayoutStatus status;
+
+	// 전송 중으로 전환한 실행의 식별자 (다른 실행이 결과를 기록하지 못하도록 하는 펜싱 토큰)
+	@Column(length = 36)
+	private String claimToken;
+
+	// (사용자, 지급일) 단위 멱등 키 (Express API 중복 전송 방지)
+	public String getIdempotencyKey() {
+		return IDEMPOTENCY_KEY_PREFIX + payoutDate + ":" + user.getId();
+	}
+}
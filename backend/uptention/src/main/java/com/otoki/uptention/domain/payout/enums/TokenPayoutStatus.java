@@ -0,0 +1,23 @@
+package com.otoki.uptention.domain.payout.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TokenPayoutStatus {
+	PREPARING("PREPARING", "지급 준비 중"),
+	PENDING("PENDING", "지급 대기"),
+	IN_FLIGHT("IN_FLIGHT", "전송 중"),
+	SENT("SENT", "지급 완료"),
+	FAILED("FAILED", "지급 실패 (포인트 복구)"),
+	UNKNOWN("UNKNOWN", "전송 결과 확인 필요");
+
+	private final String value; // DB에 저장될 값
+	private final String description; // 사용자 친화적인 이름
+
+	@Override
+	public String toString() {
+		return this.value;
+	}
+}
@@ -0,0 +1,109 @@
+package com.otoki.uptention.domain.payout.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.otoki.uptention.domain.payout.entity.TokenPayout;
+import com.otoki.uptention.domain.payout.enums.TokenPayoutStatus;
+
+@Repository
+public interface TokenPayoutRepository extends JpaRepository<TokenPayout, Integer> {
+
+	// 포인트가 남아 있는 지갑 등록 정회원의 지급 원장 생성 (같은 날 이미 생성된 사용자는 건너뜀)
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO token_payout "
+		+ "(user_id, payout_date, points, wallet, status, created_at, updated_at) "
+		+ "SELECT u.id, :payoutDate, u.point, u.wallet, 'PREPARING', NOW(), NOW() "
+		+ "FROM `user` u "
+		+ "WHERE u.role = 'ROLE_MEMBER' AND u.point > 0 AND u.wallet IS NOT NULL", nativeQuery = true)
+	int insertPreparing(@Param("payoutDate") LocalDate payoutDate);
+
+	// 준비 중인 원장의 포인트를 사용자에게서 차감하고 지급 대기로 전환
+	@Modifying(clearAutomatically = true)
+	@Query(value = "UPDATE `user` u "
+		+ "JOIN token_payout p ON p.user_id = u.id "
+		+ "SET u.point = u.point - p.points, p.status = 'PENDING', p.updated_at = NOW() "
+		+ "WHERE p.status = 'PREPARING'", nativeQuery = true)
+	int escrowPreparing();
+
+	// 전송에 실패한 원장의 포인트를 사용자에게 되돌리고 실패로 전환 (해당 실행이 전송 중으로 전환한 원장만)
+	// 오래 걸린 실행의 원장이 다른 실행에서 확인 필요로 바뀌었어도 전송한 실행의 결과를 기록한다.
+	@Modifying(clearAutomatically = true)
+	@Query(value = "UPDATE `user` u "
+		+ "JOIN token_payout p ON p.user_id = u.id "
+		+ "SET u.point = u.point + p.points, p.status = 'FAILED', p.updated_at = NOW() "
+		+ "WHERE p.id IN (:ids) AND p.claim_token = :claimToken AND p.status IN ('IN_FLIGHT', 'UNKNOWN')",
+		nativeQuery = true)
+	int refundClaimed(@Param("ids") List<Integer> ids, @Param("claimToken") String claimToken);
+
+	@Query("SELECT p FROM TokenPayout p WHERE p.status = :status ORDER BY p.id")
+	List<TokenPayout> findAllByStatus(@Param("status") TokenPayoutStatus status, Pageable pageable);
+
+	// 마지막 상태 변경 이후 updatedBefore가 지난 원장 (id 순 커서 조회)
+	@Query("SELECT p FROM TokenPayout p "
+		+ "WHERE p.status = :status AND p.id > :afterId AND p.updatedAt < :updatedBefore ORDER BY p.id")
+	List<TokenPayout> findAllByStatusUpdatedBefore(
+		@Param("status") TokenPayoutStatus status,
+		@Param("afterId") Integer afterId,
+		@Param("updatedBefore") LocalDateTime updatedBefore,
+		Pageable pageable
+	);
+
+	// 상태 변경 시각도 함께 기록 (확인 필요 건의 정산 대기 시간 기준)
+	// 지급 대기 원장을 이번 실행의 토큰으로 전송 중 전환 (이미 다른 실행이 전환한 원장은 제외됨)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE TokenPayout p SET p.status = :to, p.claimToken = :claimToken, p.updatedAt = CURRENT_TIMESTAMP "
+		+ "WHERE p.id IN :ids AND p.status = :from")
+	int claim(
+		@Param("ids") List<Integer> ids,
+		@Param("claimToken") String claimToken,
+		@Param("from") TokenPayoutStatus from,
+		@Param("to") TokenPayoutStatus to
+	);
+
+	@Query("SELECT p FROM TokenPayout p WHERE p.id IN :ids AND p.claimToken = :claimToken AND p.status = :status "
+		+ "ORDER BY p.id")
+	List<TokenPayout> findAllClaimed(
+		@Param("ids") List<Integer> ids,
+		@Param("claimToken") String claimToken,
+		@Param("status") TokenPayoutStatus status
+	);
+
+	// 해당 실행이 전송 중으로 전환한 원장의 결과 기록 (다른 실행이 확인 필요로 바꾼 원장 포함)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE TokenPayout p SET p.status = :to, p.updatedAt = CURRENT_TIMESTAMP "
+		+ "WHERE p.id IN :ids AND p.claimToken = :claimToken AND p.status IN :from")
+	int updateClaimedStatus(
+		@Param("ids") List<Integer> ids,
+		@Param("claimToken") String claimToken,
+		@Param("from") List<TokenPayoutStatus> from,
+		@Param("to") TokenPayoutStatus to
+	);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE TokenPayout p SET p.status = :to, p.updatedAt = CURRENT_TIMESTAMP "
+		+ "WHERE p.id IN :ids AND p.status = :from")
+	int updateStatus(
+		@Param("ids") List<Integer> ids,
+		@Param("from") TokenPayoutStatus from,
+		@Param("to") TokenPayoutStatus to
+	);
+
+	// updatedBefore 이전에 상태가 바뀐 원장만 전환 (진행 중인 다른 실행의 원장 제외)
+	// 중단된 전송의 상태만 바꾸고 변경 시각은 전송 중 전환 시각으로 유지
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE TokenPayout p SET p.status = :to WHERE p.status = :from AND p.updatedAt < :updatedBefore")
+	int updateStatusUpdatedBefore(
+		@Param("from") TokenPayoutStatus from,
+		@Param("to") TokenPayoutStatus to,
+		@Param("updatedBefore") LocalDateTime updatedBefore
+	);
+}
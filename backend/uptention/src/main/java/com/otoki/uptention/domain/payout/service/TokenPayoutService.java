@@ -0,0 +1,22 @@
+package com.otoki.uptention.domain.payout.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.otoki.uptention.domain.payout.entity.TokenPayout;
+
+public interface TokenPayoutService {
+
+	int preparePayouts(LocalDate payoutDate);
+
+	List<TokenPayout> claimPendingPayouts(int size, String claimToken);
+
+	void completePayouts(String claimToken, List<Integer> sentIds, List<Integer> failedIds, List<Integer> unknownIds);
+
+	int markInFlightAsUnknown(LocalDateTime claimedBefore);
+
+	List<TokenPayout> getUnknownPayouts(LocalDateTime updatedBefore, Integer afterId, int size);
+
+	void resolveUnknownPayouts(List<Integer> sentIds, List<Integer> notSentIds);
+}
@@ -0,0 +1,115 @@
+package com.otoki.uptention.domain.payout.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otoki.uptention.domain.payout.entity.TokenPayout;
+import com.otoki.uptention.domain.payout.enums.TokenPayoutStatus;
+import com.otoki.uptention.domain.payout.repository.TokenPayoutRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TokenPayoutServiceImpl implements TokenPayoutService {
+
+	private final TokenPayoutRepository tokenPayoutRepository;
+
+	/**
+	 * 지급 원장 생성 및 포인트 차감 (호출하는 쪽의 트랜잭션에서 원자적으로 처리)
+	 * @return 새로 생성된 원장 수
+	 */
+	@Override
+	@Transactional
+	public int preparePayouts(LocalDate payoutDate) {
+		int prepared = tokenPayoutRepository.insertPreparing(payoutDate);
+		tokenPayoutRepository.escrowPreparing();
+		return prepared;
+	}
+
+	/**
+	 * 지급 대기 원장을 size개까지 claimToken으로 전송 중 전환하여 반환
+	 * 전환이 커밋된 이후에만 전송하므로, 중단되더라도 전송했을 수 있는 원장은 모두 전송 중 상태로 남는다.
+	 * 동시에 실행된 다른 실행이 먼저 전환한 원장은 반환하지 않는다.
+	 */
+	@Override
+	@Transactional
+	public List<TokenPayout> claimPendingPayouts(int size, String claimToken) {
+		List<TokenPayout> payouts = tokenPayoutRepository.findAllByStatus(TokenPayoutStatus.PENDING,
+			PageRequest.of(0, size));
+		if (payouts.isEmpty()) {
+			return payouts;
+		}
+
+		List<Integer> ids = payouts.stream()
+			.map(TokenPayout::getId)
+			.toList();
+		if (tokenPayoutRepository.claim(ids, claimToken, TokenPayoutStatus.PENDING, TokenPayoutStatus.IN_FLIGHT)
+			== ids.size()) {
+			return payouts;
+		}
+		return tokenPayoutRepository.findAllClaimed(ids, claimToken, TokenPayoutStatus.IN_FLIGHT);
+	}
+
+	/**
+	 * claimToken으로 전환한 묶음의 전송 결과를 한 트랜잭션으로 기록 (실패 건은 포인트 복구)
+	 * 전송이 오래 걸려 다른 실행이 확인 필요로 바꾼 원장도 전송한 실행의 결과로 기록한다.
+	 */
+	@Override
+	@Transactional
+	public void completePayouts(String claimToken, List<Integer> sentIds, List<Integer> failedIds,
+		List<Integer> unknownIds) {
+		List<TokenPayoutStatus> claimed = List.of(TokenPayoutStatus.IN_FLIGHT, TokenPayoutStatus.UNKNOWN);
+		if (!sentIds.isEmpty()) {
+			tokenPayoutRepository.updateClaimedStatus(sentIds, claimToken, claimed, TokenPayoutStatus.SENT);
+		}
+		if (!failedIds.isEmpty()) {
+			tokenPayoutRepository.refundClaimed(failedIds, claimToken);
+		}
+		if (!unknownIds.isEmpty()) {
+			tokenPayoutRepository.updateClaimedStatus(unknownIds, claimToken, List.of(TokenPayoutStatus.IN_FLIGHT),
+				TokenPayoutStatus.UNKNOWN);
+		}
+	}
+
+	/**
+	 * claimedBefore 이전에 전송 중으로 전환되고 결과가 기록되지 않은 원장을 확인 필요로 전환
+	 * 이미 전송되었을 수 있으므로 다시 보내지 않는다. 아직 전송 중인 다른 실행의 원장은 건드리지 않는다.
+	 */
+	@Override
+	@Transactional
+	public int markInFlightAsUnknown(LocalDateTime claimedBefore) {
+		return tokenPayoutRepository.updateStatusUpdatedBefore(TokenPayoutStatus.IN_FLIGHT,
+			TokenPayoutStatus.UNKNOWN, claimedBefore);
+	}
+
+	/**
+	 * 마지막 상태 변경 이후 updatedBefore가 지난 확인 필요 원장을 afterId 다음부터 size개 조회
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<TokenPayout> getUnknownPayouts(LocalDateTime updatedBefore, Integer afterId, int size) {
+		return tokenPayoutRepository.findAllByStatusUpdatedBefore(TokenPayoutStatus.UNKNOWN, afterId, updatedBefore,
+			PageRequest.of(0, size));
+	}
+
+	/**
+	 * 확인 필요 원장의 정산 결과 기록
+	 * 전송이 확인된 건은 지급 완료로, 전송되지 않은 건은 지급 대기로 되돌려 같은 멱등 키로 다시 전송한다.
+	 */
+	@Override
+	@Transactional
+	public void resolveUnknownPayouts(List<Integer> sentIds, List<Integer> notSentIds) {
+		if (!sentIds.isEmpty()) {
+			tokenPayoutRepository.updateStatus(sentIds, TokenPayoutStatus.UNKNOWN, TokenPayoutStatus.SENT);
+		}
+		if (!notSentIds.isEmpty()) {
+			tokenPayoutRepository.updateStatus(notSentIds, TokenPayoutStatus.UNKNOWN, TokenPayoutStatus.PENDING);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.otoki.uptention.domain.reward.entity;
+
+import java.time.LocalDate;
+
+import com.otoki.uptention.domain.reward.enums.NftRewardStatus;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.entity.TimeStampEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주간 우수 사원 NFT 지급 기록
+ * 발행이 끝나는 즉시 민트 주소를 기록하므로, 전송 전에 중단되어도 발행된 NFT를 잃지 않고 다음 실행에서 전송만 다시 한다.
+ * 전송이 정해진 횟수만큼 실패하면 더 이상 다시 보내지 않고 전송 실패로 남긴다.
+ */
+@Entity
+@Table(name = "nft_reward", indexes = {
+	// 전송 대기 건 조회용 (status = ? ORDER BY id)
+	@Index(name = "idx_nft_reward_status", columnList = "status, id")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Builder
+public class NftReward extends TimeStampEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	// 지급 기준일 (발행일)
+	@Column(nullable = false)
+	private LocalDate rewardDate;
+
+	// 순위 (rank는 MySQL 예약어이므로 컬럼명 분리)
+	@Column(name = "reward_rank", nullable = false)
+	private String rewardRank;
+
+	// 발행 시점의 지갑 주소
+	@Column(nullable = false)
+	private String wallet;
+
+	@Column(nullable = false)
+	private String mintAddress;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private NftRewardStatus status;
+
+	// 실패한 전송 시도 횟수
+	@Column(nullable = false)
+	private int transferAttempts;
+}
@@ -0,0 +1,20 @@
+package com.otoki.uptention.domain.reward.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum NftRewardStatus {
+	MINTED("MINTED", "발행 완료 (전송 대기)"),
+	SENT("SENT", "전송 완료"),
+	FAILED("FAILED", "전송 실패 (수동 확인 필요)");
+
+	private final String value; // DB에 저장될 값
+	private final String description; // 사용자 친화적인 이름
+
+	@Override
+	public String toString() {
+		return this.value;
+	}
+}
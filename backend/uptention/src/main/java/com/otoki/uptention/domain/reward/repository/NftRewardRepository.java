@@ -0,0 +1,42 @@
+package com.otoki.uptention.domain.reward.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.otoki.uptention.domain.reward.entity.NftReward;
+import com.otoki.uptention.domain.reward.enums.NftRewardStatus;
+
+@Repository
+public interface NftRewardRepository extends JpaRepository<NftReward, Integer> {
+
+	@Query("SELECT r FROM NftReward r WHERE r.status = :status ORDER BY r.id")
+	List<NftReward> findAllByStatus(@Param("status") NftRewardStatus status);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE NftReward r SET r.status = :to, r.updatedAt = CURRENT_TIMESTAMP "
+		+ "WHERE r.id = :id AND r.status = :from")
+	int updateStatus(
+		@Param("id") Integer id,
+		@Param("from") NftRewardStatus from,
+		@Param("to") NftRewardStatus to
+	);
+
+	// 전송 실패 횟수를 늘리고 maxAttempts에 도달하면 실패로 전환
+	// (MySQL은 SET을 왼쪽부터 적용하므로 상태를 횟수보다 먼저 계산)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE NftReward r SET "
+		+ "r.status = CASE WHEN r.transferAttempts + 1 >= :maxAttempts THEN :failed ELSE r.status END, "
+		+ "r.transferAttempts = r.transferAttempts + 1, r.updatedAt = CURRENT_TIMESTAMP "
+		+ "WHERE r.id = :id AND r.status = :from")
+	int recordTransferFailure(
+		@Param("id") Integer id,
+		@Param("maxAttempts") int maxAttempts,
+		@Param("from") NftRewardStatus from,
+		@Param("failed") NftRewardStatus failed
+	);
+}
@@ -0,0 +1,18 @@
+package com.otoki.uptention.domain.reward.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.otoki.uptention.domain.reward.entity.NftReward;
+import com.otoki.uptention.domain.user.entity.User;
+
+public interface NftRewardService {
+
+	NftReward recordMint(User user, String rank, LocalDate rewardDate, String mintAddress);
+
+	List<NftReward> getUntransferredRewards();
+
+	void markTransferred(Integer rewardId);
+
+	void recordTransferFailure(Integer rewardId, int maxAttempts);
+}
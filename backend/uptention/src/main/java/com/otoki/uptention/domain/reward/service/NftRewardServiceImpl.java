@@ -0,0 +1,62 @@
+package com.otoki.uptention.domain.reward.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otoki.uptention.domain.reward.entity.NftReward;
+import com.otoki.uptention.domain.reward.enums.NftRewardStatus;
+import com.otoki.uptention.domain.reward.repository.NftRewardRepository;
+import com.otoki.uptention.domain.user.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class NftRewardServiceImpl implements NftRewardService {
+
+	private final NftRewardRepository nftRewardRepository;
+
+	/**
+	 * 발행된 NFT를 전송 대기로 기록 (전송 전에 커밋하여 중단되어도 민트 주소가 남도록 함)
+	 */
+	@Override
+	@Transactional
+	public NftReward recordMint(User user, String rank, LocalDate rewardDate, String mintAddress) {
+		return nftRewardRepository.save(NftReward.builder()
+			.user(user)
+			.rewardDate(rewardDate)
+			.rewardRank(rank)
+			.wallet(user.getWallet())
+			.mintAddress(mintAddress)
+			.status(NftRewardStatus.MINTED)
+			.build());
+	}
+
+	/**
+	 * 발행 후 전송되지 않은 지급 기록
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<NftReward> getUntransferredRewards() {
+		return nftRewardRepository.findAllByStatus(NftRewardStatus.MINTED);
+	}
+
+	@Override
+	@Transactional
+	public void markTransferred(Integer rewardId) {
+		nftRewardRepository.updateStatus(rewardId, NftRewardStatus.MINTED, NftRewardStatus.SENT);
+	}
+
+	/**
+	 * 전송 실패 기록 (maxAttempts번 실패하면 더 이상 다시 보내지 않도록 전송 실패로 전환)
+	 */
+	@Override
+	@Transactional
+	public void recordTransferFailure(Integer rewardId, int maxAttempts) {
+		nftRewardRepository.recordTransferFailure(rewardId, maxAttempts, NftRewardStatus.MINTED,
+			NftRewardStatus.FAILED);
+	}
+}
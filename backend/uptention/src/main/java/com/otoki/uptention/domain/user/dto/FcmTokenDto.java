@@ -0,0 +1,11 @@
+package com.otoki.uptention.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FcmTokenDto {
+	private Integer userId;
+	private String value;
+}
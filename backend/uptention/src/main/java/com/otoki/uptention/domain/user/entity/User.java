@@ -54,7 +54,9 @@ public class User extends TimeStampEntity {
 	@Column(length = 255)
 	private String wallet;
 
+	// 포인트는 적립/차감/환불 모두 현재 값에 더하는 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
 	@Builder.Default
+	@Column(updatable = false)
 	private Integer point = 0; // 회원가입시 기본값 0
 
 	@Column(name = "profile_image", length = 255)
@@ -1,5 +1,6 @@
 package com.otoki.uptention.domain.user.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,7 +8,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.otoki.uptention.domain.user.dto.FcmTokenDto;
 import com.otoki.uptention.domain.user.entity.FcmToken;
 import com.otoki.uptention.domain.user.entity.User;
 
@@ -19,4 +22,15 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Integer> {
 
 	// User의 모든 FcmToken 조회
 	List<FcmToken> findAllByUser(User user);
+
+	// 여러 사용자의 FcmToken을 한 번에 조회 (사용자 엔티티 로딩 없이)
+	@Query("select new com.otoki.uptention.domain.user.dto.FcmTokenDto(f.user.id, f.value) "
+		+ "from FcmToken f where f.user.id in :userIds")
+	List<FcmTokenDto> findAllByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+	// 더 이상 유효하지 않은 토큰 삭제 (FCM이 UNREGISTERED로 응답한 토큰)
+	@Transactional
+	@Modifying
+	@Query("delete from FcmToken f where f.value in :values")
+	int deleteAllByValues(@Param("values") Collection<String> values);
 }
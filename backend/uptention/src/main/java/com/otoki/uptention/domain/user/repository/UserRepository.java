@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.otoki.uptention.domain.company.entity.Company;
 import com.otoki.uptention.domain.user.entity.User;
 import com.otoki.uptention.domain.user.enums.UserRole;
 
@@ -22,7 +24,12 @@ public interface UserRepository extends JpaRepository<User, Integer>, UserReposi
 	Optional<User> findByUsername(String username);
 
 	// Id와 회사 정보로 User 불러오기
-	Optional<User> findByIdAndCompany(Integer id, Company company);
+	Optional<User> findByIdAndCompanyId(Integer id, Integer companyId);
 
 	List<User> findAllByRoleAndPointIsAfter(UserRole role, Integer point);
+
+	// 포인트 적립 (현재 값에 더하므로 동시에 실행되는 환불/차감을 덮어쓰지 않음)
+	@Modifying
+	@Query("UPDATE User u SET u.point = u.point + :points WHERE u.id = :userId")
+	int addPoint(@Param("userId") Integer userId, @Param("points") int points);
 }
@@ -12,7 +12,10 @@ public interface UserService {
 
 	User getUserById(Integer id);
 
-	User getUserByIdAndCompany(Integer id, Company company);
+	User getUserByIdAndCompanyId(Integer id, Integer companyId);
+
+	// ID 목록으로 한 번에 조회 (없는 ID는 제외)
+	List<User> getUsersByIds(List<Integer> ids);
 
 	// 회원가입
 	void join(User user);
@@ -27,4 +30,7 @@ public interface UserService {
 		CursorDto<String> cursor, UserSortType sortType, int size);
 
 	List<User> getUsersByRole();
+
+	// 포인트 적립 (원자적 증가)
+	void addPoint(Integer userId, int points);
 }
@@ -28,11 +28,19 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
-	public User getUserByIdAndCompany(Integer id, Company company) {
-		return userRepository.findByIdAndCompany(id, company)
+	public User getUserByIdAndCompanyId(Integer id, Integer companyId) {
+		return userRepository.findByIdAndCompanyId(id, companyId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 	}
 
+	@Override
+	public List<User> getUsersByIds(List<Integer> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return List.of();
+		}
+		return userRepository.findAllById(ids);
+	}
+
 	// 회원가입
 	@Override
 	public void join(User user) {
@@ -69,4 +77,9 @@ public class UserServiceImpl implements UserService {
 	public List<User> getUsersByRole() {
 		return userRepository.findAllByRoleAndPointIsAfter(UserRole.ROLE_MEMBER, 0);
 	}
+
+	@Override
+	public void addPoint(Integer userId, int points) {
+		userRepository.addPoint(userId, points);
+	}
 }
@@ -17,6 +17,7 @@ public class InventoryBootstrap implements ApplicationListener<ApplicationReadyE
 	private static final String INVENTORY_INIT_LOCK = "bootstrap:inventory:init";
 
 	private final InventoryScheduler inventoryScheduler;
+	private final InventoryStorageMigrator inventoryStorageMigrator;
 	private final DistributedLockManager lockManager;
 
 	@Override
@@ -24,6 +25,9 @@ public class InventoryBootstrap implements ApplicationListener<ApplicationReadyE
 		log.info("Application ready, attempting to initialize inventory");
 
 		lockManager.executeWithLock(INVENTORY_INIT_LOCK, 30, 300, () -> {
+			// 기존 JSON 형식 재고를 해시 형식으로 변환
+			inventoryStorageMigrator.migrateLegacyInventories();
+
 			log.info("Starting inventory initialization on application startup");
 			inventoryScheduler.initializeAllInventories();
 			log.info("Inventory initialization completed");
@@ -0,0 +1,103 @@
+package com.otoki.uptention.global.bootstrap;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
+import com.otoki.uptention.domain.order.entity.Order;
+import com.otoki.uptention.domain.order.enums.OrderStatus;
+import com.otoki.uptention.domain.order.service.OrderService;
+import com.otoki.uptention.domain.orderitem.service.OrderItemService;
+import com.otoki.uptention.global.config.InventoryProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 예약 임대 도입 이전에 생성된 결제 대기 주문에 임대를 등록한다.
+ * 임대가 없는 결제 대기 주문은 InventoryLeaseReaper와 PaymentScheduler 모두 재고를 해제하지 않으므로,
+ * 주문 생성 시각 + 임대 TTL을 만료 시각으로 임대를 등록해 만료 처리 대상에 포함시킨다.
+ * 애플리케이션 시작 시 한 노드에서만 실행되며, 완료 표시 이후에는 다시 실행되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLeaseBackfill implements ApplicationListener<ApplicationReadyEvent> {
+	private static final String INVENTORY_LEASE_BACKFILL_LOCK = "bootstrap:inventory:lease";
+	private static final String BACKFILL_DONE_KEY = "inventory:lease:backfilled";
+	private static final int CHUNK_SIZE = 500;
+
+	private final OrderService orderService;
+	private final OrderItemService orderItemService;
+	private final InventoryLeaseService inventoryLeaseService;
+	private final InventoryProperties inventoryProperties;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final DistributedLockManager lockManager;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		lockManager.executeWithLock(INVENTORY_LEASE_BACKFILL_LOCK, 0, 600, () -> {
+			if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+				return;
+			}
+			backfillPendingOrderLeases();
+			stringRedisTemplate.opsForValue().set(BACKFILL_DONE_KEY, "1");
+		});
+	}
+
+	/**
+	 * @return 임대가 등록된 주문 수
+	 */
+	public int backfillPendingOrderLeases() {
+		long ttlMillis = inventoryProperties.getReservationLeaseTtl().toMillis();
+		int granted = 0;
+		Integer afterId = 0;
+
+		while (true) {
+			List<Order> orders = orderService.getOrdersByStatusAfterId(OrderStatus.PAYMENT_PENDING, afterId,
+				CHUNK_SIZE);
+			if (orders.isEmpty()) {
+				break;
+			}
+
+			Map<Integer, Map<Integer, Integer>> itemQuantitiesByOrder = new LinkedHashMap<>();
+			orderItemService.findOrderItemsByOrderIds(orders.stream().map(Order::getId).toList())
+				.forEach(orderItem -> itemQuantitiesByOrder
+					.computeIfAbsent(orderItem.getOrder().getId(), id -> new HashMap<>())
+					.merge(orderItem.getItem().getId(), orderItem.getQuantity(), Integer::sum));
+
+			for (Order order : orders) {
+				Map<Integer, Integer> itemQuantities = itemQuantitiesByOrder.get(order.getId());
+				if (itemQuantities == null) {
+					continue;
+				}
+
+				// 이미 기한이 지난 주문은 다음 만료 처리 주기에 바로 해제된다.
+				long expiresAt = order.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+					+ ttlMillis;
+				if (inventoryLeaseService.grantIfAbsent(order.getId(), itemQuantities, expiresAt)) {
+					granted++;
+				}
+			}
+
+			afterId = orders.get(orders.size() - 1).getId();
+			if (orders.size() < CHUNK_SIZE) {
+				break;
+			}
+		}
+
+		if (granted > 0) {
+			log.info("Granted inventory leases for {} pending orders created before leases existed", granted);
+		}
+		return granted;
+	}
+}
@@ -0,0 +1,90 @@
+package com.otoki.uptention.global.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 JSON 형식 재고(inventory:{itemId})를 해시 형식(inventory:stock:{itemId})으로 변환
+ * 애플리케이션 시작 시 재고 초기화 전에 한 번 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryStorageMigrator {
+	private static final String LEGACY_KEY_PREFIX = "inventory:";
+	private static final Pattern LEGACY_KEY_PATTERN = Pattern.compile("^inventory:\\d+$");
+	private static final int BATCH_SIZE = 500;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final InventoryRepository inventoryRepository;
+
+	/**
+	 * 기존 JSON 재고 키를 해시로 옮기고 삭제
+	 * 해시가 이미 존재하는 상품은 해시 값을 유지한다.
+	 *
+	 * @return 해시로 변환된 상품 수
+	 */
+	public int migrateLegacyInventories() {
+		List<String> legacyKeys = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions()
+			.match(LEGACY_KEY_PREFIX + "*")
+			.count(BATCH_SIZE)
+			.build();
+
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(key -> {
+				if (LEGACY_KEY_PATTERN.matcher(key).matches()) {
+					legacyKeys.add(key);
+				}
+			});
+		}
+
+		if (legacyKeys.isEmpty()) {
+			return 0;
+		}
+
+		log.info("Found {} legacy JSON inventory keys, converting to hash format", legacyKeys.size());
+
+		int migrated = 0;
+		for (int from = 0; from < legacyKeys.size(); from += BATCH_SIZE) {
+			List<String> batch = legacyKeys.subList(from, Math.min(from + BATCH_SIZE, legacyKeys.size()));
+			try {
+				List<Object> values = redisTemplate.opsForValue().multiGet(batch);
+
+				for (int i = 0; i < batch.size(); i++) {
+					if (values != null && values.get(i) instanceof InventoryDto legacy) {
+						Integer itemId = Integer.valueOf(batch.get(i).substring(LEGACY_KEY_PREFIX.length()));
+						boolean saved = inventoryRepository.saveIfAbsent(InventoryDto.builder()
+							.itemId(itemId)
+							.quantity(legacy.getQuantity())
+							.reservedQuantity(legacy.getReservedQuantity())
+							.availableQuantity(legacy.getAvailableQuantity())
+							.build());
+						if (saved) {
+							migrated++;
+						}
+					}
+				}
+
+				redisTemplate.delete(batch);
+			} catch (Exception e) {
+				log.error("Failed to migrate legacy inventory keys: {}", batch, e);
+			}
+		}
+
+		log.info("Converted {} legacy inventory keys to hash format", migrated);
+		return migrated;
+	}
+}
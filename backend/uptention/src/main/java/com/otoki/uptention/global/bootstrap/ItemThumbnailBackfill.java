@@ -0,0 +1,53 @@
+package com.otoki.uptention.global.bootstrap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.item.service.ItemService;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 썸네일 컬럼이 비어 있는 기존 상품에 첫 번째 이미지를 채운다.
+ * 애플리케이션 시작 시 한 노드에서만 실행되며, ID 범위 단위로 나누어 갱신하므로 잠금 구간이 짧다.
+ * 이미 채워진 상품은 건너뛰므로 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemThumbnailBackfill implements ApplicationListener<ApplicationReadyEvent> {
+	private static final String THUMBNAIL_BACKFILL_LOCK = "bootstrap:item:thumbnail";
+	private static final int CHUNK_SIZE = 1000;
+
+	private final ItemService itemService;
+	private final DistributedLockManager lockManager;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		lockManager.executeWithLock(THUMBNAIL_BACKFILL_LOCK, 0, 300, this::backfillThumbnails);
+	}
+
+	/**
+	 * @return 썸네일이 채워진 상품 수
+	 */
+	public int backfillThumbnails() {
+		int maxItemId = itemService.getMaxItemId();
+		int updated = 0;
+
+		for (int fromId = 0; fromId < maxItemId; fromId += CHUNK_SIZE) {
+			try {
+				updated += itemService.backfillThumbnails(fromId, Math.min(fromId + CHUNK_SIZE, maxItemId));
+			} catch (Exception e) {
+				log.error("Failed to backfill item thumbnails for ids ({}, {}]", fromId, fromId + CHUNK_SIZE, e);
+			}
+		}
+
+		if (updated > 0) {
+			log.info("Backfilled thumbnails for {} items", updated);
+		}
+		return updated;
+	}
+}
@@ -0,0 +1,54 @@
+package com.otoki.uptention.global.bootstrap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.mining.service.MiningTimeService;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간 단위 집계(mining_hourly) 도입 이전에 종료된 채굴 세션을 집계에 반영한다.
+ * 애플리케이션 시작 시 한 노드에서만 실행되며, ID 범위 단위로 집계 누적과 반영 표시를 한 트랜잭션에서 처리한다.
+ * 이미 반영된 세션은 건너뛰므로 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MiningHourlyBackfill implements ApplicationListener<ApplicationReadyEvent> {
+	private static final String MINING_HOURLY_BACKFILL_LOCK = "bootstrap:mining:hourly";
+	private static final int CHUNK_SIZE = 5000;
+
+	private final MiningTimeService miningTimeService;
+	private final DistributedLockManager lockManager;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		lockManager.executeWithLock(MINING_HOURLY_BACKFILL_LOCK, 0, 600, this::backfillHourlyMiningTimes);
+	}
+
+	/**
+	 * @return 집계에 반영된 세션 수
+	 */
+	public int backfillHourlyMiningTimes() {
+		int maxMiningTimeId = miningTimeService.getMaxMiningTimeId();
+		int updated = 0;
+
+		for (int fromId = 0; fromId < maxMiningTimeId; fromId += CHUNK_SIZE) {
+			try {
+				updated += miningTimeService.backfillHourlyMiningTimes(fromId,
+					Math.min(fromId + CHUNK_SIZE, maxMiningTimeId));
+			} catch (Exception e) {
+				log.error("Failed to backfill hourly mining times for ids ({}, {}]", fromId, fromId + CHUNK_SIZE, e);
+			}
+		}
+
+		if (updated > 0) {
+			log.info("Backfilled hourly mining times for {} sessions", updated);
+		}
+		return updated;
+	}
+}
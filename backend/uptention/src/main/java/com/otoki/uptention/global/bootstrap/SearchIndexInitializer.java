@@ -0,0 +1,145 @@
+package com.otoki.uptention.global.bootstrap;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.common.KeywordSearch;
+import com.otoki.uptention.global.config.SearchProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키워드 검색용 FULLTEXT ngram 인덱스 확인 및 생성
+ * 존재가 확인된 인덱스만 KeywordSearch에 등록하므로, 인덱스가 생기기 전까지 검색은 LIKE로 동작한다.
+ * 다른 노드나 점검 작업(db/search-indexes.sql)이 만든 인덱스도 주기적으로 확인하여 반영한다.
+ * FULLTEXT 인덱스 추가는 생성 중 테이블 쓰기를 막으므로 search.fulltext.create-on-startup이 켜진 경우에만 직접 생성한다.
+ * MySQL이 아닌 DB(H2 테스트 등)에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements ApplicationListener<ApplicationReadyEvent> {
+	private static final String SEARCH_INDEX_LOCK = "bootstrap:search:index";
+
+	private static final List<SearchIndex> SEARCH_INDEXES = List.of(
+		new SearchIndex("item", KeywordSearch.ITEM_NAME_INDEX, "name"),
+		new SearchIndex("notification", KeywordSearch.NOTIFICATION_INDEX, "title, message")
+	);
+
+	private static final String INDEX_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.statistics "
+		+ "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+	// ngram 토큰에 불용어가 섞이면 토큰 전체가 색인에서 빠지므로 불용어를 끄고 생성 (세션 단위 설정)
+	private static final String DISABLE_STOPWORD_SQL = "SET SESSION innodb_ft_enable_stopword = OFF";
+	private static final String RESTORE_STOPWORD_SQL = "SET SESSION innodb_ft_enable_stopword = DEFAULT";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SearchProperties searchProperties;
+	private final DistributedLockManager lockManager;
+
+	private volatile boolean mySql;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		mySql = isMySql();
+		if (!mySql) {
+			return;
+		}
+
+		if (searchProperties.isCreateOnStartup()) {
+			lockManager.executeWithLock(SEARCH_INDEX_LOCK, 0, 600, this::createMissingIndexes);
+		}
+		refreshAvailableIndexes();
+	}
+
+	/**
+	 * 인덱스 존재 여부를 다시 확인하여 KeywordSearch에 반영 (모든 인덱스가 확인되면 더 조회하지 않음)
+	 */
+	@Scheduled(fixedDelay = 60000, initialDelay = 60000)
+	public void refreshAvailableIndexes() {
+		if (!mySql || SEARCH_INDEXES.stream().allMatch(index -> KeywordSearch.isAvailable(index.name))) {
+			return;
+		}
+
+		List<String> available = new ArrayList<>();
+		for (SearchIndex index : SEARCH_INDEXES) {
+			try {
+				if (exists(index)) {
+					available.add(index.name);
+				}
+			} catch (Exception e) {
+				log.warn("Failed to check full-text index {} on {}: {}", index.name, index.table, e.getMessage());
+			}
+		}
+
+		KeywordSearch.setAvailableIndexes(available);
+	}
+
+	public void createMissingIndexes() {
+		for (SearchIndex index : SEARCH_INDEXES) {
+			try {
+				if (exists(index)) {
+					continue;
+				}
+
+				log.info("Creating full-text index {} on {}({})", index.name, index.table, index.columns);
+				jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+					try (Statement statement = connection.createStatement()) {
+						statement.execute(DISABLE_STOPWORD_SQL);
+						try {
+							statement.execute("ALTER TABLE `" + index.table + "` ADD FULLTEXT INDEX " + index.name
+								+ " (" + index.columns + ") WITH PARSER ngram, ALGORITHM = INPLACE, LOCK = SHARED");
+						} finally {
+							// 풀에 반환되는 연결의 세션 설정 복원
+							statement.execute(RESTORE_STOPWORD_SQL);
+						}
+					}
+					return null;
+				});
+			} catch (Exception e) {
+				// 인덱스가 없으면 검색은 LIKE로 계속 동작한다.
+				log.error("Failed to create full-text index {} on {}, keyword search stays on LIKE",
+					index.name, index.table, e);
+			}
+		}
+	}
+
+	private boolean exists(SearchIndex index) {
+		Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, index.table, index.name);
+		return count != null && count > 0;
+	}
+
+	private boolean isMySql() {
+		try {
+			String product = jdbcTemplate.execute(
+				(ConnectionCallback<String>)connection ->
+					connection.getMetaData().getDatabaseProductName());
+			return "MySQL".equalsIgnoreCase(product);
+		} catch (Exception e) {
+			log.warn("Could not determine database product, skipping full-text index creation: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private static class SearchIndex {
+		private final String table;
+		private final String name;
+		private final String columns;
+
+		private SearchIndex(String table, String name, String columns) {
+			this.table = table;
+			this.name = name;
+			this.columns = columns;
+		}
+	}
+}
@@ -30,4 +30,19 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 시작 시 이어서 하는 토큰 지급 전용 스레드 (애플리케이션 시작 이벤트 스레드를 막지 않도록 분리)
+	 */
+	@Bean(name = "payoutTaskExecutor")
+	public Executor payoutTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("payout-async-");
+
+		executor.initialize();
+		return executor;
+	}
 }
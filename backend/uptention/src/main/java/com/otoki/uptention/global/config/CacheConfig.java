@@ -0,0 +1,101 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+
+	public static final String CATEGORIES = "categories";
+	public static final String ITEM_DETAIL = "itemDetail";
+
+	/**
+	 * 캐시 키 버전
+	 * 캐시하는 응답 DTO의 구조가 바뀌면 올려서 이전 배포가 저장한 값을 읽지 않도록 한다.
+	 */
+	private static final String CACHE_KEY_VERSION = "v1";
+
+	/**
+	 * Redis 캐시 설정
+	 * - 키: cache:{버전}:{캐시 이름}::{키}
+	 * - 값: 타입 정보를 포함한 JSON (LocalDateTime 지원)
+	 * - 트랜잭션 안에서의 저장/삭제는 커밋 이후에 반영
+	 */
+	@Bean
+	public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
+		RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+			.computePrefixWith(cacheName -> "cache:" + CACHE_KEY_VERSION + ":" + cacheName + "::")
+			.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer()))
+			.disableCachingNullValues();
+
+		return builder -> builder
+			.cacheDefaults(defaults.entryTtl(Duration.ofHours(1)))
+			.withCacheConfiguration(CATEGORIES, defaults.entryTtl(Duration.ofHours(1)))
+			.withCacheConfiguration(ITEM_DETAIL, defaults.entryTtl(Duration.ofMinutes(10)))
+			.transactionAware();
+	}
+
+	/**
+	 * 캐시 오류 처리
+	 * Redis 장애나 역직렬화 실패로 캐시를 읽거나 쓰지 못해도 요청을 실패시키지 않는다.
+	 * 조회 실패는 캐시 미스로 처리되어 원본 메서드를 실행하고, 저장/삭제 실패는 로그만 남긴다.
+	 */
+	@Override
+	public CacheErrorHandler errorHandler() {
+		return new CacheErrorHandler() {
+			@Override
+			public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+				log.warn("Cache get failed, loading from source: cache={}, key={}, error={}",
+					cache.getName(), key, exception.getMessage());
+			}
+
+			@Override
+			public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+				log.warn("Cache put failed: cache={}, key={}, error={}", cache.getName(), key, exception.getMessage());
+			}
+
+			@Override
+			public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+				log.error("Cache evict failed, stale value may remain until TTL: cache={}, key={}, error={}",
+					cache.getName(), key, exception.getMessage());
+			}
+
+			@Override
+			public void handleCacheClearError(RuntimeException exception, Cache cache) {
+				log.error("Cache clear failed, stale values may remain until TTL: cache={}, error={}",
+					cache.getName(), exception.getMessage());
+			}
+		};
+	}
+
+	private GenericJackson2JsonRedisSerializer cacheValueSerializer() {
+		ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		objectMapper.activateDefaultTyping(
+			BasicPolymorphicTypeValidator.builder().allowIfSubType("com.otoki.uptention.").allowIfSubType("java.").build(),
+			ObjectMapper.DefaultTyping.NON_FINAL,
+			JsonTypeInfo.As.PROPERTY);
+		return new GenericJackson2JsonRedisSerializer(objectMapper);
+	}
+}
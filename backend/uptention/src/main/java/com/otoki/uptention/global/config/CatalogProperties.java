@@ -0,0 +1,21 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "catalog")
+public class CatalogProperties {
+	// 상품 목록 메모리 조회 모델 사용 여부 (비활성화하면 항상 DB 조회)
+	private boolean enabled = true;
+
+	// 변경 이벤트를 놓쳤을 경우를 대비한 전체 재적재 주기
+	private Duration fullReloadInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,47 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "inventory")
+public class InventoryProperties {
+	// 재고 엔진 (lock: Redisson 분산락, script: Redis Lua 스크립트)
+	private String engine = "lock";
+
+	// 주문별 재고 예약 유지 시간 (결제되지 않으면 만료 후 해제)
+	private Duration reservationLeaseTtl = Duration.ofMinutes(2);
+
+	// 화면 표시용 재고 니어 캐시
+	private NearCache nearCache = new NearCache();
+
+	// 주문이 몰리는 상품의 가용 재고를 여러 버킷으로 나누어 예약 경합 분산
+	private HotItems hotItems = new HotItems();
+
+	@Getter
+	@Setter
+	public static class NearCache {
+		private boolean enabled = true;
+		private long maximumSize = 10_000;
+		private Duration ttl = Duration.ofSeconds(2);
+	}
+
+	@Getter
+	@Setter
+	public static class HotItems {
+		// 핫 아이템으로 운영할 상품 ID (목록에서 빠지면 버킷 재고를 재고 해시로 되돌림)
+		private List<Integer> itemIds = new ArrayList<>();
+		private int buckets = 8;
+		// 버킷 간 재고 차이(최대 - 최소)가 이 값을 넘을 때만 재분배
+		private int rebalanceThreshold = 10;
+	}
+}
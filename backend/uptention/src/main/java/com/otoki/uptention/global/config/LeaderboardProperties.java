@@ -0,0 +1,19 @@
+package com.otoki.uptention.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "leaderboard.mining")
+public class LeaderboardProperties {
+	// 주간 채굴 랭킹을 Redis 정렬 집합으로 제공할지 여부 (비활성화하면 항상 DB 집계)
+	private boolean enabled = true;
+
+	// 주가 끝난 뒤 랭킹을 보관하는 주 수 (이보다 오래된 주는 DB 집계로 조회)
+	private int retentionWeeks = 4;
+}
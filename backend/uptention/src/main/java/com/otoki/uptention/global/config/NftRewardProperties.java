@@ -0,0 +1,27 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reward.nft")
+public class NftRewardProperties {
+	// 동시에 진행하는 NFT 발행 요청 수
+	private int mintConcurrency = 4;
+
+	// 동시에 진행하는 NFT 전송 요청 수
+	private int transferConcurrency = 4;
+
+	// 발행과 전송을 모두 마칠 때까지 기다리는 최대 시간 (초과한 건은 중단, 발행된 NFT는 다음 실행에서 전송)
+	private Duration timeout = Duration.ofMinutes(30);
+
+	// NFT 하나의 전송을 시도하는 최대 횟수 (모두 실패하면 전송 실패로 남기고 수동 확인)
+	private int maxTransferAttempts = 3;
+}
@@ -0,0 +1,27 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.dispatcher")
+public class NotificationProperties {
+	// 저장/전송 대기 큐 크기 (가득 차면 호출 스레드가 직접 처리)
+	private int queueCapacity = 10_000;
+
+	// 한 번에 저장/전송할 최대 알림 수
+	private int batchSize = 500;
+
+	// 큐가 가득 찼을 때 자리가 날 때까지 기다리는 시간
+	private Duration offerTimeout = Duration.ofMillis(50);
+
+	// 종료 시 남은 알림을 처리하기 위해 기다리는 최대 시간
+	private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,33 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payout.token")
+public class PayoutProperties {
+	// 동시에 진행하는 일괄 전송 요청 수 (전송 스레드 수)
+	private int concurrency = 8;
+
+	// 초당 최대 일괄 전송 요청 수 (Express API 보호)
+	private double rateLimitPerSecond = 10;
+
+	// 일괄 전송 요청 하나에 담는 수신자 수
+	private int recipientsPerRequest = 25;
+
+	// 한 번에 전송 중으로 전환하고 결과를 기록하는 원장 수 (중단 시 결과를 알 수 없는 최대 건수)
+	private int batchSize = 200;
+
+	// 한 묶음의 전송을 기다리는 최대 시간 (초과한 건은 결과 확인 필요로 기록)
+	private Duration batchTimeout = Duration.ofMinutes(2);
+
+	// 확인 필요 원장의 전송 여부를 확인하기 전 대기 시간 (처리 중일 수 있는 트랜잭션의 블록해시 만료 이후)
+	private Duration unknownRetryDelay = Duration.ofMinutes(10);
+}
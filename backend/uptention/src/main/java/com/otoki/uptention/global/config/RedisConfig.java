@@ -3,15 +3,23 @@ package com.otoki.uptention.global.config;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.otoki.uptention.domain.item.cache.InventoryNearCache;
+import com.otoki.uptention.domain.item.cache.ItemCatalog;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -38,6 +46,58 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * 재고 전용 템플릿
+	 * 상품별 재고를 정수 필드 해시로 저장하여 JSON 변환 없이 읽고 HINCRBY로 갱신한다.
+	 */
+	@Bean
+	public RedisTemplate<String, Integer> inventoryRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, Integer> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(new GenericToStringSerializer<>(Integer.class));
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(new GenericToStringSerializer<>(Integer.class));
+		return template;
+	}
+
+	/**
+	 * 문자열 키/값 전용 템플릿
+	 * Lua 스크립트 인자와 반환값을 JSON 변환 없이 주고받기 위해 사용
+	 */
+	@Bean
+	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+		return new StringRedisTemplate(connectionFactory);
+	}
+
+	/**
+	 * 재고 니어 캐시 무효화 메시지 구독
+	 * 니어 캐시를 사용하지 않으면 구독하지 않는다.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "inventory.near-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+		InventoryNearCache inventoryNearCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(inventoryNearCache, new ChannelTopic(InventoryNearCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+
+	/**
+	 * 상품 목록 조회 모델 변경 메시지 구독
+	 * 조회 모델을 사용하지 않으면 구독하지 않는다.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "catalog", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public RedisMessageListenerContainer catalogMessageListenerContainer(RedisConnectionFactory connectionFactory,
+		ItemCatalog itemCatalog) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(itemCatalog, new ChannelTopic(ItemCatalog.CHANGE_CHANNEL));
+		return container;
+	}
+
 	@Bean
 	public RedissonClient redissonClient() {
 		Config config = new Config();
@@ -0,0 +1,44 @@
+package com.otoki.uptention.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+	// 읽기 전용 트랜잭션을 복제 DB로 보낼지 여부 (비활성화하면 모든 요청이 주 DB 사용)
+	private boolean enabled = false;
+
+	// 복제 DB 목록 (계정이 비어 있으면 주 DB 계정 사용)
+	private List<Node> nodes = new ArrayList<>();
+
+	// 허용하는 최대 복제 지연 (초과한 복제 DB는 지연이 줄어들 때까지 제외)
+	private Duration maxLag = Duration.ofSeconds(1);
+
+	// 쓰기 트랜잭션 이후 같은 요청(스레드)의 읽기를 주 DB로 고정하는 최대 시간
+	private Duration primaryPinDuration = Duration.ofSeconds(5);
+
+	// 복제 지연 점검 주기 (ReplicaLagMonitor)
+	private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+	// 복제 DB별 커넥션 풀 크기
+	private int maximumPoolSize = 10;
+
+	@Getter
+	@Setter
+	public static class Node {
+		private String name;
+		private String url;
+		private String username;
+		private String password;
+	}
+}
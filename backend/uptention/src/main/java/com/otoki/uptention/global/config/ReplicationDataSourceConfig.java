@@ -0,0 +1,73 @@
+package com.otoki.uptention.global.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.otoki.uptention.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 주 DB / 복제 DB 분리 설정
+ * datasource.replica.enabled=true 일 때만 적용되며, 그렇지 않으면 스프링 부트 기본 DataSource를 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+	// 주 DB (spring.datasource.*, 풀 설정은 spring.datasource.hikari.*)
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicationRoutingDataSource replicationRoutingDataSource(HikariDataSource primaryDataSource,
+		DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties) {
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		for (int i = 0; i < replicaProperties.getNodes().size(); i++) {
+			ReplicaProperties.Node node = replicaProperties.getNodes().get(i);
+			String name = node.getName() != null ? node.getName() : "replica-" + (i + 1);
+			replicas.put(name, createReplicaDataSource(name, node, dataSourceProperties, replicaProperties));
+		}
+
+		return new ReplicationRoutingDataSource(primaryDataSource, replicas,
+			replicaProperties.getPrimaryPinDuration());
+	}
+
+	// JPA가 사용하는 DataSource (트랜잭션의 읽기 전용 여부가 정해진 뒤 커넥션을 얻도록 지연)
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+	}
+
+	private HikariDataSource createReplicaDataSource(String name, ReplicaProperties.Node node,
+		DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName(name);
+		dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+		dataSource.setJdbcUrl(node.getUrl());
+		dataSource.setUsername(node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername());
+		dataSource.setPassword(node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword());
+		dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+}
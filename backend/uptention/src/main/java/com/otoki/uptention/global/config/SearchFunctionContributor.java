@@ -0,0 +1,38 @@
+package com.otoki.uptention.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * 키워드 검색용 JPQL 함수 등록 (META-INF/services 로 Hibernate에 등록)
+ * MySQL: FULLTEXT ngram 인덱스를 사용하는 MATCH ... AGAINST (키워드를 구문 검색으로 감싸 부분 일치와 같은 결과)
+ * 그 외(H2 테스트 등): 문자열 포함 여부 (LOCATE)
+ * 결과는 일치하면 0보다 큰 실수
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+	public static final String MATCH_AGAINST = "match_against";
+	public static final String MATCH_AGAINST_2 = "match_against_2";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+			.getBasicTypeRegistry()
+			.resolve(StandardBasicTypes.DOUBLE);
+
+		if (functionContributions.getDialect() instanceof MySQLDialect) {
+			functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST,
+				"match(?1) against (concat('\"', ?2, '\"') in boolean mode)", doubleType);
+			functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST_2,
+				"match(?1, ?2) against (concat('\"', ?3, '\"') in boolean mode)", doubleType);
+			return;
+		}
+
+		functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST,
+			"(case when locate(?2, ?1) > 0 then 1.0 else 0.0 end)", doubleType);
+		functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST_2,
+			"(case when locate(?3, ?1) > 0 or locate(?3, ?2) > 0 then 1.0 else 0.0 end)", doubleType);
+	}
+}
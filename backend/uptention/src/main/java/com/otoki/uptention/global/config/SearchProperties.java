@@ -0,0 +1,16 @@
+package com.otoki.uptention.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.fulltext")
+public class SearchProperties {
+	// 시작 시 없는 FULLTEXT 인덱스를 직접 생성 (생성 중 테이블 쓰기가 막히므로 운영에서는 끄고 db/search-indexes.sql로 생성)
+	private boolean createOnStartup = true;
+}
@@ -19,4 +19,7 @@ public class SolanaProperties {
 	// SPL 토큰 관련 속성
 	private String tokenProgramId;
 	private String workTokenMint;
+
+	// Express API 대신 로컬 대역(StubSolanaExpressApiService) 사용 여부
+	private boolean expressStub = false;
 }
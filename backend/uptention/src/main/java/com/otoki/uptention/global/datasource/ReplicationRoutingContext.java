@@ -0,0 +1,33 @@
+package com.otoki.uptention.global.datasource;
+
+import java.time.Duration;
+
+/**
+ * 스레드별 주 DB 고정 상태
+ * 쓰기 트랜잭션을 수행한 요청은 이후 읽기도 주 DB에서 수행하여 방금 쓴 데이터를 읽을 수 있게 한다.
+ * 요청 스레드는 요청이 끝나면 필터가 해제하고, 스케줄러 등 그 외 스레드는 고정 시간이 지나면 해제된다.
+ */
+public class ReplicationRoutingContext {
+
+	private static final ThreadLocal<Long> PRIMARY_PINNED_UNTIL = new ThreadLocal<>();
+
+	public static void pinToPrimary(Duration duration) {
+		PRIMARY_PINNED_UNTIL.set(System.nanoTime() + duration.toNanos());
+	}
+
+	public static boolean isPinnedToPrimary() {
+		Long pinnedUntil = PRIMARY_PINNED_UNTIL.get();
+		if (pinnedUntil == null) {
+			return false;
+		}
+		if (System.nanoTime() - pinnedUntil >= 0) {
+			PRIMARY_PINNED_UNTIL.remove();
+			return false;
+		}
+		return true;
+	}
+
+	public static void clear() {
+		PRIMARY_PINNED_UNTIL.remove();
+	}
+}
@@ -0,0 +1,129 @@
+package com.otoki.uptention.global.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * - 읽기 전용 트랜잭션: 사용 가능한 복제 DB 중 라운드 로빈으로 선택
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖 조회): 주 DB
+ * - 쓰기 트랜잭션이 커넥션을 사용하면 해당 스레드를 일정 시간 주 DB로 고정
+ * - 복제 지연이 크거나 연결할 수 없는 복제 DB는 제외하고, 모두 제외되면 주 DB 사용
+ *
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 이후에 결정되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 실제 쿼리 시점에 커넥션을 얻도록 해야 한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+	public static final String PRIMARY = "primary";
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final Duration primaryPinDuration;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+
+	public ReplicationRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+		Duration primaryPinDuration) {
+		this.primary = primary;
+		this.primaryPinDuration = primaryPinDuration;
+
+		List<Replica> replicaList = new ArrayList<>();
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		replicas.forEach((name, dataSource) -> {
+			replicaList.add(new Replica(name, dataSource));
+			targets.put(name, dataSource);
+		});
+		this.replicas = Collections.unmodifiableList(replicaList);
+
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	public List<Replica> getReplicas() {
+		return replicas;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isActualTransactionActive()) {
+				ReplicationRoutingContext.pinToPrimary(primaryPinDuration);
+			}
+			return PRIMARY;
+		}
+
+		if (ReplicationRoutingContext.isPinnedToPrimary()) {
+			return PRIMARY;
+		}
+
+		Replica replica = nextAvailableReplica();
+		return replica != null ? replica.getName() : PRIMARY;
+	}
+
+	private Replica nextAvailableReplica() {
+		int size = replicas.size();
+		int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.isAvailable()) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void close() throws Exception {
+		closeIfPossible(primary);
+		for (Replica replica : replicas) {
+			closeIfPossible(replica.getDataSource());
+		}
+	}
+
+	private void closeIfPossible(DataSource dataSource) throws Exception {
+		if (dataSource instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	/**
+	 * 복제 DB 상태 (ReplicaLagMonitor가 갱신)
+	 * 첫 점검 전까지는 사용하지 않는다.
+	 */
+	@Getter
+	public static class Replica {
+		private final String name;
+		private final DataSource dataSource;
+		private volatile boolean available;
+		private volatile long lagMillis = -1;
+
+		private Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+
+		public void update(boolean available, long lagMillis) {
+			if (this.available != available) {
+				log.info("Replica {} is now {} (lag {}ms)", name, available ? "available" : "unavailable", lagMillis);
+			}
+			this.available = available;
+			this.lagMillis = lagMillis;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.otoki.uptention.global.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 시간 초과 이벤트 (애플리케이션 내부)
+ * 시간 초과로 결제 실패 처리된 주문들의 알림을 트랜잭션 커밋 이후 비동기로 전송하기 위해 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentExpiredEvent {
+
+	/**
+	 * 결제 실패로 변경된 주문 ID 목록
+	 */
+	private final List<Integer> orderIds;
+
+	/**
+	 * 실패 사유
+	 */
+	private final String reason;
+}
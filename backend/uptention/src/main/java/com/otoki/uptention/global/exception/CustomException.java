@@ -6,11 +6,19 @@ import lombok.Getter;
 public class CustomException extends RuntimeException {
 	private final ErrorCode errorCode;
 
+	// 응답에 함께 내려줄 상세 정보 (없으면 null)
+	private final Object details;
+
 	/**
 	 * ErrorCode의 defaultMessage를 기본 메시지로 사용
 	 */
 	public CustomException(ErrorCode errorCode) {
+		this(errorCode, null);
+	}
+
+	public CustomException(ErrorCode errorCode, Object details) {
 		super(errorCode.getDefaultMessage());
 		this.errorCode = errorCode;
+		this.details = details;
 	}
 }
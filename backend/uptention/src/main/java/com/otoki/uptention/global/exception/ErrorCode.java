@@ -31,6 +31,7 @@ public enum ErrorCode {
 	ITEM_QUANTITY_MIN_REQUIRED(HttpStatus.BAD_REQUEST, "ITEM_008", "상품 수량은 1개 이상이어야 합니다."),
 	ITEM_QUANTITY_MAX_EXCEEDED(HttpStatus.BAD_REQUEST, "ITEM_009", "상품 수량은 99개 이하여야 합니다."),
 	ITEM_UPDATE_NO_CHANGES(HttpStatus.BAD_REQUEST, "ITEM_010", "변경할 정보가 없습니다."),
+	ITEM_BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "ITEM_011", "한 번에 조회할 수 있는 상품은 50개 이하입니다."),
 
 	// 상품 등록 관련 에러
 	ITEM_IMAGE_COUNT_INVALID(HttpStatus.BAD_REQUEST, "ITEM_010", "이미지는 1개 이상 3개 이하로 업로드해야 합니다."),
@@ -52,6 +53,7 @@ public enum ErrorCode {
 	INVENTORY_RESERVED_FAILED(HttpStatus.BAD_REQUEST, "INVENTORY_004", "재고 예약에 실패했습니다."),
 	INVENTORY_INVALID_QUANTITY(HttpStatus.BAD_REQUEST, "INVENTORY_005", "재고 변경 수량이 올바르지 않습니다."),
 	INVENTORY_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "INVENTORY_006", "재고 업데이트에 실패했습니다."),
+	INVENTORY_HOT_ITEM_UPDATE_NOT_ALLOWED(HttpStatus.CONFLICT, "INVENTORY_007", "핫 아이템으로 운영 중인 상품은 재고를 직접 변경할 수 없습니다."),
 
 	// 커서 관련 에러
 	CURSOR_ENCODING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CURSOR_001", "커서 인코딩에 실패했습니다."),
@@ -87,7 +89,9 @@ public enum ErrorCode {
 	TOP_VARIABLE_ERROR(HttpStatus.BAD_REQUEST, "RANK_001", "top 변수가 올바르지 않습니다."),
 
 	// 스케줄러 관련 에러
-	POINT_SCHEDULER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SCHEDULER_001", "토큰 전송 프로그램을 호출하지 못했습니다.");
+	POINT_SCHEDULER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SCHEDULER_001", "토큰 전송 프로그램을 호출하지 못했습니다."),
+	POINT_TRANSFER_UNCONFIRMED(HttpStatus.INTERNAL_SERVER_ERROR, "SCHEDULER_002", "토큰 전송 결과를 확인하지 못했습니다."),
+	NFT_MINT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SCHEDULER_003", "NFT 발행 결과를 확인하지 못했습니다.");
 
 	// http 상태 코드
 	private final HttpStatus status;
@@ -1,5 +1,7 @@
 package com.otoki.uptention.global.exception;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,6 +14,9 @@ public class ErrorResponse {
 
 	private String path;
 
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Object details;
+
 	public static ErrorResponse of(ErrorCode errorCode, String message, String path) {
 		return ErrorResponse.builder()
 			.code(errorCode.getCode())
@@ -27,4 +32,13 @@ public class ErrorResponse {
 			.path(path)
 			.build();
 	}
+
+	public static ErrorResponse of(CustomException exception, String path) {
+		return ErrorResponse.builder()
+			.code(exception.getErrorCode().getCode())
+			.message(exception.getErrorCode().getDefaultMessage())
+			.path(path)
+			.details(exception.getDetails())
+			.build();
+	}
 }
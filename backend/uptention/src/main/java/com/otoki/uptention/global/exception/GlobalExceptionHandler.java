@@ -26,7 +26,7 @@ public class GlobalExceptionHandler {
 		ErrorCode errorCode = ex.getErrorCode();
 
 		return ResponseEntity.status(errorCode.getStatus())
-			.body(ErrorResponse.of(errorCode, request.getRequestURI()));
+			.body(ErrorResponse.of(ex, request.getRequestURI()));
 	}
 
 	/**
@@ -0,0 +1,31 @@
+package com.otoki.uptention.global.listener;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.otoki.uptention.application.payment.service.PaymentExpirationService;
+import com.otoki.uptention.global.event.PaymentExpiredEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentExpiredEventListener {
+
+	private final PaymentExpirationService paymentExpirationService;
+
+	// 주문 상태 변경이 커밋된 후에만 알림 전송 (스케줄러 스레드를 막지 않도록 비동기 실행)
+	@Async("fcmTaskExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handlePaymentExpiredEvent(PaymentExpiredEvent event) {
+		try {
+			paymentExpirationService.sendExpirationNotifications(event.getOrderIds(), event.getReason());
+		} catch (Exception e) {
+			log.error("결제 시간 초과 알림 처리 중 오류 발생: 주문 ID={}", event.getOrderIds(), e);
+		}
+	}
+}
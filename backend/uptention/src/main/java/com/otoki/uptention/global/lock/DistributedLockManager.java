@@ -15,13 +15,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DistributedLockManager {
 
+	// 락을 보유한 동안 만료 시간을 계속 연장 (Redisson watchdog, 작업 시간을 예측할 수 없을 때 사용)
+	public static final int RENEW_WHILE_HELD = -1;
+
 	private final RedissonClient redissonClient;
 
 	/**
 	 * 분산 락을 사용하여 작업을 실행합니다.
 	 * @param lockName 락 이름 (고유해야 함)
 	 * @param waitTimeSeconds 락 획득 대기 시간 (초)
-	 * @param leaseTimeSeconds 락 유지 최대 시간 (초)
+	 * @param leaseTimeSeconds 락 유지 최대 시간 (초), RENEW_WHILE_HELD이면 작업이 끝날 때까지 연장
 	 * @param supplier 실행할 작업
 	 * @param <T> 반환 타입
 	 * @return 작업 결과
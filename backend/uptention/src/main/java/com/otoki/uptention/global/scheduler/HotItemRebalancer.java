@@ -0,0 +1,38 @@
+package com.otoki.uptention.global.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.item.service.HotItemInventoryService;
+import com.otoki.uptention.global.config.InventoryProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 핫 아이템 버킷 재분배 (스케줄러)
+ * 모든 노드가 핫 아이템 등록 정보를 갱신하고, 락을 잡은 한 노드만 설정과 맞춰 등록/해제를 수행한다.
+ * 버킷 재분배는 흡수할 가용 재고가 있거나 버킷 간 차이가 rebalance-threshold를 넘는 상품에만 적용된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotItemRebalancer {
+
+	private static final String HOT_ITEM_REBALANCE_LOCK = "scheduler:inventory:hot-items";
+
+	private final HotItemInventoryService hotItemInventoryService;
+	private final InventoryProperties inventoryProperties;
+	private final DistributedLockManager lockManager;
+
+	@Scheduled(fixedDelay = 1000)
+	public void rebalance() {
+		hotItemInventoryService.refreshRegistry();
+
+		// 설정된 핫 아이템도, 해제할 핫 아이템도 없으면 락을 잡지 않음
+		if (inventoryProperties.getHotItems().getItemIds().isEmpty() && !hotItemInventoryService.hasHotItems()) {
+			return;
+		}
+
+		lockManager.executeWithLock(HOT_ITEM_REBALANCE_LOCK, 0, 5, hotItemInventoryService::reconcile);
+	}
+}
@@ -0,0 +1,69 @@
+package com.otoki.uptention.global.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.application.payment.service.PaymentExpirationService;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
+import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.global.config.InventoryProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 재고 예약 임대 해제 (스케줄러)
+ * 만료된 임대를 원자적으로 꺼내므로 여러 노드에서 동시에 실행되어도 같은 주문을 중복 처리하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLeaseReaper {
+
+	private static final int BATCH_SIZE = 200;
+
+	private final InventoryLeaseService inventoryLeaseService;
+	private final InventoryService inventoryService;
+	private final PaymentExpirationService paymentExpirationService;
+	private final InventoryProperties inventoryProperties;
+
+	@Scheduled(fixedDelay = 5000)
+	public void releaseExpiredLeases() {
+		while (true) {
+			Map<Integer, Map<Integer, Integer>> expired = inventoryLeaseService.popExpired(BATCH_SIZE);
+			if (expired.isEmpty()) {
+				return;
+			}
+
+			// 만료된 주문의 상품 수량을 합쳐 한 번에 해제
+			Map<Integer, Integer> itemQuantities = new HashMap<>();
+			expired.values().forEach(items -> items.forEach((itemId, quantity) ->
+				itemQuantities.merge(itemId, quantity, Integer::sum)));
+
+			if (!inventoryService.cancelReservations(itemQuantities)) {
+				log.error("만료된 재고 예약 해제에 실패했습니다. 주문 ID: {}", expired.keySet());
+				inventoryLeaseService.restore(expired);
+				return;
+			}
+
+			log.info("만료된 재고 예약 {}건을 해제했습니다.", expired.size());
+
+			// 주문 상태 일괄 변경 및 비동기 알림 (임대가 이미 회수되었으므로 재고는 다시 해제하지 않음)
+			// 상태 변경에 실패한 주문은 PaymentScheduler가 다시 정리한다.
+			String reason = "결제 시간 초과 (" + inventoryProperties.getReservationLeaseTtl().toMinutes() + "분)";
+			try {
+				paymentExpirationService.expireOrders(new ArrayList<>(expired.keySet()), reason);
+			} catch (Exception e) {
+				log.error("만료된 주문의 결제 실패 처리에 실패했습니다. 주문 ID: {}", expired.keySet(), e);
+			}
+
+			if (expired.size() < BATCH_SIZE) {
+				return;
+			}
+		}
+	}
+}
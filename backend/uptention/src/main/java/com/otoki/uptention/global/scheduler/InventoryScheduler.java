@@ -3,5 +3,7 @@ package com.otoki.uptention.global.scheduler;
 public interface InventoryScheduler {
 	void initializeAllInventories();
 
+	void syncChangedInventoriesToDatabase();
+
 	void syncAllInventoriesToDatabase();
 }
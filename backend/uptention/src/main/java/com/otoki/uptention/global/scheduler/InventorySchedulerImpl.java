@@ -1,18 +1,22 @@
 package com.otoki.uptention.global.scheduler;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.otoki.uptention.domain.item.dto.InventoryDto;
-import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.dto.ItemQuantityDto;
 import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.domain.item.service.InventoryWriteBackService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.global.lock.DistributedLockManager;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,44 +25,89 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class InventorySchedulerImpl implements InventoryScheduler {
 	private static final String INVENTORY_SYNC_LOCK = "scheduler:inventory:sync";
+	private static final int BOOTSTRAP_PAGE_SIZE = 1000;
 
 	private final InventoryService inventoryService;
 	private final ItemService itemService;
+	private final InventoryWriteBackService inventoryWriteBackService;
 	private final DistributedLockManager lockManager;
+	private final MeterRegistry meterRegistry;
 
+	/**
+	 * DB 재고를 Redis에 적재 (Redis에 이미 있는 상품은 유지)
+	 * 엔티티 대신 (ID, 재고)만 ID 순으로 페이지 단위 조회하고, 페이지마다 스크립트 한 번으로 적재한다.
+	 */
 	@Override
 	public void initializeAllInventories() {
 		log.info("Initializing all inventories from database to Redis");
-		List<Item> allItems = itemService.getAllItems();
 
-		Map<Integer, Integer> itemQuantities = new HashMap<>();
-		for (Item item : allItems) {
-			itemQuantities.put(item.getId(), item.getQuantity());
+		Counter scannedCounter = meterRegistry.counter("inventory.bootstrap.items", "result", "scanned");
+		Counter loadedCounter = meterRegistry.counter("inventory.bootstrap.items", "result", "loaded");
+		Timer.Sample sample = Timer.start();
+
+		int scanned = 0;
+		int loaded = 0;
+		Integer lastItemId = 0;
+
+		while (true) {
+			List<ItemQuantityDto> page = itemService.getActiveItemQuantitiesAfter(lastItemId, BOOTSTRAP_PAGE_SIZE);
+			if (page.isEmpty()) {
+				break;
+			}
+
+			Map<Integer, Integer> itemQuantities = new LinkedHashMap<>();
+			for (ItemQuantityDto item : page) {
+				itemQuantities.put(item.getItemId(), item.getQuantity());
+			}
+
+			int pageLoaded = inventoryService.initializeMissingInventories(itemQuantities);
+			scanned += page.size();
+			loaded += pageLoaded;
+			scannedCounter.increment(page.size());
+			loadedCounter.increment(pageLoaded);
+
+			log.info("Inventory bootstrap progress: scanned={}, loaded={}", scanned, loaded);
+
+			if (page.size() < BOOTSTRAP_PAGE_SIZE) {
+				break;
+			}
+			lastItemId = page.get(page.size() - 1).getItemId();
 		}
 
-		inventoryService.initializeInventories(itemQuantities);
+		long elapsedNanos = sample.stop(meterRegistry.timer("inventory.bootstrap.duration"));
+		log.info("Inventory bootstrap completed: scanned={}, loaded={}, skipped={}, elapsed={}ms",
+			scanned, loaded, scanned - loaded, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
 	}
 
-	@Scheduled(fixedDelay = 300000)
+	/**
+	 * 변경된 상품의 재고만 DB에 반영
+	 */
+	@Scheduled(fixedDelay = 10000)
+	@Override
+	public void syncChangedInventoriesToDatabase() {
+		lockManager.executeWithLock(INVENTORY_SYNC_LOCK, 0, 240, () -> {
+			int flushed = inventoryWriteBackService.flushChangedInventories();
+			if (flushed > 0) {
+				log.info("Synchronized {} changed inventories to database", flushed);
+			}
+		});
+	}
+
+	/**
+	 * 전체 상품을 반영 대상으로 기록한 뒤 반영
+	 * 변경 기록이 유실된 경우를 대비한 보정용으로 드물게 실행한다.
+	 */
+	@Scheduled(initialDelay = 3600000, fixedDelay = 3600000)
 	@Override
 	public void syncAllInventoriesToDatabase() {
 		lockManager.executeWithLock(INVENTORY_SYNC_LOCK, 10, 240, () -> {
 			log.info("Starting synchronization of all inventories to database");
 
-			List<Item> allItems = itemService.getAllItems();
-			for (Item item : allItems) {
-				try {
-					InventoryDto inventory = inventoryService.getInventory(item.getId());
-					item.updateQuantity(inventory.getQuantity());
-
-					// log.info("Synchronized inventory for item {} to database: quantity={}", item.getId(),
-					// 	inventory.getQuantity());
-				} catch (Exception e) {
-					log.error("Error synchronizing inventory for item {}", item.getId(), e);
-				}
-			}
+			List<Integer> itemIds = itemService.getActiveItemIds();
+			inventoryWriteBackService.markChanged(itemIds);
+			int flushed = inventoryWriteBackService.flushChangedInventories();
 
-			log.info("Completed synchronization of all inventories to database");
+			log.info("Completed synchronization of all inventories to database: {} items", flushed);
 		});
 	}
 }
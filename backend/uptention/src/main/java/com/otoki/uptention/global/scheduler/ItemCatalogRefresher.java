@@ -0,0 +1,47 @@
+package com.otoki.uptention.global.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.domain.item.cache.ItemCatalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록 조회 모델 갱신 (스케줄러)
+ * 조회 모델은 노드별로 유지하므로 락 없이 모든 노드가 각자 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemCatalogRefresher {
+
+	private final ItemCatalog itemCatalog;
+
+	// 애플리케이션 기동 후 최초 적재
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reloadAll();
+	}
+
+	// 변경 알림을 받은 상품 반영
+	@Scheduled(fixedDelay = 1000)
+	public void applyPendingChanges() {
+		itemCatalog.applyPendingChanges();
+	}
+
+	// 놓친 변경 이벤트를 보정하기 위한 전체 재적재
+	@Scheduled(fixedDelayString = "${catalog.full-reload-interval:PT10M}",
+		initialDelayString = "${catalog.full-reload-interval:PT10M}")
+	public void reloadAll() {
+		try {
+			itemCatalog.reloadAll();
+		} catch (Exception e) {
+			// 조회 모델이 없으면 DB에서 조회하므로 다음 주기에 다시 시도
+			log.warn("Failed to reload item catalog: {}", e.getMessage());
+		}
+	}
+}
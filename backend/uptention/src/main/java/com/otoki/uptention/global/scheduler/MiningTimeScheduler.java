@@ -1,5 +1,8 @@
 package com.otoki.uptention.global.scheduler;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -22,10 +25,37 @@ public class MiningTimeScheduler {
 
 	@Scheduled(cron = "00 30 23 * * *", zone = "Asia/Seoul")
 	public void updateNullEndTime() {
-		lockManager.executeWithLock(UPDATE_MINING_LOCK, 30, 1800, () -> {
+		// 전송 시간은 지급 대상 수에 비례하므로 고정 만료 대신 작업이 끝날 때까지 락을 연장
+		lockManager.executeWithLock(UPDATE_MINING_LOCK, 30, DistributedLockManager.RENEW_WHILE_HELD, () -> {
 			log.info("Acquired lock for daily mining processes");
 			// 서비스 레이어의 트랜잭션 메서드 호출
 			miningTimeAppService.executeDailyMiningProcesses();
+			// 커밋된 지급 원장을 트랜잭션 밖에서 전송
+			miningTimeAppService.executeTokenPayouts();
+		});
+	}
+
+	/**
+	 * 이전 실행이 중단되어 남은 지급 대기 건과 확인 필요 건을 시작 시 이어서 처리
+	 * 전송이 오래 걸릴 수 있으므로 시작 이벤트 스레드가 아닌 전용 스레드에서 실행한다.
+	 */
+	@Async("payoutTaskExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeTokenPayouts() {
+		lockManager.executeWithLock(UPDATE_MINING_LOCK, 0, DistributedLockManager.RENEW_WHILE_HELD, () -> {
+			log.info("Acquired lock for resuming token payouts");
+			miningTimeAppService.executeTokenPayouts();
+		});
+	}
+
+	/**
+	 * 전송 결과 확인이 필요한 지급 원장을 매시간 정산 (전송 확인 시 완료, 전송되지 않았으면 같은 멱등 키로 재전송)
+	 */
+	@Scheduled(cron = "00 00 * * * *", zone = "Asia/Seoul")
+	public void retryTokenPayouts() {
+		lockManager.executeWithLock(UPDATE_MINING_LOCK, 0, DistributedLockManager.RENEW_WHILE_HELD, () -> {
+			log.info("Acquired lock for retrying token payouts");
+			miningTimeAppService.executeTokenPayouts();
 		});
 	}
 
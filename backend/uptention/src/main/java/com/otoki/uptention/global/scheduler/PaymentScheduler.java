@@ -1,16 +1,20 @@
 package com.otoki.uptention.global.scheduler;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.otoki.uptention.application.payment.service.PaymentProcessService;
-import com.otoki.uptention.domain.order.entity.Order;
+import com.otoki.uptention.application.payment.service.PaymentExpirationService;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
+import com.otoki.uptention.domain.item.service.InventoryService;
 import com.otoki.uptention.domain.order.enums.OrderStatus;
 import com.otoki.uptention.domain.order.service.OrderService;
+import com.otoki.uptention.global.config.InventoryProperties;
 import com.otoki.uptention.global.lock.DistributedLockManager;
 
 import lombok.RequiredArgsConstructor;
@@ -21,49 +25,76 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PaymentScheduler {
 
-	private static final int PAYMENT_TIMEOUT_MINUTES = 2; // 2분 타임아웃
+	private static final int SWEEP_CHUNK_SIZE = 500;
 	private static final String PAYMENT_CHECK_LOCK = "scheduler:payment:check";
 
 	private final OrderService orderService;
-	private final PaymentProcessService paymentProcessService;
+	private final PaymentExpirationService paymentExpirationService;
+	private final InventoryLeaseService inventoryLeaseService;
+	private final InventoryService inventoryService;
+	private final InventoryProperties inventoryProperties;
 	private final DistributedLockManager lockManager;
 
 	/**
 	 * 결제 대기 주문 타임아웃 확인 (스케줄러)
+	 * 재고 해제와 주문 상태 변경은 InventoryLeaseReaper가 만료 즉시 처리하므로,
+	 * 상태 변경이 누락된 주문(장애 복구 직후 등)을 정리하는 보조 수단으로 실행한다.
+	 * 만료된 주문 ID만 (status, created_at) 인덱스로 조회하여 청크 단위로
+	 * 재고 해제 한 번, 상태 UPDATE 한 번씩 처리하고 알림은 커밋 이후 비동기로 전송한다.
 	 */
-	@Scheduled(fixedRate = 60000) // 1분마다 실행
+	@Scheduled(fixedRate = 600000) // 10분마다 실행
 	public void checkPendingPayments() {
 		lockManager.executeWithLock(PAYMENT_CHECK_LOCK, 10, 50, () -> {
 
 			log.info("결제 대기 주문 타임아웃 확인 시작");
 
-			// 결제 대기 상태인 주문 조회
-			List<Order> pendingOrders = orderService.getOrdersByStatus(OrderStatus.PAYMENT_PENDING);
-
-			for (Order order : pendingOrders) {
-				// LocalDateTime을 Instant로 변환하고 경과 시간 계산
-				long orderAgeMinutes = Duration.between(
-					order.getCreatedAt(),
-					LocalDateTime.now()
-				).toMinutes();
-
-				// 2분 (설정된 타임아웃) 초과 시 처리
-				if (orderAgeMinutes >= PAYMENT_TIMEOUT_MINUTES) {
-					log.info("주문 ID({})의 결제 시간 초과 (경과 시간: {}분)", order.getId(), orderAgeMinutes);
-					// 결제 실패 처리
-					String orderId = String.valueOf(order.getId());
-					boolean success = paymentProcessService.processPaymentFailure(orderId,
-						"결제 시간 초과 (" + PAYMENT_TIMEOUT_MINUTES + "분)");
-
-					if (success) {
-						log.info("주문 ID({})의 결제 실패 처리가 완료되었습니다.", orderId);
-					} else {
-						log.error("주문 ID({})의 결제 실패 처리에 실패했습니다.", orderId);
-					}
+			LocalDateTime createdBefore = LocalDateTime.now().minus(inventoryProperties.getReservationLeaseTtl());
+			String reason = "결제 시간 초과 (" + inventoryProperties.getReservationLeaseTtl().toMinutes() + "분)";
+			int expiredCount = 0;
+
+			while (true) {
+				List<Integer> orderIds = orderService.getOrderIdsByStatusCreatedBefore(
+					OrderStatus.PAYMENT_PENDING, createdBefore, SWEEP_CHUNK_SIZE);
+				if (orderIds.isEmpty()) {
+					break;
+				}
+
+				// 재고 해제에 실패하면 주문 상태를 바꾸지 않고 다음 주기에 다시 처리
+				if (!releaseReservations(orderIds)) {
+					break;
+				}
+
+				expiredCount += paymentExpirationService.expireOrders(orderIds, reason);
+
+				if (orderIds.size() < SWEEP_CHUNK_SIZE) {
+					break;
 				}
 			}
 
-			log.info("결제 대기 주문 타임아웃 확인 완료");
+			log.info("결제 대기 주문 타임아웃 확인 완료 (결제 실패 처리: {}건)", expiredCount);
 		});
 	}
+
+	/**
+	 * 청크에 속한 주문의 재고 예약 임대를 한 번에 회수하고, 상품 수량을 합쳐 한 번에 해제
+	 * 임대가 없는 주문은 이미 만료 처리나 결제 처리에서 재고가 해제된 주문이다.
+	 */
+	private boolean releaseReservations(List<Integer> orderIds) {
+		Map<Integer, Map<Integer, Integer>> claimed = inventoryLeaseService.claimAll(orderIds);
+		if (claimed.isEmpty()) {
+			return true;
+		}
+
+		Map<Integer, Integer> itemQuantities = new HashMap<>();
+		claimed.values().forEach(items -> items.forEach((itemId, quantity) ->
+			itemQuantities.merge(itemId, quantity, Integer::sum)));
+
+		if (!inventoryService.cancelReservations(itemQuantities)) {
+			log.error("시간 초과 주문의 재고 예약 해제에 실패했습니다. 주문 ID: {}", new ArrayList<>(claimed.keySet()));
+			inventoryLeaseService.restore(claimed);
+			return false;
+		}
+
+		return true;
+	}
 }
@@ -0,0 +1,90 @@
+package com.otoki.uptention.global.scheduler;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otoki.uptention.global.config.ReplicaProperties;
+import com.otoki.uptention.global.datasource.ReplicationRoutingDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제 DB 지연 점검 (스케줄러)
+ * 노드마다 자신이 사용하는 복제 DB를 점검하므로 락 없이 실행한다.
+ * MySQL 복제 DB는 SHOW REPLICA STATUS의 Seconds_Behind_Source로 지연을 확인하고,
+ * 복제 상태가 없는 DB(로컬 H2 등)는 연결만 확인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+	private static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 1;
+
+	private final ReplicationRoutingDataSource routingDataSource;
+	private final long maxLagMillis;
+
+	public ReplicaLagMonitor(ReplicationRoutingDataSource routingDataSource, ReplicaProperties replicaProperties,
+		MeterRegistry meterRegistry) {
+		this.routingDataSource = routingDataSource;
+		this.maxLagMillis = replicaProperties.getMaxLag().toMillis();
+
+		for (ReplicationRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+			Gauge.builder("datasource.replica.lag", replica, ReplicationRoutingDataSource.Replica::getLagMillis)
+				.description("Replication lag in milliseconds (-1 when unreachable)")
+				.tag("replica", replica.getName())
+				.register(meterRegistry);
+		}
+	}
+
+	// 기동 직후 한 번 점검하여 첫 요청부터 복제 DB 사용
+	@EventListener(ApplicationReadyEvent.class)
+	public void checkOnStartup() {
+		checkReplicas();
+	}
+
+	@Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT1S}")
+	public void checkReplicas() {
+		for (ReplicationRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+			long lagMillis = measureLagMillis(replica);
+			replica.update(lagMillis >= 0 && lagMillis <= maxLagMillis, lagMillis);
+		}
+	}
+
+	/**
+	 * 복제 지연 측정 (연결 실패 또는 복제 중단 시 -1)
+	 */
+	private long measureLagMillis(ReplicationRoutingDataSource.Replica replica) {
+		try (Connection connection = replica.getDataSource().getConnection()) {
+			if (!connection.isValid(CONNECTION_VALIDATION_TIMEOUT_SECONDS)) {
+				return -1;
+			}
+			if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+				return 0;
+			}
+
+			try (Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+				if (!resultSet.next()) {
+					// 복제 설정이 없는 DB는 지연 없음으로 간주
+					return 0;
+				}
+				long secondsBehind = resultSet.getLong("Seconds_Behind_Source");
+				return resultSet.wasNull() ? -1 : secondsBehind * 1000;
+			}
+		} catch (SQLException e) {
+			log.warn("Failed to check replica {}: {}", replica.getName(), e.getMessage());
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.otoki.uptention.global.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class ETagUtils {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+	// 128비트면 충돌 가능성 없이 헤더를 짧게 유지할 수 있음
+	private static final int TAG_LENGTH = 16;
+
+	/**
+	 * 응답 본문 내용으로 강한 ETag 생성 ("..." 형식)
+	 * 같은 내용이면 노드와 관계없이 같은 값이 나오므로 조건부 요청(If-None-Match)에 사용할 수 있다.
+	 */
+	public static String strong(Object body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(OBJECT_MAPPER.writeValueAsBytes(body));
+			byte[] tag = new byte[TAG_LENGTH];
+			System.arraycopy(digest, 0, tag, 0, TAG_LENGTH);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(tag) + "\"";
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Failed to generate ETag", e);
+		}
+	}
+}
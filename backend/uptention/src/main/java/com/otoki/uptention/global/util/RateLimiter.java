@@ -0,0 +1,37 @@
+package com.otoki.uptention.global.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 간격을 일정하게 유지하는 단순 속도 제한기
+ * 허용량을 쌓아 두지 않으므로 순간적으로 몰리는 요청도 초당 제한을 넘지 않는다.
+ */
+public class RateLimiter {
+
+	private final long intervalNanos;
+	private long nextPermitNanos;
+
+	public RateLimiter(double permitsPerSecond) {
+		if (permitsPerSecond <= 0) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive");
+		}
+		this.intervalNanos = (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.nextPermitNanos = System.nanoTime();
+	}
+
+	/**
+	 * 다음 허용 시점까지 대기
+	 */
+	public void acquire() throws InterruptedException {
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long permitAt = Math.max(now, nextPermitNanos);
+			nextPermitNanos = permitAt + intervalNanos;
+			waitNanos = permitAt - now;
+		}
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+}
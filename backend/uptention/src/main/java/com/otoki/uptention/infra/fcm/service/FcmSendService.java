@@ -1,8 +1,10 @@
 package com.otoki.uptention.infra.fcm.service;
 
-import com.otoki.uptention.domain.user.entity.User;
+import java.util.List;
+
+import com.otoki.uptention.domain.notification.dto.PendingNotification;
 
 public interface FcmSendService {
-	// 사용자의 모든 기기에 알림 전송 메서드 (비동기 방식)
-	void sendNotificationToUser(User user, String title, String body);
+	// 여러 알림을 수신자의 모든 기기에 일괄 전송 (호출 스레드에서 동기 처리)
+	void sendNotifications(List<PendingNotification> notifications);
 }
@@ -1,12 +1,22 @@
 package com.otoki.uptention.infra.fcm.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import com.otoki.uptention.domain.user.entity.FcmToken;
-import com.otoki.uptention.domain.user.entity.User;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.otoki.uptention.domain.notification.dto.PendingNotification;
+import com.otoki.uptention.domain.user.dto.FcmTokenDto;
 import com.otoki.uptention.domain.user.repository.FcmTokenRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -16,26 +26,87 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class FcmSendServiceImpl implements FcmSendService {
+
+	// FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+	private static final int MAX_MESSAGES_PER_BATCH = 500;
+
 	private final FcmTokenRepository fcmTokenRepository;
-	private final FcmInnerService fcmInnerService;
 
 	/**
-	 * 특정 사용자의 모든 기기에 푸시 알림을 비동기로 전송합니다.
+	 * 여러 알림을 수신자의 모든 기기에 일괄 전송합니다.
+	 * 토큰은 쿼리 한 번으로 조회하고, 메시지는 500개씩 sendEach로 전송합니다.
+	 * FCM이 등록 해제(UNREGISTERED)로 응답한 토큰은 삭제합니다.
 	 *
-	 * @param user  알림을 받을 사용자
-	 * @param title 알림 제목
-	 * @param body  알림 내용
+	 * @param notifications 전송할 알림 목록
 	 */
-	@Async("fcmTaskExecutor")
-	public void sendNotificationToUser(User user, String title, String body) {
-		List<FcmToken> fcmTokens = fcmTokenRepository.findAllByUser(user);
-		if (fcmTokens.isEmpty()) {
-			log.warn("Async: User {} has no registered FCM tokens", user.getId());
+	@Override
+	public void sendNotifications(List<PendingNotification> notifications) {
+		if (notifications.isEmpty()) {
 			return;
 		}
-		for (FcmToken token : fcmTokens) {
-			// 각 호출이 별도의 비동기 작업으로 처리됨
-			fcmInnerService.sendNotification(token.getValue(), title, body);
+
+		Set<Integer> userIds = notifications.stream()
+			.map(PendingNotification::getUserId)
+			.collect(Collectors.toSet());
+		Map<Integer, List<String>> tokensByUser = fcmTokenRepository.findAllByUserIds(userIds).stream()
+			.collect(Collectors.groupingBy(FcmTokenDto::getUserId,
+				Collectors.mapping(FcmTokenDto::getValue, Collectors.toList())));
+
+		List<Message> messages = new ArrayList<>();
+		List<String> messageTokens = new ArrayList<>();
+		for (PendingNotification notification : notifications) {
+			List<String> tokens = tokensByUser.getOrDefault(notification.getUserId(), List.of());
+			if (tokens.isEmpty()) {
+				log.warn("User {} has no registered FCM tokens", notification.getUserId());
+				continue;
+			}
+			for (String token : tokens) {
+				messages.add(toMessage(token, notification));
+				messageTokens.add(token);
+			}
+		}
+
+		List<String> unregisteredTokens = new ArrayList<>();
+		for (int from = 0; from < messages.size(); from += MAX_MESSAGES_PER_BATCH) {
+			int to = Math.min(messages.size(), from + MAX_MESSAGES_PER_BATCH);
+			unregisteredTokens.addAll(send(messages.subList(from, to), messageTokens.subList(from, to)));
+		}
+
+		if (!unregisteredTokens.isEmpty()) {
+			int deleted = fcmTokenRepository.deleteAllByValues(unregisteredTokens);
+			log.info("Deleted {} unregistered FCM tokens", deleted);
 		}
 	}
+
+	/**
+	 * 메시지 묶음 전송 후 등록 해제된 토큰 목록 반환
+	 */
+	private List<String> send(List<Message> messages, List<String> tokens) {
+		List<String> unregisteredTokens = new ArrayList<>();
+		try {
+			BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+			List<SendResponse> responses = response.getResponses();
+			for (int i = 0; i < responses.size(); i++) {
+				FirebaseMessagingException exception = responses.get(i).getException();
+				if (exception != null && exception.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+					unregisteredTokens.add(tokens.get(i));
+				}
+			}
+			log.info("Sent FCM batch: {} succeeded, {} failed", response.getSuccessCount(),
+				response.getFailureCount());
+		} catch (Exception e) {
+			log.error("Failed to send FCM batch of {} messages: {}", messages.size(), e.getMessage());
+		}
+		return unregisteredTokens;
+	}
+
+	private Message toMessage(String token, PendingNotification notification) {
+		return Message.builder()
+			.setToken(token)
+			.setNotification(Notification.builder()
+				.setTitle(notification.getTitle())
+				.setBody(notification.getMessage())
+				.build())
+			.build();
+	}
 }
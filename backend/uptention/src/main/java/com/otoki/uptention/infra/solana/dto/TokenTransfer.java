@@ -0,0 +1,15 @@
+package com.otoki.uptention.infra.solana.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 전송할 수신자 한 건
+ */
+@Getter
+@AllArgsConstructor
+public class TokenTransfer {
+	private String recipientAddress;
+	private String amount;
+	private String idempotencyKey;
+}
@@ -0,0 +1,39 @@
+package com.otoki.uptention.infra.solana.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 전송의 수신자별 결과
+ */
+@Getter
+@AllArgsConstructor
+public class TokenTransferResult {
+	private String idempotencyKey;
+	private Status status;
+	private String signature;
+	private String error;
+
+	public static TokenTransferResult sent(String idempotencyKey, String signature) {
+		return new TokenTransferResult(idempotencyKey, Status.SENT, signature, null);
+	}
+
+	public static TokenTransferResult rejected(String idempotencyKey, String error) {
+		return new TokenTransferResult(idempotencyKey, Status.REJECTED, null, error);
+	}
+
+	public static TokenTransferResult unconfirmed(String idempotencyKey, String error) {
+		return new TokenTransferResult(idempotencyKey, Status.UNCONFIRMED, null, error);
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Status {
+		SENT("전송 완료"),
+		REJECTED("전송되지 않음 (재시도 가능)"),
+		UNCONFIRMED("전송 여부 확인 필요");
+
+		private final String description;
+	}
+}
@@ -0,0 +1,24 @@
+package com.otoki.uptention.infra.solana.dto.request;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 여러 수신자 SPL 토큰 일괄 전송 요청
+ * Express API가 전송 명령을 트랜잭션 크기 제한 안에서 최대한 묶어 최소 개수의 트랜잭션으로 전송한다.
+ */
+@Builder
+public class TokenBatchTransferRequest {
+	public List<Transfer> transfers;
+	// 온체인 전송 기록 확인 시작 시각 (epoch 초, 이 요청의 키로 처음 전송을 요청한 시각 이전)
+	public Long since;
+
+	@Builder
+	public static class Transfer {
+		public String recipientAddress;
+		public String amount;
+		// 수신자별 멱등 키 (응답의 수신자별 결과와 매칭하는 데에도 사용)
+		public String idempotencyKey;
+	}
+}
@@ -0,0 +1,28 @@
+package com.otoki.uptention.infra.solana.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Express API 일괄 전송 응답 (수신자별 결과)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenBatchTransferResponse {
+	private List<Result> results;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Result {
+		private String idempotencyKey;
+		private boolean success;
+		// 수신자가 포함된 트랜잭션 서명 (성공 시)
+		private String signature;
+		private String error;
+	}
+}
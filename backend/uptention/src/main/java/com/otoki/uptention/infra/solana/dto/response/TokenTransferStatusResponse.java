@@ -0,0 +1,21 @@
+package com.otoki.uptention.infra.solana.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Express API 멱등 키 전송 상태 응답
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenTransferStatusResponse {
+	public static final String SENT = "SENT";
+	public static final String NOT_FOUND = "NOT_FOUND";
+
+	// SENT (전송 확인), PENDING (처리 중), NOT_FOUND (조회 범위 안에 성공한 전송 없음)
+	private String status;
+	// 전송 트랜잭션 서명 (SENT일 때)
+	private String signature;
+}
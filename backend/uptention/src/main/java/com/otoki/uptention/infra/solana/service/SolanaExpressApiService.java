@@ -1,13 +1,22 @@
 package com.otoki.uptention.infra.solana.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.otoki.uptention.infra.solana.dto.Attribute;
+import com.otoki.uptention.infra.solana.dto.TokenTransfer;
+import com.otoki.uptention.infra.solana.dto.TokenTransferResult;
 
 public interface SolanaExpressApiService {
 
 	String transferToken(String recipientAddress, String amount);
 
+	String transferToken(String recipientAddress, String amount, String idempotencyKey);
+
+	List<TokenTransferResult> transferTokens(List<TokenTransfer> transfers, LocalDateTime since);
+
+	TokenTransferResult findTransfer(String idempotencyKey, LocalDateTime since);
+
 	String createNft(String rank, String name, String description, List<Attribute> attributes, String symbol);
 
 	String transferNft(String recipientAddress, String nftMintAddress);
@@ -1,30 +1,53 @@
 package com.otoki.uptention.infra.solana.service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
 import com.otoki.uptention.infra.solana.dto.Attribute;
+import com.otoki.uptention.infra.solana.dto.TokenTransfer;
+import com.otoki.uptention.infra.solana.dto.TokenTransferResult;
 import com.otoki.uptention.infra.solana.dto.request.NftCreateRequest;
 import com.otoki.uptention.infra.solana.dto.request.NftTransferRequest;
+import com.otoki.uptention.infra.solana.dto.request.TokenBatchTransferRequest;
 import com.otoki.uptention.infra.solana.dto.request.TokenTransferRequest;
+import com.otoki.uptention.infra.solana.dto.response.TokenBatchTransferResponse;
+import com.otoki.uptention.infra.solana.dto.response.TokenTransferStatusResponse;
 
 @Service
+@ConditionalOnProperty(prefix = "solana", name = "express-stub", havingValue = "false", matchIfMissing = true)
 public class SolanaExpressApiServiceImpl implements SolanaExpressApiService {
 
 	private static final Logger log = LoggerFactory.getLogger(SolanaExpressApiServiceImpl.class);
 	private final RestTemplate restTemplate;
 	private static final String expressBaseUrl = "https://j12d211.p.ssafy.io/sol";
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	// 일괄 전송 요청 하나에 담는 최대 수신자 수 (요청 본문과 처리 시간 제한)
+	private static final int MAX_TRANSFERS_PER_REQUEST = 100;
+	// 요청 검증 단계에서 거절되어 전송되지 않았음이 확실한 응답 상태
+	// (404/405 등은 경로/배포 문제로 전송 여부와 무관하므로 전송되지 않은 것으로 보지 않음)
+	private static final Set<HttpStatus> NOT_SENT_STATUSES = Set.of(HttpStatus.BAD_REQUEST,
+		HttpStatus.UNPROCESSABLE_ENTITY);
 
 	// 생성자 주입 (RestTemplate)
 	public SolanaExpressApiServiceImpl(RestTemplate restTemplate) {
@@ -39,6 +62,21 @@ public class SolanaExpressApiServiceImpl implements SolanaExpressApiService {
 	 * @throws RestClientException API 호출 실패 시
 	 */
 	public String transferToken(String recipientAddress, String amount) { // <<< 반환 타입 Mono<String> -> String
+		return transferToken(recipientAddress, amount, null);
+	}
+
+	/**
+	 * 멱등 키를 Idempotency-Key 헤더로 함께 보내 SPL 토큰을 전송합니다. (동기 방식)
+	 * Express API는 키를 전송 트랜잭션 메모로 기록하고, 같은 키로 다시 요청하면 전송하지 않고 이전 서명을 반환합니다.
+	 * (메모리 기록이 없으면 서버 지갑의 최근 트랜잭션 메모로 확인, 같은 키가 처리 중이면 409)
+	 * @param recipientAddress 토큰을 받을 주소 (문자열)
+	 * @param amount 전송할 양 (문자열 또는 숫자)
+	 * @param idempotencyKey 멱등 키 (null이면 헤더를 보내지 않음)
+	 * @return API 응답 본문 (String)
+	 * @throws CustomException 요청이 거절되면 POINT_SCHEDULER_ERROR,
+	 *                         응답을 받지 못해 전송 여부를 알 수 없으면 POINT_TRANSFER_UNCONFIRMED
+	 */
+	public String transferToken(String recipientAddress, String amount, String idempotencyKey) {
 		String url = expressBaseUrl + "/api/tokens/transfer";
 		log.info("토큰 전송 API 호출 시작 (RestTemplate): {}", url);
 
@@ -49,6 +87,9 @@ public class SolanaExpressApiServiceImpl implements SolanaExpressApiService {
 
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_JSON); // 헤더 설정
+		if (idempotencyKey != null) {
+			headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+		}
 		HttpEntity<TokenTransferRequest> entity = new HttpEntity<>(requestDto, headers); // 요청 엔티티 생성
 
 		try {
@@ -56,9 +97,136 @@ public class SolanaExpressApiServiceImpl implements SolanaExpressApiService {
 			ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
 			log.info("토큰 전송 API 호출 성공. 상태 코드: {}, 응답: {}", response.getStatusCode(), response.getBody());
 			return response.getBody(); // 응답 본문 반환
+		} catch (HttpClientErrorException e) {
+			if (!isNotSent(e)) {
+				// 같은 멱등 키의 전송이 처리 중(409)이거나 경로 오류 등으로 전송 여부를 판단할 수 없음
+				log.error("토큰 전송 API 오류 응답 (전송 여부 확인 필요): {}", e.getMessage());
+				throw new CustomException(ErrorCode.POINT_TRANSFER_UNCONFIRMED);
+			}
+			log.error("토큰 전송 API 요청 거절: {}", e.getMessage());
+			throw new CustomException(ErrorCode.POINT_SCHEDULER_ERROR);
 		} catch (RestClientException e) {
+			// 타임아웃, 서버 오류 등은 Express API에서 전송이 이미 처리되었을 수 있음
 			log.error("토큰 전송 API 호출 오류 발생: {}", e.getMessage());
-			throw new CustomException(ErrorCode.POINT_SCHEDULER_ERROR);
+			throw new CustomException(ErrorCode.POINT_TRANSFER_UNCONFIRMED);
+		}
+	}
+
+	/**
+	 * Express API를 호출하여 여러 수신자에게 SPL 토큰을 일괄 전송합니다. (동기 방식)
+	 * 요청당 최대 MAX_TRANSFERS_PER_REQUEST명씩 나누어 보내며, Express API가 트랜잭션 크기 제한 안에서 전송을 묶는다.
+	 * 요청 검증에서 거절(400/422)되면 해당 요청의 수신자 모두 REJECTED, 그 밖의 오류 응답이나 응답을 받지 못한 경우와
+	 * 응답에 없는 수신자(같은 키가 처리 중이거나 확인 대기 중 오류)는 UNCONFIRMED로 반환합니다.
+	 * @param transfers 수신자별 전송 정보 (멱등 키는 요청 안에서 고유해야 함)
+	 * @param since 이 키들로 처음 전송을 요청한 시각 이전 (Express API가 이전 전송 여부를 이 시각까지만 확인)
+	 * @return 입력 순서와 같은 수신자별 결과
+	 */
+	public List<TokenTransferResult> transferTokens(List<TokenTransfer> transfers, LocalDateTime since) {
+		long sinceEpochSecond = since.atZone(ZoneId.systemDefault()).toEpochSecond();
+		List<TokenTransferResult> results = new ArrayList<>(transfers.size());
+		for (int from = 0; from < transfers.size(); from += MAX_TRANSFERS_PER_REQUEST) {
+			results.addAll(transferTokenChunk(
+				transfers.subList(from, Math.min(from + MAX_TRANSFERS_PER_REQUEST, transfers.size())), sinceEpochSecond));
+		}
+		return results;
+	}
+
+	private List<TokenTransferResult> transferTokenChunk(List<TokenTransfer> transfers, long sinceEpochSecond) {
+		String url = expressBaseUrl + "/api/tokens/transfer-batch";
+		log.info("토큰 일괄 전송 API 호출 시작 (RestTemplate): {}, 수신자 수: {}", url, transfers.size());
+
+		TokenBatchTransferRequest requestDto = TokenBatchTransferRequest.builder()
+			.transfers(transfers.stream()
+				.map(transfer -> TokenBatchTransferRequest.Transfer.builder()
+					.recipientAddress(transfer.getRecipientAddress())
+					.amount(transfer.getAmount())
+					.idempotencyKey(transfer.getIdempotencyKey())
+					.build())
+				.toList())
+			.since(sinceEpochSecond)
+			.build();
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		HttpEntity<TokenBatchTransferRequest> entity = new HttpEntity<>(requestDto, headers);
+
+		Map<String, TokenBatchTransferResponse.Result> responseResults;
+		try {
+			ResponseEntity<TokenBatchTransferResponse> response =
+				restTemplate.postForEntity(url, entity, TokenBatchTransferResponse.class);
+			log.info("토큰 일괄 전송 API 호출 성공. 상태 코드: {}", response.getStatusCode());
+			responseResults = response.getBody() == null || response.getBody().getResults() == null
+				? Map.of()
+				: response.getBody().getResults().stream()
+				.collect(Collectors.toMap(TokenBatchTransferResponse.Result::getIdempotencyKey,
+					Function.identity(), (first, second) -> first));
+		} catch (HttpClientErrorException e) {
+			if (!isNotSent(e)) {
+				log.error("토큰 일괄 전송 API 오류 응답 (전송 여부 확인 필요): {}", e.getMessage());
+				return transfers.stream()
+					.map(transfer -> TokenTransferResult.unconfirmed(transfer.getIdempotencyKey(), e.getMessage()))
+					.toList();
+			}
+			log.error("토큰 일괄 전송 API 요청 거절: {}", e.getMessage());
+			return transfers.stream()
+				.map(transfer -> TokenTransferResult.rejected(transfer.getIdempotencyKey(), e.getMessage()))
+				.toList();
+		} catch (RestClientException e) {
+			// 타임아웃, 서버 오류 등은 일부 트랜잭션이 이미 전송되었을 수 있음
+			log.error("토큰 일괄 전송 API 호출 오류 발생: {}", e.getMessage());
+			return transfers.stream()
+				.map(transfer -> TokenTransferResult.unconfirmed(transfer.getIdempotencyKey(), e.getMessage()))
+				.toList();
+		}
+
+		List<TokenTransferResult> results = new ArrayList<>(transfers.size());
+		for (TokenTransfer transfer : transfers) {
+			TokenBatchTransferResponse.Result result = responseResults.get(transfer.getIdempotencyKey());
+			if (result == null) {
+				results.add(TokenTransferResult.unconfirmed(transfer.getIdempotencyKey(), "missing in response"));
+			} else if (result.isSuccess()) {
+				results.add(TokenTransferResult.sent(transfer.getIdempotencyKey(), result.getSignature()));
+			} else {
+				results.add(TokenTransferResult.rejected(transfer.getIdempotencyKey(), result.getError()));
+			}
+		}
+		return results;
+	}
+
+	private boolean isNotSent(HttpClientErrorException e) {
+		HttpStatus status = HttpStatus.resolve(e.getStatusCode().value());
+		return status != null && NOT_SENT_STATUSES.contains(status);
+	}
+
+	/**
+	 * Express API를 호출하여 멱등 키의 토큰 전송 여부를 확인합니다. (동기 방식)
+	 * Express API는 since 이후 서버 지갑의 트랜잭션 메모에서 키를 찾습니다.
+	 * @param idempotencyKey 전송 요청에 사용한 멱등 키
+	 * @param since 전송 요청 이전 시각 (이보다 이전 트랜잭션은 확인하지 않음)
+	 * @return 전송이 확인되면 SENT, 성공한 전송이 없으면 REJECTED, 처리 중이거나 확인하지 못하면 UNCONFIRMED
+	 */
+	public TokenTransferResult findTransfer(String idempotencyKey, LocalDateTime since) {
+		String url = expressBaseUrl + "/api/tokens/transfer-status?idempotencyKey={idempotencyKey}&since={since}";
+		long sinceEpochSecond = since.atZone(ZoneId.systemDefault()).toEpochSecond();
+
+		try {
+			TokenTransferStatusResponse response = restTemplate.getForObject(url, TokenTransferStatusResponse.class,
+				idempotencyKey, sinceEpochSecond);
+			log.info("토큰 전송 상태 조회 API 호출 성공. 키: {}, 상태: {}", idempotencyKey,
+				response == null ? null : response.getStatus());
+			if (response == null) {
+				return TokenTransferResult.unconfirmed(idempotencyKey, "empty response");
+			}
+			if (TokenTransferStatusResponse.SENT.equals(response.getStatus())) {
+				return TokenTransferResult.sent(idempotencyKey, response.getSignature());
+			}
+			if (TokenTransferStatusResponse.NOT_FOUND.equals(response.getStatus())) {
+				return TokenTransferResult.rejected(idempotencyKey, "transfer not found");
+			}
+			return TokenTransferResult.unconfirmed(idempotencyKey, response.getStatus());
+		} catch (RestClientException e) {
+			log.error("토큰 전송 상태 조회 API 호출 오류 발생: {}", e.getMessage());
+			return TokenTransferResult.unconfirmed(idempotencyKey, e.getMessage());
 		}
 	}
 
@@ -0,0 +1,105 @@
+package com.otoki.uptention.infra.solana.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+import com.otoki.uptention.infra.solana.dto.Attribute;
+import com.otoki.uptention.infra.solana.dto.TokenTransfer;
+import com.otoki.uptention.infra.solana.dto.TokenTransferResult;
+
+/**
+ * Express API 로컬 대역 (solana.express-stub=true)
+ * 실제로 전송하지 않고 요청을 기록하며, 일괄 전송은 TRANSFERS_PER_TRANSACTION명씩 같은 트랜잭션 서명을 반환한다.
+ * rejectRecipient로 지정한 주소는 수신자별 실패로 응답하여 부분 실패를 재현할 수 있다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "solana", name = "express-stub", havingValue = "true")
+public class StubSolanaExpressApiService implements SolanaExpressApiService {
+
+	public static final int TRANSFERS_PER_TRANSACTION = 10;
+
+	private final List<TokenTransfer> transfers = new CopyOnWriteArrayList<>();
+	private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger transactionSequence = new AtomicInteger();
+
+	@Override
+	public String transferToken(String recipientAddress, String amount) {
+		return transferToken(recipientAddress, amount, null);
+	}
+
+	@Override
+	public String transferToken(String recipientAddress, String amount, String idempotencyKey) {
+		if (rejectedRecipients.contains(recipientAddress)) {
+			throw new CustomException(ErrorCode.POINT_SCHEDULER_ERROR);
+		}
+		transfers.add(new TokenTransfer(recipientAddress, amount, idempotencyKey));
+		return "{\"success\":true,\"transaction\":\"" + nextSignature() + "\"}";
+	}
+
+	@Override
+	public List<TokenTransferResult> transferTokens(List<TokenTransfer> requested, LocalDateTime since) {
+		List<TokenTransferResult> results = new ArrayList<>(requested.size());
+		String signature = null;
+		int packed = 0;
+		for (TokenTransfer transfer : requested) {
+			if (rejectedRecipients.contains(transfer.getRecipientAddress())) {
+				results.add(TokenTransferResult.rejected(transfer.getIdempotencyKey(), "rejected by stub"));
+				continue;
+			}
+			if (packed++ % TRANSFERS_PER_TRANSACTION == 0) {
+				signature = nextSignature();
+			}
+			transfers.add(transfer);
+			results.add(TokenTransferResult.sent(transfer.getIdempotencyKey(), signature));
+		}
+		return results;
+	}
+
+	@Override
+	public TokenTransferResult findTransfer(String idempotencyKey, LocalDateTime since) {
+		boolean sent = transfers.stream().anyMatch(transfer -> idempotencyKey.equals(transfer.getIdempotencyKey()));
+		return sent
+			? TokenTransferResult.sent(idempotencyKey, "stub-tx-found")
+			: TokenTransferResult.rejected(idempotencyKey, "transfer not found");
+	}
+
+	@Override
+	public String createNft(String rank, String name, String description, List<Attribute> attributes,
+		String symbol) {
+		return "{\"success\":true,\"mintAddress\":\"stub-mint-" + transactionSequence.incrementAndGet()
+			+ "\",\"transaction\":\"" + nextSignature() + "\"}";
+	}
+
+	@Override
+	public String transferNft(String recipientAddress, String nftMintAddress) {
+		return "{\"success\":true,\"transaction\":\"" + nextSignature() + "\"}";
+	}
+
+	// 전송된 (거절되지 않은) 토큰 전송 목록
+	public List<TokenTransfer> getTransfers() {
+		return List.copyOf(transfers);
+	}
+
+	public void rejectRecipient(String recipientAddress) {
+		rejectedRecipients.add(recipientAddress);
+	}
+
+	public void reset() {
+		transfers.clear();
+		rejectedRecipients.clear();
+	}
+
+	private String nextSignature() {
+		return "stub-tx-" + transactionSequence.incrementAndGet();
+	}
+}
@@ -2,6 +2,7 @@ package com.otoki.uptention.presentation.item.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.otoki.uptention.application.item.dto.response.CategoryResponseDto;
 import com.otoki.uptention.application.item.service.CategoryAppService;
+import com.otoki.uptention.global.util.ETagUtils;
 import com.otoki.uptention.presentation.item.doc.CategoryApiDoc;
 
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,12 @@ public class CategoryController implements CategoryApiDoc {
 
 	@GetMapping("")
 	public ResponseEntity<List<CategoryResponseDto>> getAllCategories() {
-		return ResponseEntity.ok(categoryAppService.getAllCategories());
+		List<CategoryResponseDto> categories = categoryAppService.getAllCategories();
+
+		// If-None-Match가 ETag와 같으면 본문 없이 304 응답 (ResponseEntity 반환 시 스프링이 처리)
+		return ResponseEntity.ok()
+			.eTag(ETagUtils.strong(categories))
+			.cacheControl(CacheControl.noCache())
+			.body(categories);
 	}
 }
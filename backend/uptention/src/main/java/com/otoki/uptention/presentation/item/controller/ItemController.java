@@ -2,6 +2,7 @@ package com.otoki.uptention.presentation.item.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +23,7 @@ import com.otoki.uptention.application.item.dto.response.ItemCursorResponseDto;
 import com.otoki.uptention.application.item.dto.response.ItemResponseDto;
 import com.otoki.uptention.application.item.service.ItemAppService;
 import com.otoki.uptention.domain.item.enums.SortType;
+import com.otoki.uptention.global.util.ETagUtils;
 import com.otoki.uptention.presentation.item.doc.ItemApiDoc;
 
 import jakarta.validation.Valid;
@@ -36,7 +38,17 @@ public class ItemController implements ItemApiDoc {
 	@GetMapping("/{itemId}")
 	public ResponseEntity<ItemResponseDto> getItemDetails(@PathVariable Integer itemId) {
 		ItemResponseDto itemResponseDto = itemAppService.getItemDetails(itemId);
-		return ResponseEntity.ok(itemResponseDto);
+
+		// 재고가 포함된 내용으로 ETag를 만들므로 재고가 바뀌면 304가 아닌 새 응답을 받음
+		return ResponseEntity.ok()
+			.eTag(ETagUtils.strong(itemResponseDto))
+			.cacheControl(CacheControl.noCache())
+			.body(itemResponseDto);
+	}
+
+	@GetMapping("/batch")
+	public ResponseEntity<List<ItemResponseDto>> getItemsByIds(@RequestParam List<Integer> ids) {
+		return ResponseEntity.ok(itemAppService.getItemDetailsByIds(ids));
 	}
 
 	@GetMapping("")
@@ -29,7 +29,8 @@ public interface CategoryApiDoc {
 				mediaType = "application/json",
 				array = @ArraySchema(schema = @Schema(implementation = CategoryResponseDto.class))
 			)
-		)
+		),
+		@ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치, 본문 없음)")
 	})
 	ResponseEntity<List<CategoryResponseDto>> getAllCategories();
 }
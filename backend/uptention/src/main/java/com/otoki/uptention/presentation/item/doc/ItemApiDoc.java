@@ -17,6 +17,7 @@ import com.otoki.uptention.global.exception.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -36,6 +37,7 @@ public interface ItemApiDoc {
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "상품 상세 정보 조회 성공",
 			content = @Content(schema = @Schema(implementation = ItemResponseDto.class))),
+		@ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치, 본문 없음)"),
 		@ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음",
 			content = @Content(
 				schema = @Schema(implementation = ErrorResponse.class),
@@ -52,6 +54,27 @@ public interface ItemApiDoc {
 		@Parameter(description = "상품 ID", example = "1")
 		@PathVariable Integer itemId);
 
+	@Operation(summary = "여러 상품 상세 조회",
+		description = "장바구니, 주문 확인, 선물함 등 여러 상품이 필요한 화면에서 상세 정보를 한 번에 조회 (요청한 순서대로 반환, 존재하지 않거나 삭제된 상품은 제외)")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "상품 상세 정보 조회 성공",
+			content = @Content(array = @ArraySchema(schema = @Schema(implementation = ItemResponseDto.class)))),
+		@ApiResponse(responseCode = "400", description = "조회할 상품 수 초과",
+			content = @Content(
+				schema = @Schema(implementation = ErrorResponse.class),
+				examples = {
+					@ExampleObject(
+						name = "조회할 상품 수 초과",
+						summary = "한 번에 50개를 초과하는 상품 조회",
+						value = "{\"code\":\"ITEM_011\",\"message\":\"한 번에 조회할 수 있는 상품은 50개 이하입니다.\",\"path\":\"/api/items/batch\"}"
+					)
+				}
+			))
+	})
+	ResponseEntity<List<ItemResponseDto>> getItemsByIds(
+		@Parameter(description = "상품 ID 목록 (쉼표로 구분, 최대 50개)", example = "1,2,3")
+		@RequestParam List<Integer> ids);
+
 	@Operation(summary = "상품 목록 조회", description = "마켓 플레이스에 등록된 모든 상품 목록 조회")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "상품 목록 조회 성공",
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.otoki.uptention.application.mining.dto.request.FocusModeOnRequestDto;
+import com.otoki.uptention.application.mining.dto.response.MyMiningRankResponseDto;
 import com.otoki.uptention.application.mining.service.MiningTimeAppService;
 import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
 import com.otoki.uptention.presentation.mining.doc.MiningApiDoc;
@@ -45,4 +46,9 @@ public class MiningTimeController implements MiningApiDoc {
 		@RequestParam ZonedDateTime zoneTime) {
 		return ResponseEntity.ok(miningTimeAppService.findMiningRank(top, zoneTime));
 	}
+
+	@GetMapping("/rank/me")
+	public ResponseEntity<MyMiningRankResponseDto> getMyMiningRank(@RequestParam ZonedDateTime zoneTime) {
+		return ResponseEntity.ok(miningTimeAppService.findMyMiningRank(zoneTime));
+	}
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.otoki.uptention.application.mining.dto.request.FocusModeOnRequestDto;
+import com.otoki.uptention.application.mining.dto.response.MyMiningRankResponseDto;
 import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
 import com.otoki.uptention.global.exception.ErrorResponse;
 
@@ -121,4 +122,23 @@ public interface MiningApiDoc {
 	ResponseEntity<Map<String, List<MiningTimeRankResponseDto>>> getMiningTimes(
 		@RequestParam Integer top,
 		@RequestParam ZonedDateTime zoneTime);
+
+	@Operation(summary = "내 채굴 랭킹 조회", description = "지난주 누적 채굴 시간 기준 로그인한 사용자의 순위를 조회한다. 동점자는 같은 순위이며 기록이 없으면 순위는 null이다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "내 채굴 랭킹 조회 성공",
+			content = @Content(schema = @Schema(implementation = MyMiningRankResponseDto.class))),
+		@ApiResponse(responseCode = "500", description = "서버 내부 오류",
+			content = @Content(
+				schema = @Schema(implementation = ErrorResponse.class),
+				examples = {
+					@ExampleObject(
+						name = "서버 오류",
+						summary = "서버 내부에 문제가 발생",
+						value = "{\"code\":\"INTERNAL_SERVER_ERROR\",\"message\":\"서버 내부 오류가 발생했습니다.\",\"path\":\"/api/mining-time/rank/me\"}"
+					)
+				}
+			)
+		)
+	})
+	ResponseEntity<MyMiningRankResponseDto> getMyMiningRank(@RequestParam ZonedDateTime zoneTime);
 }
@@ -0,0 +1,12 @@
+-- 키워드 검색용 FULLTEXT ngram 인덱스 (MySQL)
+-- FULLTEXT 인덱스 추가는 온라인 DDL(LOCK=NONE)을 지원하지 않아 생성 중 테이블 쓰기가 막히므로 점검 시간에 실행한다.
+-- 인덱스가 생기기 전까지 애플리케이션은 LIKE 검색을 사용하고, 생성이 확인되면(1분 이내) MATCH ... AGAINST로 전환한다.
+-- ngram 토큰에 불용어(a, i, to 등)가 포함되면 토큰 전체가 색인에서 빠지므로 불용어를 끈 세션에서 생성해야 한다.
+-- 불용어가 켜진 상태에서 만든 기존 인덱스는 DROP INDEX 후 아래 문장으로 다시 만든다.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE `item` ADD FULLTEXT INDEX ft_item_name (name) WITH PARSER ngram, ALGORITHM = INPLACE, LOCK = SHARED;
+
+ALTER TABLE `notification` ADD FULLTEXT INDEX ft_notification_title_message (title, message) WITH PARSER ngram,
+	ALGORITHM = INPLACE, LOCK = SHARED;
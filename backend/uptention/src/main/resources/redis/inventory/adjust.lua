@@ -0,0 +1,14 @@
+-- 전체/예약 재고를 증감하고 가용 재고를 두 값의 차이만큼 함께 변경 (세 필드를 한 번에 원자적으로 반영)
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 전체 재고 증감, ARGV[2] : 예약 재고 증감
+-- 반환값  : 변경 후 가용 재고
+local quantityDelta = tonumber(ARGV[1])
+local reservedDelta = tonumber(ARGV[2])
+
+if quantityDelta ~= 0 then
+	redis.call('HINCRBY', KEYS[1], 'quantity', quantityDelta)
+end
+if reservedDelta ~= 0 then
+	redis.call('HINCRBY', KEYS[1], 'reserved', reservedDelta)
+end
+return redis.call('HINCRBY', KEYS[1], 'available', quantityDelta - reservedDelta)
@@ -0,0 +1,14 @@
+-- 단일 상품 예약 취소
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 취소 수량
+-- 반환값  : 1 = 취소 성공, -1 = 재고 정보 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local quantity = tonumber(ARGV[1])
+local total = tonumber(redis.call('HGET', KEYS[1], 'quantity'))
+local reserved = math.max(0, tonumber(redis.call('HGET', KEYS[1], 'reserved')) - quantity)
+
+redis.call('HSET', KEYS[1], 'reserved', reserved, 'available', total - reserved)
+return 1
@@ -0,0 +1,17 @@
+-- 여러 상품의 예약을 한 번에 취소 (재고 정보가 없는 상품은 건너뜀)
+-- KEYS[i] : 상품별 재고 해시 키
+-- ARGV[i] : KEYS[i]에 대한 취소 수량
+-- 반환값  : { 1 } 또는 { 1, idx1, idx2, ... } (건너뛴 상품 인덱스)
+local result = { 1 }
+
+for i, key in ipairs(KEYS) do
+	local total = redis.call('HGET', key, 'quantity')
+	if not total then
+		table.insert(result, i)
+	else
+		local reserved = math.max(0, tonumber(redis.call('HGET', key, 'reserved')) - tonumber(ARGV[i]))
+		redis.call('HSET', key, 'reserved', reserved, 'available', tonumber(total) - reserved)
+	end
+end
+
+return result
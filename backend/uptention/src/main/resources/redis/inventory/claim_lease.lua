@@ -0,0 +1,7 @@
+-- 주문의 재고 예약 임대 회수 (결제 완료/실패 처리 시 만료 처리와 중복되지 않도록 원자적으로 제거)
+-- KEYS[1] : 임대 만료 시각 sorted set, KEYS[2] : 임대 상품 목록 해시
+-- ARGV[1] : 주문 ID
+-- 반환값  : 1 = 회수 성공, 0 = 임대 없음 (이미 만료 처리됨)
+local removed = redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('HDEL', KEYS[2], ARGV[1])
+return removed
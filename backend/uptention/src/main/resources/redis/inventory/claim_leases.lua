@@ -0,0 +1,17 @@
+-- 여러 주문의 재고 예약 임대를 한 번에 회수 (시간 초과 주문 일괄 정리용)
+-- KEYS[1] : 임대 만료 시각 sorted set, KEYS[2] : 임대 상품 목록 해시
+-- ARGV    : 주문 ID 목록
+-- 반환값  : {주문ID, 상품 목록, 주문ID, 상품 목록, ...} (임대가 있던 주문만)
+local result = {}
+
+for _, orderId in ipairs(ARGV) do
+	local items = redis.call('HGET', KEYS[2], orderId)
+	local removed = redis.call('ZREM', KEYS[1], orderId)
+	redis.call('HDEL', KEYS[2], orderId)
+	if removed == 1 and items then
+		result[#result + 1] = orderId
+		result[#result + 1] = items
+	end
+end
+
+return result
@@ -0,0 +1,18 @@
+-- 단일 상품 예약 확정 (예약 수량을 실제 재고에서 차감)
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 확정 수량
+-- 반환값  : 1 = 확정 성공, 0 = 예약 수량 부족, -1 = 재고 정보 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local quantity = tonumber(ARGV[1])
+local reserved = tonumber(redis.call('HGET', KEYS[1], 'reserved'))
+
+if reserved < quantity then
+	return 0
+end
+
+redis.call('HINCRBY', KEYS[1], 'quantity', -quantity)
+redis.call('HINCRBY', KEYS[1], 'reserved', -quantity)
+return 1
@@ -0,0 +1,39 @@
+-- 여러 상품의 예약을 한 번에 확정 (전부 성공 또는 전부 실패)
+-- KEYS[i] : 상품별 재고 해시 키
+-- ARGV[i] : KEYS[i]에 대한 확정 수량
+-- 반환값  : { 1 }                              = 전체 확정 성공
+--           { 0, idx1, shortfall1, ... }       = 예약 수량 부족 (아무것도 변경하지 않음)
+--           { -1, idx1, idx2, ... }            = 재고 정보 없음 (아무것도 변경하지 않음)
+local missing = {}
+local shortfalls = {}
+
+for i, key in ipairs(KEYS) do
+	local reserved = redis.call('HGET', key, 'reserved')
+	if not reserved then
+		table.insert(missing, i)
+	else
+		local lack = tonumber(ARGV[i]) - tonumber(reserved)
+		if lack > 0 then
+			table.insert(shortfalls, i)
+			table.insert(shortfalls, lack)
+		end
+	end
+end
+
+if #missing > 0 then
+	table.insert(missing, 1, -1)
+	return missing
+end
+
+if #shortfalls > 0 then
+	table.insert(shortfalls, 1, 0)
+	return shortfalls
+end
+
+for i, key in ipairs(KEYS) do
+	local quantity = tonumber(ARGV[i])
+	redis.call('HINCRBY', key, 'quantity', -quantity)
+	redis.call('HINCRBY', key, 'reserved', -quantity)
+end
+
+return { 1 }
@@ -0,0 +1,7 @@
+-- 주문별 재고 예약 임대 등록
+-- KEYS[1] : 임대 만료 시각 sorted set, KEYS[2] : 임대 상품 목록 해시
+-- ARGV[1] : 주문 ID, ARGV[2] : 만료 시각(epoch millis), ARGV[3] : 상품 목록 ("상품ID:수량,상품ID:수량")
+-- 반환값  : 1
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+return 1
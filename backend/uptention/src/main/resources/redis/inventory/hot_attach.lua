@@ -0,0 +1,49 @@
+-- 핫 아이템 등록 및 버킷 재분배
+-- 재고 해시의 가용 재고를 예약 재고로 옮겨 버킷에 넣고, 버킷 전체 재고를 고르게 나눈다.
+-- 이미 등록된 상품에 다시 실행하면 그 사이 재고 해시로 들어온 가용 재고(노드 간 등록 정보 지연으로 인한 취소 등)를 흡수한다.
+-- 이미 등록되어 있고 흡수할 재고가 없으며 버킷 간 차이(최대 - 최소)가 기준 이하이면 버킷을 건드리지 않는다.
+-- KEYS[1] : 재고 해시 키, KEYS[2] : 핫 아이템 목록 해시, KEYS[3..] : 버킷 키
+-- ARGV[1] : 상품 ID, ARGV[2] : 재분배 기준 (버킷 간 재고 차이)
+-- 반환값  : 버킷 전체 재고, -1 = 재고 정보 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local bucketCount = #KEYS - 2
+local total = 0
+local min, max
+for i = 3, #KEYS do
+	local value = tonumber(redis.call('GET', KEYS[i]) or '0')
+	total = total + value
+	if min == nil or value < min then
+		min = value
+	end
+	if max == nil or value > max then
+		max = value
+	end
+end
+
+local registered = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') == bucketCount
+local available = tonumber(redis.call('HGET', KEYS[1], 'available'))
+if registered and available <= 0 and max - min <= tonumber(ARGV[2]) then
+	return total
+end
+
+if available > 0 then
+	redis.call('HINCRBY', KEYS[1], 'reserved', available)
+	redis.call('HSET', KEYS[1], 'available', 0)
+	total = total + available
+end
+
+local share = math.floor(total / bucketCount)
+local remainder = total % bucketCount
+for i = 3, #KEYS do
+	local value = share
+	if i - 2 <= remainder then
+		value = value + 1
+	end
+	redis.call('SET', KEYS[i], value)
+end
+
+redis.call('HSET', KEYS[2], ARGV[1], bucketCount)
+return total
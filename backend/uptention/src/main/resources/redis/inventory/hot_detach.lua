@@ -0,0 +1,18 @@
+-- 핫 아이템 해제 - 버킷 재고를 재고 해시의 가용 재고로 되돌림
+-- KEYS[1] : 재고 해시 키, KEYS[2] : 핫 아이템 목록 해시, KEYS[3..] : 버킷 키
+-- ARGV[1] : 상품 ID
+-- 반환값  : 되돌린 재고 수량
+redis.call('HDEL', KEYS[2], ARGV[1])
+
+local total = 0
+for i = 3, #KEYS do
+	total = total + tonumber(redis.call('GET', KEYS[i]) or '0')
+	redis.call('DEL', KEYS[i])
+end
+
+if total > 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+	redis.call('HINCRBY', KEYS[1], 'reserved', -total)
+	redis.call('HINCRBY', KEYS[1], 'available', total)
+end
+
+return total
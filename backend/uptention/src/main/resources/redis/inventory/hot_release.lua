@@ -0,0 +1,10 @@
+-- 핫 아이템 예약 취소 수량을 버킷으로 반환
+-- KEYS[1] : 핫 아이템 목록 해시, KEYS[2] : 버킷 키
+-- ARGV[1] : 상품 ID, ARGV[2] : 취소 수량
+-- 반환값  : 1 = 버킷에 반환, 0 = 핫 아이템이 아님 (호출자가 일반 재고로 취소해야 함)
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+	return 0
+end
+
+redis.call('INCRBY', KEYS[2], tonumber(ARGV[2]))
+return 1
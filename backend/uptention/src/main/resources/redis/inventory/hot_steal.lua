@@ -0,0 +1,30 @@
+-- 핫 아이템의 여러 버킷에서 나누어 재고 예약 (빠른 경로 실패 시, 전부 성공 또는 전부 실패)
+-- KEYS[i] : 버킷 키 (앞쪽 버킷부터 차감)
+-- ARGV[1] : 예약 수량
+-- 반환값  : 0 = 예약 성공, 양수 = 부족 수량 (변경 없음)
+local quantity = tonumber(ARGV[1])
+local values = {}
+local total = 0
+
+for i, key in ipairs(KEYS) do
+	values[i] = tonumber(redis.call('GET', key) or '0')
+	total = total + values[i]
+end
+
+if total < quantity then
+	return quantity - total
+end
+
+local remaining = quantity
+for i, key in ipairs(KEYS) do
+	if remaining == 0 then
+		break
+	end
+	local take = math.min(values[i], remaining)
+	if take > 0 then
+		redis.call('DECRBY', key, take)
+		remaining = remaining - take
+	end
+end
+
+return 0
@@ -0,0 +1,13 @@
+-- 핫 아이템 버킷 하나에서 재고 예약 (단일 키만 사용하는 빠른 경로)
+-- KEYS[1] : 버킷 키
+-- ARGV[1] : 예약 수량
+-- 반환값  : 1 = 예약 성공, 0 = 버킷 재고 부족 (변경 없음)
+local quantity = tonumber(ARGV[1])
+local available = tonumber(redis.call('GET', KEYS[1]) or '0')
+
+if available < quantity then
+	return 0
+end
+
+redis.call('DECRBY', KEYS[1], quantity)
+return 1
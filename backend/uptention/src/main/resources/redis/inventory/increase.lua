@@ -0,0 +1,13 @@
+-- 재고 증가
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 증가 수량
+-- 반환값  : 1 = 증가 성공, -1 = 재고 정보 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local quantity = tonumber(ARGV[1])
+
+redis.call('HINCRBY', KEYS[1], 'quantity', quantity)
+redis.call('HINCRBY', KEYS[1], 'available', quantity)
+return 1
@@ -0,0 +1,18 @@
+-- 만료된 재고 예약 임대를 꺼내 제거
+-- KEYS[1] : 임대 만료 시각 sorted set, KEYS[2] : 임대 상품 목록 해시
+-- ARGV[1] : 현재 시각(epoch millis), ARGV[2] : 최대 개수
+-- 반환값  : {주문ID, 상품 목록, 주문ID, 상품 목록, ...}
+local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local result = {}
+
+for _, orderId in ipairs(expired) do
+	local items = redis.call('HGET', KEYS[2], orderId)
+	redis.call('ZREM', KEYS[1], orderId)
+	redis.call('HDEL', KEYS[2], orderId)
+	if items then
+		result[#result + 1] = orderId
+		result[#result + 1] = items
+	end
+end
+
+return result
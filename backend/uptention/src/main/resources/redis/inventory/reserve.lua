@@ -0,0 +1,18 @@
+-- 단일 상품 재고 예약
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 예약 수량
+-- 반환값  : 1 = 예약 성공, 0 = 가용 재고 부족, -1 = 재고 정보 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local quantity = tonumber(ARGV[1])
+local available = tonumber(redis.call('HGET', KEYS[1], 'available'))
+
+if available < quantity then
+	return 0
+end
+
+redis.call('HINCRBY', KEYS[1], 'reserved', quantity)
+redis.call('HINCRBY', KEYS[1], 'available', -quantity)
+return 1
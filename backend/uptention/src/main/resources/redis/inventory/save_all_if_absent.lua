@@ -0,0 +1,15 @@
+-- 재고 정보가 없는 상품만 일괄 저장 (재시작 시 기존 예약을 덮어쓰지 않기 위함)
+-- KEYS[i] : i번째 상품의 재고 해시 키
+-- ARGV[3i-2], ARGV[3i-1], ARGV[3i] : i번째 상품의 전체 재고, 예약 재고, 가용 재고
+-- 반환값  : 저장한 상품 수
+local saved = 0
+
+for i = 1, #KEYS do
+	if redis.call('EXISTS', KEYS[i]) == 0 then
+		local base = (i - 1) * 3
+		redis.call('HSET', KEYS[i], 'quantity', ARGV[base + 1], 'reserved', ARGV[base + 2], 'available', ARGV[base + 3])
+		saved = saved + 1
+	end
+end
+
+return saved
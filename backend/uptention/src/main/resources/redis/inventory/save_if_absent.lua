@@ -0,0 +1,10 @@
+-- 재고 정보가 없을 때만 저장 (동시 초기화/마이그레이션 시 기존 예약을 덮어쓰지 않기 위함)
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 전체 재고, ARGV[2] : 예약 재고, ARGV[3] : 가용 재고
+-- 반환값  : 1 = 저장 수행, 0 = 이미 존재
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+
+redis.call('HSET', KEYS[1], 'quantity', ARGV[1], 'reserved', ARGV[2], 'available', ARGV[3])
+return 1
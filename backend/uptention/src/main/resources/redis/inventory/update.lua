@@ -0,0 +1,13 @@
+-- 가용 재고를 지정한 값으로 변경 (예약 수량은 유지)
+-- KEYS[1] : 재고 해시 키
+-- ARGV[1] : 새 가용 재고
+-- 반환값  : 1 = 변경 성공, -1 = 재고 정보 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local available = tonumber(ARGV[1])
+local reserved = tonumber(redis.call('HGET', KEYS[1], 'reserved'))
+
+redis.call('HSET', KEYS[1], 'quantity', available + reserved, 'available', available)
+return 1
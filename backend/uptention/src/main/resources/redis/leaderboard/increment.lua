@@ -0,0 +1,30 @@
+-- 종료된 채굴 세션의 시간을 주간 랭킹에 반영
+-- KEYS[1] : 사용자별 누적 시간 정렬 집합 (member: 사용자 ID)
+-- KEYS[2] : 서로 다른 누적 시간 정렬 집합 (member, score 모두 누적 시간, 조밀 순위 계산용)
+-- KEYS[3] : 누적 시간별 사용자 수 해시
+-- KEYS[4] : 사용자 이름 해시
+-- KEYS[5] : 적재 완료 표시 키
+-- ARGV[1] : 사용자 ID, ARGV[2] : 추가할 시간(분), ARGV[3] : 사용자 이름, ARGV[4] : 보관 시간(초)
+-- 반환값  : 반영 후 누적 시간, 아직 적재되지 않은 주라면 -1 (적재 시 DB에서 함께 집계됨)
+if redis.call('EXISTS', KEYS[5]) == 0 then
+	return -1
+end
+
+local previous = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if previous then
+	if redis.call('HINCRBY', KEYS[3], previous, -1) <= 0 then
+		redis.call('HDEL', KEYS[3], previous)
+		redis.call('ZREM', KEYS[2], previous)
+	end
+end
+
+local total = redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+redis.call('HINCRBY', KEYS[3], total, 1)
+redis.call('ZADD', KEYS[2], total, total)
+redis.call('HSET', KEYS[4], ARGV[1], ARGV[3])
+
+for i = 1, 4 do
+	redis.call('EXPIRE', KEYS[i], ARGV[4])
+end
+
+return tonumber(total)
@@ -0,0 +1,16 @@
+-- 사용자의 주간 조밀 순위 조회 (동점자는 같은 순위, 다음 순위는 건너뛰지 않음)
+-- KEYS    : increment.lua와 동일
+-- ARGV[1] : 사용자 ID
+-- 반환값  : {순위(0부터), 누적 시간, 이름}, 기록이 없으면 빈 배열, 적재되지 않은 주라면 {-1}
+if redis.call('EXISTS', KEYS[5]) == 0 then
+	return {-1}
+end
+
+local total = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not total then
+	return {}
+end
+
+local rank = redis.call('ZREVRANK', KEYS[2], total)
+local name = redis.call('HGET', KEYS[4], ARGV[1]) or ''
+return {rank, total, name}
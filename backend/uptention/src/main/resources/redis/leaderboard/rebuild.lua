@@ -0,0 +1,25 @@
+-- DB 집계 결과로 주간 랭킹을 원자적으로 다시 적재
+-- KEYS    : increment.lua와 동일
+-- ARGV[1] : 보관 시간(초)
+-- ARGV[3i-1], ARGV[3i], ARGV[3i+1] : i번째 사용자의 ID, 누적 시간(분), 이름
+-- 반환값  : 적재한 사용자 수
+redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4])
+
+local count = 0
+for i = 2, #ARGV, 3 do
+	redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+	local total = redis.call('ZSCORE', KEYS[1], ARGV[i])
+	redis.call('HINCRBY', KEYS[3], total, 1)
+	redis.call('ZADD', KEYS[2], total, total)
+	redis.call('HSET', KEYS[4], ARGV[i], ARGV[i + 2])
+	count = count + 1
+end
+
+if count > 0 then
+	for i = 1, 4 do
+		redis.call('EXPIRE', KEYS[i], ARGV[1])
+	end
+end
+redis.call('SET', KEYS[5], '1', 'EX', ARGV[1])
+
+return count
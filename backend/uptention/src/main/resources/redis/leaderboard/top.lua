@@ -0,0 +1,24 @@
+-- 주간 랭킹 상위 N개 순위(동점자 포함) 조회
+-- KEYS    : increment.lua와 동일
+-- ARGV[1] : 조회할 순위 수 N
+-- 반환값  : {사용자 ID, 누적 시간, 이름, ...} (누적 시간 내림차순), 적재되지 않은 주라면 {-1}
+if redis.call('EXISTS', KEYS[5]) == 0 then
+	return {-1}
+end
+
+-- N번째로 큰 서로 다른 누적 시간이 기준선 (없으면 전체)
+local levels = redis.call('ZREVRANGE', KEYS[2], 0, tonumber(ARGV[1]) - 1)
+if #levels == 0 then
+	return {}
+end
+
+local members = redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', levels[#levels], 'WITHSCORES')
+local result = {}
+for i = 1, #members, 2 do
+	local name = redis.call('HGET', KEYS[4], members[i]) or ''
+	table.insert(result, members[i])
+	table.insert(result, members[i + 1])
+	table.insert(result, name)
+end
+
+return result
@@ -0,0 +1,86 @@
+package com.otoki.uptention.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otoki.uptention.auth.constant.JWTConstants;
+import com.otoki.uptention.auth.dto.AccessTokenClaims;
+import com.otoki.uptention.auth.util.AccessTokenVerifier;
+import com.otoki.uptention.auth.util.JWTUtil;
+import com.otoki.uptention.domain.user.enums.UserRole;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+
+public class AccessTokenVerifierTest {
+
+	// 32바이트 HMAC 키 (hex)
+	private static final String SECRET = "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff";
+
+	private JWTUtil jwtUtil;
+	private AccessTokenVerifier accessTokenVerifier;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = spy(new JWTUtil(SECRET));
+		accessTokenVerifier = new AccessTokenVerifier(jwtUtil);
+	}
+
+	@Test
+	@DisplayName("액세스 토큰을 검증하고 사용자 ID와 권한을 반환한다")
+	void verify_Success() {
+		// given
+		String token = jwtUtil.createJwt(JWTConstants.ACCESS_TOKEN, 7, UserRole.ROLE_MEMBER.name(), 60_000L);
+
+		// when
+		AccessTokenClaims claims = accessTokenVerifier.verify(token);
+
+		// then
+		assertThat(claims.getUserId()).isEqualTo(7);
+		assertThat(claims.getRole()).isEqualTo(UserRole.ROLE_MEMBER);
+	}
+
+	@Test
+	@DisplayName("같은 토큰은 만료 전까지 다시 파싱하지 않는다")
+	void verify_Cached() {
+		// given
+		String token = jwtUtil.createJwt(JWTConstants.ACCESS_TOKEN, 7, UserRole.ROLE_MEMBER.name(), 60_000L);
+
+		// when
+		accessTokenVerifier.verify(token);
+		accessTokenVerifier.verify(token);
+
+		// then
+		verify(jwtUtil, times(1)).parseAccessToken(token);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 EXPIRED_ACCESS_TOKEN 예외가 발생하고 캐시하지 않는다")
+	void verify_Expired() {
+		// given
+		String token = jwtUtil.createJwt(JWTConstants.ACCESS_TOKEN, 7, UserRole.ROLE_MEMBER.name(), -1_000L);
+
+		// when & then
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> accessTokenVerifier.verify(token))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPIRED_ACCESS_TOKEN);
+		}
+		verify(jwtUtil, times(2)).parseAccessToken(token);
+	}
+
+	@Test
+	@DisplayName("액세스 토큰이 아닌 토큰은 거부한다")
+	void verify_WrongCategory() {
+		// given
+		String token = jwtUtil.createJwt("refresh", 7, UserRole.ROLE_MEMBER.name(), 60_000L);
+
+		// when & then
+		assertThatThrownBy(() -> accessTokenVerifier.verify(token))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPIRED_ACCESS_TOKEN);
+	}
+}
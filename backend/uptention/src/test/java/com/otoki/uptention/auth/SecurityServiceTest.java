@@ -0,0 +1,113 @@
+package com.otoki.uptention.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.otoki.uptention.auth.dto.CustomUserDetails;
+import com.otoki.uptention.auth.dto.UserContext;
+import com.otoki.uptention.auth.dto.UserDetailsDto;
+import com.otoki.uptention.auth.service.SecurityServiceImpl;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.domain.user.enums.UserRole;
+import com.otoki.uptention.domain.user.repository.UserRepository;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+public class SecurityServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private SecurityServiceImpl securityService;
+
+	@BeforeEach
+	void setUp() {
+		securityService = new SecurityServiceImpl(userRepository);
+
+		CustomUserDetails userDetails = new CustomUserDetails(UserDetailsDto.builder()
+			.userId(1)
+			.role(UserRole.ROLE_MEMBER)
+			.build());
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("사용자 스냅샷은 캐시되어 반복 호출 시 DB를 다시 조회하지 않는다")
+	void getLoggedInUserContext_Cached() {
+		// given
+		User user = User.builder().id(1).role(UserRole.ROLE_MEMBER).build();
+		when(userRepository.findById(1)).thenReturn(Optional.of(user));
+
+		// when
+		UserContext first = securityService.getLoggedInUserContext();
+		UserContext second = securityService.getLoggedInUserContext();
+
+		// then
+		assertThat(first.getUserId()).isEqualTo(1);
+		assertThat(first.getRole()).isEqualTo(UserRole.ROLE_MEMBER);
+		assertThat(second).isSameAs(first);
+		verify(userRepository, times(1)).findById(1);
+	}
+
+	@Test
+	@DisplayName("사용자 정보 변경으로 캐시를 제거하면 다음 호출에서 다시 조회한다")
+	void getLoggedInUserContext_AfterEvict() {
+		// given
+		User user = User.builder().id(1).role(UserRole.ROLE_TEMP_MEMBER).build();
+		User updated = User.builder().id(1).role(UserRole.ROLE_MEMBER).build();
+		when(userRepository.findById(1))
+			.thenReturn(Optional.of(user))
+			.thenReturn(Optional.of(updated));
+
+		// when
+		securityService.getLoggedInUserContext();
+		securityService.evictUserContext(1);
+		UserContext reloaded = securityService.getLoggedInUserContext();
+
+		// then
+		assertThat(reloaded.getRole()).isEqualTo(UserRole.ROLE_MEMBER);
+		verify(userRepository, times(2)).findById(1);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자는 NOT_AUTHENTICATED_USER 예외가 발생한다")
+	void getLoggedInUserContext_UserNotFound() {
+		// given
+		when(userRepository.findById(1)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> securityService.getLoggedInUserContext())
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_AUTHENTICATED_USER);
+	}
+
+	@Test
+	@DisplayName("사용자 ID는 인증 정보에서 바로 반환하며 DB를 조회하지 않는다")
+	void getLoggedInUserId() {
+		// when
+		Integer userId = securityService.getLoggedInUserId();
+
+		// then
+		assertThat(userId).isEqualTo(1);
+		verifyNoInteractions(userRepository);
+	}
+}
@@ -0,0 +1,80 @@
+package com.otoki.uptention.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otoki.uptention.domain.common.CursorCodec;
+import com.otoki.uptention.domain.common.CursorDto;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+
+public class CursorCodecTest {
+
+	private final CursorCodec cursorCodec = new CursorCodec("");
+	private final CursorCodec signedCursorCodec = new CursorCodec("cursor-secret");
+
+	@Test
+	@DisplayName("정수 기준값 커서를 인코딩한 뒤 그대로 디코딩한다")
+	void encodeDecode_Integer() {
+		// when
+		String encoded = cursorCodec.encode(new CursorDto<>(15000, 42));
+		CursorDto<Integer> decoded = cursorCodec.decode(encoded, Integer.class);
+
+		// then
+		assertThat(encoded).doesNotContain("+", "/", "=");
+		assertThat(decoded.getValue()).isEqualTo(15000);
+		assertThat(decoded.getId()).isEqualTo(42);
+	}
+
+	@Test
+	@DisplayName("문자열 기준값 커서를 인코딩한 뒤 그대로 디코딩한다")
+	void encodeDecode_String() {
+		// when
+		String encoded = signedCursorCodec.encode(new CursorDto<>("2025-03-01T10:15:30", 7));
+		CursorDto<String> decoded = signedCursorCodec.decode(encoded, String.class);
+
+		// then
+		assertThat(decoded.getValue()).isEqualTo("2025-03-01T10:15:30");
+		assertThat(decoded.getId()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("빈 커서 문자열은 null을 반환한다")
+	void decode_Empty() {
+		assertThat(cursorCodec.decode(null, Integer.class)).isNull();
+		assertThat(cursorCodec.decode("", Integer.class)).isNull();
+	}
+
+	@Test
+	@DisplayName("서명이 다른 커서는 CURSOR_DECODING_FAILED 예외가 발생한다")
+	void decode_Tampered() {
+		// given
+		String unsigned = cursorCodec.encode(new CursorDto<>(100, 1));
+		String otherKey = new CursorCodec("other-secret").encode(new CursorDto<>(100, 1));
+
+		// when & then
+		assertThatThrownBy(() -> signedCursorCodec.decode(unsigned, Integer.class))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CURSOR_DECODING_FAILED);
+		assertThatThrownBy(() -> signedCursorCodec.decode(otherKey, Integer.class))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CURSOR_DECODING_FAILED);
+	}
+
+	@Test
+	@DisplayName("기준값 타입이 다르거나 형식이 잘못된 커서는 CURSOR_DECODING_FAILED 예외가 발생한다")
+	void decode_Invalid() {
+		// given
+		String stringCursor = cursorCodec.encode(new CursorDto<>("name", 1));
+
+		// when & then
+		assertThatThrownBy(() -> cursorCodec.decode(stringCursor, Integer.class))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CURSOR_DECODING_FAILED);
+		assertThatThrownBy(() -> cursorCodec.decode("not-a-cursor!", Integer.class))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CURSOR_DECODING_FAILED);
+	}
+}
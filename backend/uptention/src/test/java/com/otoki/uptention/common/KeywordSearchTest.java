@@ -0,0 +1,94 @@
+package com.otoki.uptention.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otoki.uptention.domain.common.KeywordSearch;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+
+/**
+ * 검색 조건 선택(LIKE / MATCH) 검증
+ * MATCH ... AGAINST 자체의 MySQL 동작(ngram 토큰화, 불용어)은 H2 테스트 환경에서 재현할 수 없어 검증하지 않는다.
+ * 인덱스는 db/search-indexes.sql(불용어 해제 후 생성) 기준으로 운영하고, 적용 후 수동으로 확인한다.
+ */
+public class KeywordSearchTest {
+
+	private final StringPath name = Expressions.stringPath("name");
+	private final StringPath message = Expressions.stringPath("message");
+
+	@AfterEach
+	void tearDown() {
+		KeywordSearch.setAvailableIndexes(List.of());
+	}
+
+	@Test
+	@DisplayName("FULLTEXT 인덱스가 확인되기 전에는 MATCH 대신 LIKE로 검색한다")
+	void contains_IndexNotAvailable() {
+		// when
+		BooleanExpression condition = KeywordSearch.contains(KeywordSearch.ITEM_NAME_INDEX, name, "커피");
+
+		// then
+		assertThat(operator(condition)).isEqualTo(Ops.STRING_CONTAINS);
+	}
+
+	@Test
+	@DisplayName("FULLTEXT 인덱스가 확인되면 두 글자 이상 키워드는 MATCH로 검색한다")
+	void contains_IndexAvailable() {
+		// given
+		KeywordSearch.setAvailableIndexes(List.of(KeywordSearch.ITEM_NAME_INDEX));
+
+		// when
+		BooleanExpression condition = KeywordSearch.contains(KeywordSearch.ITEM_NAME_INDEX, name, "커피");
+		BooleanExpression singleCharacter = KeywordSearch.contains(KeywordSearch.ITEM_NAME_INDEX, name, "커");
+
+		// then
+		assertThat(operator(condition)).isEqualTo(Ops.GT);
+		assertThat(condition.toString()).contains("match_against");
+		assertThat(operator(singleCharacter)).isEqualTo(Ops.STRING_CONTAINS);
+	}
+
+	@Test
+	@DisplayName("다른 테이블의 인덱스만 확인된 경우에도 LIKE로 검색한다")
+	void containsAny_OtherIndexAvailable() {
+		// given
+		KeywordSearch.setAvailableIndexes(List.of(KeywordSearch.ITEM_NAME_INDEX));
+
+		// when
+		BooleanExpression condition = KeywordSearch.containsAny(KeywordSearch.NOTIFICATION_INDEX, name, message,
+			"\"결제\"");
+
+		// then
+		assertThat(operator(condition)).isEqualTo(Ops.OR);
+		assertThat(condition.toString()).doesNotContain("match_against").contains("결제");
+	}
+
+	@Test
+	@DisplayName("큰따옴표나 공백만 있는 키워드는 모든 행과 일치하지 않도록 입력 그대로 포함 검색한다")
+	void contains_OnlyQuotesOrBlank() {
+		// given
+		KeywordSearch.setAvailableIndexes(List.of(KeywordSearch.ITEM_NAME_INDEX, KeywordSearch.NOTIFICATION_INDEX));
+
+		// when
+		BooleanExpression quotes = KeywordSearch.contains(KeywordSearch.ITEM_NAME_INDEX, name, "\"\"");
+		BooleanExpression blank = KeywordSearch.containsAny(KeywordSearch.NOTIFICATION_INDEX, name, message, "  ");
+
+		// then
+		assertThat(operator(quotes)).isEqualTo(Ops.STRING_CONTAINS);
+		assertThat(quotes.toString()).contains("\"\"");
+		assertThat(operator(blank)).isEqualTo(Ops.OR);
+		assertThat(blank.toString()).doesNotContain("match_against").contains("  ");
+	}
+
+	private Object operator(BooleanExpression expression) {
+		return ((Operation<?>)expression).getOperator();
+	}
+}
@@ -0,0 +1,85 @@
+package com.otoki.uptention.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicationRoutingDataSourceTest {
+
+	private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+	private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+	private ReplicationRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() {
+		routingDataSource = new ReplicationRoutingDataSource(
+			new DriverManagerDataSource(PRIMARY_URL, "sa", ""),
+			Map.of("replica-1", new DriverManagerDataSource(REPLICA_URL, "sa", "")),
+			Duration.ofSeconds(5));
+		routingDataSource.getReplicas().get(0).update(true, 0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		ReplicationRoutingContext.clear();
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 복제 DB를 사용한다")
+	void readOnlyTransaction_UsesReplica() throws SQLException {
+		// given
+		beginTransaction(true);
+
+		// when & then
+		assertThat(connectedUrl()).isEqualTo(REPLICA_URL);
+	}
+
+	@Test
+	@DisplayName("쓰기 트랜잭션 이후의 읽기는 주 DB를 사용한다")
+	void readAfterWrite_PinnedToPrimary() throws SQLException {
+		// given
+		beginTransaction(false);
+		assertThat(connectedUrl()).isEqualTo(PRIMARY_URL);
+
+		// when
+		beginTransaction(true);
+
+		// then
+		assertThat(connectedUrl()).isEqualTo(PRIMARY_URL);
+	}
+
+	@Test
+	@DisplayName("사용 가능한 복제 DB가 없으면 읽기 전용 트랜잭션도 주 DB를 사용한다")
+	void laggingReplica_FallsBackToPrimary() throws SQLException {
+		// given: 복제 지연 초과로 제외된 복제 DB
+		routingDataSource.getReplicas().get(0).update(false, 5_000);
+		beginTransaction(true);
+
+		// when & then
+		assertThat(connectedUrl()).isEqualTo(PRIMARY_URL);
+	}
+
+	private void beginTransaction(boolean readOnly) {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+	}
+
+	private String connectedUrl() throws SQLException {
+		try (Connection connection = routingDataSource.getConnection()) {
+			return connection.getMetaData().getURL();
+		}
+	}
+}
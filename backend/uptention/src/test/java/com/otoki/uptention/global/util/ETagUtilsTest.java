@@ -0,0 +1,42 @@
+package com.otoki.uptention.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otoki.uptention.application.item.dto.response.CategoryResponseDto;
+
+class ETagUtilsTest {
+
+	@Test
+	@DisplayName("같은 내용이면 같은 강한 ETag를 생성한다")
+	void strong_SameContent() {
+		// given
+		List<CategoryResponseDto> first = List.of(new CategoryResponseDto(1, "리빙가전"));
+		List<CategoryResponseDto> second = List.of(new CategoryResponseDto(1, "리빙가전"));
+
+		// when
+		String firstETag = ETagUtils.strong(first);
+		String secondETag = ETagUtils.strong(second);
+
+		// then
+		assertThat(firstETag).isEqualTo(secondETag)
+			.startsWith("\"")
+			.endsWith("\"")
+			.doesNotStartWith("W/");
+	}
+
+	@Test
+	@DisplayName("내용이 다르면 다른 ETag를 생성한다")
+	void strong_DifferentContent() {
+		// given
+		List<CategoryResponseDto> before = List.of(new CategoryResponseDto(1, "리빙가전"));
+		List<CategoryResponseDto> after = List.of(new CategoryResponseDto(1, "주방가전"));
+
+		// when & then
+		assertThat(ETagUtils.strong(before)).isNotEqualTo(ETagUtils.strong(after));
+	}
+}
@@ -0,0 +1,155 @@
+package com.otoki.uptention.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.repository.HotInventoryRepository;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.service.HotItemInventoryServiceImpl;
+import com.otoki.uptention.global.config.InventoryProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class HotItemInventoryServiceTest {
+
+	@Mock
+	private HotInventoryRepository hotInventoryRepository;
+
+	@Mock
+	private InventoryRepository inventoryRepository;
+
+	@Spy
+	private InventoryProperties inventoryProperties = new InventoryProperties();
+
+	@Mock
+	private DistributedLockManager lockManager;
+
+	@Mock
+	private InventoryChangeNotifier inventoryChangeNotifier;
+
+	@Spy
+	private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@InjectMocks
+	private HotItemInventoryServiceImpl hotItemInventoryService;
+
+	@Test
+	@DisplayName("임의의 버킷 하나에 재고가 충분하면 다른 버킷을 건드리지 않고 예약한다")
+	void reserve_FastPath() {
+		// given
+		registerHotItems(Map.of(1, 4));
+		when(hotInventoryRepository.take(eq(1), anyInt(), eq(2))).thenReturn(true);
+
+		// when
+		Map<Integer, Integer> shortfalls = hotItemInventoryService.reserve(Map.of(1, 2));
+
+		// then
+		assertThat(shortfalls).isEmpty();
+		verify(hotInventoryRepository, never()).takeAcross(anyInt(), anyInt(), anyInt(), anyInt());
+		assertThat(meterRegistry.get("inventory.hot.reserve").tag("result", "fast").counter().count())
+			.isEqualTo(1.0);
+		// 버킷 예약도 니어 캐시 무효화 및 DB 반영 대상으로 기록
+		verify(inventoryChangeNotifier, times(1)).notifyChanged(Set.of(1));
+	}
+
+	@Test
+	@DisplayName("선택한 버킷의 재고가 부족하면 다른 버킷에서 나누어 가져온다")
+	void reserve_StealFromOtherBuckets() {
+		// given
+		registerHotItems(Map.of(1, 4));
+		when(hotInventoryRepository.take(eq(1), anyInt(), eq(2))).thenReturn(false);
+		when(hotInventoryRepository.takeAcross(eq(1), eq(4), anyInt(), eq(2))).thenReturn(0);
+
+		// when
+		Map<Integer, Integer> shortfalls = hotItemInventoryService.reserve(Map.of(1, 2));
+
+		// then
+		assertThat(shortfalls).isEmpty();
+		assertThat(meterRegistry.get("inventory.hot.reserve").tag("result", "steal").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("핫 아이템 하나라도 재고가 부족하면 먼저 예약한 핫 아이템을 되돌린다")
+	void reserve_ShortfallRollsBack() {
+		// given
+		registerHotItems(Map.of(1, 4, 2, 4));
+		Map<Integer, Integer> hotQuantities = new LinkedHashMap<>();
+		hotQuantities.put(1, 2);
+		hotQuantities.put(2, 3);
+
+		when(hotInventoryRepository.take(eq(1), anyInt(), eq(2))).thenReturn(true);
+		when(hotInventoryRepository.take(eq(2), anyInt(), eq(3))).thenReturn(false);
+		when(hotInventoryRepository.takeAcross(eq(2), eq(4), anyInt(), eq(3))).thenReturn(1);
+		when(hotInventoryRepository.release(eq(1), anyInt(), eq(2))).thenReturn(true);
+
+		// when
+		Map<Integer, Integer> shortfalls = hotItemInventoryService.reserve(hotQuantities);
+
+		// then
+		assertThat(shortfalls).containsExactly(entry(2, 1));
+		verify(hotInventoryRepository, times(1)).release(eq(1), anyInt(), eq(2));
+		verifyNoInteractions(inventoryChangeNotifier);
+	}
+
+	@Test
+	@DisplayName("조회한 재고에 버킷 재고를 가용 재고로 반영한다")
+	void applyBuckets() {
+		// given
+		registerHotItems(Map.of(1, 4));
+		InventoryDto hot = InventoryDto.builder().itemId(1).quantity(100).reservedQuantity(100).availableQuantity(0).build();
+		InventoryDto normal = InventoryDto.builder().itemId(2).quantity(10).reservedQuantity(0).availableQuantity(10).build();
+		when(hotInventoryRepository.sumBuckets(Map.of(1, 4))).thenReturn(Map.of(1, 60));
+
+		// when
+		hotItemInventoryService.applyBuckets(Map.of(1, hot, 2, normal));
+
+		// then
+		assertThat(hot.getAvailableQuantity()).isEqualTo(60);
+		assertThat(hot.getReservedQuantity()).isEqualTo(40);
+		assertThat(normal.getAvailableQuantity()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("설정에서 빠진 핫 아이템은 해제하고 설정된 상품은 등록 및 재분배한다")
+	void reconcile() {
+		// given
+		inventoryProperties.getHotItems().setItemIds(List.of(1));
+		inventoryProperties.getHotItems().setBuckets(4);
+		inventoryProperties.getHotItems().setRebalanceThreshold(5);
+		when(hotInventoryRepository.findAllBucketCounts()).thenReturn(Map.of(2, 4));
+		when(lockManager.executeWithLock(anyString(), anyInt(), anyInt(), any(Supplier.class)))
+			.thenAnswer(invocation -> ((Supplier<?>)invocation.getArgument(3)).get());
+
+		// when
+		hotItemInventoryService.reconcile();
+
+		// then
+		verify(hotInventoryRepository, times(1)).detach(2, 4);
+		verify(hotInventoryRepository, times(1)).attach(1, 4, 5);
+	}
+
+	private void registerHotItems(Map<Integer, Integer> bucketCounts) {
+		when(hotInventoryRepository.findAllBucketCounts()).thenReturn(bucketCounts);
+		hotItemInventoryService.refreshRegistry();
+	}
+}
@@ -0,0 +1,96 @@
+package com.otoki.uptention.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import com.otoki.uptention.domain.item.cache.InventoryNearCache;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.global.config.InventoryProperties;
+
+public class InventoryNearCacheTest {
+
+	private InventoryNearCache inventoryNearCache;
+	private AtomicInteger loadCount;
+	private Function<List<Integer>, Map<Integer, InventoryDto>> loader;
+
+	@BeforeEach
+	void setUp() {
+		inventoryNearCache = new InventoryNearCache(new InventoryProperties());
+		loadCount = new AtomicInteger();
+		loader = itemIds -> {
+			loadCount.incrementAndGet();
+			Map<Integer, InventoryDto> result = new HashMap<>();
+			for (Integer itemId : itemIds) {
+				result.put(itemId, InventoryDto.builder()
+					.itemId(itemId)
+					.quantity(10)
+					.reservedQuantity(0)
+					.availableQuantity(10)
+					.build());
+			}
+			return result;
+		};
+	}
+
+	@Test
+	@DisplayName("캐시된 상품은 다시 조회하지 않는다")
+	void getAll_CachedItems() {
+		// given
+		inventoryNearCache.getAll(List.of(1, 2), loader);
+
+		// when
+		Map<Integer, InventoryDto> result = inventoryNearCache.getAll(List.of(1, 2), loader);
+
+		// then
+		assertThat(result).containsOnlyKeys(1, 2);
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("무효화 메시지를 받으면 해당 상품만 다시 조회한다")
+	void onMessage_InvalidatesItems() {
+		// given
+		inventoryNearCache.getAll(List.of(1, 2), loader);
+		List<List<Integer>> reloaded = new ArrayList<>();
+
+		// when
+		inventoryNearCache.onMessage(new DefaultMessage(
+			InventoryNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"2".getBytes(StandardCharsets.UTF_8)), null);
+		inventoryNearCache.getAll(List.of(1, 2), itemIds -> {
+			reloaded.add(itemIds);
+			return loader.apply(itemIds);
+		});
+
+		// then
+		assertThat(reloaded).containsExactly(List.of(2));
+	}
+
+	@Test
+	@DisplayName("니어 캐시가 비활성화되면 항상 원본을 조회한다")
+	void getAll_Disabled() {
+		// given
+		InventoryProperties properties = new InventoryProperties();
+		properties.getNearCache().setEnabled(false);
+		InventoryNearCache disabledCache = new InventoryNearCache(properties);
+
+		// when
+		disabledCache.getAll(List.of(1), loader);
+		disabledCache.getAll(List.of(1), loader);
+
+		// then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+}
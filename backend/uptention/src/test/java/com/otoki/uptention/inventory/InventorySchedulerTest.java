@@ -1,8 +1,10 @@
 package com.otoki.uptention.inventory;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -12,17 +14,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.otoki.uptention.domain.item.dto.InventoryDto;
-import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.dto.ItemQuantityDto;
 import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.domain.item.service.InventoryWriteBackService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.global.lock.DistributedLockManager;
 import com.otoki.uptention.global.scheduler.InventorySchedulerImpl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 public class InventorySchedulerTest {
 
@@ -32,6 +38,12 @@ public class InventorySchedulerTest {
 	@Mock
 	private InventoryService inventoryService;
 
+	@Mock
+	private InventoryWriteBackService inventoryWriteBackService;
+
+	@Spy
+	private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 	@Mock(lenient = true)  // lenient 모드 설정
 	private DistributedLockManager lockManager;
 
@@ -49,113 +61,82 @@ public class InventorySchedulerTest {
 	}
 
 	@Test
-	@DisplayName("애플리케이션 시작 시 모든 아이템의 재고를 Redis에 초기화한다")
+	@DisplayName("애플리케이션 시작 시 Redis에 없는 상품의 재고만 초기화한다")
 	void initializeAllInventories() {
 		// given
-		Item item1 = Item.builder().id(1).quantity(10).build();
-		Item item2 = Item.builder().id(2).quantity(20).build();
-		Item item3 = Item.builder().id(3).quantity(30).build();
-
-		List<Item> items = Arrays.asList(item1, item2, item3);
+		List<ItemQuantityDto> items = Arrays.asList(
+			new ItemQuantityDto(1, 10),
+			new ItemQuantityDto(2, 20),
+			new ItemQuantityDto(3, 30));
 
 		Map<Integer, Integer> expectedQuantities = new HashMap<>();
 		expectedQuantities.put(1, 10);
 		expectedQuantities.put(2, 20);
 		expectedQuantities.put(3, 30);
 
-		when(itemService.getAllItems()).thenReturn(items);
+		when(itemService.getActiveItemQuantitiesAfter(0, 1000)).thenReturn(items);
+		when(inventoryService.initializeMissingInventories(expectedQuantities)).thenReturn(2);
 
 		// when
 		inventorySyncService.initializeAllInventories();
 
 		// then
-		verify(itemService, times(1)).getAllItems();
-		verify(inventoryService, times(1)).initializeInventories(expectedQuantities);
+		verify(itemService, times(1)).getActiveItemQuantitiesAfter(0, 1000);
+		verify(itemService, never()).getActiveItemIds();
+		verify(inventoryService, never()).initializeInventories(anyMap());
+		assertThat(meterRegistry.get("inventory.bootstrap.items").tag("result", "scanned").counter().count())
+			.isEqualTo(3.0);
+		assertThat(meterRegistry.get("inventory.bootstrap.items").tag("result", "loaded").counter().count())
+			.isEqualTo(2.0);
 	}
 
 	@Test
-	@DisplayName("주기적으로 Redis 재고 정보를 DB에 동기화한다")
-	void syncAllInventoriesToDatabase() {
+	@DisplayName("페이지가 가득 차면 마지막 상품 ID 이후를 이어서 조회한다")
+	void initializeAllInventories_Paging() {
 		// given
-		Item item1 = mock(Item.class);
-		when(item1.getId()).thenReturn(1);
+		List<ItemQuantityDto> firstPage = new ArrayList<>();
+		for (int id = 1; id <= 1000; id++) {
+			firstPage.add(new ItemQuantityDto(id, 5));
+		}
 
-		Item item2 = mock(Item.class);
-		when(item2.getId()).thenReturn(2);
-
-		List<Item> items = Arrays.asList(item1, item2);
-
-		InventoryDto inventory1 = InventoryDto.builder()
-			.itemId(1)
-			.quantity(15) // 변경된 재고
-			.reservedQuantity(2)
-			.availableQuantity(13)
-			.build();
-
-		InventoryDto inventory2 = InventoryDto.builder()
-			.itemId(2)
-			.quantity(18) // 변경된 재고
-			.reservedQuantity(3)
-			.availableQuantity(15)
-			.build();
-
-		when(itemService.getAllItems()).thenReturn(items);
-		when(inventoryService.getInventory(1)).thenReturn(inventory1);
-		when(inventoryService.getInventory(2)).thenReturn(inventory2);
+		when(itemService.getActiveItemQuantitiesAfter(0, 1000)).thenReturn(firstPage);
+		when(itemService.getActiveItemQuantitiesAfter(1000, 1000)).thenReturn(List.of());
 
 		// when
-		inventorySyncService.syncAllInventoriesToDatabase();
+		inventorySyncService.initializeAllInventories();
 
 		// then
-		verify(itemService, times(1)).getAllItems();
-		verify(inventoryService, times(1)).getInventory(1);
-		verify(inventoryService, times(1)).getInventory(2);
-
-		// 실제 DB Item 엔티티의 수량이 Redis 재고 수량으로 업데이트되었는지 확인
-		verify(item1, times(1)).updateQuantity(15);
-		verify(item2, times(1)).updateQuantity(18);
+		verify(itemService, times(1)).getActiveItemQuantitiesAfter(1000, 1000);
+		verify(inventoryService, times(1)).initializeMissingInventories(anyMap());
 	}
 
 	@Test
-	@DisplayName("Redis 조회 중 예외 발생 시 해당 아이템은 건너뛴다")
-	void syncAllInventoriesToDatabase_SkipOnException() {
+	@DisplayName("주기적으로 변경된 상품의 재고만 DB에 동기화한다")
+	void syncChangedInventoriesToDatabase() {
 		// given
-		Item item1 = mock(Item.class);
-		when(item1.getId()).thenReturn(1);
-
-		Item item2 = mock(Item.class);
-		when(item2.getId()).thenReturn(2);
+		when(inventoryWriteBackService.flushChangedInventories()).thenReturn(2);
 
-		Item item3 = mock(Item.class);
-		when(item3.getId()).thenReturn(3);
-
-		List<Item> items = Arrays.asList(item1, item2, item3);
+		// when
+		inventorySyncService.syncChangedInventoriesToDatabase();
 
-		InventoryDto inventory1 = InventoryDto.builder()
-			.itemId(1)
-			.quantity(15)
-			.reservedQuantity(2)
-			.availableQuantity(13)
-			.build();
+		// then
+		verify(inventoryWriteBackService, times(1)).flushChangedInventories();
+		verify(itemService, never()).getActiveItemIds();
+		verifyNoInteractions(inventoryService);
+	}
 
-		// item2는 예외 발생
-		when(itemService.getAllItems()).thenReturn(items);
-		when(inventoryService.getInventory(1)).thenReturn(inventory1);
-		when(inventoryService.getInventory(2)).thenThrow(new RuntimeException("Redis 오류"));
-		when(inventoryService.getInventory(3)).thenReturn(null); // 값이 없는 경우
+	@Test
+	@DisplayName("전체 동기화는 모든 상품을 반영 대상으로 기록한 뒤 반영한다")
+	void syncAllInventoriesToDatabase() {
+		// given
+		when(itemService.getActiveItemIds()).thenReturn(List.of(1, 2));
 
 		// when
 		inventorySyncService.syncAllInventoriesToDatabase();
 
 		// then
-		verify(itemService, times(1)).getAllItems();
-		verify(inventoryService, times(1)).getInventory(1);
-		verify(inventoryService, times(1)).getInventory(2);
-		verify(inventoryService, times(1)).getInventory(3);
-
-		// item1만 업데이트 성공
-		verify(item1, times(1)).updateQuantity(15);
-		verify(item2, never()).updateQuantity(anyInt());
-		verify(item3, never()).updateQuantity(anyInt());
+		InOrder inOrder = inOrder(inventoryWriteBackService);
+		inOrder.verify(inventoryWriteBackService).markChanged(List.of(1, 2));
+		inOrder.verify(inventoryWriteBackService).flushChangedInventories();
 	}
 }
@@ -17,12 +17,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
 import com.otoki.uptention.domain.item.dto.InventoryDto;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
 import com.otoki.uptention.domain.item.repository.ItemRepository;
+import com.otoki.uptention.domain.item.service.HotItemInventoryService;
 import com.otoki.uptention.domain.item.service.InventoryServiceImpl;
 import com.otoki.uptention.global.exception.CustomException;
 import com.otoki.uptention.global.exception.ErrorCode;
@@ -31,10 +32,7 @@ import com.otoki.uptention.global.exception.ErrorCode;
 public class InventoryServiceTest {
 
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
-
-	@Mock
-	private ValueOperations<String, Object> valueOperations;
+	private InventoryRepository inventoryRepository;
 
 	@Mock
 	private RedissonClient redissonClient;
@@ -45,6 +43,12 @@ public class InventoryServiceTest {
 	@Mock
 	private ItemRepository itemRepository;
 
+	@Mock
+	private InventoryChangeNotifier inventoryChangeNotifier;
+
+	@Mock
+	private HotItemInventoryService hotItemInventoryService;
+
 	@InjectMocks
 	private InventoryServiceImpl inventoryService;
 
@@ -54,16 +58,12 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 10;
-		String key = "inventory:1";
-
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
 		// when
 		inventoryService.initializeInventory(itemId, quantity);
 
 		// then
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).save(any(InventoryDto.class));
 	}
 
 	@Test
@@ -74,15 +74,12 @@ public class InventoryServiceTest {
 		itemQuantities.put(1, 10);
 		itemQuantities.put(2, 20);
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
 		// when
 		inventoryService.initializeInventories(itemQuantities);
 
 		// then
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).set(eq("inventory:1"), any(InventoryDto.class));
-		verify(valueOperations, times(1)).set(eq("inventory:2"), any(InventoryDto.class));
+		verify(inventoryRepository, times(2)).save(any(InventoryDto.class));
+		verify(inventoryChangeNotifier, times(1)).notifyReloaded(itemQuantities.keySet());
 	}
 
 	@Test
@@ -90,7 +87,6 @@ public class InventoryServiceTest {
 	void getInventory_Success() {
 		// given
 		Integer itemId = 1;
-		String key = "inventory:1";
 		InventoryDto expectedDto = InventoryDto.builder()
 			.itemId(itemId)
 			.quantity(10)
@@ -98,8 +94,7 @@ public class InventoryServiceTest {
 			.availableQuantity(8)
 			.build();
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(expectedDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(expectedDto));
 
 		// when
 		InventoryDto result = inventoryService.getInventory(itemId);
@@ -111,8 +106,7 @@ public class InventoryServiceTest {
 		assertThat(result.getReservedQuantity()).isEqualTo(2);
 		assertThat(result.getAvailableQuantity()).isEqualTo(8);
 
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
+		verify(inventoryRepository, times(1)).findById(itemId);
 	}
 
 	@Test
@@ -120,7 +114,6 @@ public class InventoryServiceTest {
 	void getInventory_InitializeFromDB() {
 		// given
 		Integer itemId = 999;
-		String key = "inventory:999";
 
 		Item item = Item.builder()
 			.id(itemId)
@@ -135,13 +128,12 @@ public class InventoryServiceTest {
 			.availableQuantity(20)
 			.build();
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 		// 첫 호출에서 null, 두 번째 호출에서 데이터 반환
-		when(valueOperations.get(key)).thenReturn(null).thenReturn(expectedDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.empty()).thenReturn(Optional.of(expectedDto));
 		when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
 
-		// 초기화 시 set 메소드 호출을 모킹
-		doAnswer(invocation -> null).when(valueOperations).set(eq(key), any(InventoryDto.class));
+		// 초기화 시 save 메소드 호출을 모킹
+		doAnswer(invocation -> null).when(inventoryRepository).save(any(InventoryDto.class));
 
 		// when
 		InventoryDto result = inventoryService.getInventory(itemId);
@@ -154,9 +146,9 @@ public class InventoryServiceTest {
 		// DB에서 초기화 시도 확인
 		verify(itemRepository, times(1)).findById(itemId);
 		// 초기화 시 값을 설정하는 부분 확인
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).save(any(InventoryDto.class));
 		// 두 번 호출 (초기 조회 + 초기화 후 재조회)
-		verify(valueOperations, times(2)).get(key);
+		verify(inventoryRepository, times(2)).findById(itemId);
 	}
 
 	@Test
@@ -164,10 +156,8 @@ public class InventoryServiceTest {
 	void getInventory_NotFoundInBoth() {
 		// given
 		Integer itemId = 999;
-		String key = "inventory:999";
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(null);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.empty());
 		when(itemRepository.findById(itemId)).thenReturn(Optional.empty());
 
 		// when & then
@@ -175,8 +165,7 @@ public class InventoryServiceTest {
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ITEM_NOT_FOUND);
 
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
+		verify(inventoryRepository, times(1)).findById(itemId);
 		verify(itemRepository, times(1)).findById(itemId);
 	}
 
@@ -185,7 +174,6 @@ public class InventoryServiceTest {
 	void getInventory_ItemUnavailable() {
 		// given
 		Integer itemId = 999;
-		String key = "inventory:999";
 
 		Item item = Item.builder()
 			.id(itemId)
@@ -193,8 +181,7 @@ public class InventoryServiceTest {
 			.status(false) // 비활성화된 상품
 			.build();
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(null);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.empty());
 		when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
 
 		// when & then
@@ -202,8 +189,7 @@ public class InventoryServiceTest {
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVENTORY_SYNC_FAILED);
 
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
+		verify(inventoryRepository, times(1)).findById(itemId);
 		verify(itemRepository, times(1)).findById(itemId);
 	}
 
@@ -213,7 +199,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 2;
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -225,8 +210,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
@@ -240,9 +224,8 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		verify(inventoryRepository, times(1)).adjust(itemId, 0, quantity);
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -253,7 +236,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 15; // 재고보다 많은 수량
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -265,8 +247,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
@@ -280,9 +261,8 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(0)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		verify(inventoryRepository, never()).adjust(anyInt(), anyInt(), anyInt());
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -308,7 +288,7 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(0)).opsForValue();
+		verifyNoInteractions(inventoryRepository);
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(0)).unlock();
 	}
@@ -319,7 +299,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 2;
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -331,8 +310,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
@@ -347,9 +325,8 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		verify(inventoryRepository, times(1)).adjust(itemId, -quantity, -quantity);
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -360,7 +337,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 10; // 예약된 수량(5)보다 많음
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -372,8 +348,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
@@ -388,9 +363,8 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(0)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		verify(inventoryRepository, never()).adjust(anyInt(), anyInt(), anyInt());
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -401,7 +375,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 2;
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -413,8 +386,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
 
@@ -429,9 +401,10 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		// 해시 전체를 덮어쓰지 않고 예약 수량만 증감
+		verify(inventoryRepository, times(1)).adjust(itemId, 0, -quantity);
+		verify(inventoryRepository, never()).save(any(InventoryDto.class));
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -442,7 +415,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer newAvailableQuantity = 20; // 가용 재고 20으로 변경
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -454,19 +426,11 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
 
-		// set 메소드 호출 시 inventoryDto 객체를 업데이트하도록 모킹
-		doAnswer(invocation -> {
-			InventoryDto dto = invocation.getArgument(1);
-			// dto 값 확인
-			return null;
-		}).when(valueOperations).set(eq(key), any(InventoryDto.class));
-
 		// when
 		inventoryService.updateInventory(itemId, newAvailableQuantity);
 
@@ -478,9 +442,10 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		// 전체 재고만 차이만큼 증감 (10 -> 22)
+		verify(inventoryRepository, times(1)).adjust(itemId, 12, 0);
+		verify(inventoryRepository, never()).save(any(InventoryDto.class));
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -491,7 +456,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer increaseQuantity = 5;
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -503,8 +467,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
 
@@ -518,9 +481,8 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		verify(inventoryRepository, times(1)).adjust(itemId, increaseQuantity, 0);
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -531,7 +493,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer decreaseQuantity = 3;
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -543,8 +504,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 		// lock.isHeldByCurrentThread()가 true를 반환하도록 설정
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
 
@@ -558,9 +518,8 @@ public class InventoryServiceTest {
 
 		verify(redissonClient, times(1)).getLock(lockKey);
 		verify(lock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
-		verify(redisTemplate, times(2)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
-		verify(valueOperations, times(1)).set(eq(key), any(InventoryDto.class));
+		verify(inventoryRepository, times(1)).findById(itemId);
+		verify(inventoryRepository, times(1)).adjust(itemId, -decreaseQuantity, 0);
 		verify(lock, times(1)).isHeldByCurrentThread();
 		verify(lock, times(1)).unlock();
 	}
@@ -571,7 +530,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer decreaseQuantity = 10; // 가용 재고(8)보다 많음
-		String key = "inventory:1";
 		String lockKey = "inventory:lock:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
@@ -583,8 +541,7 @@ public class InventoryServiceTest {
 
 		when(redissonClient.getLock(lockKey)).thenReturn(lock);
 		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 		when(lock.isHeldByCurrentThread()).thenReturn(true);
 
 		// when & then
@@ -599,7 +556,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 5;
-		String key = "inventory:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
 			.itemId(itemId)
@@ -608,8 +564,7 @@ public class InventoryServiceTest {
 			.availableQuantity(8)
 			.build();
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// when
 		boolean result = inventoryService.hasStock(itemId, quantity);
@@ -617,8 +572,7 @@ public class InventoryServiceTest {
 		// then
 		assertThat(result).isTrue();
 
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
+		verify(inventoryRepository, times(1)).findById(itemId);
 	}
 
 	@Test
@@ -627,7 +581,6 @@ public class InventoryServiceTest {
 		// given
 		Integer itemId = 1;
 		Integer quantity = 10; // 가용 재고(8)보다 많음
-		String key = "inventory:1";
 
 		InventoryDto inventoryDto = InventoryDto.builder()
 			.itemId(itemId)
@@ -636,8 +589,7 @@ public class InventoryServiceTest {
 			.availableQuantity(8)
 			.build();
 
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get(key)).thenReturn(inventoryDto);
+		when(inventoryRepository.findById(itemId)).thenReturn(Optional.of(inventoryDto));
 
 		// when
 		boolean result = inventoryService.hasStock(itemId, quantity);
@@ -645,7 +597,6 @@ public class InventoryServiceTest {
 		// then
 		assertThat(result).isFalse();
 
-		verify(redisTemplate, times(1)).opsForValue();
-		verify(valueOperations, times(1)).get(key);
+		verify(inventoryRepository, times(1)).findById(itemId);
 	}
 }
\ No newline at end of file
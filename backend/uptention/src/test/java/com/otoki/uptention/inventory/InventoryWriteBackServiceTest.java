@@ -0,0 +1,134 @@
+package com.otoki.uptention.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.repository.ItemJdbcRepository;
+import com.otoki.uptention.domain.item.service.InventoryWriteBackServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryWriteBackServiceTest {
+
+	private static final String CHANGED_ITEMS_KEY = "inventory:changed";
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private InventoryRepository inventoryRepository;
+
+	@Mock
+	private ItemJdbcRepository itemJdbcRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private InventoryWriteBackServiceImpl inventoryWriteBackService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		inventoryWriteBackService = new InventoryWriteBackServiceImpl(stringRedisTemplate, inventoryRepository,
+			itemJdbcRepository, meterRegistry);
+
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+	}
+
+	@Test
+	@DisplayName("변경된 상품의 재고만 조회하여 한 번의 배치로 DB에 반영한다")
+	void flushChangedInventories_Success() {
+		// given
+		Set<TypedTuple<String>> popped = changedItems(1, 2);
+		when(zSetOperations.rangeWithScores(CHANGED_ITEMS_KEY, 0, 0)).thenReturn(changedItems(1));
+		when(zSetOperations.popMin(CHANGED_ITEMS_KEY, 500)).thenReturn(popped);
+		when(zSetOperations.zCard(CHANGED_ITEMS_KEY)).thenReturn(0L);
+		when(inventoryRepository.findAllByIds(List.of(1, 2))).thenReturn(Map.of(
+			1, inventory(1, 15),
+			2, inventory(2, 18)));
+
+		// when
+		int flushed = inventoryWriteBackService.flushChangedInventories();
+
+		// then
+		assertThat(flushed).isEqualTo(2);
+		verify(itemJdbcRepository, times(1)).updateQuantities(Map.of(1, 15, 2, 18));
+		assertThat(meterRegistry.get("inventory.writeback.items").counter().count()).isEqualTo(2.0);
+		assertThat(meterRegistry.get("inventory.writeback.pending").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패하면 꺼낸 상품을 변경 목록에 되돌린다")
+	void flushChangedInventories_RestoreOnFailure() {
+		// given
+		Set<TypedTuple<String>> popped = changedItems(1);
+		when(zSetOperations.rangeWithScores(CHANGED_ITEMS_KEY, 0, 0)).thenReturn(popped);
+		when(zSetOperations.popMin(CHANGED_ITEMS_KEY, 500)).thenReturn(popped);
+		when(zSetOperations.zCard(CHANGED_ITEMS_KEY)).thenReturn(1L);
+		when(inventoryRepository.findAllByIds(List.of(1))).thenReturn(Map.of(1, inventory(1, 15)));
+		doThrow(new RuntimeException("DB 오류")).when(itemJdbcRepository).updateQuantities(anyMap());
+
+		// when
+		int flushed = inventoryWriteBackService.flushChangedInventories();
+
+		// then
+		assertThat(flushed).isZero();
+		verify(zSetOperations, times(1)).add(CHANGED_ITEMS_KEY, popped);
+		assertThat(meterRegistry.get("inventory.writeback.pending").gauge().value()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("변경된 상품이 없으면 DB에 접근하지 않는다")
+	void flushChangedInventories_NothingChanged() {
+		// given
+		when(zSetOperations.rangeWithScores(CHANGED_ITEMS_KEY, 0, 0)).thenReturn(Set.of());
+		when(zSetOperations.popMin(CHANGED_ITEMS_KEY, 500)).thenReturn(Set.of());
+		when(zSetOperations.zCard(CHANGED_ITEMS_KEY)).thenReturn(0L);
+
+		// when
+		int flushed = inventoryWriteBackService.flushChangedInventories();
+
+		// then
+		assertThat(flushed).isZero();
+		verifyNoInteractions(inventoryRepository, itemJdbcRepository);
+	}
+
+	private Set<TypedTuple<String>> changedItems(Integer... itemIds) {
+		Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+		for (Integer itemId : itemIds) {
+			tuples.add(new DefaultTypedTuple<>(String.valueOf(itemId), (double)System.currentTimeMillis()));
+		}
+		return tuples;
+	}
+
+	private InventoryDto inventory(Integer itemId, Integer quantity) {
+		return InventoryDto.builder()
+			.itemId(itemId)
+			.quantity(quantity)
+			.reservedQuantity(0)
+			.availableQuantity(quantity)
+			.build();
+	}
+}
@@ -0,0 +1,228 @@
+package com.otoki.uptention.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.otoki.uptention.domain.item.cache.InventoryChangeNotifier;
+import com.otoki.uptention.domain.item.dto.InventoryDto;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
+import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.repository.InventoryRepository;
+import com.otoki.uptention.domain.item.repository.ItemRepository;
+import com.otoki.uptention.domain.item.service.HotItemInventoryService;
+import com.otoki.uptention.domain.item.service.RedisScriptInventoryServiceImpl;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisScriptInventoryServiceTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private InventoryRepository inventoryRepository;
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@Mock
+	private InventoryChangeNotifier inventoryChangeNotifier;
+
+	@Mock
+	private HotItemInventoryService hotItemInventoryService;
+
+	@InjectMocks
+	private RedisScriptInventoryServiceImpl inventoryService;
+
+	@Test
+	@DisplayName("스크립트가 성공을 반환하면 재고 예약에 성공한다")
+	void reserveInventory_Success() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(1L);
+
+		// when
+		boolean result = inventoryService.reserveInventory(1, 2);
+
+		// then
+		assertThat(result).isTrue();
+		verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("inventory:stock:1")), eq("2"));
+		verify(inventoryChangeNotifier, times(1)).notifyChanged(1);
+	}
+
+	@Test
+	@DisplayName("가용 재고가 부족하면 재고 예약에 실패한다")
+	void reserveInventory_InsufficientStock() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(0L);
+
+		// when
+		boolean result = inventoryService.reserveInventory(1, 15);
+
+		// then
+		assertThat(result).isFalse();
+		verify(itemRepository, never()).findById(anyInt());
+		verifyNoInteractions(inventoryChangeNotifier);
+	}
+
+	@Test
+	@DisplayName("Redis에 재고가 없으면 DB에서 초기화한 뒤 다시 예약한다")
+	void reserveInventory_InitializeFromDB() {
+		// given
+		Item item = Item.builder()
+			.id(1)
+			.quantity(20)
+			.status(true)
+			.build();
+
+		// 예약(재고 없음) -> 초기화 -> 예약 재시도
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any()))
+			.thenReturn(-1L)
+			.thenReturn(1L);
+		when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+		when(inventoryRepository.saveIfAbsent(any(InventoryDto.class))).thenReturn(true);
+
+		// when
+		boolean result = inventoryService.reserveInventory(1, 2);
+
+		// then
+		assertThat(result).isTrue();
+		verify(itemRepository, times(1)).findById(1);
+		verify(inventoryRepository, times(1)).saveIfAbsent(argThat(inventory ->
+			inventory.getQuantity() == 20 && inventory.getReservedQuantity() == 0));
+		verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any());
+	}
+
+	@Test
+	@DisplayName("음수 수량으로 재고를 업데이트하면 예외가 발생한다")
+	void updateInventory_InvalidQuantity() {
+		// when & then
+		assertThatThrownBy(() -> inventoryService.updateInventory(1, -1))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVENTORY_INVALID_QUANTITY);
+
+		verifyNoInteractions(stringRedisTemplate);
+	}
+
+	@Test
+	@DisplayName("여러 상품 예약은 스크립트 한 번으로 처리된다")
+	void reserveInventories_SingleRoundTrip() {
+		// given
+		Map<Integer, Integer> itemQuantities = new LinkedHashMap<>();
+		itemQuantities.put(1, 2);
+		itemQuantities.put(2, 5);
+
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(1L));
+
+		// when
+		boolean result = inventoryService.reserveInventories(itemQuantities);
+
+		// then
+		assertThat(result).isTrue();
+		verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+			eq(List.of("inventory:stock:1", "inventory:stock:2")), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("재고가 부족한 상품이 있으면 예약하지 않고 상품별 부족 수량을 반환한다")
+	void tryReserveInventories_Shortfall() {
+		// given
+		Map<Integer, Integer> itemQuantities = new LinkedHashMap<>();
+		itemQuantities.put(1, 2);
+		itemQuantities.put(2, 5);
+
+		// 두 번째 상품(2번)이 3개 부족
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(0L, 2L, 3L));
+
+		// when
+		InventoryReservationResult result = inventoryService.tryReserveInventories(itemQuantities);
+
+		// then
+		assertThat(result.isReserved()).isFalse();
+		assertThat(result.getShortfalls()).containsExactly(entry(2, 3));
+	}
+
+	@Test
+	@DisplayName("핫 아이템은 버킷에서 예약하고 나머지 상품만 스크립트로 예약한다")
+	void tryReserveInventories_WithHotItem() {
+		// given
+		Map<Integer, Integer> itemQuantities = new LinkedHashMap<>();
+		itemQuantities.put(1, 2);
+		itemQuantities.put(2, 5);
+
+		// 1번 상품만 핫 아이템
+		when(hotItemInventoryService.filterHotItems(anyMap())).thenAnswer(invocation -> {
+			Map<Integer, Integer> quantities = invocation.getArgument(0);
+			return quantities.containsKey(1) ? Map.of(1, quantities.get(1)) : Map.of();
+		});
+		when(hotItemInventoryService.reserve(Map.of(1, 2))).thenReturn(Map.of());
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(1L));
+
+		// when
+		InventoryReservationResult result = inventoryService.tryReserveInventories(itemQuantities);
+
+		// then
+		assertThat(result.isReserved()).isTrue();
+		verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+			eq(List.of("inventory:stock:2")), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("나머지 상품 예약에 실패하면 핫 아이템 예약을 되돌린다")
+	void tryReserveInventories_WithHotItem_RollbackOnShortfall() {
+		// given
+		Map<Integer, Integer> itemQuantities = new LinkedHashMap<>();
+		itemQuantities.put(1, 2);
+		itemQuantities.put(2, 5);
+
+		// 1번 상품만 핫 아이템
+		when(hotItemInventoryService.filterHotItems(anyMap())).thenAnswer(invocation -> {
+			Map<Integer, Integer> quantities = invocation.getArgument(0);
+			return quantities.containsKey(1) ? Map.of(1, quantities.get(1)) : Map.of();
+		});
+		when(hotItemInventoryService.reserve(Map.of(1, 2))).thenReturn(Map.of());
+		when(hotItemInventoryService.releaseHotItems(Map.of(1, 2))).thenReturn(Map.of(1, 2));
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(0L, 1L, 3L));
+
+		// when
+		InventoryReservationResult result = inventoryService.tryReserveInventories(itemQuantities);
+
+		// then
+		assertThat(result.isReserved()).isFalse();
+		assertThat(result.getShortfalls()).containsExactly(entry(2, 3));
+		verify(hotItemInventoryService, times(1)).releaseHotItems(Map.of(1, 2));
+	}
+
+	@Test
+	@DisplayName("핫 아이템의 재고는 직접 변경할 수 없다")
+	void updateInventory_HotItem() {
+		// given
+		when(hotItemInventoryService.isHot(1)).thenReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> inventoryService.updateInventory(1, 10))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVENTORY_HOT_ITEM_UPDATE_NOT_ALLOWED);
+
+		verifyNoInteractions(stringRedisTemplate);
+	}
+}
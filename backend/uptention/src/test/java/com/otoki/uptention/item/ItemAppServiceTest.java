@@ -1,11 +1,13 @@
 package com.otoki.uptention.item;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,8 @@ import com.otoki.uptention.domain.category.repository.CategoryRepository;
 import com.otoki.uptention.domain.image.entity.Image;
 import com.otoki.uptention.domain.item.entity.Item;
 import com.otoki.uptention.domain.item.service.ItemService;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
 
 class ItemAppServiceTest extends ServiceTestSupport {
 
@@ -64,6 +68,40 @@ class ItemAppServiceTest extends ServiceTestSupport {
 		);
 	}
 
+	@Test
+	@DisplayName("여러 상품을 한 번에 조회하면 요청한 순서대로 반환하고 없는 상품은 제외한다")
+	void getItemDetailsByIds_KeepsRequestOrder() {
+		// given
+		Item first = createItem(1);
+		Item second = createItem(2);
+		createImages(first, 1);
+		createImages(second, 2);
+
+		when(itemService.getActiveItemsWithImagesByIds(List.of(2, 3, 1))).thenReturn(List.of(first, second));
+
+		// when
+		List<ItemResponseDto> responses = itemAppService.getItemDetailsByIds(List.of(2, 3, 2, 1));
+
+		// then
+		assertThat(responses).extracting(ItemResponseDto::getItemId).containsExactly(2, 1);
+		assertThat(responses.get(0).getImages()).hasSize(2);
+		assertThat(responses.get(1).getImages()).hasSize(1);
+		verify(itemService, times(1)).getActiveItemsWithImagesByIds(anyList());
+	}
+
+	@Test
+	@DisplayName("한 번에 조회할 수 있는 상품 수를 초과하면 예외가 발생한다")
+	void getItemDetailsByIds_TooManyItems() {
+		// given
+		List<Integer> itemIds = IntStream.rangeClosed(1, 51).boxed().toList();
+
+		// when & then
+		assertThatThrownBy(() -> itemAppService.getItemDetailsByIds(itemIds))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ITEM_BATCH_SIZE_EXCEEDED);
+		verify(itemService, never()).getActiveItemsWithImagesByIds(anyList());
+	}
+
 	// 헬퍼 메서드들 (변경 없음)
 	private Category createCategory() {
 		return Category.builder()
@@ -100,7 +138,7 @@ class ItemAppServiceTest extends ServiceTestSupport {
 				.item(item)
 				.build();
 			images.add(image);
-			item.getImages().add(image);  // 아이템의 이미지 목록에도 추가
+			item.addImage(image);  // 아이템의 이미지 목록에도 추가
 		}
 		return images;
 	}
@@ -0,0 +1,132 @@
+package com.otoki.uptention.item;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import com.otoki.uptention.domain.common.CursorDto;
+import com.otoki.uptention.domain.item.cache.ItemCatalog;
+import com.otoki.uptention.domain.item.dto.ItemDto;
+import com.otoki.uptention.domain.item.enums.SortType;
+import com.otoki.uptention.domain.item.repository.ItemRepository;
+import com.otoki.uptention.global.config.CatalogProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ItemCatalogTest {
+
+	private ItemRepository itemRepository;
+	private ItemCatalog itemCatalog;
+
+	@BeforeEach
+	void setUp() {
+		itemRepository = mock(ItemRepository.class);
+		itemCatalog = new ItemCatalog(itemRepository, new CatalogProperties(), new SimpleMeterRegistry());
+
+		// id, 가격, 판매량, 카테고리
+		when(itemRepository.findItemsByCursor(isNull(), isNull(), isNull(), eq(SortType.ID_ASC), anyInt()))
+			.thenReturn(List.of(
+				item(1, 3000, 5, 1),
+				item(2, 1000, 10, 1),
+				item(3, 3000, 5, 2),
+				item(4, 2000, 10, 2),
+				item(5, 1000, 0, 1)));
+		itemCatalog.reloadAll();
+	}
+
+	@Test
+	@DisplayName("적재 전에는 조회 모델에서 조회하지 않는다")
+	void findPage_NotLoaded() {
+		// given
+		ItemCatalog notLoaded = new ItemCatalog(itemRepository, new CatalogProperties(), new SimpleMeterRegistry());
+
+		// when & then
+		assertThat(notLoaded.findPage(null, null, SortType.SALES, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("판매량순 조회는 판매량 내림차순, 같으면 ID 내림차순으로 정렬된다")
+	void findPage_Sales() {
+		// when
+		Optional<List<ItemDto>> page = itemCatalog.findPage(null, null, SortType.SALES, 10);
+
+		// then
+		assertThat(page).get().asList()
+			.extracting("itemId")
+			.containsExactly(4, 2, 3, 1, 5);
+	}
+
+	@Test
+	@DisplayName("커서가 있으면 커서 다음 상품부터 조회한다")
+	void findPage_WithCursor() {
+		// given: 가격 높은순에서 (3000, 3) 다음
+		CursorDto<Integer> cursor = new CursorDto<>(3000, 3);
+
+		// when
+		Optional<List<ItemDto>> page = itemCatalog.findPage(null, cursor, SortType.HIGH_PRICE, 2);
+
+		// then
+		assertThat(page).get().asList()
+			.extracting("itemId")
+			.containsExactly(1, 4);
+	}
+
+	@Test
+	@DisplayName("카테고리를 지정하면 해당 카테고리 상품만 조회한다")
+	void findPage_Category() {
+		// given: 가격 낮은순에서 (1000, 5) 다음
+		CursorDto<Integer> cursor = new CursorDto<>(1000, 5);
+
+		// when
+		Optional<List<ItemDto>> page = itemCatalog.findPage(1, cursor, SortType.LOW_PRICE, 10);
+
+		// then
+		assertThat(page).get().asList()
+			.extracting("itemId")
+			.containsExactly(2, 1);
+	}
+
+	@Test
+	@DisplayName("변경 메시지를 받은 상품만 다시 읽고, 비활성화된 상품은 제외한다")
+	void applyPendingChanges_ReloadsChangedItems() {
+		// given
+		ItemDto inactive = item(4, 2000, 10, 2);
+		inactive.setStatus(false);
+		when(itemRepository.findItemsWithThumbnailByIds(anyList()))
+			.thenReturn(List.of(item(1, 3000, 50, 1), inactive));
+
+		itemCatalog.onMessage(new DefaultMessage(
+			ItemCatalog.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"1,4".getBytes(StandardCharsets.UTF_8)), null);
+
+		// when
+		itemCatalog.applyPendingChanges();
+
+		// then
+		assertThat(itemCatalog.findPage(null, null, SortType.SALES, 10)).get().asList()
+			.extracting("itemId")
+			.containsExactly(1, 2, 3, 5);
+	}
+
+	private ItemDto item(int itemId, int price, int salesCount, int categoryId) {
+		return ItemDto.builder()
+			.itemId(itemId)
+			.name("상품" + itemId)
+			.price(price)
+			.brand("테스트 브랜드")
+			.quantity(10)
+			.categoryId(categoryId)
+			.salesCount(salesCount)
+			.status(true)
+			.build();
+	}
+}
@@ -19,6 +19,7 @@ import com.otoki.uptention.domain.image.entity.Image;
 import com.otoki.uptention.domain.image.repository.ImageRepository;
 import com.otoki.uptention.domain.item.dto.ItemDto;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.enums.SortType;
 import com.otoki.uptention.domain.item.repository.ItemRepository;
 
 public class ItemRepositoryCustomTest extends RepositoryTestSupport {
@@ -126,6 +127,24 @@ public class ItemRepositoryCustomTest extends RepositoryTestSupport {
 		assertThat(result).isEmpty();
 	}
 
+	@DisplayName("키워드가 이름에 포함된 활성 상품만 조회한다.")
+	@Test
+	void findItemsByCursor_Keyword() {
+		// given
+		Category category = createCategory("테스트 카테고리");
+		Item keyboard = createItem("무선 키보드", 10000, 10, true, category);
+		createItem("유선 마우스", 20000, 20, true, category);
+		createItem("기계식 키보드", 30000, 30, false, category); // 비활성 상품
+
+		// when
+		List<ItemDto> twoChars = itemRepository.findItemsByCursor(null, "키보", null, SortType.ID_ASC, 10);
+		List<ItemDto> oneChar = itemRepository.findItemsByCursor(null, "드", null, SortType.ID_ASC, 10);
+
+		// then
+		assertThat(twoChars).extracting(ItemDto::getItemId).containsExactly(keyboard.getId());
+		assertThat(oneChar).extracting(ItemDto::getItemId).containsExactly(keyboard.getId());
+	}
+
 	// 헬퍼 메서드들
 	private Category createCategory(String name) {
 		return categoryRepository.save(
@@ -158,7 +177,7 @@ public class ItemRepositoryCustomTest extends RepositoryTestSupport {
 				.build();
 
 			// Image를 Item의 images 컬렉션에도 추가
-			item.getImages().add(image);
+			item.addImage(image);
 
 			images.add(imageRepository.save(image));
 		}
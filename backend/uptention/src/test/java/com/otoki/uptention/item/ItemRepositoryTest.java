@@ -191,6 +191,30 @@ public class ItemRepositoryTest extends RepositoryTestSupport {
 		assertThat(foundItem).isEmpty();
 	}
 
+	@DisplayName("썸네일이 비어 있는 상품은 백필 시 첫 번째 이미지로 채워진다")
+	@Test
+	void backfillThumbnails_FillsFirstImage() {
+		// given: 썸네일 컬럼 도입 이전처럼 이미지만 저장된 상품
+		Category category = createCategory("테스트 카테고리");
+		Item item = createItem("기존 상품", 10000, 10, true, category);
+		for (int i = 0; i < 2; i++) {
+			imageRepository.save(Image.builder()
+				.url("http://example.com/image" + (i + 1) + ".jpg")
+				.item(item)
+				.build());
+		}
+
+		// when
+		int updated = itemRepository.backfillThumbnails(0, itemRepository.findMaxId());
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(itemRepository.findById(item.getId()))
+			.get()
+			.extracting(Item::getThumbnail)
+			.isEqualTo("http://example.com/image1.jpg");
+	}
+
 	// 헬퍼 메서드들 - 매개변수를 구체적으로 받도록 개선
 	private Category createCategory(String name) {
 		return categoryRepository.save(
@@ -223,7 +247,7 @@ public class ItemRepositoryTest extends RepositoryTestSupport {
 				.build();
 
 			// Image를 Item의 images 컬렉션에도 추가
-			item.getImages().add(image);
+			item.addImage(image);
 
 			images.add(imageRepository.save(image));
 		}
@@ -1,12 +1,17 @@
 package com.otoki.uptention.mining.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,13 +21,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otoki.uptention.application.mining.dto.response.MyMiningRankResponseDto;
 import com.otoki.uptention.application.mining.service.MiningTimeAppServiceImpl;
+import com.otoki.uptention.auth.service.SecurityService;
+import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
 import com.otoki.uptention.domain.mining.entity.MiningTime;
+import com.otoki.uptention.domain.mining.leaderboard.MiningLeaderboard;
 import com.otoki.uptention.domain.mining.service.MiningTimeService;
 import com.otoki.uptention.domain.user.entity.User;
-import com.otoki.uptention.domain.user.service.UserService;
-import com.otoki.uptention.infra.solana.service.SolanaExpressApiServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
 class MiningTimeAppServiceImplTest {
@@ -31,13 +37,10 @@ class MiningTimeAppServiceImplTest {
 	private MiningTimeService miningTimeService;
 
 	@Mock
-	private UserService userService;
+	private SecurityService securityService;
 
 	@Mock
-	private SolanaExpressApiServiceImpl solanaExpressApiServiceImpl;
-
-	@Mock
-	private ObjectMapper objectMapper;
+	private MiningLeaderboard miningLeaderboard;
 
 	@InjectMocks
 	private MiningTimeAppServiceImpl miningTimeAppService;
@@ -69,6 +72,46 @@ class MiningTimeAppServiceImplTest {
 		assertEquals(miningTimes.size(), updatedCount, "업데이트된 MiningTime의 수가 일치해야 합니다.");
 	}
 
+	@Test
+	@DisplayName("주간 랭킹에서 조회되면 세션 테이블을 집계하지 않고 동점자를 같은 순위로 묶는다")
+	void findMiningRank_FromLeaderboard() {
+		// given: 2025-05-14(수) 기준 지난주는 2025-05-05(월)부터
+		ZonedDateTime reference = ZonedDateTime.of(2025, 5, 14, 10, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+		when(miningLeaderboard.findTop(LocalDate.of(2025, 5, 5), 2)).thenReturn(Optional.of(List.of(
+			new MiningTimeRankResponseDto(1, "김싸피", 300L),
+			new MiningTimeRankResponseDto(2, "이싸피", 300L),
+			new MiningTimeRankResponseDto(3, "박싸피", 120L))));
+
+		// when
+		Map<String, List<MiningTimeRankResponseDto>> result = miningTimeAppService.findMiningRank(2, reference);
+
+		// then
+		assertEquals(List.of("1", "2"), List.copyOf(result.keySet()));
+		assertEquals(2, result.get("1").size());
+		assertEquals(3, result.get("2").get(0).getId());
+		verify(miningTimeService, never()).findMiningRank(any(), any());
+	}
+
+	@Test
+	@DisplayName("주간 랭킹을 사용할 수 없으면 DB 집계 결과로 내 조밀 순위를 계산한다")
+	void findMyMiningRank_FallbackToDb() {
+		// given
+		ZonedDateTime reference = ZonedDateTime.of(2025, 5, 14, 10, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+		when(securityService.getLoggedInUserId()).thenReturn(3);
+		when(miningLeaderboard.findRank(LocalDate.of(2025, 5, 5), 3)).thenReturn(Optional.empty());
+		when(miningTimeService.findMiningRank(any(), any())).thenReturn(List.of(
+			new MiningTimeRankResponseDto(1, "김싸피", 300L),
+			new MiningTimeRankResponseDto(2, "이싸피", 300L),
+			new MiningTimeRankResponseDto(3, "박싸피", 120L)));
+
+		// when
+		MyMiningRankResponseDto result = miningTimeAppService.findMyMiningRank(reference);
+
+		// then
+		assertEquals(2, result.getRank());
+		assertEquals(120L, result.getTotalMiningMinutes());
+	}
+
 	private User createUser(Integer id) {
 		return User.builder()
 			.id(id)
@@ -0,0 +1,116 @@
+package com.otoki.uptention.mining.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.otoki.uptention.domain.mining.dto.MiningMinutes;
+import com.otoki.uptention.domain.mining.entity.MiningTime;
+import com.otoki.uptention.domain.mining.repository.MiningHourlyJdbcRepository;
+import com.otoki.uptention.domain.mining.repository.MiningHourlyRepository;
+import com.otoki.uptention.domain.mining.repository.MiningTimeRepository;
+import com.otoki.uptention.domain.mining.service.MiningTimeServiceImpl;
+import com.otoki.uptention.domain.user.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+class MiningTimeServiceImplTest {
+
+	@Mock
+	private MiningTimeRepository miningTimeRepository;
+
+	@Mock
+	private MiningHourlyRepository miningHourlyRepository;
+
+	@Mock
+	private MiningHourlyJdbcRepository miningHourlyJdbcRepository;
+
+	@InjectMocks
+	private MiningTimeServiceImpl miningTimeService;
+
+	@Test
+	@DisplayName("세션을 종료하면 시작 시각의 15분 구간에 분 단위 시간이 누적된다")
+	void finishMiningTime_RollsUpToStartBucket() {
+		// given
+		User user = User.builder().id(1).build();
+		MiningTime session = createMiningTime(10, user, LocalDateTime.of(2025, 5, 5, 1, 50));
+		when(miningTimeRepository.finishById(10, LocalDateTime.of(2025, 5, 5, 3, 5, 30))).thenReturn(1);
+
+		// when
+		boolean finished = miningTimeService.finishMiningTime(session, LocalDateTime.of(2025, 5, 5, 3, 5, 30));
+
+		// then
+		assertThat(finished).isTrue();
+		assertThat(session.getEndTime()).isEqualTo(LocalDateTime.of(2025, 5, 5, 3, 5, 30));
+		assertThat(session.getRolledUp()).isTrue();
+		assertThat(captureDeltas())
+			.extracting(MiningMinutes::getUserId, MiningMinutes::getBucketStart, MiningMinutes::getMinutes)
+			.containsExactly(tuple(1, LocalDateTime.of(2025, 5, 5, 1, 45), 75L));
+	}
+
+	@Test
+	@DisplayName("마감 처리가 먼저 종료한 세션은 다시 종료하거나 집계하지 않는다")
+	void finishMiningTime_AlreadyFinished() {
+		// given
+		User user = User.builder().id(1).build();
+		MiningTime session = createMiningTime(10, user, LocalDateTime.of(2025, 5, 5, 13, 50));
+		when(miningTimeRepository.finishById(eq(10), any(LocalDateTime.class))).thenReturn(0);
+
+		// when
+		boolean finished = miningTimeService.finishMiningTime(session, LocalDateTime.of(2025, 5, 5, 14, 40));
+
+		// then
+		assertThat(finished).isFalse();
+		assertThat(session.getEndTime()).isNull();
+		verifyNoInteractions(miningHourlyJdbcRepository);
+	}
+
+	@Test
+	@DisplayName("마감 처리 시 같은 사용자, 같은 구간의 세션은 한 번에 누적하고 조회한 세션만 종료한다")
+	void updateEndTimeForUnfinishedMining_MergesBuckets() {
+		// given
+		User user1 = User.builder().id(1).build();
+		User user2 = User.builder().id(2).build();
+		LocalDateTime cutoff = LocalDateTime.of(2025, 5, 5, 14, 30);
+		when(miningTimeRepository.findAllUnfinishedForUpdate()).thenReturn(List.of(
+			createMiningTime(12, user2, LocalDateTime.of(2025, 5, 5, 13, 0)),
+			createMiningTime(10, user1, LocalDateTime.of(2025, 5, 5, 13, 5)),
+			createMiningTime(11, user1, LocalDateTime.of(2025, 5, 5, 13, 10))));
+		when(miningTimeRepository.finishAllByIds(anyList(), eq(cutoff))).thenReturn(3);
+
+		// when
+		int updated = miningTimeService.updateEndTimeForUnfinishedMining(cutoff);
+
+		// then
+		assertThat(updated).isEqualTo(3);
+		assertThat(captureDeltas())
+			.extracting(MiningMinutes::getUserId, MiningMinutes::getMinutes)
+			.containsExactly(tuple(1, 165L), tuple(2, 90L));
+		verify(miningTimeRepository, times(1)).finishAllByIds(List.of(12, 10, 11), cutoff);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MiningMinutes> captureDeltas() {
+		ArgumentCaptor<List<MiningMinutes>> captor = ArgumentCaptor.forClass(List.class);
+		verify(miningHourlyJdbcRepository, times(1)).addAll(captor.capture());
+		return captor.getValue();
+	}
+
+	private MiningTime createMiningTime(Integer id, User user, LocalDateTime startTime) {
+		return MiningTime.builder()
+			.id(id)
+			.user(user)
+			.startTime(startTime)
+			.build();
+	}
+}
@@ -0,0 +1,173 @@
+package com.otoki.uptention.mining.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otoki.uptention.application.mining.service.NftRewardPipeline;
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
+import com.otoki.uptention.domain.mining.dto.response.MiningTimeRankResponseDto;
+import com.otoki.uptention.domain.reward.entity.NftReward;
+import com.otoki.uptention.domain.reward.enums.NftRewardStatus;
+import com.otoki.uptention.domain.reward.service.NftRewardService;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.domain.user.service.UserService;
+import com.otoki.uptention.global.config.NftRewardProperties;
+import com.otoki.uptention.global.exception.CustomException;
+import com.otoki.uptention.global.exception.ErrorCode;
+import com.otoki.uptention.infra.solana.service.SolanaExpressApiService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NftRewardPipelineTest {
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private SolanaExpressApiService solanaExpressApiService;
+
+	@Mock
+	private NotificationDispatcher notificationDispatcher;
+
+	@Mock
+	private NftRewardService nftRewardService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private NftRewardPipeline nftRewardPipeline;
+
+	@BeforeEach
+	void setUp() {
+		NftRewardProperties nftRewardProperties = new NftRewardProperties();
+		nftRewardProperties.setMintConcurrency(2);
+		nftRewardProperties.setTransferConcurrency(2);
+		meterRegistry = new SimpleMeterRegistry();
+		nftRewardPipeline = new NftRewardPipeline(userService, solanaExpressApiService, notificationDispatcher,
+			nftRewardService, new ObjectMapper(), nftRewardProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("수상자를 한 번에 조회하고, 발행에 실패한 수상자가 있어도 나머지는 전송하며 단계별 결과를 기록한다")
+	void run_SendsRewardsAndRecordsStageMetrics() {
+		// given: 1위 두 명, 2위 한 명 (3번은 지갑 없음)
+		Map<String, List<MiningTimeRankResponseDto>> ranks = new LinkedHashMap<>();
+		ranks.put("1", List.of(createRank(1, 300L), createRank(2, 300L)));
+		ranks.put("2", List.of(createRank(3, 200L)));
+
+		when(userService.getUsersByIds(List.of(1, 2, 3)))
+			.thenReturn(List.of(createUser(1, "wallet1"), createUser(2, "wallet2"), createUser(3, null)));
+		when(solanaExpressApiService.createNft(eq("1"), anyString(), anyString(), anyList(), eq("SSAFY")))
+			.thenReturn("{\"success\":true,\"mintAddress\":\"mint1\"}")
+			.thenThrow(new CustomException(ErrorCode.NFT_MINT_FAILED));
+		when(nftRewardService.recordMint(any(User.class), eq("1"), any(LocalDate.class), eq("mint1")))
+			.thenAnswer(invocation -> createReward(10, invocation.getArgument(0), "mint1"));
+		when(solanaExpressApiService.transferNft(anyString(), eq("mint1")))
+			.thenReturn("{\"success\":true}");
+
+		// when
+		int sent = nftRewardPipeline.run(() -> ranks);
+
+		// then
+		assertThat(sent).isEqualTo(1);
+		verify(userService, times(1)).getUsersByIds(anyList());
+		verify(solanaExpressApiService, times(2)).createNft(anyString(), anyString(), anyString(), anyList(),
+			anyString());
+		verify(solanaExpressApiService, times(1)).transferNft(anyString(), eq("mint1"));
+		verify(nftRewardService, times(1)).recordMint(any(User.class), anyString(), any(LocalDate.class),
+			anyString());
+		verify(nftRewardService, times(1)).markTransferred(10);
+		verify(notificationDispatcher, times(1)).dispatch(anyInt(), anyString(), anyString());
+
+		assertThat(stageCount("ranking", "success")).isEqualTo(1);
+		assertThat(stageCount("resolve", "success")).isEqualTo(1);
+		assertThat(stageCount("mint", "success")).isEqualTo(1);
+		assertThat(stageCount("mint", "failure")).isEqualTo(1);
+		assertThat(stageCount("transfer", "success")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("순위 데이터가 없으면 사용자 조회와 발행을 하지 않는다")
+	void run_NoRanks() {
+		// when
+		int sent = nftRewardPipeline.run(Map::of);
+
+		// then
+		assertThat(sent).isZero();
+		verifyNoInteractions(userService, solanaExpressApiService, notificationDispatcher);
+	}
+
+	@Test
+	@DisplayName("발행 후 전송되지 않은 NFT는 다시 발행하지 않고 전송만 하며, 전송에 실패하면 실패 횟수를 기록한다")
+	void run_RetriesOnlyTransferOfMintedRewards() {
+		// given
+		when(nftRewardService.getUntransferredRewards())
+			.thenReturn(List.of(createReward(10, createUser(1, "wallet1"), "mint1"),
+				createReward(11, createUser(2, "wallet2"), "mint2")));
+		List<String> transferThreads = new CopyOnWriteArrayList<>();
+		when(solanaExpressApiService.transferNft("wallet1", "mint1")).thenAnswer(invocation -> {
+			transferThreads.add(Thread.currentThread().getName());
+			return "{\"success\":true}";
+		});
+		when(solanaExpressApiService.transferNft("wallet2", "mint2")).thenThrow(new IllegalStateException("timeout"));
+
+		// when
+		int sent = nftRewardPipeline.run(Map::of);
+
+		// then
+		assertThat(sent).isZero();
+		verify(solanaExpressApiService, never()).createNft(anyString(), anyString(), anyString(), anyList(),
+			anyString());
+		verify(nftRewardService, times(1)).markTransferred(10);
+		verify(nftRewardService, never()).markTransferred(11);
+		verify(nftRewardService, times(1)).recordTransferFailure(11, 3);
+		// 재전송도 전송 스레드에서 처리
+		assertThat(transferThreads).allMatch(name -> name.startsWith("nft-transfer-"));
+		verify(notificationDispatcher, times(1)).dispatch(eq(1), anyString(), anyString());
+		assertThat(stageCount("transfer", "success")).isEqualTo(1);
+		assertThat(stageCount("transfer", "failure")).isEqualTo(1);
+	}
+
+	private long stageCount(String stage, String result) {
+		return meterRegistry.timer("nft.reward.stage", "stage", stage, "result", result).count();
+	}
+
+	private MiningTimeRankResponseDto createRank(Integer userId, Long minutes) {
+		return new MiningTimeRankResponseDto(userId, "user" + userId, minutes);
+	}
+
+	private NftReward createReward(Integer id, User user, String mintAddress) {
+		return NftReward.builder()
+			.id(id)
+			.user(user)
+			.rewardDate(LocalDate.of(2025, 5, 4))
+			.rewardRank("1")
+			.wallet(user.getWallet())
+			.mintAddress(mintAddress)
+			.status(NftRewardStatus.MINTED)
+			.build();
+	}
+
+	private User createUser(Integer id, String wallet) {
+		return User.builder()
+			.id(id)
+			.name("사용자" + id)
+			.wallet(wallet)
+			.build();
+	}
+}
@@ -0,0 +1,101 @@
+package com.otoki.uptention.notification;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
+import com.otoki.uptention.domain.notification.repository.NotificationJdbcRepository;
+import com.otoki.uptention.global.config.NotificationProperties;
+import com.otoki.uptention.infra.fcm.service.FcmSendService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationDispatcherTest {
+
+	private NotificationJdbcRepository notificationJdbcRepository;
+	private FcmSendService fcmSendService;
+	private NotificationDispatcher notificationDispatcher;
+
+	@BeforeEach
+	void setUp() {
+		notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+		fcmSendService = mock(FcmSendService.class);
+		notificationDispatcher = new NotificationDispatcher(notificationJdbcRepository, fcmSendService,
+			mock(PlatformTransactionManager.class), new NotificationProperties(), new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		notificationDispatcher.stop();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 요청한 알림은 커밋된 이후에만 저장/전송된다")
+	void dispatch_AfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		notificationDispatcher.dispatch(1, "결제 완료", "테스트 상품 결제가 완료되었습니다.");
+
+		// then: 커밋 전에는 처리하지 않음
+		verifyNoInteractions(notificationJdbcRepository, fcmSendService);
+
+		// 커밋 (파이프라인이 동작하지 않으므로 호출 스레드에서 처리)
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(notificationJdbcRepository, times(1)).saveAll(argThat(batch -> batch.size() == 1
+			&& batch.get(0).getUserId() == 1));
+		verify(fcmSendService, times(1)).sendNotifications(anyList());
+	}
+
+	@Test
+	@DisplayName("파이프라인이 동작 중이면 여러 알림을 한 번에 저장/전송한다")
+	void dispatch_Batched() {
+		// given: 처리 후 묶음 목록을 재사용하므로 호출 시점에 개수를 기록
+		AtomicInteger persisted = new AtomicInteger();
+		doAnswer(invocation -> {
+			persisted.addAndGet(invocation.<List<?>>getArgument(0).size());
+			return null;
+		}).when(notificationJdbcRepository).saveAll(anyList());
+		notificationDispatcher.start();
+
+		// when
+		for (int userId = 1; userId <= 3; userId++) {
+			notificationDispatcher.dispatch(userId, "알림", "내용");
+		}
+		notificationDispatcher.stop();
+
+		// then
+		assertThat(persisted.get()).isEqualTo(3);
+		verify(notificationJdbcRepository, atMost(3)).saveAll(anyList());
+		assertThat(notificationDispatcher.flush()).isZero();
+	}
+
+	@Test
+	@DisplayName("저장에 실패한 알림은 전송하지 않는다")
+	void dispatch_PersistFailure() {
+		// given
+		doThrow(new RuntimeException("DB 오류")).when(notificationJdbcRepository).saveAll(anyList());
+
+		// when
+		notificationDispatcher.dispatch(1, "알림", "내용");
+
+		// then
+		verifyNoInteractions(fcmSendService);
+	}
+}
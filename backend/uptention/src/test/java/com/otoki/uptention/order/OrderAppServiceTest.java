@@ -20,7 +20,9 @@ import com.otoki.uptention.application.order.dto.request.OrderRequestDto;
 import com.otoki.uptention.application.order.dto.response.InitiateOrderResponseDto;
 import com.otoki.uptention.application.order.service.OrderAppService;
 import com.otoki.uptention.auth.service.SecurityService;
+import com.otoki.uptention.domain.item.dto.InventoryReservationResult;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
 import com.otoki.uptention.domain.item.service.InventoryService;
 import com.otoki.uptention.domain.item.service.ItemService;
 import com.otoki.uptention.domain.order.entity.Gift;
@@ -60,6 +62,9 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 	@MockBean
 	private InventoryService inventoryService;
 
+	@MockBean
+	private InventoryLeaseService inventoryLeaseService;
+
 	@Test
 	@DisplayName("구매 상품 리스트를 받아 주문을 생성한다 (Redis 재고 예약 포함)")
 	void createOrder() {
@@ -100,12 +105,12 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 		expectedItemQuantities.put(1, 2);
 		expectedItemQuantities.put(2, 1);
 		expectedItemQuantities.put(3, 3);
-		when(inventoryService.reserveInventories(argThat(map ->
+		when(inventoryService.tryReserveInventories(argThat(map ->
 			map.size() == 3
 				&& map.get(1) == 2
 				&& map.get(2) == 1
 				&& map.get(3) == 3
-		))).thenReturn(true);
+		))).thenReturn(InventoryReservationResult.success());
 
 		// OrderItem 생성 시 반환값 설정
 		when(orderItemService.saveOrderItem(any(OrderItem.class)))
@@ -130,6 +135,9 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 
 		verify(orderService, times(1)).saveOrder(any(Order.class));
 		verify(orderItemService, times(3)).saveOrderItem(any(OrderItem.class));
+
+		// 결제 타임아웃 해제를 위한 예약 임대 등록 확인
+		verify(inventoryLeaseService, times(1)).grant(1, expectedItemQuantities);
 	}
 
 	@Test
@@ -155,9 +163,9 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 		when(orderItemService.saveOrderItem(any(OrderItem.class))).thenReturn(orderItem);
 
 		// 변경: 일괄 재고 예약 모킹
-		when(inventoryService.reserveInventories(argThat(map ->
+		when(inventoryService.tryReserveInventories(argThat(map ->
 			map.size() == 1 && map.get(3) == 1
-		))).thenReturn(true);
+		))).thenReturn(InventoryReservationResult.success());
 
 		InitiateOrderResponseDto result = orderAppService.createGiftOrder(giftRequestDto);
 
@@ -194,11 +202,9 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 
 		when(securityService.getLoggedInUser()).thenReturn(user);
 
-		// 변경: 일괄 재고 예약 실패 설정
-		when(inventoryService.reserveInventories(any())).thenReturn(false);
-
-		// 변경: 일괄 재고 취소 성공 설정
-		when(inventoryService.cancelReservations(any())).thenReturn(true);
+		// 변경: 일괄 재고 예약 실패 설정 (2번 상품 3개 부족)
+		when(inventoryService.tryReserveInventories(any()))
+			.thenReturn(InventoryReservationResult.failure(Map.of(2, 3)));
 
 		// when & then
 		assertThatThrownBy(() -> orderAppService.createOrder(orderRequestDto))
@@ -206,6 +212,9 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 			.satisfies(exception -> {
 				CustomException customException = (CustomException)exception;
 				assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ITEM_INSUFFICIENT_STOCK);
+				assertThat(customException.getDetails()).asList()
+					.extracting("itemId", "shortfall")
+					.containsExactly(tuple(2, 3));
 			});
 
 		// 예약 취소는 호출되지 않음 (예약 자체가 실패했으므로)
@@ -227,7 +236,8 @@ public class OrderAppServiceTest extends ServiceTestSupport {
 		when(itemService.getItemById(itemId)).thenReturn(item);
 
 		// 변경: 일괄 재고 예약 실패 설정
-		when(inventoryService.reserveInventories(any())).thenReturn(false);
+		when(inventoryService.tryReserveInventories(any()))
+			.thenReturn(InventoryReservationResult.failure(Map.of(itemId, 1)));
 
 		GiftRequestDto giftRequestDto = createGiftRequestDto(itemId, 3);
 
@@ -0,0 +1,105 @@
+package com.otoki.uptention.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
+import com.otoki.uptention.application.payment.service.PaymentExpirationServiceImpl;
+import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.order.entity.Order;
+import com.otoki.uptention.domain.order.enums.OrderStatus;
+import com.otoki.uptention.domain.order.service.OrderService;
+import com.otoki.uptention.domain.orderitem.entity.OrderItem;
+import com.otoki.uptention.domain.orderitem.service.OrderItemService;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.event.PaymentExpiredEvent;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentExpirationServiceTest {
+
+	@Mock
+	private OrderService orderService;
+
+	@Mock
+	private OrderItemService orderItemService;
+
+	@Mock
+	private NotificationDispatcher notificationDispatcher;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private PaymentExpirationServiceImpl paymentExpirationService;
+
+	@Test
+	@DisplayName("결제 대기 중인 주문만 한 번에 결제 실패로 변경하고 알림 이벤트를 발행한다")
+	void expireOrders_OnlyPending() {
+		// given
+		List<Integer> orderIds = List.of(1, 2, 3);
+		when(orderService.lockOrderIdsByStatus(orderIds, OrderStatus.PAYMENT_PENDING)).thenReturn(List.of(1, 3));
+		when(orderService.updateOrderStatuses(List.of(1, 3), OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_FAILED))
+			.thenReturn(2);
+
+		// when
+		int expired = paymentExpirationService.expireOrders(orderIds, "결제 시간 초과 (2분)");
+
+		// then
+		assertThat(expired).isEqualTo(2);
+		ArgumentCaptor<PaymentExpiredEvent> eventCaptor = ArgumentCaptor.forClass(PaymentExpiredEvent.class);
+		verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().getOrderIds()).containsExactly(1, 3);
+	}
+
+	@Test
+	@DisplayName("결제 대기 중인 주문이 없으면 상태를 변경하지 않는다")
+	void expireOrders_NothingPending() {
+		// given
+		when(orderService.lockOrderIdsByStatus(anyList(), eq(OrderStatus.PAYMENT_PENDING))).thenReturn(List.of());
+
+		// when
+		int expired = paymentExpirationService.expireOrders(List.of(1), "결제 시간 초과 (2분)");
+
+		// then
+		assertThat(expired).isZero();
+		verify(orderService, never()).updateOrderStatuses(anyList(), any(), any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("주문 항목을 한 번에 조회하여 주문마다 결제 실패 알림을 보낸다")
+	void sendExpirationNotifications() {
+		// given
+		User user = mock(User.class);
+		Order order1 = Order.builder().id(1).user(user).status(OrderStatus.PAYMENT_FAILED).build();
+		Order order2 = Order.builder().id(2).user(user).status(OrderStatus.PAYMENT_FAILED).build();
+		Item item = Item.builder().id(10).name("테스트 상품").build();
+
+		when(orderItemService.findOrderItemsWithUserByOrderIds(List.of(1, 2))).thenReturn(List.of(
+			OrderItem.builder().id(1).order(order1).item(item).quantity(1).build(),
+			OrderItem.builder().id(2).order(order1).item(item).quantity(2).build(),
+			OrderItem.builder().id(3).order(order2).item(item).quantity(1).build()));
+
+		// when
+		paymentExpirationService.sendExpirationNotifications(List.of(1, 2), "결제 시간 초과 (2분)");
+
+		// then
+		verify(orderItemService, times(1)).findOrderItemsWithUserByOrderIds(List.of(1, 2));
+		verify(notificationDispatcher, times(1)).dispatch(eq(user), anyString(),
+			eq("테스트 상품 외 1건 결제가 실패하였습니다. 사유: 결제 시간 초과 (2분)"));
+		verify(notificationDispatcher, times(1)).dispatch(eq(user), anyString(),
+			eq("테스트 상품 결제가 실패하였습니다. 사유: 결제 시간 초과 (2분)"));
+	}
+}
@@ -16,11 +16,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.otoki.uptention.application.notification.service.NotificationDispatcher;
 import com.otoki.uptention.application.payment.service.PaymentProcessServiceImpl;
+import com.otoki.uptention.domain.item.cache.ItemCatalogChangeNotifier;
 import com.otoki.uptention.domain.item.entity.Item;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
 import com.otoki.uptention.domain.item.service.InventoryService;
-import com.otoki.uptention.domain.notification.entity.Notification;
-import com.otoki.uptention.domain.notification.service.NotificationService;
 import com.otoki.uptention.domain.order.entity.Order;
 import com.otoki.uptention.domain.order.enums.OrderStatus;
 import com.otoki.uptention.domain.order.service.GiftService;
@@ -28,7 +29,6 @@ import com.otoki.uptention.domain.order.service.OrderService;
 import com.otoki.uptention.domain.orderitem.entity.OrderItem;
 import com.otoki.uptention.domain.orderitem.service.OrderItemService;
 import com.otoki.uptention.domain.user.entity.User;
-import com.otoki.uptention.infra.fcm.service.FcmSendService;
 
 @ExtendWith(MockitoExtension.class)
 public class PaymentProcessServiceTest {
@@ -42,14 +42,17 @@ public class PaymentProcessServiceTest {
 	@Mock
 	private InventoryService inventoryService;
 
+	@Mock
+	private InventoryLeaseService inventoryLeaseService;
+
 	@Mock
 	private GiftService giftService;
 
 	@Mock
-	private FcmSendService fcmSendService;
+	private NotificationDispatcher notificationDispatcher;
 
 	@Mock
-	private NotificationService notificationService;
+	private ItemCatalogChangeNotifier itemCatalogChangeNotifier;
 
 	@InjectMocks
 	private PaymentProcessServiceImpl paymentProcessService;
@@ -95,6 +98,7 @@ public class PaymentProcessServiceTest {
 		when(giftService.findGiftByOrderId(anyInt())).thenReturn(null);
 
 		// Redis 재고 확정을 bulk 방식으로 성공하도록 설정
+		when(inventoryLeaseService.claim(1)).thenReturn(true);
 		when(inventoryService.confirmInventories(any())).thenReturn(true);
 
 		// when
@@ -121,8 +125,7 @@ public class PaymentProcessServiceTest {
 		verify(item2, times(1)).increaseSalesCount(3);
 
 		// 알림 관련 서비스 호출 검증
-		verify(fcmSendService, times(1)).sendNotificationToUser(any(User.class), anyString(), anyString());
-		verify(notificationService, times(1)).saveNotification(any(Notification.class));
+		verify(notificationDispatcher, times(1)).dispatch(any(User.class), anyString(), anyString());
 	}
 
 	@Test
@@ -188,6 +191,7 @@ public class PaymentProcessServiceTest {
 		when(orderItemService.findOrderItemsByOrderId(1)).thenReturn(orderItems);
 
 		// bulk 재고 확정 실패 설정
+		when(inventoryLeaseService.claim(1)).thenReturn(true);
 		when(inventoryService.confirmInventories(any())).thenReturn(false);
 
 		// when
@@ -212,6 +216,9 @@ public class PaymentProcessServiceTest {
 		// 실패했으므로 판매량 증가가 호출되지 않아야 함
 		verify(item1, never()).increaseSalesCount(anyInt());
 		verify(item2, never()).increaseSalesCount(anyInt());
+
+		// 만료 처리 대상에 다시 포함되도록 임대 복구
+		verify(inventoryLeaseService, times(1)).grant(eq(1), anyMap());
 	}
 
 	@Test
@@ -256,6 +263,7 @@ public class PaymentProcessServiceTest {
 		when(orderItemService.findOrderItemsByOrderId(1)).thenReturn(orderItems);
 
 		// bulk 재고 예약 취소 성공 설정
+		when(inventoryLeaseService.claim(1)).thenReturn(true);
 		when(inventoryService.cancelReservations(any())).thenReturn(true);
 
 		// when
@@ -282,8 +290,7 @@ public class PaymentProcessServiceTest {
 		verify(item2, never()).decreaseSalesCount(anyInt());
 
 		// 알림 관련 서비스 호출 검증
-		verify(fcmSendService, times(1)).sendNotificationToUser(any(User.class), anyString(), anyString());
-		verify(notificationService, times(1)).saveNotification(any(Notification.class));
+		verify(notificationDispatcher, times(1)).dispatch(any(User.class), anyString(), anyString());
 	}
 
 	@Test
@@ -310,4 +317,50 @@ public class PaymentProcessServiceTest {
 		verify(orderItemService, never()).findOrderItemsByOrderId(anyInt());
 		verify(inventoryService, never()).cancelReservations(anyMap());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("재고 예약이 이미 만료 처리된 주문은 재고를 다시 해제하지 않고 실패 처리한다")
+	void processPaymentFailure_LeaseAlreadyReleased() {
+		// given
+		Order order = Order.builder()
+			.id(1)
+			.status(OrderStatus.PAYMENT_PENDING)
+			.user(mock(User.class))
+			.build();
+
+		when(orderService.getOrderById(1)).thenReturn(order);
+		when(orderItemService.findOrderItemsByOrderId(1)).thenReturn(List.of());
+		when(inventoryLeaseService.claim(1)).thenReturn(false);
+
+		// when
+		boolean result = paymentProcessService.processPaymentFailure("1", "결제 시간 초과 (2분)");
+
+		// then
+		assertThat(result).isTrue();
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+		verify(inventoryService, never()).cancelReservations(anyMap());
+	}
+
+	@Test
+	@DisplayName("재고 예약이 만료된 주문은 결제 완료 처리하지 않는다")
+	void processPaymentSuccess_LeaseExpired() {
+		// given
+		Order order = Order.builder()
+			.id(1)
+			.status(OrderStatus.PAYMENT_PENDING)
+			.user(mock(User.class))
+			.build();
+
+		when(orderService.getOrderById(1)).thenReturn(order);
+		when(orderItemService.findOrderItemsByOrderId(1)).thenReturn(List.of());
+		when(inventoryLeaseService.claim(1)).thenReturn(false);
+
+		// when
+		boolean result = paymentProcessService.processPaymentSuccess("1");
+
+		// then
+		assertThat(result).isFalse();
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+		verify(inventoryService, never()).confirmInventories(anyMap());
+	}
+}
@@ -0,0 +1,121 @@
+package com.otoki.uptention.payment;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.otoki.uptention.application.payment.service.PaymentExpirationService;
+import com.otoki.uptention.domain.item.service.InventoryLeaseService;
+import com.otoki.uptention.domain.item.service.InventoryService;
+import com.otoki.uptention.domain.order.enums.OrderStatus;
+import com.otoki.uptention.domain.order.service.OrderService;
+import com.otoki.uptention.global.config.InventoryProperties;
+import com.otoki.uptention.global.lock.DistributedLockManager;
+import com.otoki.uptention.global.scheduler.PaymentScheduler;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentSchedulerTest {
+
+	@Mock
+	private OrderService orderService;
+
+	@Mock
+	private PaymentExpirationService paymentExpirationService;
+
+	@Mock
+	private InventoryLeaseService inventoryLeaseService;
+
+	@Mock
+	private InventoryService inventoryService;
+
+	@Mock(lenient = true)
+	private InventoryProperties inventoryProperties;
+
+	@Mock(lenient = true)
+	private DistributedLockManager lockManager;
+
+	@InjectMocks
+	private PaymentScheduler paymentScheduler;
+
+	@BeforeEach
+	void setUp() {
+		when(inventoryProperties.getReservationLeaseTtl()).thenReturn(Duration.ofMinutes(2));
+		doAnswer(invocation -> {
+			Runnable runnable = invocation.getArgument(3);
+			runnable.run();
+			return null;
+		}).when(lockManager).executeWithLock(anyString(), anyInt(), anyInt(), any(Runnable.class));
+	}
+
+	@Test
+	@DisplayName("시간 초과 주문은 청크마다 재고를 한 번에 해제하고 상태를 한 번에 변경한다")
+	void checkPendingPayments_ChunkedRelease() {
+		// given
+		List<Integer> firstChunk = IntStream.rangeClosed(1, 500).boxed().collect(Collectors.toList());
+		List<Integer> secondChunk = List.of(501, 502);
+		when(orderService.getOrderIdsByStatusCreatedBefore(eq(OrderStatus.PAYMENT_PENDING), any(), eq(500)))
+			.thenReturn(firstChunk)
+			.thenReturn(secondChunk);
+
+		// 첫 청크는 두 주문만 임대가 남아 있음 (나머지는 이미 해제됨)
+		when(inventoryLeaseService.claimAll(firstChunk))
+			.thenReturn(Map.of(1, Map.of(10, 2), 2, Map.of(10, 3, 20, 1)));
+		when(inventoryLeaseService.claimAll(secondChunk)).thenReturn(Map.of());
+		when(inventoryService.cancelReservations(anyMap())).thenReturn(true);
+
+		// when
+		paymentScheduler.checkPendingPayments();
+
+		// then
+		verify(inventoryService, times(1)).cancelReservations(Map.of(10, 5, 20, 1));
+		verify(paymentExpirationService, times(1)).expireOrders(eq(firstChunk), anyString());
+		verify(paymentExpirationService, times(1)).expireOrders(eq(secondChunk), anyString());
+		verify(orderService, never()).getOrdersByStatus(any());
+	}
+
+	@Test
+	@DisplayName("재고 해제에 실패하면 임대를 복구하고 주문 상태를 변경하지 않는다")
+	void checkPendingPayments_ReleaseFailure() {
+		// given
+		List<Integer> orderIds = List.of(1, 2);
+		Map<Integer, Map<Integer, Integer>> claimed = Map.of(1, Map.of(10, 2));
+		when(orderService.getOrderIdsByStatusCreatedBefore(eq(OrderStatus.PAYMENT_PENDING), any(), anyInt()))
+			.thenReturn(orderIds);
+		when(inventoryLeaseService.claimAll(orderIds)).thenReturn(claimed);
+		when(inventoryService.cancelReservations(anyMap())).thenReturn(false);
+
+		// when
+		paymentScheduler.checkPendingPayments();
+
+		// then
+		verify(inventoryLeaseService, times(1)).restore(claimed);
+		verifyNoInteractions(paymentExpirationService);
+	}
+
+	@Test
+	@DisplayName("시간 초과 주문이 없으면 아무것도 처리하지 않는다")
+	void checkPendingPayments_NothingExpired() {
+		// given
+		when(orderService.getOrderIdsByStatusCreatedBefore(eq(OrderStatus.PAYMENT_PENDING), any(), anyInt()))
+			.thenReturn(List.of());
+
+		// when
+		paymentScheduler.checkPendingPayments();
+
+		// then
+		verifyNoInteractions(inventoryLeaseService, inventoryService, paymentExpirationService);
+	}
+}
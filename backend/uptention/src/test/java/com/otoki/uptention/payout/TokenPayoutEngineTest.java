@@ -0,0 +1,187 @@
+package com.otoki.uptention.payout;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.otoki.uptention.application.payout.service.TokenPayoutEngine;
+import com.otoki.uptention.domain.payout.entity.TokenPayout;
+import com.otoki.uptention.domain.payout.enums.TokenPayoutStatus;
+import com.otoki.uptention.domain.payout.service.TokenPayoutService;
+import com.otoki.uptention.domain.user.entity.User;
+import com.otoki.uptention.global.config.PayoutProperties;
+import com.otoki.uptention.infra.solana.dto.TokenTransferResult;
+import com.otoki.uptention.infra.solana.service.SolanaExpressApiService;
+
+@ExtendWith(MockitoExtension.class)
+class TokenPayoutEngineTest {
+
+	private static final LocalDate PAYOUT_DATE = LocalDate.of(2025, 5, 5);
+
+	@Mock
+	private TokenPayoutService tokenPayoutService;
+
+	@Mock
+	private SolanaExpressApiService solanaExpressApiService;
+
+	private TokenPayoutEngine tokenPayoutEngine;
+
+	@BeforeEach
+	void setUp() {
+		PayoutProperties payoutProperties = new PayoutProperties();
+		payoutProperties.setConcurrency(4);
+		payoutProperties.setRateLimitPerSecond(1000);
+		payoutProperties.setRecipientsPerRequest(2);
+		payoutProperties.setBatchSize(4);
+		tokenPayoutEngine = new TokenPayoutEngine(tokenPayoutService, solanaExpressApiService, payoutProperties);
+	}
+
+	@Test
+	@DisplayName("수신자별 전송 결과에 따라 지급 완료, 실패(포인트 복구), 확인 필요로 묶음 단위 기록한다")
+	void payPending_RecordsResultsPerRecipient() {
+		// given: 수신자 2명씩 요청 두 번으로 나뉨
+		when(tokenPayoutService.claimPendingPayouts(eq(4), anyString()))
+			.thenReturn(List.of(createPayout(1, 1, 123), createPayout(2, 2, 50),
+				createPayout(3, 3, 10), createPayout(4, 4, 20)))
+			.thenReturn(List.of());
+		when(solanaExpressApiService.transferTokens(argThat(transfers -> transfers != null
+			&& transfers.get(0).getRecipientAddress().equals("wallet1")), any()))
+			.thenReturn(List.of(
+				TokenTransferResult.sent("mining-payout:2025-05-05:1", "sig"),
+				TokenTransferResult.rejected("mining-payout:2025-05-05:2", "invalid recipient")));
+		// 응답에 없는 4번 수신자는 전송 여부를 알 수 없음
+		when(solanaExpressApiService.transferTokens(argThat(transfers -> transfers != null
+			&& transfers.get(0).getRecipientAddress().equals("wallet3")), any()))
+			.thenReturn(List.of(TokenTransferResult.unconfirmed("mining-payout:2025-05-05:3", "timeout")));
+
+		// when
+		int sent = tokenPayoutEngine.payPending();
+
+		// then
+		assertThat(sent).isEqualTo(1);
+		verify(tokenPayoutService, times(1)).completePayouts(anyString(), eq(List.of(1)), eq(List.of(2)),
+			eq(List.of(3, 4)));
+		// 이전 전송 여부는 원장 생성 시각(여유 10분 포함)까지만 확인
+		verify(solanaExpressApiService, times(2)).transferTokens(anyList(), eq(LocalDateTime.of(2025, 5, 5, 23, 20)));
+		verify(solanaExpressApiService, never()).transferToken(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 전송 요청이 예외로 끝나면 요청에 담긴 수신자 전체를 확인 필요로 기록한다")
+	void payPending_RequestFailure_MarksRecipientsUnknown() {
+		// given
+		when(tokenPayoutService.claimPendingPayouts(eq(4), anyString()))
+			.thenReturn(List.of(createPayout(1, 1, 123), createPayout(2, 2, 50)))
+			.thenReturn(List.of());
+		when(solanaExpressApiService.transferTokens(anyList(), any()))
+			.thenThrow(new IllegalStateException("connection reset"));
+
+		// when
+		int sent = tokenPayoutEngine.payPending();
+
+		// then
+		assertThat(sent).isZero();
+		verify(tokenPayoutService, times(1)).completePayouts(anyString(), eq(List.of()), eq(List.of()),
+			eq(List.of(1, 2)));
+	}
+
+	@Test
+	@DisplayName("이전 실행에서 결과가 기록되지 않은 전송 중 원장은 바로 다시 보내지 않는다")
+	void payPending_DoesNotResendInterruptedPayouts() {
+		// given
+		when(tokenPayoutService.markInFlightAsUnknown(any())).thenReturn(2);
+		when(tokenPayoutService.claimPendingPayouts(anyInt(), anyString())).thenReturn(List.of());
+
+		// when
+		int sent = tokenPayoutEngine.payPending();
+
+		// then
+		assertThat(sent).isZero();
+		verifyNoInteractions(solanaExpressApiService);
+		verify(tokenPayoutService, never()).completePayouts(anyString(), anyList(), anyList(), anyList());
+	}
+
+	@Test
+	@DisplayName("묶음 제한 시간이 지나지 않은 전송 중 원장은 확인 필요로 바꾸지 않고, 결과는 전환한 실행의 토큰으로 기록한다")
+	void payPending_FencesInFlightPayoutsByRun() {
+		// given
+		when(tokenPayoutService.claimPendingPayouts(eq(4), anyString()))
+			.thenReturn(List.of(createPayout(1, 1, 123)))
+			.thenReturn(List.of());
+		when(solanaExpressApiService.transferTokens(anyList(), any()))
+			.thenReturn(List.of(TokenTransferResult.sent("mining-payout:2025-05-05:1", "sig")));
+		LocalDateTime startedAt = LocalDateTime.now();
+
+		// when
+		tokenPayoutEngine.payPending();
+
+		// then
+		ArgumentCaptor<LocalDateTime> claimedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(tokenPayoutService).markInFlightAsUnknown(claimedBefore.capture());
+		assertThat(claimedBefore.getValue()).isBefore(startedAt.minus(new PayoutProperties().getBatchTimeout()));
+
+		ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+		verify(tokenPayoutService, times(2)).claimPendingPayouts(eq(4), claimToken.capture());
+		verify(tokenPayoutService).completePayouts(eq(claimToken.getValue()), eq(List.of(1)), eq(List.of()),
+			eq(List.of()));
+		assertThat(claimToken.getAllValues()).containsOnly(claimToken.getValue());
+	}
+
+	@Test
+	@DisplayName("확인 필요 원장은 멱등 키로 전송 여부를 확인하여 전송된 건은 완료로, 전송되지 않은 건은 지급 대기로 되돌린다")
+	void payPending_ReconcilesUnknownPayouts() {
+		// given
+		when(tokenPayoutService.getUnknownPayouts(any(), eq(0), eq(4)))
+			.thenReturn(List.of(createUnknownPayout(1, 1), createUnknownPayout(2, 2), createUnknownPayout(3, 3)));
+		when(tokenPayoutService.getUnknownPayouts(any(), eq(3), eq(4))).thenReturn(List.of());
+		when(solanaExpressApiService.findTransfer(eq("mining-payout:2025-05-05:1"), any()))
+			.thenReturn(TokenTransferResult.sent("mining-payout:2025-05-05:1", "sig"));
+		when(solanaExpressApiService.findTransfer(eq("mining-payout:2025-05-05:2"), any()))
+			.thenReturn(TokenTransferResult.rejected("mining-payout:2025-05-05:2", "transfer not found"));
+		// 확인하지 못한 3번은 확인 필요로 남음
+		when(solanaExpressApiService.findTransfer(eq("mining-payout:2025-05-05:3"), any()))
+			.thenReturn(TokenTransferResult.unconfirmed("mining-payout:2025-05-05:3", "timeout"));
+		when(tokenPayoutService.claimPendingPayouts(eq(4), anyString())).thenReturn(List.of());
+
+		// when
+		tokenPayoutEngine.payPending();
+
+		// then
+		verify(tokenPayoutService, times(1)).resolveUnknownPayouts(List.of(1), List.of(2));
+		verify(solanaExpressApiService, never()).transferTokens(anyList(), any());
+	}
+
+	private TokenPayout createPayout(Integer id, Integer userId, int points) {
+		return createPayout(id, userId, points, TokenPayoutStatus.IN_FLIGHT);
+	}
+
+	private TokenPayout createUnknownPayout(Integer id, Integer userId) {
+		return createPayout(id, userId, 10, TokenPayoutStatus.UNKNOWN);
+	}
+
+	private TokenPayout createPayout(Integer id, Integer userId, int points, TokenPayoutStatus status) {
+		TokenPayout payout = TokenPayout.builder()
+			.id(id)
+			.user(User.builder().id(userId).build())
+			.payoutDate(PAYOUT_DATE)
+			.points(points)
+			.wallet("wallet" + userId)
+			.status(status)
+			.build();
+		ReflectionTestUtils.setField(payout, "createdAt", LocalDateTime.of(2025, 5, 5, 23, 30));
+		return payout;
+	}
+}
@@ -16,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.otoki.uptention.application.user.dto.request.JoinRequestDto;
 import com.otoki.uptention.application.user.dto.request.UpdatePasswordRequestDto;
 import com.otoki.uptention.application.user.service.UserAppServiceImpl;
+import com.otoki.uptention.auth.dto.UserContext;
 import com.otoki.uptention.auth.service.SecurityService;
 import com.otoki.uptention.domain.company.entity.Company;
 import com.otoki.uptention.domain.user.entity.User;
@@ -110,11 +111,11 @@ public class UserAppServiceTest {
 	void removeUser_whenSelfDeletion_thenSuccess() {
 		// given
 		int userId = 1;
-		User loggedInUser = User.builder()
-			.id(userId)
+		UserContext loggedInUser = UserContext.builder()
+			.userId(userId)
 			.role(UserRole.ROLE_MEMBER)
 			.build();
-		when(securityService.getLoggedInUser()).thenReturn(loggedInUser);
+		when(securityService.getLoggedInUserContext()).thenReturn(loggedInUser);
 
 		User userToRemove = User.builder()
 			.id(userId)
@@ -136,11 +137,11 @@ public class UserAppServiceTest {
 		// given
 		int targetUserId = 2;
 		// 관리자는 자신의 id가 targetUserId와 다르더라도 관리자 권한으로 삭제 가능
-		User adminUser = User.builder()
-			.id(1)
+		UserContext adminUser = UserContext.builder()
+			.userId(1)
 			.role(UserRole.ROLE_ADMIN)
 			.build();
-		when(securityService.getLoggedInUser()).thenReturn(adminUser);
+		when(securityService.getLoggedInUserContext()).thenReturn(adminUser);
 
 		User userToRemove = User.builder()
 			.id(targetUserId)
@@ -162,11 +163,11 @@ public class UserAppServiceTest {
 		// given
 		int targetUserId = 2;
 		// 로그인 사용자가 관리자도 아니고, 삭제 대상도 본인이 아님
-		User nonAdminUser = User.builder()
-			.id(1)
+		UserContext nonAdminUser = UserContext.builder()
+			.userId(1)
 			.role(UserRole.ROLE_MEMBER)
 			.build();
-		when(securityService.getLoggedInUser()).thenReturn(nonAdminUser);
+		when(securityService.getLoggedInUserContext()).thenReturn(nonAdminUser);
 
 		// when & then: 예외 발생을 검증
 		CustomException exception = assertThrows(CustomException.class, () -> userAppService.removeUser(targetUserId));
@@ -84,6 +84,7 @@ export const keyIds = {
     PROGRAM_ID: programId,
     TOKEN_MINT_ADDRESS_FOR_TRANSFER: new PublicKey(Constants.TOKEN_MINT_ADDRESS_FOR_TRANSFER_STR),
     TOKEN_METADATA_PROGRAM_ID: Constants.TOKEN_METADATA_PROGRAM_ID,
+    MEMO_PROGRAM_ID: Constants.MEMO_PROGRAM_ID,
     TOKEN_PROGRAM_ID,           // @solana/spl-token 에서 가져옴
     ASSOCIATED_TOKEN_PROGRAM_ID,// @solana/spl-token 에서 가져옴
     SYSTEM_PROGRAM_ID: SystemProgram.programId,
@@ -96,6 +97,9 @@ export const appConfig = {
     SPL_TOKEN_DECIMALS: Constants.SPL_TOKEN_DECIMALS,
     NFT_IMAGE_FIELD_NAME: Constants.NFT_IMAGE_FIELD_NAME,
     NFT_METADATA_FIELD_NAME: Constants.NFT_METADATA_FIELD_NAME,
+    IDEMPOTENCY_KEY_HEADER: Constants.IDEMPOTENCY_KEY_HEADER,
+    IDEMPOTENCY_RECORD_TTL_MS: Constants.IDEMPOTENCY_RECORD_TTL_MS,
+    IDEMPOTENCY_LOOKBACK_SECONDS: Constants.IDEMPOTENCY_LOOKBACK_SECONDS,
 };
 
 console.log('👍 설정 로드 완료.');
\ No newline at end of file
@@ -30,6 +30,8 @@ app.listen(PORT, '0.0.0.0', () => {
     console.log(`\n🚀 Server listening on port ${PORT}`);
     console.log("   Available Endpoints:");
     console.log(`     POST http://<your-server-ip>:${PORT}/api/tokens/transfer`);
+    console.log(`     POST http://<your-server-ip>:${PORT}/api/tokens/transfer-batch`);
+    console.log(`     GET  http://<your-server-ip>:${PORT}/api/tokens/transfer-status`);
     console.log(`     POST http://<your-server-ip>:${PORT}/api/nfts/create`);
     console.log(`     POST http://<your-server-ip>:${PORT}/api/nfts/transfer`);
     console.log("   Structure: Constants, Config, Routes, Controllers, Services");
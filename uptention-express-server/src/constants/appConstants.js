@@ -18,5 +18,11 @@ export const NFT_FILE_SIZE_LIMIT_MB = 10; // NFT 이미지 파일 크기 제한
 export const TOKEN_MINT_ADDRESS_FOR_TRANSFER_STR = "5ymZGsCFkfSzZN6AbwMWU2v4A4c5yeqmGj1vSpRWg75n"; // <<< 실제 토큰 민트 주소로 수정 필요
 export const SPL_TOKEN_DECIMALS = 8; // 토큰 전송 시 사용할 소수점 자릿수
 
+// --- 멱등 전송 관련 설정 ---
+export const IDEMPOTENCY_KEY_HEADER = "Idempotency-Key"; // 멱등 키 요청 헤더 (전송 트랜잭션 메모로 함께 기록)
+export const IDEMPOTENCY_RECORD_TTL_MS = 24 * 60 * 60 * 1000; // 메모리에 보관하는 전송 결과 유지 시간 (ms)
+export const IDEMPOTENCY_LOOKBACK_SECONDS = 3 * 24 * 60 * 60; // since 없이 요청한 경우 메모리에 없는 키의 온체인 기록 조회 범위 (초)
+
 // --- 프로그램 ID (PublicKey 객체) ---
-export const TOKEN_METADATA_PROGRAM_ID = new PublicKey("metaqbxxUerdq28cj1RbAWkYQm3ybzjb6a8bt518x1s");
\ No newline at end of file
+export const TOKEN_METADATA_PROGRAM_ID = new PublicKey("metaqbxxUerdq28cj1RbAWkYQm3ybzjb6a8bt518x1s");
+export const MEMO_PROGRAM_ID = new PublicKey("MemoSq4gqABAXKb96qnH8TYKoKyjpM1Ht6gzRakJhXs");
\ No newline at end of file
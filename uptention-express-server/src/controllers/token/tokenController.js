@@ -1,9 +1,25 @@
 import { PublicKey } from "@solana/web3.js";
 import * as tokenService from '../../services/token/tokenService.js';
 import { TokenTransferDto } from '../../models/token/TokenTransferDto.js';
+import { TokenBatchTransferDto } from '../../models/token/TokenBatchTransferDto.js';
+import { appConfig } from '../../../config/solanaConfig.js';
+
+/**
+ * 이전 전송 여부를 온체인에서 확인할 시작 시각 (epoch 초)
+ * 요청에 없으면 최근 IDEMPOTENCY_LOOKBACK_SECONDS 범위를 확인합니다.
+ * @returns {number | null} - 형식이 잘못되었으면 null
+ */
+const resolveSinceSeconds = (since) => {
+    const sinceSeconds = since === undefined
+        ? Math.floor(Date.now() / 1000) - appConfig.IDEMPOTENCY_LOOKBACK_SECONDS
+        : Number(since);
+    return Number.isInteger(sinceSeconds) && sinceSeconds >= 0 ? sinceSeconds : null;
+};
 
 /**
  * 토큰 전송 요청(application/json)을 처리하는 컨트롤러 함수 (TokenTransferDto 사용)
+ * Idempotency-Key 헤더가 있으면 키당 한 번만 전송하고, 같은 키로 다시 요청하면 이전 전송 결과를 반환합니다.
+ * (같은 키의 전송이 처리 중이면 409, since 쿼리(epoch 초)가 있으면 이전 전송 여부를 그 시각까지만 확인)
  */
 export const transferToken = async (req, res) => {
     const startTime = Date.now();
@@ -38,8 +54,21 @@ export const transferToken = async (req, res) => {
 
         // 4. 서비스 호출 (PublicKey와 파싱된 숫자 amount 전달)
         // 서비스 함수는 이미 number 타입의 amount를 받도록 되어 있음
-        console.log(`  [컨트롤러] tokenService.sendSplToken 호출 중...`);
-        const transactionSignature = await tokenService.sendSplToken(recipientPublicKey, parsedAmount);
+        const idempotencyKey = req.get(appConfig.IDEMPOTENCY_KEY_HEADER);
+        let transactionSignature;
+        let replayed = false;
+        if (idempotencyKey) {
+            const sinceSeconds = resolveSinceSeconds(req.query.since);
+            if (sinceSeconds === null) {
+                return res.status(400).json({ success: false, error: 'since must be epoch seconds.' });
+            }
+            console.log(`  [컨트롤러] tokenService.transferOnce 호출 중... (멱등 키: ${idempotencyKey})`);
+            ({ signature: transactionSignature, replayed } =
+                await tokenService.transferOnce(idempotencyKey, recipientPublicKey, parsedAmount, sinceSeconds));
+        } else {
+            console.log(`  [컨트롤러] tokenService.sendSplToken 호출 중...`);
+            transactionSignature = await tokenService.sendSplToken(recipientPublicKey, parsedAmount);
+        }
         console.log(`  [컨트롤러] 토큰 전송 서비스 호출 성공. Tx: ${transactionSignature}`);
 
         const endTime = Date.now();
@@ -48,7 +77,7 @@ export const transferToken = async (req, res) => {
         // 5. 성공 응답 전송
         res.json({
             success: true,
-            message: "토큰 전송 성공!",
+            message: replayed ? "이미 전송된 요청입니다." : "토큰 전송 성공!",
             transaction: `https://explorer.solana.com/tx/${transactionSignature}?cluster=devnet`
         });
 
@@ -58,6 +87,10 @@ export const transferToken = async (req, res) => {
         const endTime = Date.now();
         console.log(`  [컨트롤러] 실패까지 걸린 시간: ${(endTime - startTime) / 1000}s`);
 
+        if (error instanceof tokenService.TransferInProgressError) {
+            return res.status(409).json({ success: false, error: error.message });
+        }
+
         // DTO 생성자 오류 또는 컨트롤러 레벨 유효성 검사 오류는 400
         // 서비스 레벨 오류는 500
         const statusCode = (error.message.includes('Invalid request body') || error.message.includes('잘못된') || error.message.includes('Amount는'))
@@ -69,4 +102,86 @@ export const transferToken = async (req, res) => {
             error: error.message || "토큰 전송 중 오류가 발생했습니다."
         });
     }
-};
\ No newline at end of file
+};
+
+/**
+ * 여러 수신자에게 토큰을 일괄 전송하는 컨트롤러 함수 (TokenBatchTransferDto 사용)
+ * 요청: { transfers: [{ recipientAddress, amount, idempotencyKey }], since }
+ * - since: 이 키들로 처음 전송을 요청한 시각 이전 (epoch 초, 이전 전송 여부를 이 시각까지만 확인)
+ * 응답: { results: [{ idempotencyKey, success, signature, error }] }
+ * - success=true: 전송 완료 (이미 같은 키로 전송된 건 포함), success=false: 전송되지 않음
+ * - 결과에 없는 수신자: 전송 여부를 알 수 없음 (transfer-status로 확인)
+ */
+export const transferTokenBatch = async (req, res) => {
+    const startTime = Date.now();
+    console.log('\n[컨트롤러: 토큰 일괄 전송 요청] 수신자 수:', req.body?.transfers?.length);
+
+    let batchDto;
+    try {
+        batchDto = new TokenBatchTransferDto(req.body);
+    } catch (error) {
+        console.error('  [컨트롤러 오류] 잘못된 일괄 전송 요청:', error.message);
+        return res.status(400).json({ success: false, error: error.message });
+    }
+
+    // 수신자별 주소/금액 검증 (형식이 잘못된 수신자만 실패로 응답)
+    const invalidResults = new Map();
+    const transfers = [];
+    for (const transfer of batchDto.transfers) {
+        try {
+            const transferDto = new TokenTransferDto(transfer);
+            const recipientPublicKey = new PublicKey(transferDto.recipientAddress);
+            const parsedAmount = parseFloat(transferDto.amount);
+            if (isNaN(parsedAmount) || parsedAmount <= 0) {
+                throw new Error('Amount는 0보다 큰 유효한 숫자여야 합니다.');
+            }
+            transfers.push({ idempotencyKey: transfer.idempotencyKey, recipientPublicKey, amount: parsedAmount });
+        } catch (error) {
+            invalidResults.set(transfer.idempotencyKey, {
+                idempotencyKey: transfer.idempotencyKey,
+                success: false,
+                error: error.message,
+            });
+        }
+    }
+
+    try {
+        const sentResults = transfers.length === 0 ? [] : await tokenService.transferBatchOnce(transfers, resolveSinceSeconds(batchDto.since));
+        const resultsByKey = new Map(sentResults.map(result => [result.idempotencyKey, result]));
+        const results = batchDto.transfers
+            .map(transfer => invalidResults.get(transfer.idempotencyKey) ?? resultsByKey.get(transfer.idempotencyKey))
+            .filter(result => result !== undefined);
+
+        console.log(`  [컨트롤러] 일괄 전송 완료: 결과 ${results.length}/${batchDto.transfers.length}건, 처리 시간: ${(Date.now() - startTime) / 1000}s`);
+        res.json({ results });
+    } catch (error) {
+        // 온체인 기록 확인 실패 등: 아무것도 전송하지 않음
+        console.error('  [컨트롤러 오류] 토큰 일괄 전송 실패:', error.message);
+        res.status(500).json({ success: false, error: error.message || "토큰 일괄 전송 중 오류가 발생했습니다." });
+    }
+};
+
+/**
+ * 멱등 키의 토큰 전송 상태 조회 (GET /api/tokens/transfer-status?idempotencyKey=...&since=<epoch 초>)
+ * 응답: { status: 'SENT' | 'PENDING' | 'NOT_FOUND', signature }
+ * NOT_FOUND는 since 이후 서버 지갑의 트랜잭션에 해당 키로 성공한 전송이 없다는 의미입니다.
+ */
+export const getTransferStatus = async (req, res) => {
+    const { idempotencyKey, since } = req.query;
+    if (typeof idempotencyKey !== 'string' || !idempotencyKey.trim()) {
+        return res.status(400).json({ success: false, error: 'idempotencyKey (string) is required.' });
+    }
+    const sinceSeconds = resolveSinceSeconds(since);
+    if (sinceSeconds === null) {
+        return res.status(400).json({ success: false, error: 'since must be epoch seconds.' });
+    }
+
+    try {
+        const result = await tokenService.getTransferStatus(idempotencyKey, sinceSeconds);
+        console.log(`\n[컨트롤러: 전송 상태 조회] ${idempotencyKey} -> ${result.status}`);
+        res.json(result);
+    } catch (error) {
+        console.error('  [컨트롤러 오류] 전송 상태 조회 실패:', error.message);
+        res.status(500).json({ success: false, error: error.message || "전송 상태 조회 중 오류가 발생했습니다." });
+    }
+};
@@ -0,0 +1,49 @@
+// 요청 하나에 담을 수 있는 최대 수신자 수 (백엔드 MAX_TRANSFERS_PER_REQUEST와 맞춤)
+export const MAX_BATCH_TRANSFERS = 100;
+
+export class TokenBatchTransferDto {
+    /**
+     * 수신자별 전송 정보 목록
+     * @type {Array<{recipientAddress: string, amount: string | number, idempotencyKey: string}>}
+     */
+    transfers;
+
+    /**
+     * 이전 전송 여부를 온체인에서 확인할 시작 시각 (epoch 초, 선택). 없으면 기본 조회 범위를 사용합니다.
+     * @type {number | undefined}
+     */
+    since;
+
+    /**
+     * 생성자: 입력 데이터로부터 DTO 객체를 생성하고 기본적인 유효성 검사를 수행합니다.
+     * 수신자별 주소/금액 형식 검증(TokenTransferDto)은 컨트롤러에서 수행하여 해당 수신자만 실패로 응답합니다.
+     * @param {object} data - Express의 req.body 객체
+     * @throws {Error} 목록이 없거나 멱등 키가 없거나 중복되거나 since가 epoch 초가 아니면 오류 발생
+     */
+    constructor(data) {
+        if (!data || !Array.isArray(data.transfers) || data.transfers.length === 0) {
+            throw new Error('Invalid request body: transfers (non-empty array) is required.');
+        }
+        if (data.transfers.length > MAX_BATCH_TRANSFERS) {
+            throw new Error(`Invalid request body: transfers must not exceed ${MAX_BATCH_TRANSFERS} items.`);
+        }
+
+        const keys = new Set();
+        for (const transfer of data.transfers) {
+            if (!transfer || typeof transfer.idempotencyKey !== 'string' || !transfer.idempotencyKey.trim()) {
+                throw new Error('Invalid request body: idempotencyKey (string) is required for every transfer.');
+            }
+            if (keys.has(transfer.idempotencyKey)) {
+                throw new Error(`Invalid request body: duplicated idempotencyKey ${transfer.idempotencyKey}.`);
+            }
+            keys.add(transfer.idempotencyKey);
+        }
+
+        if (data.since !== undefined && (!Number.isInteger(data.since) || data.since < 0)) {
+            throw new Error('Invalid request body: since must be epoch seconds.');
+        }
+
+        this.transfers = data.transfers;
+        this.since = data.since;
+    }
+}
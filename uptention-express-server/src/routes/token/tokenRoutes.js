@@ -6,4 +6,10 @@ const router = express.Router();
 // POST /api/tokens/transfer -> tokenController.transferToken 함수 호출 (이 함수 내부만 변경됨)
 router.post('/transfer', tokenController.transferToken);
 
+// POST /api/tokens/transfer-batch -> 수신자별 멱등 키로 여러 수신자에게 일괄 전송 (트랜잭션 하나에 여러 건)
+router.post('/transfer-batch', tokenController.transferTokenBatch);
+
+// GET /api/tokens/transfer-status?idempotencyKey=...&since=... -> 멱등 키의 전송 여부 확인 (결과를 받지 못한 전송의 정산용)
+router.get('/transfer-status', tokenController.getTransferStatus);
+
 export default router;
\ No newline at end of file
@@ -0,0 +1,67 @@
+// src/services/token/idempotencyStore.js
+import { appConfig } from '../../../config/solanaConfig.js';
+
+/**
+ * 멱등 키별 토큰 전송 상태 (프로세스 메모리)
+ * 서버가 재시작되면 비워지므로, 메모리에 없는 키는 전송 트랜잭션 메모(온체인)로 다시 확인합니다.
+ * - PENDING: 전송 처리 중 (같은 키의 동시 요청 거절)
+ * - SENT: 전송 완료 (같은 키로 다시 요청하면 저장된 서명 반환)
+ */
+export const TransferState = Object.freeze({
+    PENDING: 'PENDING',
+    SENT: 'SENT',
+});
+
+const SWEEP_INTERVAL_MS = 60 * 1000;
+
+const records = new Map();
+let lastSweepAt = 0;
+
+// 만료된 기록 정리 (최대 1분에 한 번)
+const removeExpired = (now) => {
+    if (now - lastSweepAt < SWEEP_INTERVAL_MS) {
+        return;
+    }
+    lastSweepAt = now;
+    for (const [key, record] of records) {
+        if (now - record.updatedAt > appConfig.IDEMPOTENCY_RECORD_TTL_MS) {
+            records.delete(key);
+        }
+    }
+};
+
+/**
+ * @param {string} key - 멱등 키
+ * @returns {{state: string, signature?: string} | undefined}
+ */
+export const get = (key) => {
+    const record = records.get(key);
+    if (record && Date.now() - record.updatedAt > appConfig.IDEMPOTENCY_RECORD_TTL_MS) {
+        records.delete(key);
+        return undefined;
+    }
+    return record;
+};
+
+/**
+ * 기록이 없는 키만 처리 중으로 등록합니다. (검사와 등록이 동기 구간이라 동시 요청 중 하나만 성공)
+ * @returns {boolean} 등록 여부 (이미 처리 중이거나 전송된 키면 false)
+ */
+export const markPending = (key) => {
+    if (get(key)) {
+        return false;
+    }
+    const now = Date.now();
+    removeExpired(now);
+    records.set(key, { state: TransferState.PENDING, updatedAt: now });
+    return true;
+};
+
+export const markSent = (key, signature) => {
+    records.set(key, { state: TransferState.SENT, signature, updatedAt: Date.now() });
+};
+
+// 전송 여부를 확정하지 못한 키는 지워서 다음 요청이 온체인 기록을 다시 확인하도록 함
+export const clear = (key) => {
+    records.delete(key);
+};
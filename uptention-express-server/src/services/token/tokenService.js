@@ -1,18 +1,25 @@
 // src/services/token/tokenService.js
 import anchor from "@coral-xyz/anchor";
 const { BN } = anchor;
-import { Transaction, sendAndConfirmTransaction, PublicKey } from "@solana/web3.js";
+import { Transaction, TransactionInstruction, sendAndConfirmTransaction, PublicKey, SendTransactionError } from "@solana/web3.js";
 import { getOrCreateAssociatedTokenAccount, TOKEN_PROGRAM_ID } from "@solana/spl-token";
 import { solana, keyIds, appConfig } from '../../../config/solanaConfig.js';
+import * as idempotencyStore from './idempotencyStore.js';
+
+// 온체인 메모 조회 시 한 번에 가져오는 서명 수 (RPC 최대값)
+const SIGNATURE_PAGE_SIZE = 1000;
+// 트랜잭션 하나에 담는 전송 수 (전송 + 메모 Instruction, 트랜잭션 크기 1232바이트 제한)
+const TRANSFERS_PER_TRANSACTION = 5;
 
 /**
  * 지정된 양의 SPL 토큰을 서버 지갑에서 수신자에게 전송합니다.
  * @param {PublicKey} recipientPublicKey - 토큰을 받을 사람의 PublicKey 객체.
  * @param {number} amount - 전송할 토큰의 양 (사람이 읽을 수 있는 형식, 예: 1.5). BN 변환은 이 함수 내에서 처리.
+ * @param {string} [memo] - 트랜잭션에 함께 기록할 메모 (멱등 키, 온체인 전송 여부 확인용).
  * @returns {Promise<string>} - 트랜잭션 서명 문자열.
  * @throws {Error} - 전송 실패 시.
  */
-export const sendSplToken = async (recipientPublicKey, amount) => {
+export const sendSplToken = async (recipientPublicKey, amount, memo) => {
     console.log(`  [서비스] ${amount} 토큰을 ${recipientPublicKey?.toBase58()}에게 전송 시도`); // optional chaining 추가
 
     // 설정에서 민트 주소 PublicKey 객체와 소수점 자릿수 가져오기
@@ -76,6 +83,9 @@ export const sendSplToken = async (recipientPublicKey, amount) => {
 
         // 트랜잭션 생성 및 Instruction 추가
         const transaction = new Transaction().add(ix);
+        if (memo) {
+            transaction.add(createMemoInstruction(memo));
+        }
         console.log("  [서비스] 트랜잭션 생성 완료");
 
         // 트랜잭션 전송 및 확인
@@ -95,4 +105,282 @@ export const sendSplToken = async (recipientPublicKey, amount) => {
         console.error(`  [서비스 오류 정보] mint: ${mintPublicKey?.toBase58()}, recipient: ${recipientPublicKey?.toBase58()}`);
         throw new Error(`토큰 전송 실패: ${error.message}`);
     }
-};
\ No newline at end of file
+};
+
+/**
+ * 같은 멱등 키의 전송이 처리 중일 때 발생
+ */
+export class TransferInProgressError extends Error {
+    constructor(idempotencyKey) {
+        super(`같은 멱등 키의 전송이 처리 중입니다: ${idempotencyKey}`);
+        this.name = 'TransferInProgressError';
+    }
+}
+
+/**
+ * 멱등 키당 한 번만 SPL 토큰을 전송합니다.
+ * 이미 전송된 키는 다시 보내지 않고 이전 서명을 반환합니다. 메모리 기록(재시작 시 유실)에 없으면
+ * 서버 지갑의 최근 트랜잭션 메모에서 키를 찾아 확인한 뒤에만 전송합니다.
+ * @param {string} idempotencyKey - 멱등 키 (전송 트랜잭션 메모로 기록).
+ * @param {PublicKey} recipientPublicKey - 토큰을 받을 사람의 PublicKey 객체.
+ * @param {number} amount - 전송할 토큰의 양.
+ * @param {number} sinceSeconds - 온체인 조회 시작 시각 (epoch 초). 이 키로 처음 전송을 요청한 시각 이전이어야 함.
+ * @returns {Promise<{signature: string, replayed: boolean}>} - 서명과 이전 전송 결과 반환 여부.
+ * @throws {TransferInProgressError} - 같은 키의 전송이 처리 중일 때.
+ * @throws {Error} - 전송 실패 시 (다음 요청이 온체인 기록을 다시 확인하도록 기록을 지움).
+ */
+export const transferOnce = async (idempotencyKey, recipientPublicKey, amount, sinceSeconds) => {
+    const previous = idempotencyStore.get(idempotencyKey);
+    if (previous?.state === idempotencyStore.TransferState.SENT) {
+        console.log(`  [서비스] 이미 전송된 멱등 키: ${idempotencyKey}, 서명: ${previous.signature}`);
+        return { signature: previous.signature, replayed: true };
+    }
+    if (!idempotencyStore.markPending(idempotencyKey)) {
+        throw new TransferInProgressError(idempotencyKey);
+    }
+
+    try {
+        const onChainSignature = await findSignatureByMemo(idempotencyKey, sinceSeconds);
+        if (onChainSignature) {
+            console.log(`  [서비스] 온체인에서 확인된 멱등 키: ${idempotencyKey}, 서명: ${onChainSignature}`);
+            idempotencyStore.markSent(idempotencyKey, onChainSignature);
+            return { signature: onChainSignature, replayed: true };
+        }
+
+        const signature = await sendSplToken(recipientPublicKey, amount, idempotencyKey);
+        idempotencyStore.markSent(idempotencyKey, signature);
+        return { signature, replayed: false };
+    } catch (error) {
+        idempotencyStore.clear(idempotencyKey);
+        throw error;
+    }
+};
+
+/**
+ * 멱등 키의 전송 상태를 조회합니다. (메모리 기록 -> 온체인 메모 순서)
+ * @param {string} idempotencyKey - 멱등 키.
+ * @param {number} sinceSeconds - 온체인 조회 시작 시각 (epoch 초). 이보다 이전 트랜잭션은 확인하지 않음.
+ * @returns {Promise<{status: 'SENT' | 'PENDING' | 'NOT_FOUND', signature?: string}>}
+ */
+export const getTransferStatus = async (idempotencyKey, sinceSeconds) => {
+    const record = idempotencyStore.get(idempotencyKey);
+    if (record?.state === idempotencyStore.TransferState.SENT) {
+        return { status: 'SENT', signature: record.signature };
+    }
+    if (record?.state === idempotencyStore.TransferState.PENDING) {
+        return { status: 'PENDING' };
+    }
+
+    const signature = await findSignatureByMemo(idempotencyKey, sinceSeconds);
+    if (signature) {
+        idempotencyStore.markSent(idempotencyKey, signature);
+        return { status: 'SENT', signature };
+    }
+    return { status: 'NOT_FOUND' };
+};
+
+/**
+ * 서버 지갑이 서명한 트랜잭션 중 메모에 멱등 키가 기록된 성공 트랜잭션을 찾습니다. (최신순, sinceSeconds까지)
+ * @returns {Promise<string | null>} - 트랜잭션 서명 (없으면 null).
+ */
+const findSignatureByMemo = async (memo, sinceSeconds) => {
+    const found = await findSignaturesByMemos([memo], sinceSeconds);
+    return found.get(memo) ?? null;
+};
+
+/**
+ * 여러 멱등 키를 한 번의 서명 목록 조회로 찾습니다. (모든 키를 찾거나 sinceSeconds 이전에 도달하면 중단)
+ * @returns {Promise<Map<string, string>>} - 찾은 키별 트랜잭션 서명.
+ */
+const findSignaturesByMemos = async (memos, sinceSeconds) => {
+    const remaining = new Set(memos);
+    const found = new Map();
+    let before;
+    while (remaining.size > 0) {
+        const signatures = await solana.connection.getSignaturesForAddress(
+            solana.serverKeypair.publicKey,
+            { before, limit: SIGNATURE_PAGE_SIZE },
+            "confirmed"
+        );
+        if (signatures.length === 0) {
+            break;
+        }
+
+        for (const info of signatures) {
+            if (info.blockTime && info.blockTime < sinceSeconds) {
+                return found;
+            }
+            if (info.err || !info.memo) {
+                continue;
+            }
+            for (const memo of parseMemos(info.memo)) {
+                if (remaining.delete(memo)) {
+                    found.set(memo, info.signature);
+                }
+            }
+        }
+        before = signatures[signatures.length - 1].signature;
+    }
+    return found;
+};
+
+// RPC가 반환하는 메모 형식: "[길이] 내용" (메모가 여러 개면 "; "로 구분)
+const parseMemos = (rpcMemo) => rpcMemo.split('; ').map(part => part.replace(/^\[\d+\] /, ''));
+
+const createMemoInstruction = (memo) => new TransactionInstruction({
+    keys: [],
+    programId: keyIds.MEMO_PROGRAM_ID,
+    data: Buffer.from(memo, 'utf8'),
+});
+
+/**
+ * 여러 수신자에게 멱등 키당 한 번만 SPL 토큰을 전송합니다. (TRANSFERS_PER_TRANSACTION건씩 트랜잭션 하나로 묶음)
+ * 결과에 없는 수신자는 전송 여부를 알 수 없는 건입니다. (같은 키가 처리 중이거나, 확인 대기 중 오류가 난 트랜잭션)
+ * 메모리 기록으로 모든 키의 결과를 알면 온체인 기록을 조회하지 않습니다.
+ * @param {Array<{idempotencyKey: string, recipientPublicKey: PublicKey, amount: number}>} transfers - 전송 목록 (키는 고유).
+ * @param {number} sinceSeconds - 온체인 조회 시작 시각 (epoch 초). 이 키들로 처음 전송을 요청한 시각 이전이어야 함.
+ * @returns {Promise<Array<{idempotencyKey: string, success: boolean, signature?: string, error?: string}>>}
+ *          - 입력 순서의 수신자별 결과 (success=false는 전송되지 않은 건).
+ * @throws {Error} - 온체인 기록 확인 실패 시 (아무것도 전송하지 않음).
+ */
+export const transferBatchOnce = async (transfers, sinceSeconds) => {
+    const results = new Map();
+    const claimed = [];
+    for (const transfer of transfers) {
+        const previous = idempotencyStore.get(transfer.idempotencyKey);
+        if (previous?.state === idempotencyStore.TransferState.SENT) {
+            results.set(transfer.idempotencyKey, sentResult(transfer, previous.signature));
+        } else if (idempotencyStore.markPending(transfer.idempotencyKey)) {
+            claimed.push(transfer);
+        }
+    }
+
+    let unsent;
+    try {
+        const onChain = claimed.length === 0
+            ? new Map()
+            : await findSignaturesByMemos(claimed.map(transfer => transfer.idempotencyKey), sinceSeconds);
+        unsent = [];
+        for (const transfer of claimed) {
+            const signature = onChain.get(transfer.idempotencyKey);
+            if (signature) {
+                idempotencyStore.markSent(transfer.idempotencyKey, signature);
+                results.set(transfer.idempotencyKey, sentResult(transfer, signature));
+            } else {
+                unsent.push(transfer);
+            }
+        }
+    } catch (error) {
+        claimed.forEach(transfer => idempotencyStore.clear(transfer.idempotencyKey));
+        throw error;
+    }
+    console.log(`  [서비스] 일괄 전송: 요청 ${transfers.length}건, 이전 전송 ${results.size}건, 신규 전송 ${unsent.length}건`);
+
+    for (let from = 0; from < unsent.length; from += TRANSFERS_PER_TRANSACTION) {
+        await sendGroup(unsent.slice(from, from + TRANSFERS_PER_TRANSACTION), results);
+    }
+
+    return transfers
+        .filter(transfer => results.has(transfer.idempotencyKey))
+        .map(transfer => results.get(transfer.idempotencyKey));
+};
+
+/**
+ * 전송 묶음 하나를 트랜잭션 하나로 보내고 결과를 기록합니다.
+ * 준비 또는 시뮬레이션 단계에서 실패한 묶음은 전송되지 않았으므로, 여러 건이면 한 건씩 다시 보내 원인이 된 수신자만 실패로 기록합니다.
+ */
+const sendGroup = async (group, results) => {
+    try {
+        const signature = await sendSplTokens(group);
+        group.forEach(transfer => {
+            idempotencyStore.markSent(transfer.idempotencyKey, signature);
+            results.set(transfer.idempotencyKey, sentResult(transfer, signature));
+        });
+    } catch (error) {
+        const notSent = error instanceof SendTransactionError || error instanceof TransferPreparationError;
+        if (notSent && group.length > 1) {
+            for (const transfer of group) {
+                await sendGroup([transfer], results);
+            }
+            return;
+        }
+
+        group.forEach(transfer => idempotencyStore.clear(transfer.idempotencyKey));
+        if (notSent) {
+            console.error(`  [서비스 오류] 전송되지 않음 (${group.length}건):`, error.message);
+            group.forEach(transfer => results.set(transfer.idempotencyKey, {
+                idempotencyKey: transfer.idempotencyKey,
+                success: false,
+                error: error.message,
+            }));
+        } else {
+            // 확인 대기 중 타임아웃 등: 전송되었을 수 있으므로 결과에서 제외 (호출 측이 상태 조회로 확인)
+            console.error(`  [서비스 오류] 전송 여부 확인 필요 (${group.length}건):`, error.message);
+        }
+    }
+};
+
+/**
+ * 트랜잭션 전송 전(수신자 토큰 계정 준비, 금액 변환) 실패. 트랜잭션을 보내지 않았으므로 전송되지 않은 건입니다.
+ */
+class TransferPreparationError extends Error {
+    constructor(message) {
+        super(message);
+        this.name = 'TransferPreparationError';
+    }
+}
+
+/**
+ * 여러 수신자에게 보내는 전송 Instruction과 멱등 키 메모를 트랜잭션 하나로 보냅니다.
+ * @returns {Promise<string>} - 트랜잭션 서명 문자열.
+ */
+const sendSplTokens = async (group) => {
+    const mintPublicKey = keyIds.TOKEN_MINT_ADDRESS_FOR_TRANSFER;
+    const decimals = appConfig.SPL_TOKEN_DECIMALS;
+    const transaction = new Transaction();
+
+    try {
+        const fromATA = await getOrCreateAssociatedTokenAccount(
+            solana.connection, solana.serverKeypair, mintPublicKey, solana.serverKeypair.publicKey,
+            false, "confirmed", { commitment: "confirmed" }
+        );
+        for (const transfer of group) {
+            const transferAmountBN = new BN(Math.round(transfer.amount * (10 ** decimals)));
+            if (transferAmountBN.isNeg() || transferAmountBN.isZero()) {
+                throw new Error("전송량은 0보다 커야 합니다.");
+            }
+            const toATA = await getOrCreateAssociatedTokenAccount(
+                solana.connection, solana.serverKeypair, mintPublicKey, transfer.recipientPublicKey,
+                false, "confirmed", { commitment: "confirmed" }
+            );
+            const ix = await solana.program.methods
+                .sendToken(transferAmountBN)
+                .accounts({
+                    sourceAuthority: solana.serverKeypair.publicKey,
+                    sourceTokenAccount: fromATA.address,
+                    destTokenAccount: toATA.address,
+                    mint: mintPublicKey,
+                    tokenProgram: TOKEN_PROGRAM_ID,
+                })
+                .instruction();
+            transaction.add(ix, createMemoInstruction(transfer.idempotencyKey));
+        }
+    } catch (error) {
+        throw new TransferPreparationError(`전송 준비 실패: ${error.message}`);
+    }
+
+    const txSignature = await sendAndConfirmTransaction(
+        solana.connection,
+        transaction,
+        [solana.serverKeypair],
+        { commitment: "confirmed", skipPreflight: false }
+    );
+    console.log(`  [서비스] 일괄 전송 트랜잭션 성공 (${group.length}건). 서명: ${txSignature}`);
+    return txSignature;
+};
+
+const sentResult = (transfer, signature) => ({
+    idempotencyKey: transfer.idempotencyKey,
+    success: true,
+    signature,
+});